@@ -0,0 +1,155 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+/**
+ * Runs the benchmarks and compares the results with a baseline recorded by a previous run, failing if any benchmark
+ * got slower than the allowed percentage. Usage:
+ *
+ * <pre>
+ * java -cp benchmarks.jar org.geotools.benchmarks.BaselineComparison --baseline &lt;file&gt; [--save]
+ *      [--max-regression &lt;percent&gt;] [JMH options]
+ * </pre>
+ *
+ * With <code>--save</code> the results are written in the baseline file instead of being compared with it. All other
+ * options are passed down to JMH, e.g., a regular expression selecting the benchmarks to run.
+ */
+public class BaselineComparison {
+
+    /** Default maximum allowed regression, in percentage */
+    static final double DEFAULT_MAX_REGRESSION = 10;
+
+    /** A benchmark score, along with the direction in which it improves */
+    record Score(double value, boolean higherIsBetter) {}
+
+    /** A benchmark whose score got worse than allowed */
+    record Regression(String benchmark, double baseline, double current, double percentage) {
+
+        @Override
+        public String toString() {
+            return "%s: %.3f -> %.3f (%.1f%% worse)".formatted(benchmark, baseline, current, percentage);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        File baselineFile = null;
+        boolean save = false;
+        double maxRegression = DEFAULT_MAX_REGRESSION;
+        List<String> jmhArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline" -> baselineFile = new File(args[++i]);
+                case "--save" -> save = true;
+                case "--max-regression" -> maxRegression = Double.parseDouble(args[++i]);
+                default -> jmhArgs.add(args[i]);
+            }
+        }
+        if (baselineFile == null) {
+            System.err.println("Missing mandatory --baseline <file> argument");
+            System.exit(2);
+        }
+
+        Collection<RunResult> results = new Runner(new CommandLineOptions(jmhArgs.toArray(new String[0]))).run();
+        Map<String, Score> scores = toScores(results);
+        if (save) {
+            writeBaseline(baselineFile, scores);
+            System.out.println("Baseline saved to " + baselineFile);
+            return;
+        }
+
+        List<Regression> regressions = compare(readBaseline(baselineFile), scores, maxRegression);
+        if (!regressions.isEmpty()) {
+            System.err.println("Benchmarks regressed more than " + maxRegression + "% compared to the baseline:");
+            regressions.forEach(r -> System.err.println("  " + r));
+            System.exit(1);
+        }
+        System.out.println("No benchmark regressed more than " + maxRegression + "% compared to the baseline");
+    }
+
+    /** Extracts the primary scores out of the JMH results, keyed by benchmark name and parameters */
+    static Map<String, Score> toScores(Collection<RunResult> results) {
+        Map<String, Score> scores = new TreeMap<>();
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            StringBuilder key = new StringBuilder(params.getBenchmark());
+            for (String name : params.getParamsKeys()) {
+                key.append(':').append(name).append('=').append(params.getParam(name));
+            }
+            boolean higherIsBetter = params.getMode() == Mode.Throughput;
+            scores.put(key.toString(), new Score(result.getPrimaryResult().getScore(), higherIsBetter));
+        }
+        return scores;
+    }
+
+    /**
+     * Compares the current scores with the baseline ones. Benchmarks missing from the baseline are ignored, as they
+     * have just been added.
+     */
+    static List<Regression> compare(Map<String, Double> baseline, Map<String, Score> current, double maxRegression) {
+        List<Regression> result = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Double reference = baseline.get(entry.getKey());
+            if (reference == null || reference <= 0) {
+                continue;
+            }
+            Score score = entry.getValue();
+            double change = (score.value() - reference) / reference * 100;
+            double worsening = score.higherIsBetter() ? -change : change;
+            if (worsening > maxRegression) {
+                result.add(new Regression(entry.getKey(), reference, score.value(), worsening));
+            }
+        }
+        return result;
+    }
+
+    static Map<String, Double> readBaseline(File file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(file.toPath())) {
+            properties.load(is);
+        }
+        Map<String, Double> result = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            result.put(key, Double.valueOf(properties.getProperty(key)));
+        }
+        return result;
+    }
+
+    static void writeBaseline(File file, Map<String, Score> scores) throws IOException {
+        Properties properties = new Properties();
+        scores.forEach((k, v) -> properties.setProperty(k, String.valueOf(v.value())));
+        try (OutputStream os = Files.newOutputStream(file.toPath())) {
+            properties.store(os, "GeoTools benchmarks baseline");
+        }
+    }
+}
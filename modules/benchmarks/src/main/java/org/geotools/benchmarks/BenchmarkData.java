@@ -0,0 +1,132 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.shapefile.ShapefileDataStore;
+import org.geotools.feature.SchemaException;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Generates the synthetic, but reproducible, data sets used by the benchmarks. All generators use a fixed seed so that
+ * two runs (e.g., a baseline and a candidate build) work against the very same data.
+ */
+public class BenchmarkData {
+
+    static final long SEED = 42;
+
+    static final GeometryFactory GF = new GeometryFactory();
+
+    /** Schema of the generated features, a polygon with a few attributes of different types */
+    public static SimpleFeatureType polygonType() {
+        try {
+            return DataUtilities.createType("bench", "the_geom:Polygon:srid=4326,id:Integer,name:String,value:Double");
+        } catch (SchemaException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a list of small, random polygons spread over the whole world, each one having the given number of
+     * vertices on its outer shell.
+     */
+    public static List<SimpleFeature> polygons(int count, int vertices) {
+        SimpleFeatureType type = polygonType();
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(type);
+        Random random = new Random(SEED);
+        List<SimpleFeature> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double x = -180 + random.nextDouble() * 359;
+            double y = -90 + random.nextDouble() * 179;
+            fb.add(polygon(x, y, 0.5 * random.nextDouble(), vertices));
+            fb.add(i);
+            fb.add("name" + (i % 100));
+            fb.add(random.nextDouble() * 1000);
+            result.add(fb.buildFeature("bench." + i));
+        }
+        return result;
+    }
+
+    /** Builds a regular polygon (a circle approximation) centered in x,y */
+    public static Polygon polygon(double x, double y, double radius, int vertices) {
+        Coordinate[] coords = new Coordinate[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            coords[i] = new Coordinate(x + Math.cos(angle) * radius, y + Math.sin(angle) * radius);
+        }
+        coords[vertices] = new Coordinate(coords[0]);
+        return GF.createPolygon(coords);
+    }
+
+    /** Creates an array of interleaved x/y ordinates in the given range */
+    public static double[] ordinates(int points, double minX, double minY, double maxX, double maxY) {
+        Random random = new Random(SEED);
+        double[] result = new double[points * 2];
+        for (int i = 0; i < result.length; i += 2) {
+            result[i] = minX + random.nextDouble() * (maxX - minX);
+            result[i + 1] = minY + random.nextDouble() * (maxY - minY);
+        }
+        return result;
+    }
+
+    /** Writes the given features in a "bench.shp" shapefile in the target directory */
+    public static File writeShapefile(File directory, List<SimpleFeature> features) throws IOException {
+        File file = new File(directory, "bench.shp");
+        ShapefileDataStore store = new ShapefileDataStore(file.toURI().toURL());
+        try {
+            SimpleFeatureType type = features.get(0).getFeatureType();
+            store.createSchema(type);
+            SimpleFeatureStore fs = (SimpleFeatureStore) store.getFeatureSource();
+            fs.addFeatures(DataUtilities.collection(features));
+        } finally {
+            store.dispose();
+        }
+        return file;
+    }
+
+    /** Creates a temporary directory for the benchmark files */
+    public static File createTempDirectory(String prefix) throws IOException {
+        return Files.createTempDirectory(prefix).toFile();
+    }
+
+    /** Recursively removes a directory created by {@link #createTempDirectory(String)} */
+    public static void delete(File directory) throws IOException {
+        if (directory == null || !directory.exists()) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.factory.CommonFactoryFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** In memory evaluation of the filters built by the default filter factory against simple features. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FilterEvaluationBenchmark {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    @Param({"equals", "between", "and", "like", "bbox"})
+    String filterType;
+
+    SimpleFeature[] features;
+
+    Filter filter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<SimpleFeature> list = BenchmarkData.polygons(10000, 8);
+        features = list.toArray(new SimpleFeature[list.size()]);
+        filter = buildFilter(filterType);
+    }
+
+    static Filter buildFilter(String type) {
+        switch (type) {
+            case "equals":
+                return FF.equals(FF.property("name"), FF.literal("name42"));
+            case "between":
+                return FF.between(FF.property("value"), FF.literal(100), FF.literal(300));
+            case "and":
+                return FF.and(
+                        FF.greater(FF.property("id"), FF.literal(1000)),
+                        FF.and(
+                                FF.lessOrEqual(FF.property("value"), FF.literal(500d)),
+                                FF.notEqual(FF.property("name"), FF.literal("name1"))));
+            case "like":
+                return FF.like(FF.property("name"), "name4*");
+            case "bbox":
+                return FF.bbox("the_geom", -18, -9, 18, 9, "EPSG:4326");
+            default:
+                throw new IllegalArgumentException("Unknown filter type " + type);
+        }
+    }
+
+    @Benchmark
+    public int evaluate() {
+        int matches = 0;
+        for (SimpleFeature feature : features) {
+            if (filter.evaluate(feature)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.jdbc.FilterToSQL;
+import org.geotools.data.jdbc.FilterToSQLException;
+import org.geotools.data.postgis.PostGISDialect;
+import org.geotools.data.postgis.PostgisFilterToSQL;
+import org.geotools.factory.CommonFactoryFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Encoding of filters into SQL through {@link FilterToSQL}, using the PostGIS flavor as the most common one. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FilterToSQLBenchmark {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    @Param({"bbox", "comparison", "in"})
+    String filterType;
+
+    Filter filter;
+
+    FilterToSQL encoder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (filterType) {
+            case "bbox":
+                filter = FF.and(
+                        FF.bbox("the_geom", -18, -9, 18, 9, "EPSG:4326"),
+                        FF.equals(FF.property("name"), FF.literal("name42")));
+                break;
+            case "comparison":
+                filter = FF.and(
+                        FF.between(FF.property("value"), FF.literal(100), FF.literal(300)),
+                        FF.or(
+                                FF.greater(FF.property("id"), FF.literal(1000)),
+                                FF.like(FF.property("name"), "name4*")));
+                break;
+            case "in":
+                Filter[] equals = new Filter[50];
+                for (int i = 0; i < equals.length; i++) {
+                    equals[i] = FF.equals(FF.property("id"), FF.literal(i));
+                }
+                filter = FF.or(Arrays.asList(equals));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown filter type " + filterType);
+        }
+        PostgisFilterToSQL postgis = new PostgisFilterToSQL(new PostGISDialect(null));
+        postgis.setFeatureType(BenchmarkData.polygonType());
+        postgis.setInEncodingEnabled(true);
+        encoder = postgis;
+    }
+
+    @Benchmark
+    public String encode() throws FilterToSQLException {
+        return encoder.encodeToString(filter);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.geopkg.geom.GeoPkgGeomReader;
+import org.geotools.geopkg.geom.GeoPkgGeomWriter;
+import org.locationtech.jts.geom.Geometry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Decoding of GeoPackage binary geometries, the way the GeoPackage datastore does it for each row. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GeoPkgGeomReaderBenchmark {
+
+    /** Number of vertices of each polygon */
+    @Param({"5", "64", "1024"})
+    int vertices;
+
+    byte[][] blobs;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        List<SimpleFeature> features = BenchmarkData.polygons(1000, vertices - 1);
+        GeoPkgGeomWriter writer = new GeoPkgGeomWriter();
+        blobs = new byte[features.size()][];
+        for (int i = 0; i < blobs.length; i++) {
+            blobs[i] = writer.write((Geometry) features.get(i).getDefaultGeometry());
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole bh) throws IOException {
+        for (byte[] blob : blobs) {
+            bh.consume(new GeoPkgGeomReader(blob).get());
+        }
+    }
+
+    @Benchmark
+    public void envelope(Blackhole bh) throws IOException {
+        for (byte[] blob : blobs) {
+            bh.consume(new GeoPkgGeomReader(blob).getEnvelope());
+        }
+    }
+}
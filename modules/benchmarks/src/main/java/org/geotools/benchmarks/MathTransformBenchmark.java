@@ -0,0 +1,87 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.operation.DefaultMathTransformFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bulk coordinate transformation between common EPSG pairs, using the transforms built by the
+ * {@link DefaultMathTransformFactory} (the pairs are expressed as "source>target", both in east/north order).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MathTransformBenchmark {
+
+    @Param({"EPSG:4326>EPSG:3857", "EPSG:3857>EPSG:4326", "EPSG:4326>EPSG:32632", "EPSG:4326>EPSG:3035"})
+    String pair;
+
+    @Param({"10000"})
+    int points;
+
+    MathTransform transform;
+
+    double[] source;
+
+    double[] target;
+
+    @Setup(Level.Trial)
+    public void setup() throws FactoryException, TransformException {
+        String[] codes = pair.split(">");
+        CoordinateReferenceSystem sourceCRS = CRS.decode(codes[0], true);
+        CoordinateReferenceSystem targetCRS = CRS.decode(codes[1], true);
+        transform = CRS.findMathTransform(sourceCRS, targetCRS, true);
+
+        // generate the points in geographic coordinates, in an area valid for all the pairs
+        double[] geographic = BenchmarkData.ordinates(points, 6, 40, 12, 50);
+        if (CRS.getProjectedCRS(sourceCRS) != null) {
+            MathTransform toSource = CRS.findMathTransform(CRS.decode("EPSG:4326", true), sourceCRS, true);
+            source = new double[geographic.length];
+            toSource.transform(geographic, 0, source, 0, points);
+        } else {
+            source = geographic;
+        }
+        target = new double[source.length];
+    }
+
+    @Benchmark
+    public double[] transform() throws TransformException {
+        transform.transform(source, 0, target, 0, points);
+        return target;
+    }
+}
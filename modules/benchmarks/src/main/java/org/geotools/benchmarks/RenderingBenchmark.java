@@ -0,0 +1,101 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.style.Style;
+import org.geotools.data.DataUtilities;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.renderer.lite.StreamingRenderer;
+import org.geotools.styling.SLD;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@link StreamingRenderer#paint(Graphics2D, Rectangle, ReferencedEnvelope)} on a fixed, in memory, polygon map */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RenderingBenchmark {
+
+    static final Rectangle PAINT_AREA = new Rectangle(1024, 768);
+
+    @Param({"20000"})
+    int features;
+
+    @Param({"false", "true"})
+    boolean antialiasing;
+
+    MapContent map;
+
+    ReferencedEnvelope mapArea;
+
+    BufferedImage image;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Style style = SLD.createPolygonStyle(Color.BLACK, Color.ORANGE, 0.8f);
+        map = new MapContent();
+        map.addLayer(new FeatureLayer(DataUtilities.collection(BenchmarkData.polygons(features, 32)), style));
+        mapArea = new ReferencedEnvelope(-180, 180, -90, 90, DefaultGeographicCRS.WGS84);
+        image = new BufferedImage(PAINT_AREA.width, PAINT_AREA.height, BufferedImage.TYPE_4BYTE_ABGR);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        map.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setBackground(new Color(0, 0, 0, 0));
+            graphics.clearRect(0, 0, PAINT_AREA.width, PAINT_AREA.height);
+            if (antialiasing) {
+                graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            }
+            StreamingRenderer renderer = new StreamingRenderer();
+            renderer.setMapContent(map);
+            renderer.paint(graphics, PAINT_AREA, mapArea);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+}
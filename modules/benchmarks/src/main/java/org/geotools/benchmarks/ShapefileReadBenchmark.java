@@ -0,0 +1,113 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.shapefile.ShapefileDataStore;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Full and bbox scans through the shapefile feature reader. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ShapefileReadBenchmark {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    @Param({"100000"})
+    int features;
+
+    /** When true the bbox scan is allowed to build and use the spatial index */
+    @Param({"false", "true"})
+    boolean indexed;
+
+    File directory;
+
+    ShapefileDataStore store;
+
+    SimpleFeatureSource source;
+
+    Query bboxQuery;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = BenchmarkData.createTempDirectory("shapefile-bench");
+        File file = BenchmarkData.writeShapefile(directory, BenchmarkData.polygons(features, 16));
+        store = new ShapefileDataStore(file.toURI().toURL());
+        store.setIndexed(indexed);
+        store.setIndexCreationEnabled(indexed);
+        source = store.getFeatureSource();
+        // roughly 1% of the data
+        bboxQuery = new Query(source.getSchema().getTypeName(), FF.bbox("", -18, -9, 18, 9, "EPSG:4326"));
+        // make sure the index, if any, is built before the measurement starts
+        scan(source, bboxQuery, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.dispose();
+        BenchmarkData.delete(directory);
+    }
+
+    @Benchmark
+    public int fullScan(Blackhole bh) throws IOException {
+        return scan(source, Query.ALL, bh);
+    }
+
+    @Benchmark
+    public int bboxScan(Blackhole bh) throws IOException {
+        return scan(source, bboxQuery, bh);
+    }
+
+    static int scan(SimpleFeatureSource source, Query query, Blackhole bh) throws IOException {
+        int count = 0;
+        try (SimpleFeatureIterator it = source.getFeatures(query).features()) {
+            while (it.hasNext()) {
+                SimpleFeature feature = it.next();
+                if (bh != null) {
+                    bh.consume(feature);
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+}
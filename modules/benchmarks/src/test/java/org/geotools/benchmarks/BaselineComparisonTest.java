@@ -0,0 +1,71 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import org.geotools.benchmarks.BaselineComparison.Regression;
+import org.geotools.benchmarks.BaselineComparison.Score;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BaselineComparisonTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testThroughputRegression() {
+        Map<String, Double> baseline = Map.of("a", 100d, "b", 100d);
+        Map<String, Score> current = Map.of("a", new Score(95, true), "b", new Score(80, true));
+        List<Regression> regressions = BaselineComparison.compare(baseline, current, 10);
+        assertEquals(1, regressions.size());
+        assertEquals("b", regressions.get(0).benchmark());
+        assertEquals(20, regressions.get(0).percentage(), 1e-9);
+    }
+
+    @Test
+    public void testAverageTimeRegression() {
+        // for average time, lower is better
+        Map<String, Double> baseline = Map.of("a", 100d, "b", 100d);
+        Map<String, Score> current = Map.of("a", new Score(50, false), "b", new Score(130, false));
+        List<Regression> regressions = BaselineComparison.compare(baseline, current, 10);
+        assertEquals(1, regressions.size());
+        assertEquals("b", regressions.get(0).benchmark());
+        assertEquals(30, regressions.get(0).percentage(), 1e-9);
+    }
+
+    @Test
+    public void testNewBenchmarkIgnored() {
+        Map<String, Score> current = Map.of("new", new Score(1, true));
+        assertTrue(BaselineComparison.compare(Map.of(), current, 10).isEmpty());
+    }
+
+    @Test
+    public void testBaselineRoundTrip() throws Exception {
+        File file = folder.newFile("baseline.properties");
+        String key = "org.geotools.benchmarks.MathTransformBenchmark.transform:pair=EPSG:4326>EPSG:3857";
+        BaselineComparison.writeBaseline(file, Map.of(key, new Score(1234.5, true)));
+        Map<String, Double> baseline = BaselineComparison.readBaseline(file);
+        assertEquals(Map.of(key, 1234.5), baseline);
+    }
+}
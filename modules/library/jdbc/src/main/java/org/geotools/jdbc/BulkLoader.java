@@ -0,0 +1,157 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Loads rows in a table using the database bulk ingestion facilities, instead of the regular insert statements. Loaders
+ * are created by {@link SQLDialect#createBulkLoader(SimpleFeatureType, List, Connection)} and used by
+ * {@link JDBCFeatureStore#addFeatures(org.geotools.feature.FeatureCollection)}.
+ *
+ * <p>The rows are provided as arrays of values, in the same order as the loader columns. Geometry values are already
+ * linearized as needed, enumeration values already mapped to their integer codes. The rows can be buffered by the
+ * loader until {@link #finish()} is called. Closing a loader that has not been finished abandons the load, rows already
+ * sent to the database might be persisted anyways, depending on the transaction in use.
+ *
+ * <p>A loader may keep the connection busy while rows are being added (e.g., streaming them with a <code>COPY</code>
+ * command), the rows are then added in chunks, and {@link #flush()} is called before the connection is used again to
+ * compute the primary keys of the next chunk.
+ */
+public abstract class BulkLoader implements Closeable {
+
+    /** A column being loaded */
+    public static final class Column {
+
+        private final String name;
+
+        private final Class<?> binding;
+
+        private final AttributeDescriptor descriptor;
+
+        /**
+         * Builds a new column
+         *
+         * @param name The column name
+         * @param binding The class of the values
+         * @param descriptor The attribute descriptor, or <code>null</code> for primary key columns
+         */
+        public Column(String name, Class<?> binding, AttributeDescriptor descriptor) {
+            this.name = name;
+            this.binding = binding;
+            this.descriptor = descriptor;
+        }
+
+        /** The column name */
+        public String getName() {
+            return name;
+        }
+
+        /** The class of the values */
+        public Class<?> getBinding() {
+            return binding;
+        }
+
+        /** The attribute descriptor, or <code>null</code> for primary key columns */
+        public AttributeDescriptor getDescriptor() {
+            return descriptor;
+        }
+
+        /** Returns true if the column holds geometries */
+        public boolean isGeometry() {
+            return Geometry.class.isAssignableFrom(binding);
+        }
+
+        @Override
+        public String toString() {
+            return name + ":" + binding.getSimpleName();
+        }
+    }
+
+    protected final JDBCDataStore dataStore;
+
+    protected final SimpleFeatureType featureType;
+
+    protected final List<Column> columns;
+
+    protected final Connection cx;
+
+    /**
+     * Builds a new loader
+     *
+     * @param dataStore The data store
+     * @param featureType The feature type whose table is being loaded
+     * @param columns The columns being loaded
+     * @param cx The connection, should not be closed by the loader
+     */
+    protected BulkLoader(JDBCDataStore dataStore, SimpleFeatureType featureType, List<Column> columns, Connection cx) {
+        this.dataStore = dataStore;
+        this.featureType = featureType;
+        this.columns = columns;
+        this.cx = cx;
+    }
+
+    /** Adds a row, the values are in the same order as the loader columns */
+    public abstract void addRow(Object[] values) throws IOException, SQLException;
+
+    /**
+     * Completes the statements in progress, if any, so that the connection can be used to run other queries before more
+     * rows are added. Loaders whose statements are executed synchronously can buffer rows across calls. The default
+     * implementation does nothing.
+     */
+    public void flush() throws IOException, SQLException {
+        // nothing to do by default
+    }
+
+    /** Sends all the rows still buffered to the database and completes the load */
+    public abstract void finish() throws IOException, SQLException;
+
+    /** Encodes the fully qualified name of the table being loaded */
+    protected void encodeTableName(StringBuffer sql) throws SQLException {
+        dataStore.encodeTableName(featureType.getTypeName(), sql, null);
+    }
+
+    /** Encodes the comma separated list of the column names, without surrounding parentheses */
+    protected void encodeColumnNames(StringBuffer sql) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            dataStore.getSQLDialect().encodeColumnName(null, columns.get(i).getName(), sql);
+        }
+    }
+
+    /** Looks up the srid of a geometry value, see {@link JDBCDataStore#getGeometrySRID(Geometry, AttributeDescriptor)} */
+    protected int getGeometrySRID(Geometry g, Column column) throws IOException {
+        return dataStore.getGeometrySRID(g, column.getDescriptor());
+    }
+
+    /**
+     * Looks up the dimension of a geometry value, see
+     * {@link JDBCDataStore#getGeometryDimension(Geometry, AttributeDescriptor)}
+     */
+    protected int getGeometryDimension(Geometry g, Column column) throws IOException {
+        return dataStore.getGeometryDimension(g, column.getDescriptor());
+    }
+}
@@ -21,6 +21,7 @@
 import static org.geotools.jdbc.VirtualTable.setKeepWhereClausePlaceHolderHint;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Method;
 import java.net.URLDecoder;
@@ -37,14 +38,21 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
@@ -87,7 +95,10 @@
 import org.geotools.data.store.ContentEntry;
 import org.geotools.data.store.ContentFeatureSource;
 import org.geotools.data.store.ContentState;
+import org.geotools.data.store.QueryResultCache;
 import org.geotools.feature.AttributeTypeBuilder;
+import org.geotools.feature.FeatureCollection;
+import org.geotools.feature.FeatureIterator;
 import org.geotools.feature.NameImpl;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.feature.visitor.CountVisitor;
@@ -96,6 +107,7 @@
 import org.geotools.feature.visitor.UniqueCountVisitor;
 import org.geotools.feature.visitor.UniqueVisitor;
 import org.geotools.filter.FilterCapabilities;
+import org.geotools.filter.identity.FeatureIdImpl;
 import org.geotools.filter.visitor.ExpressionTypeVisitor;
 import org.geotools.geometry.jts.CurvedGeometry;
 import org.geotools.geometry.jts.ReferencedEnvelope;
@@ -207,6 +219,12 @@ public final class JDBCDataStore extends ContentDataStore implements GmlObjectSt
     /** Max number of ids to use for the optimized locks checking filter. */
     public static final int MAX_IDS_IN_FILTER = 100;
 
+    /** The default minimum (estimated) number of rows in a partition read in parallel */
+    public static final int DEFAULT_PARALLEL_READ_MIN_ROWS = 10000;
+
+    /** Number of features whose keys are computed before handing them to the bulk loader, see {@link BulkLoader} */
+    static final int BULK_LOAD_CHUNK_SIZE = 1000;
+
     /** data source */
     protected DataSource dataSource;
 
@@ -260,6 +278,33 @@ public final class JDBCDataStore extends ContentDataStore implements GmlObjectSt
      */
     protected int batchInsertSize = 1;
 
+    /** The number of partitions read in parallel, by default 1 (sequential reads) */
+    protected int parallelReadThreads = 1;
+
+    /** The minimum (estimated) number of rows in a partition read in parallel */
+    protected int parallelReadMinRows = DEFAULT_PARALLEL_READ_MIN_ROWS;
+
+    /** The executor used for parallel and pipelined reads, created on demand */
+    ExecutorService parallelReadExecutor;
+
+    /** The number of threads decoding geometries for pipelined reads, by default 0 (no pipelining) */
+    protected int decodeThreads = 0;
+
+    /** The executor decoding geometries for pipelined reads, created on demand */
+    ExecutorService decodeExecutor;
+
+    /** The executor loading the metadata of the tables in background, see {@link #prefetchMetadata(int)} */
+    ExecutorService prefetchExecutor;
+
+    /** The cache of the SQL templates of prepared statement queries, null if disabled */
+    volatile SQLTemplateCache sqlTemplateCache;
+
+    /** The number of count and bounds results cached for each feature type, by default 0 (no caching) */
+    protected int queryResultCacheSize = 0;
+
+    /** The time count and bounds results are cached, in milliseconds, 0 to keep them until invalidated */
+    protected long queryResultCacheTimeToLive = 0;
+
     /** flag controlling whether primary key columns of a table are exposed via the feature type. */
     protected boolean exposePrimaryKeyColumns = false;
 
@@ -378,6 +423,164 @@ public void setBatchInsertSize(int batchInsertSize) {
         this.batchInsertSize = batchInsertSize;
     }
 
+    /** @return the number of partitions read in parallel, see {@link #setParallelReadThreads(int)} */
+    public int getParallelReadThreads() {
+        return parallelReadThreads;
+    }
+
+    /**
+     * Sets the number of partitions a query is split into, and read in parallel on separate connections. The default,
+     * 1, disables parallel reads.
+     *
+     * <p>Parallel reads are used only outside of transactions, for queries without joins and paging, on tables the
+     * dialect can split, see {@link SQLDialect#splitReads(SimpleFeatureType, PrimaryKey, int, int, Connection)}. The
+     * features are returned in the query order only if the query is sorted, with some limitations: sorting by primary
+     * key, or by attributes that are not nullable and not strings (the in memory merge of the sorted partitions cannot
+     * replicate the database collation and null ordering). Other sorted queries are read sequentially. Each partition
+     * reads its own snapshot of the table, the results are not isolated from concurrent modifications.
+     */
+    public synchronized void setParallelReadThreads(int parallelReadThreads) {
+        if (parallelReadThreads < 1) {
+            throw new IllegalArgumentException("The number of parallel read threads must be positive");
+        }
+        this.parallelReadThreads = parallelReadThreads;
+    }
+
+    /** @return the minimum (estimated) number of rows in a partition read in parallel */
+    public int getParallelReadMinRows() {
+        return parallelReadMinRows;
+    }
+
+    /**
+     * Sets the minimum (estimated) number of rows in a partition read in parallel, tables too small to fill two
+     * partitions are read sequentially. Defaults to {@link #DEFAULT_PARALLEL_READ_MIN_ROWS}.
+     */
+    public void setParallelReadMinRows(int parallelReadMinRows) {
+        this.parallelReadMinRows = parallelReadMinRows;
+    }
+
+    /**
+     * Sets the maximum number of SQL templates cached for the queries of the store, 0 (the default) disables the cache.
+     * Only used with a {@link PreparedStatementSQLDialect}, see {@link SQLTemplateCache} for details. Changing the size
+     * drops the cached templates.
+     */
+    public void setSQLTemplateCacheSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The SQL template cache size cannot be negative");
+        }
+        this.sqlTemplateCache = size > 0 ? new SQLTemplateCache(size) : null;
+    }
+
+    /** @return the maximum number of SQL templates cached, see {@link #setSQLTemplateCacheSize(int)} */
+    public int getSQLTemplateCacheSize() {
+        SQLTemplateCache cache = sqlTemplateCache;
+        return cache != null ? cache.getMaxSize() : 0;
+    }
+
+    /** @return the cache of the SQL templates, providing the hit and miss counts, or null if disabled */
+    public SQLTemplateCache getSQLTemplateCache() {
+        return sqlTemplateCache;
+    }
+
+    /**
+     * Sets the maximum number of count and bounds results cached for each feature type, 0 (the default) disables the
+     * cache. The results are cached only outside of transactions, and are invalidated by the modifications made through
+     * the store, see {@link QueryResultCache} for details. Applies to the feature types accessed afterwards.
+     */
+    public void setQueryResultCacheSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The query result cache size cannot be negative");
+        }
+        this.queryResultCacheSize = size;
+    }
+
+    /** @return the maximum number of count and bounds results cached, see {@link #setQueryResultCacheSize(int)} */
+    public int getQueryResultCacheSize() {
+        return queryResultCacheSize;
+    }
+
+    /**
+     * Sets the time count and bounds results are cached, in milliseconds, bounding how stale they can get when the
+     * tables are modified by other applications. 0 (the default) keeps them until evicted or invalidated.
+     */
+    public void setQueryResultCacheTimeToLive(long timeToLive) {
+        this.queryResultCacheTimeToLive = timeToLive;
+    }
+
+    /** @return the time count and bounds results are cached, see {@link #setQueryResultCacheTimeToLive(long)} */
+    public long getQueryResultCacheTimeToLive() {
+        return queryResultCacheTimeToLive;
+    }
+
+    /** Drops the cached count and bounds results of all the feature types, on commit and rollback */
+    void invalidateQueryResultCaches() {
+        for (ContentEntry entry : entries.values()) {
+            QueryResultCache cache = entry.getState(Transaction.AUTO_COMMIT).getQueryResultCache();
+            if (cache != null) {
+                cache.invalidate();
+            }
+        }
+    }
+
+    /** @return the number of threads decoding geometries for pipelined reads, see {@link #setDecodeThreads(int)} */
+    public int getDecodeThreads() {
+        return decodeThreads;
+    }
+
+    /**
+     * Sets the number of threads decoding geometries for pipelined reads. When positive, the result set of plain
+     * queries (no joins) is read by a background thread, while the geometries are decoded by a pool of threads shared
+     * among all the readers of the store, overlapping the database fetch with the geometry decoding. The features are
+     * still returned in the result set order. Only used if the dialect can decode the geometries in a separate step,
+     * see {@link SQLDialect#createGeometryDecoder(GeometryDescriptor, GeometryFactory, Connection, Hints)}. The
+     * default, 0, disables pipelined reads.
+     */
+    public synchronized void setDecodeThreads(int decodeThreads) {
+        if (decodeThreads < 0) {
+            throw new IllegalArgumentException("The number of decoding threads cannot be negative");
+        }
+        this.decodeThreads = decodeThreads;
+        if (decodeExecutor != null) {
+            // will be re-created with the new size on demand
+            decodeExecutor.shutdown();
+            decodeExecutor = null;
+        }
+    }
+
+    /**
+     * Returns the executor decoding geometries for pipelined reads, creating it on demand. The executor is shut down
+     * when the store is disposed.
+     */
+    synchronized ExecutorService getDecodeExecutor() {
+        if (decodeExecutor == null) {
+            AtomicInteger counter = new AtomicInteger();
+            decodeExecutor = Executors.newFixedThreadPool(Math.max(1, decodeThreads), r -> {
+                Thread t = new Thread(r, "jdbc-decoder-" + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return decodeExecutor;
+    }
+
+    /**
+     * Returns the executor running the background reads, for both parallel and pipelined reads, creating it on demand.
+     * Readers block when their consumer is slower than the database, so the executor is not bounded, the parallelism is
+     * bound by the number of open readers and the connection pool instead. The executor is shut down when the store is
+     * disposed.
+     */
+    synchronized ExecutorService getParallelReadExecutor() {
+        if (parallelReadExecutor == null) {
+            AtomicInteger counter = new AtomicInteger();
+            parallelReadExecutor = Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "jdbc-reader-" + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return parallelReadExecutor;
+    }
+
     /**
      * Determines if the datastore creates feature types which include those columns / attributes which compose the
      * primary key.
@@ -912,6 +1115,9 @@ protected ContentFeatureSource createFeatureSource(ContentEntry entry) throws IO
     protected ContentState createContentState(ContentEntry entry) {
         JDBCState state = new JDBCState(entry);
         state.setExposePrimaryKeyColumns(exposePrimaryKeyColumns);
+        if (queryResultCacheSize > 0) {
+            state.setQueryResultCache(new QueryResultCache(queryResultCacheSize, queryResultCacheTimeToLive));
+        }
         return state;
     }
 
@@ -994,12 +1200,118 @@ protected List<Name> createTypeNames() throws IOException {
         return typeNames;
     }
 
+    /**
+     * Loads the metadata of all the tables in background, so that the feature types and the primary keys are ready by
+     * the time they are first used. Instead of a few queries for each table, the columns of all the tables are read
+     * with a single {@link DatabaseMetaData#getColumns} call, and the geometry columns metadata with the queries run by
+     * {@link SQLDialect#prefetchGeometryMetadata(String, Map, Connection)}. Then the primary keys are looked up, and
+     * the feature types built, by the given number of threads, each using its own connection. The failures are logged,
+     * the metadata of the failing tables will be loaded on demand as usual.
+     *
+     * @param threads The number of threads loading the metadata, at least one
+     * @return A future completing once all the tables have been processed
+     */
+    public synchronized CompletableFuture<Void> prefetchMetadata(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of prefetch threads must be positive");
+        }
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "jdbc-metadata-prefetch-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        prefetchExecutor = executor;
+
+        CompletableFuture<Void> result = CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return prefetchColumns();
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        },
+                        executor)
+                .thenCompose(names -> CompletableFuture.allOf(names.stream()
+                        .map(name -> CompletableFuture.runAsync(() -> prefetchSchema(name), executor))
+                        .toArray(CompletableFuture[]::new)));
+        return result.whenComplete((r, e) -> {
+            synchronized (this) {
+                executor.shutdown();
+                if (prefetchExecutor == executor) {
+                    prefetchExecutor = null;
+                }
+            }
+        });
+    }
+
+    /**
+     * Reads the columns of all the tables in bulk, handing them to the state of each entry, and returns the names of
+     * the tables
+     */
+    private List<Name> prefetchColumns() throws IOException {
+        List<Name> names = getNames();
+        Set<String> tables = names.stream()
+                .map(Name::getLocalPart)
+                .filter(t -> !virtualTables.containsKey(t))
+                .collect(Collectors.toSet());
+        Map<String, List<ColumnMetadata>> columns = new HashMap<>();
+        Connection cx = createConnection();
+        try {
+            DatabaseMetaData metaData = cx.getMetaData();
+            ResultSet rs = metaData.getColumns(cx.getCatalog(), escapeNamePattern(metaData, databaseSchema), "%", "%");
+            try {
+                if (fetchSize > 0) {
+                    rs.setFetchSize(fetchSize);
+                }
+                while (rs.next()) {
+                    String tableName = rs.getString("TABLE_NAME");
+                    if (tables.contains(tableName)) {
+                        columns.computeIfAbsent(tableName, t -> new ArrayList<>())
+                                .add(JDBCFeatureSource.readColumnMetadata(rs, dialect, cx));
+                    }
+                }
+            } finally {
+                closeSafe(rs);
+            }
+            dialect.prefetchGeometryMetadata(databaseSchema, columns, cx);
+        } catch (SQLException e) {
+            throw new IOException("Error occurred prefetching the columns metadata", e);
+        } finally {
+            closeSafe(cx);
+        }
+
+        for (Name name : names) {
+            List<ColumnMetadata> tableColumns = columns.get(name.getLocalPart());
+            if (tableColumns != null) {
+                JDBCState state = (JDBCState) ensureEntry(name).getState(Transaction.AUTO_COMMIT);
+                if (state.getFeatureType() == null) {
+                    state.setPrefetchedColumns(tableColumns);
+                }
+            }
+        }
+        return names;
+    }
+
+    /** Builds the feature type of a table, and its primary key along with it, logging failures */
+    private void prefetchSchema(Name name) {
+        try {
+            getSchema(name);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to prefetch the metadata of " + name, e);
+        }
+    }
+
     /** Returns the primary key object for a particular entry, deriving it from the underlying database metadata. */
     protected PrimaryKey getPrimaryKey(ContentEntry entry) throws IOException {
         JDBCState state = (JDBCState) entry.getState(Transaction.AUTO_COMMIT);
 
         if (state.getPrimaryKey() == null) {
-            synchronized (this) {
+            // lock on the entry state only, so that the keys of different tables can be looked up in parallel
+            synchronized (state) {
                 if (state.getPrimaryKey() == null) {
                     // get metadata from database
                     Connection cx = createConnection();
@@ -1223,7 +1535,9 @@ protected ReferencedEnvelope getBounds(SimpleFeatureType featureType, Query quer
         try {
             // try optimized bounds computation only if we're targeting the entire table
             if (isFullBoundsQuery(query, featureType)) {
-                List<ReferencedEnvelope> result = dialect.getOptimizedBounds(databaseSchema, featureType, cx);
+                List<ReferencedEnvelope> result = isEstimatedResultAccepted(query)
+                        ? dialect.getEstimatedBounds(databaseSchema, featureType, cx)
+                        : dialect.getOptimizedBounds(databaseSchema, featureType, cx);
                 if (result != null && !result.isEmpty()) {
                     // merge the envelopes into one
                     for (ReferencedEnvelope envelope : result) {
@@ -1272,6 +1586,19 @@ protected ReferencedEnvelope getBounds(SimpleFeatureType featureType, Query quer
         return bounds;
     }
 
+    /** Returns true if the query hints allow to return an approximate count or bounds */
+    private boolean isEstimatedResultAccepted(Query query) {
+        return query != null && Boolean.TRUE.equals(query.getHints().get(Hints.ESTIMATED_RESULT));
+    }
+
+    /** Returns true if the query hits all the rows of the table, with no filtering, paging or joins */
+    private boolean isFullTableQuery(Query query) {
+        return Filter.INCLUDE.equals(query.getFilter())
+                && query.isMaxFeaturesUnlimited()
+                && (query.getStartIndex() == null || query.getStartIndex() == 0)
+                && query.getJoins().isEmpty();
+    }
+
     /**
      * Returns true if the query will hit all the geometry columns with no row filtering (a condition that allows to use
      * spatial index statistics to compute the table bounds)
@@ -1335,6 +1662,17 @@ ReferencedEnvelope mergeEnvelope(ReferencedEnvelope base, ReferencedEnvelope mer
 
     /** Returns the count of the features for a particular feature type / table. */
     protected int getCount(SimpleFeatureType featureType, Query query, Connection cx) throws IOException {
+        // use the database statistics if the caller is fine with an approximate count
+        if (isEstimatedResultAccepted(query) && isFullTableQuery(query)) {
+            try {
+                int estimate = dialect.getEstimatedCount(databaseSchema, featureType, cx);
+                if (estimate >= 0) {
+                    return estimate;
+                }
+            } catch (SQLException e) {
+                throw new IOException("Error occurred estimating the count of " + featureType.getTypeName(), e);
+            }
+        }
 
         CountVisitor v = new CountVisitor();
         getAggregateValue(v, featureType, query, cx);
@@ -1372,6 +1710,10 @@ protected Object getAggregateValue(
             if (aggregateExpressions != null && !fullySupports(aggregateExpressions)) {
                 return null;
             }
+            if (aggregateExpressions != null
+                    && !isAggregateFunctionSupported(function, aggregateExpressions, featureType)) {
+                return null;
+            }
         }
 
         // In the SQL standard distinct and order by can work only if all order by attributes also
@@ -1430,7 +1772,12 @@ protected Object getAggregateValue(
                 // with a weak/problematic type system (e.g., sqlite)
                 java.util.function.Function<Object, Object> converter =
                         dialect.getAggregateConverter(visitor, featureType);
-                if (visitor.getClass().equals(UniqueVisitor.class)) {
+                if (visitor instanceof GroupByVisitor groupByVisitor) {
+                    // stream the groups into the visitor, there might be too many to hold them in a list first
+                    groupByVisitor.setValues(new GroupByResultIterator(
+                            cx, featureType, rs, groupByExpressions, converter, query.getHints()));
+                    return groupByVisitor.getResult();
+                } else if (visitor.getClass().equals(UniqueVisitor.class)) {
                     UniqueVisitor uniqueVisitor = (UniqueVisitor) visitor;
                     results = getUniqueResult(
                             uniqueVisitor, cx, featureType, rs, groupByExpressions, converter, query.getHints());
@@ -1450,11 +1797,21 @@ protected Object getAggregateValue(
                 return result == null ? results : result;
             }
             return null;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         } catch (SQLException e) {
             throw (IOException) new IOException().initCause(e);
         }
     }
 
+    /** Checks the dialect can compute the aggregate function on the type of all the aggregated expressions */
+    private boolean isAggregateFunctionSupported(
+            String function, List<Expression> expressions, SimpleFeatureType featureType) {
+        ExpressionTypeVisitor typeVisitor = new ExpressionTypeVisitor(featureType);
+        return expressions.stream()
+                .allMatch(e -> dialect.isAggregateFunctionSupported(function, (Class<?>) e.accept(typeVisitor, null)));
+    }
+
     private static boolean isSortAttributesPartOfUnique(UniqueVisitor visitor, Query query) {
         Set<String> uniqueAttributes = new HashSet<>(visitor.getAttrNames());
         Set<String> sortAttributes = Arrays.stream(query.getSortBy())
@@ -1677,6 +2034,66 @@ protected GroupByVisitor.GroupByRawResult extractValuesFromResultSet(
         return new GroupByVisitor.GroupByRawResult(groupByValues, converted);
     }
 
+    /**
+     * Lazily translates the rows of a group by result set to the group by visitor result format. Failures are reported
+     * as {@link UncheckedIOException}, as the iterator API does not allow checked exceptions.
+     */
+    private class GroupByResultIterator implements Iterator<GroupByVisitor.GroupByRawResult> {
+
+        Connection cx;
+        SimpleFeatureType featureType;
+        ResultSet rs;
+        List<Expression> groupBy;
+        java.util.function.Function<Object, Object> converter;
+        Hints hints;
+
+        GroupByVisitor.GroupByRawResult next;
+        boolean done;
+
+        GroupByResultIterator(
+                Connection cx,
+                SimpleFeatureType featureType,
+                ResultSet rs,
+                List<Expression> groupBy,
+                java.util.function.Function<Object, Object> converter,
+                Hints hints) {
+            this.cx = cx;
+            this.featureType = featureType;
+            this.rs = rs;
+            this.groupBy = groupBy;
+            this.converter = converter;
+            this.hints = hints;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    if (rs.next()) {
+                        next = extractValuesFromResultSet(cx, featureType, rs, groupBy, converter, hints);
+                    } else {
+                        done = true;
+                    }
+                } catch (SQLException e) {
+                    throw new UncheckedIOException(new IOException(e));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public GroupByVisitor.GroupByRawResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            GroupByVisitor.GroupByRawResult result = next;
+            next = null;
+            return result;
+        }
+    }
+
     /**
      * Helper method for getting the expression from a visitor TODO: Remove this method when there is an interface for
      * aggregate visitors. See GEOT-2325 for details.
@@ -1719,10 +2136,12 @@ boolean setResult(FeatureVisitor visitor, Object result) {
                 }
 
                 if (s == null) {
+                    // prefer a setter accepting the result as is, visitors can have several overloads
                     for (Method m : visitor.getClass().getMethods()) {
-                        if ("setValue".equals(m.getName()) && m.getParameterCount() == 1) {
+                        if ("setValue".equals(m.getName())
+                                && m.getParameterCount() == 1
+                                && (s == null || m.getParameterTypes()[0].isInstance(result))) {
                             s = m;
-                            break;
                         }
                     }
                 }
@@ -1786,6 +2205,140 @@ protected void insert(Collection<? extends SimpleFeature> features, SimpleFeatur
         }
     }
 
+    /**
+     * Inserts features in bulk, using the loader provided by the dialect, see
+     * {@link SQLDialect#createBulkLoader(SimpleFeatureType, List, Connection)}. The attribute values are pulled from
+     * the features by name, the features receive their new feature id, and are passed to the listener once handed over
+     * to the loader.
+     *
+     * <p>The features are loaded in chunks: the keys of a whole chunk are computed first, then the rows are handed over
+     * to the loader, which is flushed before moving to the next chunk. The store is locked only while loading a chunk,
+     * not while reading the features from the collection, so the keys computed from the table contents (e.g., the next
+     * value after the maximum one) are computed again for each chunk.
+     *
+     * @return The ids of the inserted features, or <code>null</code> if the features cannot be bulk loaded, in which
+     *     case nothing has been inserted
+     */
+    protected List<FeatureId> insertBulk(
+            FeatureCollection<SimpleFeatureType, SimpleFeature> features,
+            SimpleFeatureType featureType,
+            Connection cx,
+            Consumer<SimpleFeature> listener)
+            throws IOException {
+        if (!dialect.supportsBulkLoad(featureType)) {
+            return null;
+        }
+        PrimaryKey key = getPrimaryKey(featureType);
+
+        try {
+            KeysFetcher generated = KeysFetcher.create(this, cx, false, key);
+            if (!generated.isBulkLoadable()) {
+                return null;
+            }
+            KeysFetcher existing = null;
+
+            // the attribute columns first, skipping the exposed primary key ones, then the key columns
+            List<AttributeDescriptor> attributes = new ArrayList<>();
+            List<BulkLoader.Column> columns = new ArrayList<>();
+            for (AttributeDescriptor att : featureType.getAttributeDescriptors()) {
+                String colName = att.getLocalName();
+                if (generated.isKey(colName)) {
+                    continue;
+                }
+                Class<?> binding = att.getType().getBinding();
+                if (att.getUserData().get(JDBCDataStore.JDBC_ENUM_MAP) != null) {
+                    binding = Integer.class;
+                }
+                attributes.add(att);
+                columns.add(new BulkLoader.Column(colName, binding, att));
+            }
+            for (PrimaryKeyColumn col : key.getColumns()) {
+                columns.add(new BulkLoader.Column(col.getName(), col.getType(), null));
+            }
+
+            try (BulkLoader loader = dialect.createBulkLoader(featureType, columns, cx)) {
+                if (loader == null) {
+                    return null;
+                }
+                List<FeatureId> ids = new ArrayList<>();
+                List<SimpleFeature> chunk = new ArrayList<>(BULK_LOAD_CHUNK_SIZE);
+                List<Object[]> rows = new ArrayList<>(BULK_LOAD_CHUNK_SIZE);
+                try (FeatureIterator<SimpleFeature> it = features.features()) {
+                    while (it.hasNext()) {
+                        // read the features outside of the lock, the collection might be slow to iterate
+                        chunk.clear();
+                        rows.clear();
+                        while (chunk.size() < BULK_LOAD_CHUNK_SIZE && it.hasNext()) {
+                            chunk.add(it.next());
+                        }
+
+                        // as for the regular inserts, computing the keys and inserting cannot interleave with
+                        // other inserts. All the keys are computed before handing over the rows, as the loader
+                        // might keep the connection busy until flushed
+                        synchronized (this) {
+                            generated.startBulkChunk(cx);
+                            for (SimpleFeature feature : chunk) {
+                                Object[] row = new Object[columns.size()];
+                                for (int i = 0; i < attributes.size(); i++) {
+                                    row[i] = getBulkValue(feature, attributes.get(i));
+                                }
+
+                                KeysFetcher keysFetcher = generated;
+                                if (InsertionClassifier.useExisting(feature)) {
+                                    if (existing == null) {
+                                        existing = KeysFetcher.create(this, cx, true, key);
+                                    }
+                                    keysFetcher = existing;
+                                }
+                                List<Object> keyValues = keysFetcher.getBulkValues(cx, featureType, feature);
+                                for (int i = 0; i < keyValues.size(); i++) {
+                                    row[attributes.size() + i] = keyValues.get(i);
+                                }
+                                rows.add(row);
+                            }
+                            for (Object[] row : rows) {
+                                loader.addRow(row);
+                            }
+                            loader.flush();
+                        }
+
+                        for (SimpleFeature feature : chunk) {
+                            String fid = (String) feature.getUserData().get("fid");
+                            if (feature.getIdentifier() instanceof FeatureIdImpl id) {
+                                id.setID(fid);
+                            }
+                            ids.add(new FeatureIdImpl(fid));
+                            listener.accept(feature);
+                        }
+                    }
+                }
+                loader.finish();
+                return ids;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Error bulk loading features", e);
+        }
+    }
+
+    /** Returns the value of an attribute ready for bulk loading, see {@link BulkLoader} */
+    private Object getBulkValue(SimpleFeature feature, AttributeDescriptor att) throws IOException {
+        String colName = att.getLocalName();
+        Object value = feature.getAttribute(colName);
+        if (value == null && !att.isNillable()) {
+            throw new IOException("Cannot set a NULL value on the not null column " + colName);
+        }
+
+        Class<?> binding = att.getType().getBinding();
+        if (Geometry.class.isAssignableFrom(binding)) {
+            return linearize(value, binding);
+        }
+        EnumMapping mapping = (EnumMapping) att.getUserData().get(JDBCDataStore.JDBC_ENUM_MAP);
+        if (mapping != null) {
+            return mapping.fromValue((String) value);
+        }
+        return value;
+    }
+
     /** Specialized insertion for dialects that are using prepared statements. */
     private void insertPS(
             Collection<SimpleFeature> features,
@@ -3568,6 +4121,16 @@ void sort(SimpleFeatureType featureType, SortBy[] sort, String prefix, StringBuf
     protected PreparedStatement selectSQLPS(SimpleFeatureType featureType, Query query, Connection cx)
             throws SQLException, IOException {
 
+        // reuse the SQL of a structurally identical query, if possible
+        SQLTemplateCache templateCache = sqlTemplateCache;
+        SQLTemplateCache.Lookup template = templateCache != null ? templateCache.lookup(featureType, query) : null;
+        if (template != null && template.getSQL() != null) {
+            PreparedFilterToSQL toSQL = template.bind(createPreparedFilterToSQL(getSchema(featureType.getTypeName())));
+            if (toSQL != null) {
+                return prepareSelect(template.getSQL(), toSQL, cx);
+            }
+        }
+
         StringBuffer sql = new StringBuffer();
         sql.append("SELECT ");
 
@@ -3585,7 +4148,10 @@ protected PreparedStatement selectSQLPS(SimpleFeatureType featureType, Query que
         if (filter != null && !Filter.INCLUDE.equals(filter)) {
             sql.append(" WHERE ");
 
-            // encode filter
+            // encode filter, tracking how the literals are used if a template is to be created
+            if (template != null) {
+                filter = template.getTrackingFilter(filter);
+            }
             toSQL = (PreparedFilterToSQL) filter(featureType, filter, sql);
         }
 
@@ -3598,9 +4164,16 @@ protected PreparedStatement selectSQLPS(SimpleFeatureType featureType, Query que
         // add search hints if the dialect supports them
         applySearchHints(featureType, query, sql);
 
-        LOGGER.fine(sql.toString());
-        PreparedStatement ps =
-                cx.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        if (template != null) {
+            template.store(sql.toString(), toSQL);
+        }
+        return prepareSelect(sql.toString(), toSQL, cx);
+    }
+
+    private PreparedStatement prepareSelect(String sql, PreparedFilterToSQL toSQL, Connection cx)
+            throws SQLException {
+        LOGGER.fine(sql);
+        PreparedStatement ps = cx.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
         ps.setFetchSize(fetchSize);
 
         if (toSQL != null) {
@@ -4031,21 +4604,21 @@ List<FilterToSQL> doSelectAggregateSQL(
             boolean countQuery = isUniqueCount || groupByComplexExpressions && "count".equals(function);
             if (countQuery) sql2.append("count(*)");
             else if (groupByComplexExpressions) {
-                sql2.append(function).append("(");
+                StringBuilder aliases = new StringBuilder();
                 int size = expressions.size();
                 for (int i = 0; i < size; i++) {
                     Expression expr = expressions.get(i);
                     try {
                         String aliasSuffix = filterToSQL.encodeToString(expr).replaceAll("\"", "");
-                        sql2.append("gt_agg_src_").append(aliasSuffix);
+                        aliases.append("gt_agg_src_").append(aliasSuffix);
                         if (i < size - 1) {
-                            sql2.append(",");
+                            aliases.append(",");
                         }
                     } catch (FilterToSQLException e) {
                         throw new RuntimeException("Failed to encode column alias in group by.", e);
                     }
                 }
-                sql2.append(")");
+                dialect.encodeAggregateFunction(function, aliases.toString(), sql2);
             } else {
                 encodeFunction(function, expressions, sql2, filterToSQL);
             }
@@ -4141,11 +4714,12 @@ protected void encodeFunction(
                 boolean encodeOnce = isEncodeOnceFunction(function);
                 if (encodeOnce) sql.append(function);
                 for (int i = 0; i < expressions.size(); i++) {
-                    if (!encodeOnce) sql.append(function);
-                    Expression e = expressions.get(i);
-                    sql.append("(");
-                    sql.append(filterToSQL.encodeToString(e));
-                    sql.append(")");
+                    String encoded = filterToSQL.encodeToString(expressions.get(i));
+                    if (encodeOnce) {
+                        sql.append("(").append(encoded).append(")");
+                    } else {
+                        dialect.encodeAggregateFunction(function, encoded, sql);
+                    }
                     if (i < size - 1) {
                         sql.append(",");
                     }
@@ -4830,6 +5404,20 @@ protected void finalize() throws Throwable {
     @SuppressWarnings("PMD.CloseResource")
     public void dispose() {
         super.dispose();
+        synchronized (this) {
+            if (parallelReadExecutor != null) {
+                parallelReadExecutor.shutdownNow();
+                parallelReadExecutor = null;
+            }
+            if (decodeExecutor != null) {
+                decodeExecutor.shutdownNow();
+                decodeExecutor = null;
+            }
+            if (prefetchExecutor != null) {
+                prefetchExecutor.shutdownNow();
+                prefetchExecutor = null;
+            }
+        }
         if (dataSource instanceof ManageableDataSource mds) {
             try {
                 mds.close();
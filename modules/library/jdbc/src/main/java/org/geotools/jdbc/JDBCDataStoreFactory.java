@@ -104,6 +104,66 @@ public abstract class JDBCDataStoreFactory implements DataStoreFactorySpi {
             false,
             1);
 
+    /** If greater than one, queries are split in partitions read in parallel on separate connections */
+    public static final Param PARALLEL_READ_THREADS = new Param(
+            "Parallel read threads",
+            Integer.class,
+            "Number of partitions read in parallel, on separate connections, by queries outside of transactions "
+                    + "(default, 1, disables parallel reads)",
+            false,
+            1,
+            Collections.singletonMap(Parameter.LEVEL, "advanced"));
+
+    /** If positive, the geometries are decoded by a pool of threads, while the results are being fetched */
+    public static final Param DECODE_THREADS = new Param(
+            "Geometry decoding threads",
+            Integer.class,
+            "Number of threads decoding the geometries while the query results are being fetched "
+                    + "(default, 0, decodes them in the reading thread)",
+            false,
+            0,
+            Collections.singletonMap(Parameter.LEVEL, "advanced"));
+
+    /** If positive, the SQL of structurally identical queries is generated once and reused */
+    public static final Param SQL_TEMPLATE_CACHE_SIZE = new Param(
+            "SQL template cache size",
+            Integer.class,
+            "Number of SQL templates cached for queries differing only in their literal values, "
+                    + "only used with prepared statements (default, 0, disables the cache)",
+            false,
+            0,
+            Collections.singletonMap(Parameter.LEVEL, "advanced"));
+
+    /** If positive, the counts and bounds of the queries are cached, until the data is modified */
+    public static final Param QUERY_RESULT_CACHE_SIZE = new Param(
+            "Query result cache size",
+            Integer.class,
+            "Number of feature counts and bounds cached for each feature type, invalidated when the data is modified "
+                    + "through the store (default, 0, disables the cache)",
+            false,
+            0,
+            Collections.singletonMap(Parameter.LEVEL, "advanced"));
+
+    /** Time to live of the cached counts and bounds, bounding their staleness when the data is modified externally */
+    public static final Param QUERY_RESULT_CACHE_TTL = new Param(
+            "Query result cache time to live",
+            Integer.class,
+            "Number of seconds the feature counts and bounds are cached, for data modified outside of the store "
+                    + "(default, 0, keeps them until evicted or invalidated)",
+            false,
+            0,
+            Collections.singletonMap(Parameter.LEVEL, "advanced"));
+
+    /** If positive, the metadata of all the tables is loaded in background as soon as the store is created */
+    public static final Param METADATA_PREFETCH_THREADS = new Param(
+            "Metadata prefetch threads",
+            Integer.class,
+            "Number of threads loading the feature types of all the tables in background when the store is created, "
+                    + "reading the columns metadata in bulk (default, 0, loads each feature type on first use)",
+            false,
+            0,
+            Collections.singletonMap(Parameter.LEVEL, "advanced"));
+
     /** Maximum amount of time the pool will wait when trying to grab a new connection * */
     public static final Param MAXWAIT = new Param(
             "Connection timeout",
@@ -272,6 +332,30 @@ public final JDBCDataStore createDataStore(Map<String, ?> params) throws IOExcep
             dataStore.setBatchInsertSize(batchInsertSize);
         }
 
+        Integer parallelReadThreads = (Integer) PARALLEL_READ_THREADS.lookUp(params);
+        if (parallelReadThreads != null && parallelReadThreads > 0) {
+            dataStore.setParallelReadThreads(parallelReadThreads);
+        }
+
+        Integer decodeThreads = (Integer) DECODE_THREADS.lookUp(params);
+        if (decodeThreads != null && decodeThreads > 0) {
+            dataStore.setDecodeThreads(decodeThreads);
+        }
+
+        Integer templateCacheSize = (Integer) SQL_TEMPLATE_CACHE_SIZE.lookUp(params);
+        if (templateCacheSize != null && templateCacheSize > 0) {
+            dataStore.setSQLTemplateCacheSize(templateCacheSize);
+        }
+
+        Integer resultCacheSize = (Integer) QUERY_RESULT_CACHE_SIZE.lookUp(params);
+        if (resultCacheSize != null && resultCacheSize > 0) {
+            dataStore.setQueryResultCacheSize(resultCacheSize);
+            Integer resultCacheTTL = (Integer) QUERY_RESULT_CACHE_TTL.lookUp(params);
+            if (resultCacheTTL != null && resultCacheTTL > 0) {
+                dataStore.setQueryResultCacheTimeToLive(resultCacheTTL * 1000L);
+            }
+        }
+
         // namespace
         String namespace = (String) NAMESPACE.lookUp(params);
 
@@ -338,6 +422,12 @@ public final JDBCDataStore createDataStore(Map<String, ?> params) throws IOExcep
         if (result.getDataSource() == null) {
             throw new IOException("JDBC Connection not available with provided parameters");
         }
+
+        // once fully configured, start loading the tables metadata if required
+        Integer prefetchThreads = (Integer) METADATA_PREFETCH_THREADS.lookUp(params);
+        if (prefetchThreads != null && prefetchThreads > 0) {
+            result.prefetchMetadata(prefetchThreads);
+        }
         return result;
     }
 
@@ -407,6 +497,12 @@ protected void setupParameters(Map<String, Object> parameters) {
         parameters.put(MINCONN.key, MINCONN);
         parameters.put(FETCHSIZE.key, FETCHSIZE);
         parameters.put(BATCH_INSERT_SIZE.key, BATCH_INSERT_SIZE);
+        parameters.put(PARALLEL_READ_THREADS.key, PARALLEL_READ_THREADS);
+        parameters.put(DECODE_THREADS.key, DECODE_THREADS);
+        parameters.put(SQL_TEMPLATE_CACHE_SIZE.key, SQL_TEMPLATE_CACHE_SIZE);
+        parameters.put(QUERY_RESULT_CACHE_SIZE.key, QUERY_RESULT_CACHE_SIZE);
+        parameters.put(QUERY_RESULT_CACHE_TTL.key, QUERY_RESULT_CACHE_TTL);
+        parameters.put(METADATA_PREFETCH_THREADS.key, METADATA_PREFETCH_THREADS);
         parameters.put(MAXWAIT.key, MAXWAIT);
         if (getValidationQuery() != null) parameters.put(VALIDATECONN.key, VALIDATECONN);
         parameters.put(TEST_WHILE_IDLE.key, TEST_WHILE_IDLE);
@@ -55,14 +55,17 @@
 import org.geotools.feature.type.AttributeDescriptorImpl;
 import org.geotools.feature.type.Types;
 import org.geotools.filter.identity.FeatureIdImpl;
+import org.geotools.filter.visitor.ExtractBoundsFilterVisitor;
 import org.geotools.geometry.jts.CurvedGeometryFactory;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.util.Converters;
 import org.geotools.util.factory.Hints;
 import org.geotools.util.logging.Logging;
 import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
 
 /**
  * Reader for jdbc datastore
@@ -96,6 +99,21 @@ public class JDBCFeatureReader implements FeatureReader<SimpleFeatureType, Simpl
     /** Screenmap for feature skipping behaviour */
     protected ScreenMap screenMap;
 
+    /** Number of features skipped by the screen map between two checks of {@link #screenMapArea} */
+    static final int SCREENMAP_CHECK_INTERVAL = 128;
+
+    /**
+     * Area containing all the features read, set only when they are points and the screen map is linear. Once all its
+     * pixels are busy the following features would be skipped anyway, and reading can stop
+     */
+    Envelope screenMapArea;
+
+    /** Number of features skipped by the screen map */
+    int screenMapSkips;
+
+    /** Set when the screen map area is full, no more features will be read */
+    boolean screenMapFull;
+
     /** current transaction */
     protected Transaction tx;
     /** flag indicating if the iterator has another feature */
@@ -122,7 +140,8 @@ public class JDBCFeatureReader implements FeatureReader<SimpleFeatureType, Simpl
     protected int offset = 0;
 
     protected JDBCReaderCallback callback = JDBCReaderCallback.NULL;
-    private int[] attributeRsIndex;
+    /** the position of each attribute in the result set */
+    int[] attributeRsIndex;
 
     /** enum support */
     EnumMapping[] enumMappings;
@@ -222,6 +241,7 @@ protected void init(JDBCFeatureSource featureSource, SimpleFeatureType featureTy
 
         // screenmap support
         this.screenMap = hints != null ? (ScreenMap) hints.get(Hints.SCREENMAP) : null;
+        this.screenMapArea = getScreenMapArea();
 
         // create a feature builder using the factory hinted or the one coming
         // from the datastore
@@ -321,6 +341,9 @@ public boolean hasNext() throws IOException {
 
                     if (next) {
                         nextFeature = readNextFeature();
+                        if (nextFeature == null && checkScreenMapFull()) {
+                            next = Boolean.FALSE;
+                        }
                     }
                 }
 
@@ -336,6 +359,54 @@ public boolean hasNext() throws IOException {
         return next.booleanValue();
     }
 
+    /**
+     * Returns the area containing all the features read, when they are all points (the only geometries the screen map
+     * skips regardless of their size) and the screen map can check the area is full, null otherwise
+     */
+    private Envelope getScreenMapArea() {
+        if (screenMap == null || !screenMap.isLinear() || query == null || query.getFilter() == null) {
+            return null;
+        }
+        GeometryDescriptor geometry = null;
+        for (AttributeDescriptor ad : featureType.getAttributeDescriptors()) {
+            if (ad instanceof GeometryDescriptor gd) {
+                if (geometry != null) return null;
+                geometry = gd;
+            }
+        }
+        if (geometry == null || !Point.class.equals(geometry.getType().getBinding())) {
+            return null;
+        }
+        Envelope area = (Envelope) query.getFilter().accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, null);
+        if (area == null
+                || area.isNull()
+                || Double.isInfinite(area.getWidth())
+                || Double.isInfinite(area.getHeight())) {
+            return null;
+        }
+        return area;
+    }
+
+    /**
+     * Called when a feature has been skipped by the screen map, checks once every {@link #SCREENMAP_CHECK_INTERVAL}
+     * skips if all the pixels of the screen map area are busy, in that case all the following features would be
+     * skipped too and reading can stop
+     */
+    boolean checkScreenMapFull() {
+        if (screenMapFull || screenMapArea == null) {
+            return screenMapFull;
+        }
+        if (++screenMapSkips % SCREENMAP_CHECK_INTERVAL == 0) {
+            try {
+                screenMapFull = screenMap.isFull(screenMapArea);
+            } catch (TransformException e) {
+                LOGGER.log(Level.FINE, "Failed to check the screen map area, reading all features", e);
+                screenMapArea = null;
+            }
+        }
+        return screenMapFull;
+    }
+
     protected SimpleFeature readNextFeature() {
         // figure out the fid
         String fid;
@@ -404,37 +475,7 @@ protected SimpleFeature readNextFeature() {
                     value = rs.getObject(offset + attributeRsIndex[i]);
                 }
 
-                // they value may need conversion. We let converters chew the initial
-                // value towards the target type, if the result is not the same as the
-                // original, then a conversion happened, and we may want to report it to the
-                // user (being the feature type reverse engineered, it's unlikely a true
-                // conversion will be needed)
-                if (value != null) {
-                    EnumMapping mapping = enumMappings[i];
-                    Object converted = null;
-                    if (mapping != null) {
-                        String keyAsString = Converters.convert(value, String.class);
-                        // if the mapping is not found in the enum, mimic QGIS behavior by placing the key in
-                        // parentheses as value
-                        value = Objects.requireNonNullElse(mapping.fromKey(keyAsString), "(" + keyAsString + ")");
-                        converted = value;
-                    } else {
-                        converted = dataStore.dialect.convertValue(value, type);
-                    }
-
-                    if (converted != null && converted != value) {
-                        value = converted;
-                        if (dataStore.getLogger().isLoggable(Level.FINER)) {
-                            String msg = value
-                                    + " is not of type "
-                                    + type.getType().getBinding().getName()
-                                    + ", value was converted";
-                            dataStore.getLogger().finer(msg);
-                        }
-                    }
-                }
-
-                builder.add(value);
+                builder.add(convertValue(i, type, value));
             } catch (SQLException e) {
                 throw new RuntimeException(e);
             }
@@ -449,6 +490,44 @@ protected SimpleFeature readNextFeature() {
         }
     }
 
+    /**
+     * Converts the value read from the result set to the type of the attribute, handling mapped enumerations
+     *
+     * @param index The attribute index
+     * @param type The attribute descriptor
+     * @param value The value read from the result set
+     */
+    Object convertValue(int index, AttributeDescriptor type, Object value) {
+        // they value may need conversion. We let converters chew the initial
+        // value towards the target type, if the result is not the same as the
+        // original, then a conversion happened, and we may want to report it to the
+        // user (being the feature type reverse engineered, it's unlikely a true
+        // conversion will be needed)
+        if (value != null) {
+            EnumMapping mapping = enumMappings[index];
+            Object converted = null;
+            if (mapping != null) {
+                String keyAsString = Converters.convert(value, String.class);
+                // if the mapping is not found in the enum, mimic QGIS behavior by placing the key in
+                // parentheses as value
+                value = Objects.requireNonNullElse(mapping.fromKey(keyAsString), "(" + keyAsString + ")");
+                converted = value;
+            } else {
+                converted = dataStore.dialect.convertValue(value, type);
+            }
+
+            if (converted != null && converted != value) {
+                value = converted;
+                if (dataStore.getLogger().isLoggable(Level.FINER)) {
+                    String msg = value + " is not of type " + type.getType().getBinding().getName()
+                            + ", value was converted";
+                    dataStore.getLogger().finer(msg);
+                }
+            }
+        }
+        return value;
+    }
+
     protected void ensureNext() {
         if (next == null) {
             throw new IllegalStateException("Must call hasNext before calling next");
@@ -27,8 +27,14 @@
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.geotools.api.data.FeatureReader;
@@ -43,17 +49,21 @@
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.filter.Filter;
 import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.Id;
 import org.geotools.api.filter.expression.Expression;
 import org.geotools.api.filter.expression.PropertyName;
+import org.geotools.api.filter.sort.SortBy;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.data.FilteringFeatureReader;
 import org.geotools.data.MaxFeatureReader;
 import org.geotools.data.ReTypeFeatureReader;
+import org.geotools.data.sort.SortedFeatureReader;
 import org.geotools.data.store.ContentEntry;
 import org.geotools.data.store.ContentFeatureSource;
 import org.geotools.feature.AttributeTypeBuilder;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.feature.visitor.MaxVisitor;
+import org.geotools.feature.visitor.MergeableVisitors;
 import org.geotools.feature.visitor.MinVisitor;
 import org.geotools.feature.visitor.NearestVisitor;
 import org.geotools.filter.FilterAttributeExtractor;
@@ -115,6 +125,10 @@ protected void addHints(Set<Key> hints) {
         // mark the features as detached, that is, the user can directly alter them
         // without altering the state of the datastore
         hints.add(Hints.FEATURE_DETACHED);
+        // counts and bounds can be estimated, if the dialect supports it
+        hints.add(Hints.ESTIMATED_RESULT);
+        // pages can be read after a continuation token
+        hints.add(Hints.KEYSET_CONTINUATION);
         getDataStore().getSQLDialect().addSupportedHints(hints);
     }
 
@@ -202,10 +216,16 @@ protected SimpleFeatureType buildFeatureType() throws IOException {
             DatabaseMetaData metaData = cx.getMetaData();
             // get metadata about columns from database
             List<ColumnMetadata> columns;
+            boolean prefetched = false;
             if (virtualTable != null) {
                 columns = getColumnMetadata(cx, virtualTable, dialect, getDataStore());
             } else {
-                columns = getColumnMetadata(cx, databaseSchema, tableName, dialect);
+                // use the columns fetched in bulk with the other tables, if any
+                columns = ((JDBCState) entry.getState(Transaction.AUTO_COMMIT)).takePrefetchedColumns();
+                prefetched = columns != null;
+                if (!prefetched) {
+                    columns = getColumnMetadata(cx, databaseSchema, tableName, dialect);
+                }
             }
 
             for (ColumnMetadata column : columns) {
@@ -309,6 +329,8 @@ protected SimpleFeatureType buildFeatureType() throws IOException {
                     try {
                         if (virtualTable != null) {
                             srid = virtualTable.getNativeSrid(name);
+                        } else if (prefetched && column.srid != null) {
+                            srid = column.srid;
                         } else {
                             srid = dialect.getGeometrySRID(databaseSchema, tableName, name, cx);
                         }
@@ -331,6 +353,8 @@ protected SimpleFeatureType buildFeatureType() throws IOException {
                     try {
                         if (virtualTable != null) {
                             dimension = virtualTable.getDimension(name);
+                        } else if (prefetched && column.dimension != null) {
+                            dimension = column.dimension;
                         } else {
                             dimension = dialect.getGeometryDimension(databaseSchema, tableName, name, cx);
                         }
@@ -579,13 +603,56 @@ protected boolean canTransact() {
     }
 
     @Override
-    @SuppressWarnings("PMD.CloseResource") // the cx is passed to the reader which will close it
     protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Query query) throws IOException {
+        Object continuation = query.getHints() != null ? query.getHints().get(Hints.KEYSET_CONTINUATION) : null;
+        boolean sorted = query.getSortBy() != null && query.getSortBy().length > 0;
+        boolean paged = query.getStartIndex() != null || sorted && !query.isMaxFeaturesUnlimited();
+        if (paged || continuation instanceof Object[]) {
+            KeysetPaging keyset = getKeysetPaging(query);
+            if (keyset != null) {
+                // page on a stable sort, so that the continuation token of the last feature is well defined
+                Query keysetQuery = new Query(query);
+                keysetQuery.setSortBy(keyset.getSortBy());
+                if (continuation instanceof Object[] keyValues) {
+                    // read the page right after the token, no need to skip the previous ones
+                    keysetQuery.setStartIndex(null);
+                    Filter following = keyset.getFilter(keyValues, getDataStore().getFilterFactory());
+                    return getReader(keysetQuery, following);
+                }
+                query = keysetQuery;
+            } else if (continuation != null) {
+                LOGGER.fine("The sort of the query cannot be made stable, ignoring the keyset continuation");
+            }
+        }
+        if (canReadInParallel(query)) {
+            FeatureReader<SimpleFeatureType, SimpleFeature> reader = getParallelReader(query);
+            if (reader != null) {
+                return reader;
+            }
+        }
+        return getReader(query, Filter.INCLUDE);
+    }
+
+    /**
+     * Returns a reader for the query, restricted to the rows matching the partition filter
+     *
+     * @param query The query
+     * @param partition A filter selecting a partition of the table, see
+     *     {@link SQLDialect#splitReads(SimpleFeatureType, PrimaryKey, int, int, Connection)}, or {@link Filter#INCLUDE}
+     */
+    @SuppressWarnings("PMD.CloseResource") // the cx is passed to the reader which will close it
+    FeatureReader<SimpleFeatureType, SimpleFeature> getReader(Query query, Filter partition) throws IOException {
         // split the filter
         Filter[] split = splitFilter(query.getFilter(), query.getHints());
         Filter preFilter = split[0];
         Filter postFilter = split[1];
         boolean postFilterRequired = postFilter != null && postFilter != Filter.INCLUDE;
+        if (partition != Filter.INCLUDE) {
+            // the partition filter is built by the dialect, no need to split it
+            preFilter = preFilter == Filter.INCLUDE
+                    ? partition
+                    : getDataStore().getFilterFactory().and(preFilter, partition);
+        }
 
         // rebuild a new query with the same params, but just the pre-filter
         Query preQuery = new Query(query);
@@ -617,16 +684,21 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
             }
 
             if (query.getJoins().isEmpty()) {
-                // regular query
+                // regular query, decoding the geometries in background if so configured
+                boolean pipelined = getDataStore().getDecodeThreads() > 0;
                 if (dialect instanceof PreparedStatementSQLDialect) {
                     PreparedStatement ps = getDataStore().selectSQLPS(querySchema, preQuery, cx);
-                    reader = new JDBCFeatureReader(ps, cx, this, querySchema, query);
+                    reader = pipelined
+                            ? new PipelinedFeatureReader(ps, cx, this, querySchema, query)
+                            : new JDBCFeatureReader(ps, cx, this, querySchema, query);
                 } else {
                     // build up a statement for the content
                     String sql = getDataStore().selectSQL(querySchema, preQuery);
                     getDataStore().getLogger().fine(sql);
 
-                    reader = new JDBCFeatureReader(sql, cx, this, querySchema, query);
+                    reader = pipelined
+                            ? new PipelinedFeatureReader(sql, cx, this, querySchema, query)
+                            : new JDBCFeatureReader(sql, cx, this, querySchema, query);
                 }
             } else {
                 JoinInfo join = JoinInfo.create(preQuery, this);
@@ -684,6 +756,143 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
         return reader;
     }
 
+    /**
+     * Returns the keyset continuation token of a feature, that is, the values of its sort keys, to be set as the
+     * {@link Hints#KEYSET_CONTINUATION} hint of the query reading the next page. Reading the next page with it takes
+     * constant time, while reading it with a start index requires the database to skip all the previous features.
+     *
+     * <p>Keyset pagination requires the table to have a primary key, which is added to the sort of the paged queries if
+     * not already there, and the other sort attributes to be not nullable. All the pages must be read with the same
+     * sort, the first one included, which also needs a start index or an explicit sort to be paged in a stable order.
+     *
+     * @param query The query used to read the feature, only its sort is relevant
+     * @param feature The last feature of the page, with all the sort attributes
+     * @return The continuation token, or null if keyset pagination is not supported for the query sort
+     */
+    public Object[] getKeysetContinuation(Query query, SimpleFeature feature) throws IOException {
+        KeysetPaging keyset = getKeysetPaging(query);
+        return keyset != null ? keyset.getContinuation(feature) : null;
+    }
+
+    /** Returns the keyset paging for the query, or null if not supported */
+    private KeysetPaging getKeysetPaging(Query query) throws IOException {
+        // joins not supported, and the dialect must be able to limit the page size
+        if (!query.getJoins().isEmpty() || !getDataStore().getSQLDialect().isLimitOffsetSupported()) {
+            return null;
+        }
+        return KeysetPaging.create(getSchema(), getDataStore().getPrimaryKey(entry), query.getSortBy());
+    }
+
+    /**
+     * Checks if the query can be read in parallel: parallel reads must be enabled, there cannot be a transaction, the
+     * query cannot have joins or paging, and the table must have a primary key the partitions can be based on
+     */
+    boolean canReadInParallel(Query query) {
+        return getDataStore().getParallelReadThreads() > 1
+                && getState().getTransaction() == Transaction.AUTO_COMMIT
+                && primaryKey != null
+                && !(primaryKey instanceof NullPrimaryKey)
+                && query.getJoins().isEmpty()
+                && (query.getStartIndex() == null || query.getStartIndex() == 0)
+                && query.isMaxFeaturesUnlimited()
+                && !(query.getFilter() instanceof Id);
+    }
+
+    /**
+     * Splits the table in partitions, see {@link SQLDialect#splitReads(SimpleFeatureType, PrimaryKey, int, int,
+     * Connection)}
+     *
+     * @return The partition filters, or null if the table cannot be split
+     */
+    List<Filter> splitReads() throws IOException {
+        JDBCDataStore store = getDataStore();
+        Connection cx = store.getConnection(getState());
+        try {
+            List<Filter> partitions = store.getSQLDialect()
+                    .splitReads(
+                            getSchema(),
+                            primaryKey,
+                            store.getParallelReadThreads(),
+                            store.getParallelReadMinRows(),
+                            cx);
+            return partitions != null && partitions.size() > 1 ? partitions : null;
+        } catch (SQLException e) {
+            throw new IOException("Failed to split the table in partitions", e);
+        } finally {
+            store.releaseConnection(cx, getState());
+        }
+    }
+
+    /**
+     * Returns a reader merging the partitions of the query read in parallel, or null if the query sorting cannot be
+     * preserved, or the table cannot be split
+     */
+    private FeatureReader<SimpleFeatureType, SimpleFeature> getParallelReader(Query query) throws IOException {
+        Filter postFilter = splitFilter(query.getFilter(), query.getHints())[1];
+        SimpleFeatureType returnedSchema =
+                buildQueryAndReturnFeatureTypes(getSchema(), query.getPropertyNames(), postFilter)[1];
+
+        // check if the sorting can be preserved, either by concatenating the key range partitions,
+        // or by merging the sorted partitions
+        SortBy[] sortBy = query.getSortBy();
+        boolean ordered = false;
+        boolean reverse = false;
+        Comparator<SimpleFeature> comparator = null;
+        if (sortBy != null && sortBy.length > 0) {
+            if (sortBy.length == 1 && (sortBy[0] == SortBy.NATURAL_ORDER || sortBy[0] == SortBy.REVERSE_ORDER)) {
+                ordered = true;
+                reverse = sortBy[0] == SortBy.REVERSE_ORDER;
+            } else if (canMergeSorted(sortBy, returnedSchema)) {
+                comparator = SortedFeatureReader.getComparator(sortBy, returnedSchema);
+            } else {
+                return null;
+            }
+        }
+
+        List<Filter> partitions = splitReads();
+        if (partitions == null) {
+            return null;
+        }
+        if (reverse) {
+            partitions = new ArrayList<>(partitions);
+            Collections.reverse(partitions);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Reading " + getSchema().getTypeName() + " in " + partitions.size() + " parallel partitions");
+        }
+
+        List<ParallelFeatureReader.PartitionReader> readers = new ArrayList<>(partitions.size());
+        for (Filter partition : partitions) {
+            readers.add(() -> getReader(query, partition));
+        }
+        return new ParallelFeatureReader(
+                returnedSchema, readers, getDataStore().getParallelReadExecutor(), ordered, comparator);
+    }
+
+    /**
+     * Sorted partitions can be merged in memory only if the sort attributes compare the same way in Java and in the
+     * database, that is, they cannot be null (the database might sort them last) and they cannot be strings (the
+     * database collation might differ from the Java lexicographic order)
+     */
+    private boolean canMergeSorted(SortBy[] sortBy, SimpleFeatureType schema) {
+        for (SortBy sort : sortBy) {
+            if (sort == SortBy.NATURAL_ORDER || sort == SortBy.REVERSE_ORDER || sort.getPropertyName() == null) {
+                return false;
+            }
+            AttributeDescriptor descriptor = schema.getDescriptor(sort.getPropertyName().getPropertyName());
+            if (descriptor == null || descriptor.isNillable()) {
+                return false;
+            }
+            Class<?> binding = descriptor.getType().getBinding();
+            if (!Number.class.isAssignableFrom(binding)
+                    && !Date.class.isAssignableFrom(binding)
+                    && !Boolean.class.equals(binding)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     SimpleFeatureType[] buildQueryAndReturnFeatureTypes(
             SimpleFeatureType featureType, String[] propertyNames, Filter filter) {
 
@@ -723,14 +932,85 @@ protected boolean handleVisitor(Query query, FeatureVisitor visitor) throws IOEx
             Connection cx = getDataStore().getConnection(getState());
             try {
                 Object result = getDataStore().getAggregateValue(visitor, getSchema(), query, cx);
-                return result != null;
+                if (result != null) {
+                    return true;
+                }
             } finally {
                 // release the connection - behaviour depends on Transaction.AUTO_COMMIT
                 getDataStore().releaseConnection(cx, getState());
             }
+            // could not be encoded in SQL, but the visit might still be split among partitions
+            return MergeableVisitors.isMergeable(visitor)
+                    && canReadInParallel(query)
+                    && visitInParallel(query, visitor);
         }
     }
 
+    /**
+     * Visits the partitions of the query in parallel, each one with its own partial visitor, and merges the results
+     * back in the visitor, see {@link MergeableVisitors}. The executor can be provided with the
+     * {@link Hints#EXECUTOR_SERVICE} query hint.
+     *
+     * @return true if the visit was performed, false if the table cannot be split
+     */
+    private boolean visitInParallel(Query query, FeatureVisitor visitor) throws IOException {
+        List<Filter> partitions = splitReads();
+        if (partitions == null) {
+            return false;
+        }
+        ExecutorService executor = null;
+        if (query.getHints() != null) {
+            executor = (ExecutorService) query.getHints().get(Hints.EXECUTOR_SERVICE);
+        }
+        if (executor == null) {
+            executor = getDataStore().getParallelReadExecutor();
+        }
+
+        // the query might be sorted, but the order does not matter to mergeable visitors
+        Query unsorted = new Query(query);
+        unsorted.setSortBy(SortBy.UNSORTED);
+        List<FeatureVisitor> partials = new ArrayList<>(partitions.size());
+        List<Future<Void>> futures = new ArrayList<>(partitions.size());
+        try {
+            for (Filter partition : partitions) {
+                FeatureVisitor partial = MergeableVisitors.fork(visitor);
+                partials.add(partial);
+                futures.add(executor.submit(() -> visitPartition(unsorted, partition, partial)));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while visiting " + getSchema().getTypeName(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException("Failed to visit " + getSchema().getTypeName(), e.getCause());
+        } finally {
+            // in case of failure, avoid wasting resources on the other partitions
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        MergeableVisitors.merge(visitor, partials);
+        return true;
+    }
+
+    private Void visitPartition(Query query, Filter partition, FeatureVisitor visitor) throws IOException {
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = getReader(query, partition)) {
+            while (reader.hasNext()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IOException("Visit of " + getSchema().getTypeName() + " has been interrupted");
+                }
+                visitor.visit(reader.next());
+            }
+        }
+        return null;
+    }
+
     /** Special case of nearest visitor, which can be computed by combining a min and a max visit */
     private boolean handleNearestVisitor(Query query, FeatureVisitor visitor) throws IOException {
         NearestVisitor nearest = (NearestVisitor) visitor;
@@ -823,21 +1103,7 @@ List<ColumnMetadata> getColumnMetadata(Connection cx, String databaseSchema, Str
                 columns.setFetchSize(getDataStore().getFetchSize());
             }
             while (columns.next()) {
-                ColumnMetadata column = new ColumnMetadata();
-                column.name = columns.getString("COLUMN_NAME");
-                column.typeName = columns.getString("TYPE_NAME");
-                column.sqlType = columns.getInt("DATA_TYPE");
-                column.nullable = "YES".equalsIgnoreCase(columns.getString("IS_NULLABLE"));
-                column.binding = dialect.getMapping(columns, cx);
-                column.restriction = dialect.getRestrictions(columns, cx);
-                column.setRemarks(columns.getString(REMARKS));
-
-                // support for user defined types, allow the dialect to handle them
-                if (column.sqlType == Types.DISTINCT) {
-                    dialect.handleUserDefinedType(columns, column, cx);
-                }
-
-                result.add(column);
+                result.add(readColumnMetadata(columns, dialect, cx));
             }
         } finally {
             getDataStore().closeSafe(columns);
@@ -846,6 +1112,24 @@ List<ColumnMetadata> getColumnMetadata(Connection cx, String databaseSchema, Str
         return result;
     }
 
+    /** Builds the column metadata out of the current row of a {@link DatabaseMetaData#getColumns} result set */
+    static ColumnMetadata readColumnMetadata(ResultSet columns, SQLDialect dialect, Connection cx) throws SQLException {
+        ColumnMetadata column = new ColumnMetadata();
+        column.name = columns.getString("COLUMN_NAME");
+        column.typeName = columns.getString("TYPE_NAME");
+        column.sqlType = columns.getInt("DATA_TYPE");
+        column.nullable = "YES".equalsIgnoreCase(columns.getString("IS_NULLABLE"));
+        column.binding = dialect.getMapping(columns, cx);
+        column.restriction = dialect.getRestrictions(columns, cx);
+        column.setRemarks(columns.getString(REMARKS));
+
+        // support for user defined types, allow the dialect to handle them
+        if (column.sqlType == Types.DISTINCT) {
+            dialect.handleUserDefinedType(columns, column, cx);
+        }
+        return column;
+    }
+
     /** Computes the column metadata by running the virtual table query */
     static List<ColumnMetadata> getColumnMetadata(
             Connection cx, VirtualTable vtable, SQLDialect dialect, JDBCDataStore store) throws SQLException {
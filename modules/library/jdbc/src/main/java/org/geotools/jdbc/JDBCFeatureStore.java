@@ -22,6 +22,7 @@
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.geotools.api.data.FeatureEvent;
 import org.geotools.api.data.FeatureEvent.Type;
@@ -37,10 +38,13 @@
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.Name;
 import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.identity.FeatureId;
 import org.geotools.data.FilteringFeatureWriter;
 import org.geotools.data.store.ContentEntry;
 import org.geotools.data.store.ContentFeatureStore;
 import org.geotools.data.store.ContentState;
+import org.geotools.data.store.QueryResultCache;
+import org.geotools.feature.FeatureCollection;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Geometry;
@@ -78,6 +82,12 @@ public void setTransaction(Transaction transaction) {
                 // keep this feature store in sync
                 JDBCFeatureStore.this.setTransaction(transaction);
             }
+
+            @Override
+            protected QueryResultCache getQueryResultCache() {
+                // the results are cached by the feature store
+                return null;
+            }
         };
 
         Set<Hints.Key> jdbcHints = new HashSet<>();
@@ -147,6 +157,11 @@ public PrimaryKey getPrimaryKey() {
         return delegate.getPrimaryKey();
     }
 
+    /** Returns the keyset continuation token of a feature, see {@link JDBCFeatureSource#getKeysetContinuation} */
+    public Object[] getKeysetContinuation(Query query, SimpleFeature feature) throws IOException {
+        return delegate.getKeysetContinuation(query, feature);
+    }
+
     /**
      * Sets the flag which will expose columns which compose a tables identifying or primary key, through feature type
      * attributes.
@@ -240,6 +255,31 @@ protected boolean handleVisitor(Query query, FeatureVisitor visitor) throws IOEx
     //     features.update(type, value);
     // }
 
+    /**
+     * Adds the features using the dialect bulk loading support when available, see
+     * {@link SQLDialect#supportsBulkLoad(SimpleFeatureType)}, falling back on the regular inserts otherwise.
+     */
+    @Override
+    public List<FeatureId> addFeatures(FeatureCollection<SimpleFeatureType, SimpleFeature> featureCollection)
+            throws IOException {
+        JDBCDataStore dataStore = getDataStore();
+        SimpleFeatureType featureType = getSchema();
+        if (dataStore.getSQLDialect().supportsBulkLoad(featureType)) {
+            JDBCState state = getState();
+            Connection cx = dataStore.getConnection(state);
+            try {
+                List<FeatureId> ids = dataStore.insertBulk(
+                        featureCollection, featureType, cx, f -> state.fireFeatureAdded(delegate, f));
+                if (ids != null) {
+                    return ids;
+                }
+            } finally {
+                dataStore.releaseConnection(cx, state);
+            }
+        }
+        return super.addFeatures(featureCollection);
+    }
+
     @Override
     @SuppressWarnings("PMD.CloseResource") // the cx is passed to the reader which will close it
     protected FeatureWriter<SimpleFeatureType, SimpleFeature> getWriterInternal(Query query, int flags)
@@ -380,6 +420,8 @@ public void modifyFeatures(Name[] names, Object[] values, Filter filter) throws
                     // issue notificaiton
                     FeatureEvent event = new FeatureEvent(this, Type.CHANGED, bounds, preFilter);
                     state.fireFeatureEvent(event);
+                } else {
+                    state.invalidateQueryResultCache();
                 }
             } finally {
                 if (tx == null || tx == Transaction.AUTO_COMMIT) {
@@ -430,6 +472,8 @@ public void removeFeatures(Filter filter) throws IOException {
                     // issue notification
                     FeatureEvent event = new FeatureEvent(this, Type.REMOVED, bounds, preFilter);
                     state.fireFeatureEvent(event);
+                } else {
+                    state.invalidateQueryResultCache();
                 }
             } finally {
                 if (tx == null || tx == Transaction.AUTO_COMMIT) {
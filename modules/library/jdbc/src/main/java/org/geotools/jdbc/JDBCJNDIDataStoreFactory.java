@@ -128,6 +128,12 @@ protected void setupParameters(Map<String, Object> parameters) {
         parameters.put(NAMESPACE.key, NAMESPACE);
         parameters.put(FETCHSIZE.key, FETCHSIZE);
         parameters.put(BATCH_INSERT_SIZE.key, BATCH_INSERT_SIZE);
+        parameters.put(PARALLEL_READ_THREADS.key, PARALLEL_READ_THREADS);
+        parameters.put(DECODE_THREADS.key, DECODE_THREADS);
+        parameters.put(SQL_TEMPLATE_CACHE_SIZE.key, SQL_TEMPLATE_CACHE_SIZE);
+        parameters.put(QUERY_RESULT_CACHE_SIZE.key, QUERY_RESULT_CACHE_SIZE);
+        parameters.put(QUERY_RESULT_CACHE_TTL.key, QUERY_RESULT_CACHE_TTL);
+        parameters.put(METADATA_PREFETCH_THREADS.key, METADATA_PREFETCH_THREADS);
         parameters.put(EXPOSE_PK.key, EXPOSE_PK);
         parameters.put(PK_METADATA_TABLE.key, PK_METADATA_TABLE);
         parameters.put(SQL_ON_BORROW.key, SQL_ON_BORROW);
@@ -16,6 +16,7 @@
  */
 package org.geotools.jdbc;
 
+import java.util.List;
 import org.geotools.data.store.ContentEntry;
 import org.geotools.data.store.ContentState;
 
@@ -32,6 +33,9 @@ public final class JDBCState extends ContentState {
     /** flag indicating wether columns which are part of the primary key are exposed. */
     private boolean exposePrimaryKeyColumns;
 
+    /** columns metadata fetched in bulk along with the other tables, used once to build the feature type */
+    private List<ColumnMetadata> prefetchedColumns;
+
     /** Creates the state from an existing one. */
     public JDBCState(JDBCState state) {
         super(state);
@@ -39,6 +43,9 @@ public JDBCState(JDBCState state) {
         // copy the primary key
         primaryKey = state.getPrimaryKey();
         exposePrimaryKeyColumns = state.isExposePrimaryKeyColumns();
+        synchronized (state) {
+            prefetchedColumns = state.prefetchedColumns;
+        }
     }
 
     /** Creates a new state object. */
@@ -70,10 +77,23 @@ public void setExposePrimaryKeyColumns(boolean exposePrimaryKeyColumns) {
         this.exposePrimaryKeyColumns = exposePrimaryKeyColumns;
     }
 
+    /** Sets the columns metadata fetched in bulk, see {@link JDBCDataStore#prefetchMetadata(int)} */
+    synchronized void setPrefetchedColumns(List<ColumnMetadata> prefetchedColumns) {
+        this.prefetchedColumns = prefetchedColumns;
+    }
+
+    /** Returns the prefetched columns metadata, if any, and clears them, so that they are not used once stale */
+    synchronized List<ColumnMetadata> takePrefetchedColumns() {
+        List<ColumnMetadata> result = prefetchedColumns;
+        prefetchedColumns = null;
+        return result;
+    }
+
     /** Flushes all cached state. */
     @Override
     public void flush() {
         primaryKey = null;
+        setPrefetchedColumns(null);
         super.flush();
     }
 
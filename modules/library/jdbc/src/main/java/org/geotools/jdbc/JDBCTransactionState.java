@@ -80,6 +80,8 @@ public void commit() throws IOException {
                 throw (IOException) new IOException(msg).initCause(e);
             }
         }
+        // the committed changes are now visible outside of the transaction
+        dataStore.invalidateQueryResultCaches();
     }
 
     @Override
@@ -92,6 +94,7 @@ public void rollback() throws IOException {
                 throw (IOException) new IOException(msg).initCause(e);
             }
         }
+        dataStore.invalidateQueryResultCaches();
     }
 
     @Override
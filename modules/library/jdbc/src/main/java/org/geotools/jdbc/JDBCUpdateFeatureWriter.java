@@ -87,6 +87,8 @@ public void remove() throws IOException {
             ContentState state = entry.getState(this.tx);
             if (state.hasListener()) {
                 state.fireFeatureRemoved(featureSource, last);
+            } else {
+                state.invalidateQueryResultCache();
             }
         } catch (SQLException e) {
             throw (IOException) new IOException().initCause(e);
@@ -123,6 +125,8 @@ public void write() throws IOException {
             ContentState state = entry.getState(this.tx);
             if (state.hasListener()) {
                 state.fireFeatureUpdated(featureSource, last, lastBounds);
+            } else {
+                state.invalidateQueryResultCache();
             }
         } catch (Exception e) {
             throw (IOException) new IOException().initCause(e);
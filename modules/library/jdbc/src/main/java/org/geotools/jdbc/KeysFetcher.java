@@ -116,6 +116,27 @@ public void setKeyValues(
         }
     }
 
+    /**
+     * Computes the key values of a feature being bulk loaded, and reports its feature id as user data. Only usable when
+     * {@link #isBulkLoadable()} returns true.
+     */
+    public List<Object> getBulkValues(Connection cx, SimpleFeatureType featureType, SimpleFeature feature)
+            throws IOException, SQLException {
+        List<Object> keyValues = getNextBulkValues(cx, feature);
+        String fid = featureType.getTypeName() + "." + JDBCDataStore.encodeFID(keyValues);
+        feature.getUserData().put("fid", fid);
+        return keyValues;
+    }
+
+    /**
+     * Called while bulk loading before computing the keys of each chunk of features, with the store locked and on the
+     * connection used for the load, allowing the keys depending on the table contents to be computed again. The
+     * default implementation does nothing.
+     */
+    public void startBulkChunk(Connection cx) throws SQLException {
+        // nothing to do by default
+    }
+
     public abstract void addKeyColumns(StringBuffer sql);
 
     public abstract void addKeyBindings(StringBuffer sql);
@@ -132,6 +153,13 @@ public abstract void postInsert(SimpleFeatureType featureType, SimpleFeature fea
     /** @return true if some key values must be fetched after insert. */
     public abstract boolean isPostInsert();
 
+    /**
+     * @return true if all the key values can be computed before the insert, in which case the features can be bulk
+     *     loaded. Differently from {@link #isPostInsert()}, sequences are always considered computable, as their values
+     *     are fetched in blocks while bulk loading.
+     */
+    public abstract boolean isBulkLoadable();
+
     /**
      * @return true if some key value is auto generated by the database and we need to execute the statement passing the
      *     Statement.RETURN_GENERATED_KEYS flag
@@ -143,6 +171,11 @@ public boolean hasAutoGeneratedKeys() {
     protected abstract List<Object> getNextValues(Connection cx, SimpleFeature feature)
             throws IOException, SQLException;
 
+    /** Returns the key values for a feature being bulk loaded, defaults to {@link #getNextValues} */
+    protected List<Object> getNextBulkValues(Connection cx, SimpleFeature feature) throws IOException, SQLException {
+        return getNextValues(cx, feature);
+    }
+
     /** @return true if the given field is part of the primary key. */
     public boolean isKey(String name) {
         return columnNames.contains(name);
@@ -200,6 +233,11 @@ public boolean isPostInsert() {
             return false;
         }
 
+        @Override
+        public boolean isBulkLoadable() {
+            return true;
+        }
+
         @Override
         public List<Object> getNextValues(Connection cx, SimpleFeature feature) {
             return JDBCDataStore.decodeFID(key, feature.getID(), true);
@@ -307,6 +345,16 @@ public boolean isPostInsert() {
             return false;
         }
 
+        @Override
+        public boolean isBulkLoadable() {
+            for (KeyFetcher fetcher : fetchers) {
+                if (!fetcher.isBulkLoadable()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         private List<Object> getLastValues(Connection cx, Statement st) throws SQLException {
             List<Object> last = new ArrayList<>();
             for (KeyFetcher fetcher : fetchers) {
@@ -324,6 +372,23 @@ public List<Object> getNextValues(Connection cx, SimpleFeature feature) throws I
             return ret;
         }
 
+        @Override
+        public void startBulkChunk(Connection cx) throws SQLException {
+            for (KeyFetcher fetcher : fetchers) {
+                fetcher.startBulkChunk(cx);
+            }
+        }
+
+        @Override
+        protected List<Object> getNextBulkValues(Connection cx, SimpleFeature feature)
+                throws IOException, SQLException {
+            List<Object> ret = new ArrayList<>(fetchers.size());
+            for (KeyFetcher fetcher : fetchers) {
+                ret.add(fetcher.getNextBulk(cx));
+            }
+            return ret;
+        }
+
         @Override
         public boolean hasAutoGeneratedKeys() {
             for (KeyFetcher fetcher : fetchers) {
@@ -373,6 +438,21 @@ public Object getLastValue(Connection cx) throws SQLException {
         public boolean isAutoGenerated() {
             return false;
         }
+
+        /** @return true if the value can be computed before the insert, while bulk loading */
+        public boolean isBulkLoadable() {
+            return !isPostInsert();
+        }
+
+        /** Returns the value for a feature being bulk loaded */
+        public Object getNextBulk(Connection cx) throws IOException, SQLException {
+            return getNext(cx);
+        }
+
+        /** Called before computing the values of each chunk of features being bulk loaded */
+        public void startBulkChunk(Connection cx) throws SQLException {
+            // nothing to do by default
+        }
     }
 
     private static class FromRandom extends KeyFetcher {
@@ -421,6 +501,8 @@ public Object getNext(Connection cx) {
     protected static class FromPreviousIntegral extends KeyFetcher {
         private Object next;
 
+        private final String sql;
+
         public FromPreviousIntegral(JDBCDataStore ds, Connection cx, PrimaryKey key, PrimaryKeyColumn col)
                 throws SQLException {
             super(ds, col);
@@ -429,9 +511,13 @@ public FromPreviousIntegral(JDBCDataStore ds, Connection cx, PrimaryKey key, Pri
             ds.getSQLDialect().encodeColumnName(null, col.getName(), sql);
             sql.append(") + 1 FROM ");
             ds.encodeTableName(key.getTableName(), sql, null);
+            this.sql = sql.toString();
+            fetchNext(cx);
+        }
 
+        private void fetchNext(Connection cx) throws SQLException {
             try (Statement st = cx.createStatement()) {
-                try (ResultSet rs = st.executeQuery(sql.toString())) {
+                try (ResultSet rs = st.executeQuery(sql)) {
                     if (rs.next()) {
                         next = rs.getObject(1);
                     } else {
@@ -448,6 +534,15 @@ public FromPreviousIntegral(JDBCDataStore ds, Connection cx, PrimaryKey key, Pri
             }
         }
 
+        /**
+         * The rows inserted by other writers since the previous chunk have to be accounted for, and the inserts of the
+         * other writers cannot interleave while the chunk keys are computed, as the store is locked
+         */
+        @Override
+        public void startBulkChunk(Connection cx) throws SQLException {
+            fetchNext(cx);
+        }
+
         @Override
         public Object getNext(Connection cx) throws IOException {
             Object result = next;
@@ -537,8 +632,13 @@ public boolean isAutoGenerated() {
     }
 
     private static class FromSequence extends KeyFetcher {
+        /** Number of sequence values fetched at once while bulk loading, one fetch per chunk of features */
+        static final int BULK_FETCH_SIZE = JDBCDataStore.BULK_LOAD_CHUNK_SIZE;
+
         private final JDBCDataStore ds;
 
+        private Iterator<Object> bulkValues = Collections.emptyIterator();
+
         public FromSequence(JDBCDataStore ds, PrimaryKeyColumn col) {
             super(ds, col);
             this.ds = ds;
@@ -575,5 +675,21 @@ public Object getNext(Connection cx) throws IOException, SQLException {
                 return ds.getSQLDialect().getNextSequenceValue(ds.getDatabaseSchema(), sequenceName, cx);
             }
         }
+
+        @Override
+        public boolean isBulkLoadable() {
+            return true;
+        }
+
+        @Override
+        public Object getNextBulk(Connection cx) throws SQLException {
+            if (!bulkValues.hasNext()) {
+                String sequenceName = ((SequencedPrimaryKeyColumn) col).getSequenceName();
+                bulkValues = ds.getSQLDialect()
+                        .getNextSequenceValues(ds.getDatabaseSchema(), sequenceName, BULK_FETCH_SIZE, cx)
+                        .iterator();
+            }
+            return bulkValues.next();
+        }
     }
 }
@@ -0,0 +1,204 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.api.filter.expression.PropertyName;
+import org.geotools.api.filter.sort.SortBy;
+import org.geotools.api.filter.sort.SortOrder;
+
+/**
+ * Keyset pagination support. When the sort of a query is stable, that is, it ends with the primary key columns, the
+ * page following a given feature can be selected with a predicate on the sort keys, instead of having the database
+ * scan and discard all the features of the previous pages with an offset. For keys <code>k1, k2</code> sorted in
+ * ascending order the predicate is <code>k1 &gt;= v1 AND (k1 &gt; v1 OR k1 = v1 AND k2 &gt; v2)</code>, equivalent to
+ * the row value comparison <code>(k1, k2) &gt; (v1, v2)</code>, but usable with mixed sort directions and by all
+ * databases, while the leading bound lets the database use an index on the first key.
+ *
+ * <p>The values of the keys of the last feature of a page, the continuation token, are computed by
+ * {@link #getContinuation(SimpleFeature)}, and passed to the next query with the
+ * {@link org.geotools.util.factory.Hints#KEYSET_CONTINUATION} hint.
+ */
+final class KeysetPaging {
+
+    /** A sort key, either an attribute or a primary key column, whose value is then taken from the feature id */
+    private static final class Key {
+
+        final String name;
+
+        final boolean descending;
+
+        /** The index of the column in the primary key, or -1 if the key is an attribute */
+        final int pkIndex;
+
+        Key(String name, boolean descending, int pkIndex) {
+            this.name = name;
+            this.descending = descending;
+            this.pkIndex = pkIndex;
+        }
+    }
+
+    private final PrimaryKey primaryKey;
+
+    private final List<Key> keys;
+
+    private final SortBy[] sortBy;
+
+    private KeysetPaging(PrimaryKey primaryKey, List<Key> keys, SortBy[] sortBy) {
+        this.primaryKey = primaryKey;
+        this.keys = keys;
+        this.sortBy = sortBy;
+    }
+
+    /**
+     * Returns the keyset paging for the given sort, or null if the sort cannot be made stable or involves keys that
+     * cannot be compared, e.g., nullable attributes
+     *
+     * @param schema The feature type
+     * @param primaryKey The primary key of the table
+     * @param sortBy The sort of the query, the natural order is assumed if missing
+     */
+    static KeysetPaging create(SimpleFeatureType schema, PrimaryKey primaryKey, SortBy[] sortBy) {
+        if (primaryKey == null || primaryKey instanceof NullPrimaryKey || primaryKey.getColumns().isEmpty()) {
+            return null;
+        }
+        if (sortBy == null || sortBy.length == 0) {
+            sortBy = new SortBy[] {SortBy.NATURAL_ORDER};
+        }
+
+        List<PrimaryKeyColumn> pkColumns = primaryKey.getColumns();
+        List<Key> keys = new ArrayList<>();
+        boolean[] covered = new boolean[pkColumns.size()];
+        for (SortBy sort : sortBy) {
+            boolean descending = sort.getSortOrder() == SortOrder.DESCENDING;
+            if (SortBy.NATURAL_ORDER.equals(sort) || SortBy.REVERSE_ORDER.equals(sort)) {
+                for (int i = 0; i < pkColumns.size(); i++) {
+                    keys.add(new Key(pkColumns.get(i).getName(), descending, i));
+                    covered[i] = true;
+                }
+                continue;
+            }
+
+            String name = sort.getPropertyName().getPropertyName();
+            int pkIndex = -1;
+            for (int i = 0; i < pkColumns.size() && pkIndex < 0; i++) {
+                if (pkColumns.get(i).getName().equals(name)) {
+                    pkIndex = i;
+                }
+            }
+            if (pkIndex >= 0) {
+                covered[pkIndex] = true;
+            } else {
+                // nulls cannot be compared, and their sort position depends on the database
+                AttributeDescriptor descriptor = schema.getDescriptor(name);
+                if (descriptor == null
+                        || descriptor.isNillable()
+                        || !Comparable.class.isAssignableFrom(descriptor.getType().getBinding())) {
+                    return null;
+                }
+            }
+            keys.add(new Key(name, descending, pkIndex));
+        }
+
+        // make the sort stable by adding the primary key, if not already there
+        for (boolean c : covered) {
+            if (!c) {
+                sortBy = Arrays.copyOf(sortBy, sortBy.length + 1);
+                sortBy[sortBy.length - 1] = SortBy.NATURAL_ORDER;
+                for (int i = 0; i < pkColumns.size(); i++) {
+                    keys.add(new Key(pkColumns.get(i).getName(), false, i));
+                }
+                break;
+            }
+        }
+
+        return new KeysetPaging(primaryKey, keys, sortBy);
+    }
+
+    /** Returns the sort to be used for the query, the original one plus the primary key if it was not stable */
+    SortBy[] getSortBy() {
+        return sortBy;
+    }
+
+    /** Returns the continuation token of a feature, to be used to read the page following it */
+    Object[] getContinuation(SimpleFeature feature) {
+        Object[] continuation = new Object[keys.size()];
+        List<Object> pkValues = null;
+        for (int i = 0; i < continuation.length; i++) {
+            Key key = keys.get(i);
+            if (key.pkIndex >= 0) {
+                if (pkValues == null) {
+                    pkValues = JDBCDataStore.decodeFID(primaryKey, feature.getID(), true);
+                }
+                continuation[i] = pkValues.get(key.pkIndex);
+            } else {
+                continuation[i] = feature.getAttribute(key.name);
+                if (continuation[i] == null) {
+                    throw new IllegalArgumentException(
+                            "The feature " + feature.getID() + " does not have a value for the sort key " + key.name);
+                }
+            }
+        }
+        return continuation;
+    }
+
+    /** Returns the filter selecting the features following the one the continuation token was taken from */
+    Filter getFilter(Object[] continuation, FilterFactory ff) {
+        if (continuation.length != keys.size()) {
+            throw new IllegalArgumentException("The continuation token has "
+                    + continuation.length
+                    + " values, but the query is sorted on "
+                    + keys.size()
+                    + " keys");
+        }
+
+        List<Filter> alternatives = new ArrayList<>(keys.size());
+        List<Filter> equalities = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Key key = keys.get(i);
+            PropertyName property = ff.property(key.name);
+            Literal value = ff.literal(continuation[i]);
+            Filter following = key.descending ? ff.less(property, value) : ff.greater(property, value);
+            if (equalities.isEmpty()) {
+                alternatives.add(following);
+            } else {
+                List<Filter> and = new ArrayList<>(equalities);
+                and.add(following);
+                alternatives.add(ff.and(and));
+            }
+            equalities.add(ff.equals(property, value));
+        }
+        if (alternatives.size() == 1) {
+            return alternatives.get(0);
+        }
+
+        // bound the leading key, so that an index on it can be used
+        Key first = keys.get(0);
+        PropertyName property = ff.property(first.name);
+        Literal value = ff.literal(continuation[0]);
+        Filter bound = first.descending ? ff.lessOrEqual(property, value) : ff.greaterOrEqual(property, value);
+        return ff.and(bound, ff.or(alternatives));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Generic {@link BulkLoader} for {@link PreparedStatementSQLDialect}, inserting multiple rows with each statement, in
+ * the <code>INSERT INTO table (c1, c2, ...) VALUES (?, ?, ...), (?, ?, ...), ...</code> form.
+ *
+ * <p>The number of rows in each statement is bound by both a maximum number of rows, and a maximum number of parameters,
+ * the defaults are suitable for the most restrictive databases supporting the syntax (e.g., SQLite before 3.32). The
+ * statement is prepared again only when the shape of the placeholders changes, e.g., when a geometry column switches
+ * between null and non null values, for the common homogeneous loads the same statement is reused for all the full
+ * chunks of rows.
+ */
+public class MultiRowInsertBulkLoader extends BulkLoader {
+
+    static final Logger LOGGER = Logging.getLogger(MultiRowInsertBulkLoader.class);
+
+    /** The default maximum number of parameters in a single statement */
+    public static final int DEFAULT_MAX_PARAMETERS = 999;
+
+    /** The default maximum number of rows in a single statement */
+    public static final int DEFAULT_MAX_ROWS = 500;
+
+    private final PreparedStatementSQLDialect dialect;
+
+    private final int rowsPerStatement;
+
+    private final List<Object[]> rows;
+
+    private PreparedStatement ps;
+
+    private String psSQL;
+
+    /**
+     * Builds a new loader, using {@link #DEFAULT_MAX_PARAMETERS} and {@link #DEFAULT_MAX_ROWS}
+     *
+     * @param dataStore The data store
+     * @param featureType The feature type whose table is being loaded
+     * @param columns The columns being loaded
+     * @param cx The connection
+     */
+    public MultiRowInsertBulkLoader(
+            JDBCDataStore dataStore, SimpleFeatureType featureType, List<Column> columns, Connection cx) {
+        this(dataStore, featureType, columns, cx, DEFAULT_MAX_PARAMETERS, DEFAULT_MAX_ROWS);
+    }
+
+    /**
+     * Builds a new loader
+     *
+     * @param dataStore The data store
+     * @param featureType The feature type whose table is being loaded
+     * @param columns The columns being loaded
+     * @param cx The connection
+     * @param maxParameters The maximum number of parameters in a single statement
+     * @param maxRows The maximum number of rows in a single statement
+     */
+    public MultiRowInsertBulkLoader(
+            JDBCDataStore dataStore,
+            SimpleFeatureType featureType,
+            List<Column> columns,
+            Connection cx,
+            int maxParameters,
+            int maxRows) {
+        super(dataStore, featureType, columns, cx);
+        this.dialect = (PreparedStatementSQLDialect) dataStore.getSQLDialect();
+        this.rowsPerStatement = Math.max(1, Math.min(maxRows, maxParameters / Math.max(1, columns.size())));
+        this.rows = new ArrayList<>(rowsPerStatement);
+    }
+
+    /** Returns the number of rows inserted by each statement, but the last one */
+    public int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    @Override
+    public void addRow(Object[] values) throws IOException, SQLException {
+        rows.add(values);
+        if (rows.size() >= rowsPerStatement) {
+            insertRows();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException, SQLException {
+        insertRows();
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.clear();
+        if (ps != null) {
+            dataStore.closeSafe(ps);
+            ps = null;
+        }
+    }
+
+    /** Inserts the buffered rows with a single statement */
+    private void insertRows() throws IOException, SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // the geometry placeholders depend on the geometry srid and dimension
+        int[][] srids = new int[rows.size()][columns.size()];
+        int[][] dimensions = new int[rows.size()][columns.size()];
+        StringBuffer sql = new StringBuffer();
+        sql.append("INSERT INTO ");
+        encodeTableName(sql);
+        sql.append(" (");
+        encodeColumnNames(sql);
+        sql.append(") VALUES ");
+        for (int r = 0; r < rows.size(); r++) {
+            Object[] row = rows.get(r);
+            sql.append(r == 0 ? "(" : ", (");
+            for (int c = 0; c < columns.size(); c++) {
+                if (c > 0) {
+                    sql.append(", ");
+                }
+                Column column = columns.get(c);
+                if (column.isGeometry()) {
+                    Geometry g = (Geometry) row[c];
+                    srids[r][c] = getGeometrySRID(g, column);
+                    dimensions[r][c] = getGeometryDimension(g, column);
+                    dialect.prepareGeometryValue(
+                            g == null ? null : g.getClass(),
+                            dimensions[r][c],
+                            srids[r][c],
+                            column.getBinding(),
+                            sql);
+                } else {
+                    sql.append("?");
+                }
+            }
+            sql.append(")");
+        }
+
+        String statement = sql.toString();
+        if (!statement.equals(psSQL)) {
+            if (ps != null) {
+                dataStore.closeSafe(ps);
+            }
+            LOGGER.log(Level.FINE, "Bulk inserting features with ps: {0}", statement);
+            ps = cx.prepareStatement(statement);
+            psSQL = statement;
+        }
+
+        int i = 1;
+        for (int r = 0; r < rows.size(); r++) {
+            Object[] row = rows.get(r);
+            for (int c = 0; c < columns.size(); c++) {
+                Column column = columns.get(c);
+                AttributeDescriptor att = column.getDescriptor();
+                if (column.isGeometry()) {
+                    Geometry g = (Geometry) row[c];
+                    dialect.setGeometryValue(g, dimensions[r][c], srids[r][c], column.getBinding(), ps, i);
+                } else if (att != null && dialect.isArray(att)) {
+                    dialect.setArrayValue(row[c], att, ps, i, cx);
+                } else {
+                    dialect.setValue(row[c], column.getBinding(), att, ps, i, cx);
+                }
+                i++;
+            }
+        }
+        int inserted = ps.executeUpdate();
+        if (inserted >= 0 && inserted != rows.size()) {
+            throw new IOException("Failed to insert some features, expected " + rows.size() + " but got " + inserted);
+        }
+        rows.clear();
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+
+/**
+ * Merges the features read in parallel from the partitions of a query. Each partition is read by its own thread, with
+ * its own reader and connection, and hands over the features in batches through a bounded queue, so that the
+ * partitions block when the consumer is slower than the database.
+ *
+ * <p>The features can be returned:
+ *
+ * <ul>
+ *   <li>in no particular order, as soon as they are read
+ *   <li>in partition order, when the partitions are sorted with respect to each other (e.g., sorting by primary key
+ *       with key range partitions)
+ *   <li>merging the sorted partitions with a comparator
+ * </ul>
+ */
+class ParallelFeatureReader implements FeatureReader<SimpleFeatureType, SimpleFeature> {
+
+    /** Opens the reader of a partition, called by the thread reading the partition */
+    interface PartitionReader {
+        FeatureReader<SimpleFeatureType, SimpleFeature> open() throws IOException;
+    }
+
+    /** Number of features handed over to the consumer at a time */
+    static final int BATCH_SIZE = 256;
+
+    /** Number of batches each partition can read ahead of the consumer */
+    static final int QUEUE_BATCHES = 4;
+
+    /** Marks the end of a partition, compared by identity */
+    private static final List<SimpleFeature> END = new ArrayList<>(0);
+
+    private final SimpleFeatureType featureType;
+
+    private final List<BlockingQueue<List<SimpleFeature>>> queues;
+
+    private final List<Future<?>> futures;
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private final Comparator<SimpleFeature> comparator;
+
+    private volatile boolean closed;
+
+    /** The number of partitions completely read, or the current partition, when reading in partition order */
+    private int ended;
+
+    /** The batch being consumed, when not merging */
+    private Iterator<SimpleFeature> batch = Collections.emptyIterator();
+
+    /** The partition cursors, sorted by their current feature, when merging */
+    private PriorityQueue<Cursor> cursors;
+
+    /**
+     * Starts reading the partitions
+     *
+     * @param featureType The type of the features returned by the partition readers
+     * @param partitions The partition readers, in order
+     * @param executor The executor running the partition reads, must be able to run all partitions at the same time
+     *     when merging with a comparator
+     * @param ordered If true the features are returned in partition order
+     * @param comparator The comparator used to merge the partitions, each one being sorted, or null if the features
+     *     are not to be merged
+     */
+    ParallelFeatureReader(
+            SimpleFeatureType featureType,
+            List<PartitionReader> partitions,
+            ExecutorService executor,
+            boolean ordered,
+            Comparator<SimpleFeature> comparator) {
+        this.featureType = featureType;
+        this.comparator = comparator;
+        int channels = ordered || comparator != null ? partitions.size() : 1;
+        int capacity = QUEUE_BATCHES * partitions.size() / channels;
+        this.queues = new ArrayList<>(channels);
+        for (int i = 0; i < channels; i++) {
+            queues.add(new ArrayBlockingQueue<>(capacity));
+        }
+        this.futures = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            PartitionReader partition = partitions.get(i);
+            BlockingQueue<List<SimpleFeature>> queue = queues.get(channels == 1 ? 0 : i);
+            futures.add(executor.submit(() -> read(partition, queue)));
+        }
+    }
+
+    private void read(PartitionReader partition, BlockingQueue<List<SimpleFeature>> queue) {
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = partition.open()) {
+            List<SimpleFeature> features = new ArrayList<>(BATCH_SIZE);
+            while (!closed && reader.hasNext()) {
+                features.add(reader.next());
+                if (features.size() == BATCH_SIZE) {
+                    queue.put(features);
+                    features = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!features.isEmpty()) {
+                queue.put(features);
+            }
+        } catch (InterruptedException e) {
+            // either the reader has been closed, or the executor is shutting down
+            if (!closed) {
+                failure.compareAndSet(null, new IOException("Interrupted while reading a partition", e));
+            }
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) { // NOSONAR
+            failure.compareAndSet(null, t);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            // cannot block, if the queue is full the consumer will find out about the failure with the next batch
+            queue.offer(END);
+            return;
+        }
+        try {
+            queue.put(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.offer(END);
+        }
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return featureType;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (closed) {
+            return false;
+        }
+        if (comparator != null) {
+            if (cursors == null) {
+                cursors = new PriorityQueue<>(queues.size());
+                for (int i = 0; i < queues.size(); i++) {
+                    Cursor cursor = new Cursor(i);
+                    if (cursor.advance()) {
+                        cursors.add(cursor);
+                    }
+                }
+            }
+            return !cursors.isEmpty();
+        }
+
+        while (!batch.hasNext()) {
+            if (queues.size() == 1 ? ended == futures.size() : ended == queues.size()) {
+                return false;
+            }
+            List<SimpleFeature> features = take(queues.get(queues.size() == 1 ? 0 : ended));
+            if (features == END) {
+                ended++;
+            } else {
+                batch = features.iterator();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public SimpleFeature next() throws IOException, NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more features to read");
+        }
+        if (comparator == null) {
+            return batch.next();
+        }
+        Cursor cursor = cursors.poll();
+        SimpleFeature next = cursor.current;
+        if (cursor.advance()) {
+            cursors.add(cursor);
+        }
+        return next;
+    }
+
+    private List<SimpleFeature> take(BlockingQueue<List<SimpleFeature>> queue) throws IOException {
+        List<SimpleFeature> features;
+        try {
+            features = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for features", e);
+        }
+        Throwable t = failure.get();
+        if (t != null) {
+            if (t instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException("Failed to read features in parallel", t);
+        }
+        return features;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // partitions not started yet will never open a connection, the others will close their reader once
+        // interrupted, or stop on the closed flag
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+        for (BlockingQueue<List<SimpleFeature>> queue : queues) {
+            queue.clear();
+        }
+    }
+
+    /** The read position in a sorted partition */
+    private class Cursor implements Comparable<Cursor> {
+
+        final int partition;
+
+        Iterator<SimpleFeature> features = Collections.emptyIterator();
+
+        SimpleFeature current;
+
+        Cursor(int partition) {
+            this.partition = partition;
+        }
+
+        /** Moves to the next feature, returns false if the partition is over */
+        boolean advance() throws IOException {
+            while (!features.hasNext()) {
+                List<SimpleFeature> batch = take(queues.get(partition));
+                if (batch == END) {
+                    current = null;
+                    return false;
+                }
+                features = batch.iterator();
+            }
+            current = features.next();
+            return true;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int result = comparator.compare(current, other.current);
+            // for stability, ties are returned in partition order
+            return result != 0 ? result : Integer.compare(partition, other.partition);
+        }
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.FeatureFactory;
+import org.geotools.api.feature.IllegalAttributeException;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.util.factory.Hints;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A {@link JDBCFeatureReader} overlapping the database fetch with the geometry decoding. A background thread reads the
+ * rows from the result set into batches of raw values, the batches are decoded into features by the decoding thread
+ * pool of the store, and the features are returned in the result set order.
+ *
+ * <p>The batches are recycled once consumed, and the number of batches being decoded is bounded, so that a slow
+ * consumer blocks the background thread rather than accumulating rows in memory. The screen map, if any, is applied
+ * by the consumer thread, to preserve the sequential semantics of its checks.
+ *
+ * <p>If the dialect cannot decode some of the geometries in a separate step (see
+ * {@link SQLDialect#createGeometryDecoder(GeometryDescriptor, org.locationtech.jts.geom.GeometryFactory, Connection,
+ * Hints)}), or the feature type has no geometries, the reader works as a plain {@link JDBCFeatureReader}.
+ */
+class PipelinedFeatureReader extends JDBCFeatureReader {
+
+    /** Number of rows in a batch */
+    static final int BATCH_SIZE = 128;
+
+    /** Marks the end of the results, compared by identity */
+    private static final Future<Batch> END = CompletableFuture.completedFuture(null);
+
+    /** How long the consumer waits for a batch before checking if the background thread is gone, in milliseconds */
+    static final long POLL_INTERVAL = 100;
+
+    /** A batch of rows, first holding the raw values, then the decoded features */
+    static class Batch {
+
+        final String[] fids = new String[BATCH_SIZE];
+
+        final Object[][] values;
+
+        final SimpleFeature[] features = new SimpleFeature[BATCH_SIZE];
+
+        int size;
+
+        Batch(int attributes) {
+            this.values = new Object[BATCH_SIZE][attributes];
+        }
+    }
+
+    /** The geometry decoders, by attribute, null for non geometric attributes */
+    private RawGeometryDecoder[] decoders;
+
+    private FeatureFactory featureFactory;
+
+    private BlockingQueue<Future<Batch>> decoded;
+
+    private BlockingQueue<Batch> free;
+
+    private Future<?> producer;
+
+    private volatile boolean closed;
+
+    /** Set once the background thread stopped reading, after all its batches have been queued */
+    private volatile boolean produced;
+
+    /** The failure that stopped the background thread, reported once the queued batches are consumed */
+    private volatile Exception failure;
+
+    private boolean finished;
+
+    private Batch current;
+
+    private int position;
+
+    private SimpleFeature pending;
+
+    public PipelinedFeatureReader(
+            String sql, Connection cx, JDBCFeatureSource featureSource, SimpleFeatureType featureType, Query query)
+            throws SQLException {
+        super(sql, cx, featureSource, featureType, query);
+        initPipeline();
+    }
+
+    public PipelinedFeatureReader(
+            PreparedStatement st,
+            Connection cx,
+            JDBCFeatureSource featureSource,
+            SimpleFeatureType featureType,
+            Query query)
+            throws SQLException {
+        super(st, cx, featureSource, featureType, query);
+        initPipeline();
+    }
+
+    private void initPipeline() throws SQLException {
+        if (rs == null) {
+            // the query failed, and the reader has been closed already
+            return;
+        }
+        RawGeometryDecoder[] decoders = new RawGeometryDecoder[featureType.getAttributeCount()];
+        boolean geometries = false;
+        for (int i = 0; i < decoders.length; i++) {
+            if (featureType.getDescriptor(i) instanceof GeometryDescriptor gd) {
+                decoders[i] = dataStore.getSQLDialect().createGeometryDecoder(gd, geometryFactory, cx, hints);
+                if (decoders[i] == null) {
+                    return;
+                }
+                geometries = true;
+            }
+        }
+        if (!geometries) {
+            return;
+        }
+
+        this.decoders = decoders;
+        FeatureFactory ff = hints != null ? (FeatureFactory) hints.get(Hints.FEATURE_FACTORY) : null;
+        this.featureFactory = ff != null ? ff : dataStore.getFeatureFactory();
+        int threads = Math.max(1, dataStore.getDecodeThreads());
+        this.decoded = new ArrayBlockingQueue<>(threads * 2);
+        this.free = new ArrayBlockingQueue<>(threads * 2 + 2);
+    }
+
+    /** Returns true if the reader is actually decoding the geometries in parallel */
+    boolean isPipelined() {
+        return decoders != null;
+    }
+
+    /** Returns true if the queue of the batches being decoded is full, the background thread is then blocked */
+    boolean isQueueFull() {
+        return decoded != null && decoded.remainingCapacity() == 0;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (!isPipelined()) {
+            return super.hasNext();
+        }
+        ensureOpen();
+        while (pending == null) {
+            if (screenMapFull) {
+                return false;
+            }
+            if (current == null || position >= current.size) {
+                if (!nextBatch()) {
+                    return false;
+                }
+                continue;
+            }
+            SimpleFeature feature = current.features[position];
+            current.features[position++] = null;
+            pending = applyScreenMap(feature);
+            if (pending == null && checkScreenMapFull()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuchElementException {
+        if (!isPipelined()) {
+            return super.next();
+        }
+        if (!hasNext()) {
+            throw new NoSuchElementException(
+                    "No more features in this reader, you should call hasNext() to check for feature availability");
+        }
+        SimpleFeature result = pending;
+        pending = null;
+        return result;
+    }
+
+    /** Moves to the next decoded batch, returns false if there are no more */
+    private boolean nextBatch() throws IOException {
+        if (current != null) {
+            free.offer(current);
+            current = null;
+        }
+        if (finished) {
+            return false;
+        }
+        if (producer == null) {
+            ExecutorService executor = dataStore.getParallelReadExecutor();
+            producer = executor.submit(this::produce);
+        }
+
+        Future<Batch> future;
+        try {
+            future = takeBatch();
+            if (future == END) {
+                finished = true;
+                Exception e = failure;
+                if (e != null) {
+                    throw e instanceof IOException ioe ? ioe : new IOException("Failed to read features", e);
+                }
+                callback.finish(this);
+                return false;
+            }
+            current = future.get();
+            position = 0;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for features", e);
+        } catch (ExecutionException e) {
+            finished = true;
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException("Failed to read features", e.getCause());
+        }
+    }
+
+    /**
+     * Waits for the next batch. The end marker is not guaranteed to be queued, the background thread drops it if the
+     * queue is full when it gets interrupted, so the queue is polled and the end is reported once the background thread
+     * is gone and the queue has been drained.
+     */
+    private Future<Batch> takeBatch() throws InterruptedException {
+        while (true) {
+            Future<Batch> future = decoded.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+            if (future != null) {
+                return future;
+            }
+            if (produced) {
+                // the background thread queues its last batch before setting the flag
+                future = decoded.poll();
+                return future != null ? future : END;
+            }
+        }
+    }
+
+    /** Reads the result set in batches, and submits them for decoding, runs in a background thread */
+    private void produce() {
+        try {
+            boolean more = true;
+            while (more && !closed) {
+                Batch batch = free.poll();
+                if (batch == null) {
+                    batch = new Batch(decoders.length);
+                }
+                batch.size = 0;
+                while (batch.size < BATCH_SIZE && (more = readRow(batch))) {
+                    // keep reading
+                }
+                if (batch.size > 0) {
+                    Batch toDecode = batch;
+                    decoded.put(dataStore.getDecodeExecutor().submit(() -> decode(toDecode)));
+                }
+            }
+        } catch (InterruptedException e) {
+            // either the reader has been closed, or the executor is shutting down
+            if (!closed) {
+                failure = new IOException("Interrupted while reading features", e);
+            }
+            Thread.currentThread().interrupt();
+        } catch (Exception e) { // NOSONAR
+            failure = e;
+        } finally {
+            produced = true;
+            // wakes up the consumer, if the queue is full it will notice the end at the next poll
+            decoded.offer(END);
+        }
+    }
+
+    /** Reads the raw values of the next row in the batch, returns false if the result set is over */
+    private boolean readRow(Batch batch) throws SQLException, IOException {
+        try {
+            callback.beforeNext(rs);
+            boolean next = rs.next();
+            callback.afterNext(rs, next);
+            if (!next) {
+                return false;
+            }
+
+            String fid = dataStore.encodeFID(pkey, rs, offset);
+            if (fid == null) {
+                // could be null during an outer join, skip the row
+                return true;
+            }
+            int row = batch.size;
+            batch.fids[row] = featureType.getTypeName() + "." + fid;
+            Object[] values = batch.values[row];
+            for (int i = 0; i < decoders.length; i++) {
+                int column = offset + attributeRsIndex[i];
+                values[i] = decoders[i] != null ? decoders[i].read(rs, column) : rs.getObject(column);
+            }
+            batch.size++;
+            return true;
+        } catch (SQLException e) {
+            callback.rowError(e);
+            throw e;
+        }
+    }
+
+    /** Decodes a batch of raw values into features, runs in the decoding thread pool */
+    private Batch decode(Batch batch) throws IOException {
+        SimpleFeatureBuilder builder = new SimpleFeatureBuilder(featureType, featureFactory);
+        for (int row = 0; row < batch.size; row++) {
+            Object[] values = batch.values[row];
+            for (int i = 0; i < values.length; i++) {
+                AttributeDescriptor descriptor = featureType.getDescriptor(i);
+                Object value = values[i];
+                // release the raw value, the array is going to be reused
+                values[i] = null;
+                if (decoders[i] != null) {
+                    Geometry geometry = value == null ? null : decoders[i].decode(value);
+                    if (geometry != null && geometry.getUserData() == null) {
+                        // if not set, set from descriptor
+                        geometry.setUserData(((GeometryDescriptor) descriptor).getCoordinateReferenceSystem());
+                    }
+                    value = geometry;
+                }
+                builder.add(convertValue(i, descriptor, value));
+            }
+            try {
+                batch.features[row] = builder.buildFeature(batch.fids[row]);
+            } catch (IllegalAttributeException e) {
+                builder.reset();
+                throw new IOException(e);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Applies the screen map checks to the geometries of the feature, as {@link JDBCFeatureReader#readNextFeature()}
+     * does, returns null if the feature should be skipped
+     */
+    private SimpleFeature applyScreenMap(SimpleFeature feature) {
+        if (screenMap == null) {
+            return feature;
+        }
+        for (int i = 0; i < decoders.length; i++) {
+            if (decoders[i] == null || !(feature.getAttribute(i) instanceof Geometry geometry)) {
+                continue;
+            }
+            try {
+                if (screenMap.canSimplify(geometry.getEnvelopeInternal())) {
+                    if (screenMap.checkAndSet(geometry.getEnvelopeInternal())) {
+                        return null;
+                    } else {
+                        feature.setAttribute(i, screenMap.getSimplifiedShape(geometry));
+                    }
+                }
+            } catch (TransformException e) {
+                if (LOGGER.isLoggable(Level.WARNING)) {
+                    LOGGER.log(Level.WARNING, "Failed to process screenmap checks, proceeding without", e);
+                }
+            }
+        }
+        return feature;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (producer != null && !closed) {
+            closed = true;
+            // unblock the background thread and wait for it to release the result set
+            decoded.clear();
+            try {
+                producer.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOGGER.log(Level.FINE, "Background reader failed", e);
+            }
+            decoded.clear();
+            free.clear();
+            current = null;
+            pending = null;
+        }
+        super.close();
+    }
+}
@@ -49,6 +49,11 @@ public class PreparedFilterToSQL extends FilterToSQL {
     protected List<Integer> SRIDs = new ArrayList<>();
     protected List<Integer> dimensions = new ArrayList<>();
     protected List<AttributeDescriptor> descriptors = new ArrayList<>();
+    /** the literal expression each value was evaluated from, or null if not evaluated from a literal */
+    List<Literal> literalSources = new ArrayList<>();
+    /** the type each literal expression was evaluated to, see {@link #evaluateBoundLiteral(Literal, Class)} */
+    List<Class<?>> literalTargets = new ArrayList<>();
+
     protected PreparedStatementSQLDialect dialect;
     boolean prepareEnabled = true;
 
@@ -77,7 +82,7 @@ public Object visit(Literal expression, Object context) throws RuntimeException
         Class clazz = getTargetClassFromContext(context);
 
         // evaluate the literal and store it for later
-        Object literalValue = evaluateLiteral(expression, clazz);
+        Object literalValue = evaluateBoundLiteral(expression, clazz);
 
         // bbox filters have a right side expression that's a ReferencedEnvelope,
         // but SQL dialects use/want polygons instead
@@ -95,6 +100,8 @@ public Object visit(Literal expression, Object context) throws RuntimeException
         dimensions.add(currentDimension);
         descriptors.add(context instanceof AttributeDescriptor ad ? ad : null);
         literalTypes.add(clazz);
+        literalSources.add(expression);
+        literalTargets.add(getTargetClassFromContext(context));
 
         try {
             if (literalValue == null || dialect == null) {
@@ -119,6 +126,24 @@ public Object visit(Literal expression, Object context) throws RuntimeException
         return context;
     }
 
+    /**
+     * Evaluates a literal whose value is going to be bound to the prepared statement. Accesses to the literal made here
+     * do not affect the encoded SQL, see {@link SQLTemplateCache}.
+     */
+    Object evaluateBoundLiteral(Literal expression, Class<?> target) {
+        SQLTemplateCache.TrackedLiteral tracked = expression instanceof SQLTemplateCache.TrackedLiteral t ? t : null;
+        if (tracked != null) {
+            tracked.binding = true;
+        }
+        try {
+            return evaluateLiteral(expression, target);
+        } finally {
+            if (tracked != null) {
+                tracked.binding = false;
+            }
+        }
+    }
+
     /**
      * When returning true, the {@link Literal} visit will turn {@link Envelope} objects (typically coming from
      * {@link org.geotools.api.filter.spatial.BBOX} filters) into {@link Polygon}. Defaults to true, subclasses can
@@ -178,6 +203,8 @@ public Object visit(Id filter, Object extraData) {
                     // if it's not null, we can also infer the type
                     literalTypes.add(attValues.get(j) != null ? attValues.get(j).getClass() : null);
                     descriptors.add(null);
+                    literalSources.add(null);
+                    literalTargets.add(null);
 
                     if (j < attValues.size() - 1) {
                         out.write(" AND ");
@@ -18,6 +18,7 @@
 
 import static java.lang.reflect.Array.getLength;
 
+import java.io.IOException;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.sql.Array;
@@ -345,4 +346,15 @@ public void onInsert(PreparedStatement insert, Connection cx, SimpleFeatureType
      * @param featureType The feature type the update is executing against.
      */
     public void onUpdate(PreparedStatement update, Connection cx, SimpleFeatureType featureType) throws SQLException {}
+
+    /**
+     * Creates a {@link MultiRowInsertBulkLoader}, subclasses willing to use it just need to override
+     * {@link #supportsBulkLoad(SimpleFeatureType)} to return true, as long as the database supports multiple rows in
+     * the <code>VALUES</code> clause of an <code>INSERT</code>.
+     */
+    @Override
+    public BulkLoader createBulkLoader(SimpleFeatureType featureType, List<BulkLoader.Column> columns, Connection cx)
+            throws SQLException, IOException {
+        return new MultiRowInsertBulkLoader(dataStore, featureType, columns, cx);
+    }
 }
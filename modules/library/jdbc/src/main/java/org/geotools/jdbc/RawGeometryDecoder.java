@@ -0,0 +1,53 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Decodes the geometries of a column in two steps: the raw value is first read from the result set, by the thread
+ * reading the result set, and then decoded in a geometry, possibly by another thread. Splitting the two steps allows
+ * the database fetch and the geometry decoding to overlap, see {@link JDBCDataStore#setDecodeThreads(int)}.
+ *
+ * @see SQLDialect#createGeometryDecoder(org.geotools.api.feature.type.GeometryDescriptor,
+ *     org.locationtech.jts.geom.GeometryFactory, java.sql.Connection, org.geotools.util.factory.Hints)
+ */
+@FunctionalInterface
+public interface RawGeometryDecoder {
+
+    /**
+     * Reads the raw geometry value from the result set. The default implementation reads the column as a byte array.
+     *
+     * @param rs The result set, positioned on the current row
+     * @param column The column index
+     * @return The raw value, or <code>null</code> if the geometry is null
+     */
+    default Object read(ResultSet rs, int column) throws SQLException {
+        return rs.getBytes(column);
+    }
+
+    /**
+     * Decodes the raw value, as returned by {@link #read(ResultSet, int)}, into a geometry. The method can be called
+     * concurrently by multiple threads.
+     *
+     * @param raw The raw value, never <code>null</code>
+     */
+    Geometry decode(Object raw) throws IOException;
+}
@@ -18,6 +18,7 @@
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.Date;
@@ -35,6 +36,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -46,6 +48,7 @@
 import org.geotools.api.feature.type.GeometryDescriptor;
 import org.geotools.api.filter.ExcludeFilter;
 import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
 import org.geotools.api.filter.Id;
 import org.geotools.api.filter.IncludeFilter;
 import org.geotools.api.filter.NativeFilter;
@@ -202,6 +205,23 @@ public boolean canUnwrap(Connection conn) {
     /** Used to influence the CRS axis ordering in {@link #createCRS(int, java.sql.Connection) }. */
     protected boolean forceLongitudeFirst = false;
 
+    /** Maximum number of names whose escaped form is memoized, see {@link #escapeName(String)} */
+    static final int ESCAPED_NAMES_LIMIT = 4096;
+
+    /** The escaped names, the same table and column names are escaped over and over while generating the SQL */
+    private volatile EscapedNames escapedNames = new EscapedNames("");
+
+    /** Escaped names, along with the escape they have been computed with */
+    private static final class EscapedNames {
+        final String escape;
+
+        final Map<String, String> names = new ConcurrentHashMap<>();
+
+        EscapedNames(String escape) {
+            this.escape = escape;
+        }
+    }
+
     /**
      * Creates the dialect.
      *
@@ -427,6 +447,35 @@ public void registerAggregateFunctions(Map<Class<? extends FeatureVisitor>, Stri
         aggregates.put(StandardDeviationVisitor.class, "stddev_pop");
     }
 
+    /**
+     * Encodes the invocation of an aggregate function over an already encoded expression.
+     *
+     * <p>This base implementation writes <code>function(expression)</code>, subclasses should override to handle the
+     * functions registered in {@link #registerAggregateFunctions(Map)} that need a different syntax, such as the SQL
+     * standard ordered set aggregates (e.g., <code>percentile_cont(0.5) WITHIN GROUP (ORDER BY expression)</code>).
+     *
+     * @param function The aggregate function name, as registered in {@link #registerAggregateFunctions(Map)}
+     * @param expression The encoded expression being aggregated
+     * @param sql The buffer to append the function call to
+     */
+    public void encodeAggregateFunction(String function, String expression, StringBuffer sql) {
+        sql.append(function).append("(").append(expression).append(")");
+    }
+
+    /**
+     * Returns true if the aggregate function can be computed by the database over values of the given type. Allows to
+     * register functions that are not defined for all data types (e.g., a median working only against numbers), the
+     * aggregation is performed in memory when this method returns false.
+     *
+     * <p>This base implementation returns true.
+     *
+     * @param function The aggregate function name, as registered in {@link #registerAggregateFunctions(Map)}
+     * @param type The type of the aggregated expression, or null if it cannot be determined
+     */
+    public boolean isAggregateFunctionSupported(String function, Class<?> type) {
+        return true;
+    }
+
     /**
      * Returns the java class mapping for a particular column.
      *
@@ -477,12 +526,30 @@ protected final String ne() {
     /**
      * Surrounds a name with the SQL escape string.
      *
-     * <p>If the name contains the SQL escape string, the SQL escape string is duplicated.
+     * <p>If the name contains the SQL escape string, the SQL escape string is duplicated. The results are memoized, as
+     * long as {@link #getNameEscape()} does not change.
      */
     public String escapeName(String name) {
         String nameEscape = getNameEscape();
         if (nameEscape.isEmpty()) return name;
-        StringBuilder sb = new StringBuilder();
+
+        EscapedNames cache = escapedNames;
+        if (!cache.escape.equals(nameEscape)) {
+            cache = new EscapedNames(nameEscape);
+            escapedNames = cache;
+        }
+        String escaped = cache.names.get(name);
+        if (escaped == null) {
+            escaped = escape(name, nameEscape);
+            if (cache.names.size() < ESCAPED_NAMES_LIMIT) {
+                cache.names.put(name, escaped);
+            }
+        }
+        return escaped;
+    }
+
+    private static String escape(String name, String nameEscape) {
+        StringBuilder sb = new StringBuilder(name.length() + 2 * nameEscape.length());
         sb.append(nameEscape);
         int offset = 0;
         int escapeOffset;
@@ -624,6 +691,22 @@ public int getGeometryDimension(String schemaName, String tableName, String colu
         return 2;
     }
 
+    /**
+     * Fills the native srid and dimension of the geometry columns of a whole schema in one go, used when the store
+     * metadata is prefetched, see {@link JDBCDataStore#prefetchMetadata(int)}. The columns whose srid or dimension
+     * are left <code>null</code> will be looked up one by one with {@link #getGeometrySRID} and
+     * {@link #getGeometryDimension}, which is what this default implementation does for all of them.
+     *
+     * <p>This method is given a direct connection to the database. The connection must not be closed. However any
+     * statements or result sets instantiated from the connection must be closed.
+     *
+     * @param schemaName The database schema, could be <code>null</code>.
+     * @param columns The columns of each table of the schema, by table name
+     * @param cx The database connection.
+     */
+    public void prefetchGeometryMetadata(String schemaName, Map<String, List<ColumnMetadata>> columns, Connection cx)
+            throws SQLException {}
+
     /**
      * Turns the specified srid into a {@link CoordinateReferenceSystem}, or returns <code>null
      * </code> if not possible.
@@ -668,6 +751,34 @@ public List<ReferencedEnvelope> getOptimizedBounds(String schema, SimpleFeatureT
         return null;
     }
 
+    /**
+     * Returns the bounds of all geometry columns in the layer when the caller accepts an approximate answer, see
+     * {@link Hints#ESTIMATED_RESULT}, or null if no fast method is available. This base implementation returns the
+     * {@link #getOptimizedBounds(String, SimpleFeatureType, Connection)}, subclasses can override to return estimates
+     * (e.g., based on the database statistics) that are not suitable as the default bounds.
+     *
+     * @param schema The database schema, if any, or null
+     * @param featureType The feature type containing the geometry columns whose bounds need to computed
+     * @return a list of referenced envelopes (some of which may be null or empty)
+     */
+    public List<ReferencedEnvelope> getEstimatedBounds(String schema, SimpleFeatureType featureType, Connection cx)
+            throws SQLException, IOException {
+        return getOptimizedBounds(schema, featureType, cx);
+    }
+
+    /**
+     * Returns an estimate of the number of rows in the table, when the caller accepts an approximate answer, see
+     * {@link Hints#ESTIMATED_RESULT}. This base implementation returns -1, meaning no estimate is available and the
+     * rows have to be counted.
+     *
+     * @param schema The database schema, if any, or null
+     * @param featureType The feature type of the table
+     */
+    public int getEstimatedCount(String schema, SimpleFeatureType featureType, Connection cx)
+            throws SQLException, IOException {
+        return -1;
+    }
+
     /**
      * Encodes the spatial extent function of a geometry column in a SELECT statement.
      *
@@ -776,6 +887,26 @@ public Geometry decodeGeometryValue(
         return decodeGeometryValue(descriptor, rs, columnName, factory, cx, hints);
     }
 
+    /**
+     * Creates a decoder splitting the work of
+     * {@link #decodeGeometryValue(GeometryDescriptor, ResultSet, int, GeometryFactory, Connection, Hints)} in reading
+     * the raw value from the result set, and decoding it in a separate step, that can be run by a different thread.
+     * Used by the pipelined readers, see {@link JDBCDataStore#setDecodeThreads(int)}.
+     *
+     * <p>The decoder must return the same geometries as
+     * {@link #decodeGeometryValue(GeometryDescriptor, ResultSet, int, GeometryFactory, Connection, Hints)} would. The
+     * default implementation returns <code>null</code>, meaning the geometries cannot be decoded in a separate step.
+     *
+     * @param descriptor The geometry attribute being read
+     * @param factory The factory to be used to build the geometries
+     * @param cx The connection used to run the query
+     * @param hints The query hints
+     */
+    public RawGeometryDecoder createGeometryDecoder(
+            GeometryDescriptor descriptor, GeometryFactory factory, Connection cx, Hints hints) throws SQLException {
+        return null;
+    }
+
     /**
      * Encodes the primary key definition in a CREATE TABLE statement.
      *
@@ -922,6 +1053,155 @@ public void preDropTable(String schemaName, SimpleFeatureType featureType, Conne
      */
     public void postDropTable(String schemaName, SimpleFeatureType featureType, Connection cx) throws SQLException {}
 
+    /**
+     * Returns true if the dialect can load features in the table of the given feature type in bulk, using a loader
+     * created by {@link #createBulkLoader(SimpleFeatureType, List, Connection)}.
+     *
+     * <p>Bulk loading is used by {@link JDBCFeatureStore#addFeatures(org.geotools.feature.FeatureCollection)}, as long
+     * as the primary key values can be computed before the insert. The insert callbacks (e.g.
+     * {@link PreparedStatementSQLDialect#onInsert(java.sql.PreparedStatement, Connection, SimpleFeatureType)}) are not
+     * called while bulk loading. The default implementation returns false.
+     *
+     * @param featureType The feature type being loaded
+     */
+    public boolean supportsBulkLoad(SimpleFeatureType featureType) {
+        return false;
+    }
+
+    /**
+     * Creates a loader inserting rows in the table of the given feature type, only called when
+     * {@link #supportsBulkLoad(SimpleFeatureType)} returns true.
+     *
+     * <p>Implementations may return <code>null</code> if the load cannot be performed after all (e.g., the connection
+     * does not provide the native bulk loading API, or some columns have an unsupported type), in which case the
+     * features are inserted with the regular insert statements. The default implementation returns <code>null</code>.
+     *
+     * @param featureType The feature type being loaded
+     * @param columns The columns being loaded, the attributes first, followed by the primary key columns
+     * @param cx The database connection, the loader should not close it
+     */
+    public BulkLoader createBulkLoader(SimpleFeatureType featureType, List<BulkLoader.Column> columns, Connection cx)
+            throws SQLException, IOException {
+        return null;
+    }
+
+    /**
+     * Splits the rows of the table of the given feature type in disjoint partitions, that can be read in parallel on
+     * separate connections, see {@link JDBCDataStore#setParallelReadThreads(int)}.
+     *
+     * <p>Each partition is described by a filter that will be combined with the query one. The partitions must cover
+     * all the rows of the table, including the ones inserted after the split has been computed, and must be returned
+     * in ascending primary key order, so that reads sorted by primary key can be merged by concatenation.
+     *
+     * <p>The default implementation handles single column integral primary keys, splitting the range between the
+     * minimum and maximum key value in ranges of the same width, see
+     * {@link #getKeyRangePartitions(PrimaryKeyColumn, List)}. Subclasses can override to use smarter strategies, e.g.,
+     * based on the table statistics.
+     *
+     * @param featureType The feature type being read
+     * @param key The primary key of the table
+     * @param maxPartitions The maximum number of partitions
+     * @param minPartitionSize The minimum (estimated) number of rows in each partition
+     * @param cx The database connection
+     * @return The partition filters, or <code>null</code> if the table cannot be split, or it's too small to benefit
+     *     from parallel reads
+     */
+    public List<Filter> splitReads(
+            SimpleFeatureType featureType, PrimaryKey key, int maxPartitions, int minPartitionSize, Connection cx)
+            throws SQLException, IOException {
+        PrimaryKeyColumn column = getIntegralKeyColumn(key);
+        if (column == null) {
+            return null;
+        }
+
+        StringBuffer sql = new StringBuffer();
+        sql.append("SELECT MIN(");
+        encodeColumnName(null, column.getName(), sql);
+        sql.append("), MAX(");
+        encodeColumnName(null, column.getName(), sql);
+        sql.append(") FROM ");
+        dataStore.encodeTableName(featureType.getTypeName(), sql, null);
+        dataStore.getLogger().fine(sql.toString());
+
+        long min, max;
+        try (Statement st = cx.createStatement();
+                ResultSet rs = st.executeQuery(sql.toString())) {
+            if (!rs.next() || rs.getBigDecimal(1) == null) {
+                return null;
+            }
+            try {
+                min = rs.getBigDecimal(1).longValueExact();
+                max = rs.getBigDecimal(2).longValueExact();
+            } catch (ArithmeticException e) {
+                // outside of the long range, or not integral after all
+                return null;
+            }
+        }
+
+        double range = (double) max - min + 1;
+        int partitions = (int) Math.min(maxPartitions, range / Math.max(1, minPartitionSize));
+        if (partitions < 2) {
+            return null;
+        }
+        List<Long> splitPoints = new ArrayList<>(partitions - 1);
+        for (int i = 1; i < partitions; i++) {
+            splitPoints.add(min + (long) (range * i / partitions));
+        }
+        return getKeyRangePartitions(column, splitPoints);
+    }
+
+    /**
+     * Returns the primary key column if the key is made of a single column with an integral type, <code>null</code>
+     * otherwise
+     */
+    protected PrimaryKeyColumn getIntegralKeyColumn(PrimaryKey key) {
+        if (key == null || key instanceof NullPrimaryKey || key.getColumns().size() != 1) {
+            return null;
+        }
+        PrimaryKeyColumn column = key.getColumns().get(0);
+        Class<?> type = column.getType();
+        if (type == Short.class
+                || type == Integer.class
+                || type == Long.class
+                || type == BigInteger.class
+                || type == BigDecimal.class) {
+            return column;
+        }
+        return null;
+    }
+
+    /**
+     * Builds the partition filters for the given split points, in ascending order: <code>key &lt; p1</code>,
+     * <code>p1 &lt;= key &lt; p2</code>, ..., <code>key &gt;= pn</code>. The first and last partitions are open, so
+     * that rows added after the split points have been computed are read as well.
+     *
+     * @param column The primary key column
+     * @param splitPoints The split points, in ascending order, duplicates are ignored
+     */
+    protected List<Filter> getKeyRangePartitions(PrimaryKeyColumn column, List<?> splitPoints) {
+        FilterFactory ff = dataStore.getFilterFactory();
+        PropertyName key = ff.property(column.getName());
+        List<Object> points = new ArrayList<>(splitPoints.size());
+        for (Object point : splitPoints) {
+            Object converted = Converters.convert(point, column.getType());
+            if (points.isEmpty() || !points.get(points.size() - 1).equals(converted)) {
+                points.add(converted);
+            }
+        }
+
+        List<Filter> partitions = new ArrayList<>(points.size() + 1);
+        Filter lower = null;
+        for (Object point : points) {
+            Filter upper = ff.less(key, ff.literal(point));
+            partitions.add(lower == null ? upper : ff.and(lower, upper));
+            lower = ff.greaterOrEqual(key, ff.literal(point));
+        }
+        if (lower != null) {
+            partitions.add(lower);
+        }
+        return partitions;
+    }
+
     /**
      * Controls whether keys are looked up post or pre insert.
      *
@@ -1052,6 +1332,29 @@ public Object getNextSequenceValue(String schemaName, String sequenceName, Conne
         return null;
     }
 
+    /**
+     * Obtains the next <tt>count</tt> values of a sequence, incrementing the sequence in the process.
+     *
+     * <p>Used to compute the primary keys of features being bulk loaded, see
+     * {@link #createBulkLoader(SimpleFeatureType, List, Connection)}. The default implementation calls
+     * {@link #getNextSequenceValue(String, String, Connection)} <tt>count</tt> times, subclasses should override to
+     * fetch all the values with a single query.
+     *
+     * @param schemaName The schema name, this might be <code>null</code>.
+     * @param sequenceName The name of the sequence.
+     * @param count The number of values to fetch
+     * @param cx The database connection.
+     * @return The next values of the sequence
+     */
+    public List<Object> getNextSequenceValues(String schemaName, String sequenceName, int count, Connection cx)
+            throws SQLException {
+        List<Object> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(getNextSequenceValue(schemaName, sequenceName, cx));
+        }
+        return values;
+    }
+
     /**
      * Encodes how to get the next sequence value from the DB.
      *
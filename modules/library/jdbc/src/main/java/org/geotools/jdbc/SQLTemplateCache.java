@@ -0,0 +1,519 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.filter.BinaryComparisonOperator;
+import org.geotools.api.filter.BinaryLogicOperator;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.Id;
+import org.geotools.api.filter.Not;
+import org.geotools.api.filter.PropertyIsBetween;
+import org.geotools.api.filter.PropertyIsNull;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.api.filter.expression.PropertyName;
+import org.geotools.api.filter.identity.Identifier;
+import org.geotools.api.filter.spatial.BBOX3D;
+import org.geotools.api.filter.spatial.BinarySpatialOperator;
+import org.geotools.api.filter.spatial.DistanceBufferOperator;
+import org.geotools.filter.LiteralExpressionImpl;
+import org.geotools.filter.visitor.DuplicatingFilterVisitor;
+import org.geotools.geometry.jts.JTS;
+import org.geotools.util.factory.Hints;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Caches the SQL of the queries run by a {@link JDBCDataStore} with a {@link PreparedStatementSQLDialect}, along with
+ * the plan binding the literals of the filter to the statement parameters. Queries differing only in the values of
+ * their literals, such as the bounding boxes of map tiles, share the same SQL template: the SQL is not generated again,
+ * and the connection pool can reuse the prepared statements of each connection, see
+ * {@link JDBCDataStoreFactory#MAX_OPEN_PREPARED_STATEMENTS}.
+ *
+ * <p>The key of a template is the structure of the query: feature type, sorting, paging, hints, and the filter with
+ * its literals abstracted to their types. Only filters made of logic operators, comparisons, null checks, identifiers
+ * and spatial operators (distance based ones excluded), over property names and literals, are cached. The literals the
+ * filter encoder inspects, rather than just binding them to the statement, are part of the key with their values, as
+ * the SQL might depend on them. Filter encoders only looking at the type of a literal should use
+ * {@link #getValueClass(Literal)}, which does not mark the literal as inspected. The values bound from a template must
+ * have the same types as the ones bound when the template was created, or the query SQL is generated again.
+ */
+public class SQLTemplateCache {
+
+    /** The hints not affecting the SQL, but changing with every query */
+    static final List<Object> IGNORED_HINTS = List.of(Hints.SCREENMAP);
+
+    /** Marks the expressions in the structure of a filter */
+    enum Token {
+        LITERAL,
+        PROPERTY
+    }
+
+    private final int maxSize;
+
+    /** The ordinals of the inspected literals, by query structure */
+    private final Map<List<Object>, int[]> inspections;
+
+    /** The templates, by query structure and values of the inspected literals */
+    private final Map<List<Object>, Template> templates;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /** @param maxSize The maximum number of templates kept in the cache, the least recently used are evicted */
+    public SQLTemplateCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.inspections = createLRU(maxSize);
+        this.templates = createLRU(maxSize);
+    }
+
+    private static <V> Map<List<Object>, V> createLRU(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /** @return The maximum number of templates kept in the cache */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** @return The number of queries that reused a cached template */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /** @return The number of queries whose SQL has been generated, either because not cached, or not cacheable */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /** @return The number of templates in the cache */
+    public int size() {
+        return templates.size();
+    }
+
+    /** Removes all the templates, and resets the statistics */
+    public void clear() {
+        templates.clear();
+        inspections.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Looks up the template of a query
+     *
+     * @param featureType The type returned by the query
+     * @param query The query
+     * @return The lookup result, or null if the query cannot be cached
+     */
+    Lookup lookup(SimpleFeatureType featureType, Query query) {
+        List<Object> shape = new ArrayList<>();
+        List<Literal> literals = new ArrayList<>();
+        Filter filter = query.getFilter();
+        if (filter != null && !shape(filter, shape, literals)) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        Map<Object, Object> hints = new HashMap<>(query.getHints());
+        IGNORED_HINTS.forEach(hints::remove);
+        List<Object> sortBy = query.getSortBy() == null ? null : Arrays.asList((Object[]) query.getSortBy());
+        List<Object> structure =
+                Arrays.asList(featureType, sortBy, query.getStartIndex(), query.getMaxFeatures(), hints, shape);
+
+        Template template = null;
+        int[] inspected = inspections.get(structure);
+        if (inspected != null) {
+            template = templates.get(variant(structure, inspected, literals));
+        }
+        return new Lookup(structure, literals, template);
+    }
+
+    /**
+     * Returns the class of the value of a literal, or null if the value is null. The class is part of the template key,
+     * so filter encoders can use it to pick the SQL without having the literal value made part of the key as well.
+     */
+    public static Class<?> getValueClass(Literal literal) {
+        Object value = literal instanceof TrackedLiteral tracked ? tracked.peekValue() : literal.getValue();
+        return value == null ? null : value.getClass();
+    }
+
+    private static List<Object> variant(List<Object> structure, int[] inspected, List<Literal> literals) {
+        Object[] values = new Object[inspected.length];
+        for (int i = 0; i < inspected.length; i++) {
+            values[i] = literals.get(inspected[i]).getValue();
+        }
+        return Arrays.asList(structure, Arrays.asList(values));
+    }
+
+    /**
+     * Appends the structure of a filter to the shape, collecting its literals, returns false if the filter cannot be
+     * cached
+     */
+    static boolean shape(Filter filter, List<Object> shape, List<Literal> literals) {
+        shape.add(filter.getClass());
+        if (filter == Filter.INCLUDE || filter == Filter.EXCLUDE) {
+            return true;
+        } else if (filter instanceof BinaryLogicOperator logic) {
+            shape.add(logic.getChildren().size());
+            for (Filter child : logic.getChildren()) {
+                if (!shape(child, shape, literals)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (filter instanceof Not not) {
+            return shape(not.getFilter(), shape, literals);
+        } else if (filter instanceof BinaryComparisonOperator comparison) {
+            shape.add(comparison.isMatchingCase());
+            shape.add(comparison.getMatchAction());
+            return shape(comparison.getExpression1(), shape, literals)
+                    && shape(comparison.getExpression2(), shape, literals);
+        } else if (filter instanceof PropertyIsBetween between) {
+            shape.add(between.getMatchAction());
+            return shape(between.getExpression(), shape, literals)
+                    && shape(between.getLowerBoundary(), shape, literals)
+                    && shape(between.getUpperBoundary(), shape, literals);
+        } else if (filter instanceof PropertyIsNull isNull) {
+            return shape(isNull.getExpression(), shape, literals);
+        } else if (filter instanceof BinarySpatialOperator spatial
+                && !(filter instanceof DistanceBufferOperator)
+                && !(filter instanceof BBOX3D)) {
+            shape.add(spatial.getMatchAction());
+            return shape(spatial.getExpression1(), shape, literals) && shape(spatial.getExpression2(), shape, literals);
+        } else if (filter instanceof Id id) {
+            // the identifiers are bound as constants, in iteration order
+            shape.add(id.getIdentifiers().size());
+            for (Identifier identifier : id.getIdentifiers()) {
+                shape.add(identifier.toString());
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean shape(Expression expression, List<Object> shape, List<Literal> literals) {
+        if (expression instanceof PropertyName name) {
+            shape.add(Token.PROPERTY);
+            shape.add(name.getClass());
+            shape.add(name.getPropertyName());
+            return true;
+        } else if (expression instanceof Literal literal) {
+            Object value = literal.getValue();
+            shape.add(Token.LITERAL);
+            shape.add(value == null ? null : value.getClass());
+            literals.add(literal);
+            return true;
+        }
+        return false;
+    }
+
+    /** The SQL of a query, and the plan binding the literals of a structurally identical query */
+    static class Template {
+
+        final String sql;
+
+        /** The ordinal of the literal bound to each parameter, or -1 for constants */
+        final int[] sources;
+
+        final Object[] constants;
+
+        final Class<?>[] targets;
+
+        /** The class of the bound values, which must not change when binding other literals */
+        final Class<?>[] valueClasses;
+
+        final Class[] types;
+
+        final Integer[] srids;
+
+        final Integer[] dimensions;
+
+        final AttributeDescriptor[] descriptors;
+
+        Template(String sql, int parameters) {
+            this.sql = sql;
+            this.sources = new int[parameters];
+            this.constants = new Object[parameters];
+            this.targets = new Class<?>[parameters];
+            this.valueClasses = new Class<?>[parameters];
+            this.types = new Class[parameters];
+            this.srids = new Integer[parameters];
+            this.dimensions = new Integer[parameters];
+            this.descriptors = new AttributeDescriptor[parameters];
+        }
+    }
+
+    /** The result of a lookup, used to bind the template found, or to create a new one */
+    class Lookup {
+
+        final List<Object> structure;
+
+        final List<Literal> literals;
+
+        final Template template;
+
+        /** The literals of the tracking filter, null if the filter could not be tracked */
+        List<Literal> tracked;
+
+        Lookup(List<Object> structure, List<Literal> literals, Template template) {
+            this.structure = structure;
+            this.literals = literals;
+            this.template = template;
+        }
+
+        /** @return The cached SQL, or null if the template was not found */
+        String getSQL() {
+            return template != null ? template.sql : null;
+        }
+
+        /**
+         * Binds the literals of the query to the filter encoder, following the template plan, so that it can be used
+         * to set the statement parameters
+         *
+         * @return The filter encoder, or null if the template was not found, or does not apply to the literals
+         */
+        PreparedFilterToSQL bind(PreparedFilterToSQL toSQL) {
+            if (template == null) {
+                return null;
+            }
+            int parameters = template.sources.length;
+            Object[] values = new Object[parameters];
+            for (int i = 0; i < parameters; i++) {
+                if (template.sources[i] < 0) {
+                    values[i] = template.constants[i];
+                    continue;
+                }
+                Literal literal = literals.get(template.sources[i]);
+                Object value = toSQL.evaluateBoundLiteral(literal, template.targets[i]);
+                if (value instanceof Envelope envelope && toSQL.convertEnvelopeToPolygon()) {
+                    value = JTS.toGeometry(envelope);
+                }
+                if (!Objects.equals(value == null ? null : value.getClass(), template.valueClasses[i])) {
+                    return null;
+                }
+                values[i] = value;
+            }
+            for (int i = 0; i < parameters; i++) {
+                toSQL.literalValues.add(values[i]);
+                toSQL.literalTypes.add(template.types[i]);
+                toSQL.SRIDs.add(template.srids[i]);
+                toSQL.dimensions.add(template.dimensions[i]);
+                toSQL.descriptors.add(template.descriptors[i]);
+            }
+            hits.incrementAndGet();
+            return toSQL;
+        }
+
+        /**
+         * Returns a copy of the filter whose literals track the accesses of the filter encoder, to be encoded when
+         * creating the template
+         */
+        Filter getTrackingFilter(Filter filter) {
+            if (filter == null || literals.isEmpty()) {
+                tracked = Collections.emptyList();
+                return filter;
+            }
+            Map<Literal, Integer> ordinals = new IdentityHashMap<>();
+            for (int i = 0; i < literals.size(); i++) {
+                ordinals.putIfAbsent(literals.get(i), i);
+            }
+            Filter copy = (Filter) filter.accept(
+                    new DuplicatingFilterVisitor() {
+                        @Override
+                        public Object visit(Literal expression, Object extraData) {
+                            int ordinal = ordinals.getOrDefault(expression, -1);
+                            return new TrackedLiteral(expression.getValue(), Lookup.this, ordinal);
+                        }
+                    },
+                    null);
+
+            // the copy must have the same structure, made of tracked literals only
+            List<Object> shape = new ArrayList<>();
+            List<Literal> copyLiterals = new ArrayList<>();
+            if (!shape(copy, shape, copyLiterals) || !shape.equals(structure.get(structure.size() - 1))) {
+                return filter;
+            }
+            for (int i = 0; i < copyLiterals.size(); i++) {
+                if (!(copyLiterals.get(i) instanceof TrackedLiteral t) || t.owner != this || t.ordinal != i) {
+                    return filter;
+                }
+            }
+            for (Literal literal : copyLiterals) {
+                ((TrackedLiteral) literal).tracking = true;
+            }
+            tracked = copyLiterals;
+            return copy;
+        }
+
+        /**
+         * Creates a template from the SQL generated for the query
+         *
+         * @param sql The SQL
+         * @param toSQL The filter encoder used to encode the tracking filter, or null if the query has no filter
+         */
+        void store(String sql, PreparedFilterToSQL toSQL) {
+            misses.incrementAndGet();
+            if (toSQL == null) {
+                // no filter to encode
+                tracked = Collections.emptyList();
+            } else if (tracked == null) {
+                return;
+            }
+            int parameters = toSQL != null ? toSQL.getLiteralValues().size() : 0;
+            if (toSQL != null
+                    && (toSQL.literalSources.size() != parameters
+                            || toSQL.literalTargets.size() != parameters
+                            || toSQL.getLiteralTypes().size() != parameters
+                            || toSQL.getSRIDs().size() != parameters
+                            || toSQL.getDimensions().size() != parameters
+                            || toSQL.getDescriptors().size() != parameters)) {
+                // values bound by the encoder without going through the literal visit
+                return;
+            }
+
+            Template template = new Template(sql, parameters);
+            for (int i = 0; i < parameters; i++) {
+                Literal source = toSQL.literalSources.get(i);
+                Object value = toSQL.getLiteralValues().get(i);
+                if (source == null) {
+                    template.sources[i] = -1;
+                    template.constants[i] = value;
+                } else if (source instanceof TrackedLiteral t && t.owner == this) {
+                    template.sources[i] = t.ordinal;
+                } else {
+                    // a literal created by the encoder
+                    return;
+                }
+                template.targets[i] = toSQL.literalTargets.get(i);
+                template.valueClasses[i] = value == null ? null : value.getClass();
+                template.types[i] = toSQL.getLiteralTypes().get(i);
+                template.srids[i] = toSQL.getSRIDs().get(i);
+                template.dimensions[i] = toSQL.getDimensions().get(i);
+                template.descriptors[i] = toSQL.getDescriptors().get(i);
+            }
+
+            int[] inspected = tracked.stream()
+                    .filter(l -> ((TrackedLiteral) l).inspected)
+                    .mapToInt(l -> ((TrackedLiteral) l).ordinal)
+                    .toArray();
+            int[] previous = inspections.putIfAbsent(structure, inspected);
+            if (previous != null) {
+                // the inspected literals depend on the values of the ones inspected first, cache the template only if
+                // its key includes all of them
+                for (int ordinal : inspected) {
+                    if (Arrays.binarySearch(previous, ordinal) < 0) {
+                        return;
+                    }
+                }
+                inspected = previous;
+            }
+            templates.put(variant(structure, inspected, literals), template);
+        }
+    }
+
+    /**
+     * A literal recording whether the filter encoder accessed its value other than for binding it, that is, if the
+     * encoded SQL might depend on it
+     */
+    static final class TrackedLiteral extends LiteralExpressionImpl {
+
+        final Lookup owner;
+
+        final int ordinal;
+
+        boolean tracking;
+
+        boolean binding;
+
+        boolean inspected;
+
+        TrackedLiteral(Object value, Lookup owner, int ordinal) {
+            super(value);
+            this.owner = owner;
+            this.ordinal = ordinal;
+        }
+
+        private void access() {
+            if (tracking && !binding) {
+                inspected = true;
+            }
+        }
+
+        /** Returns the value without recording the access */
+        Object peekValue() {
+            return super.getValue();
+        }
+
+        @Override
+        public Object getValue() {
+            access();
+            return super.getValue();
+        }
+
+        @Override
+        public Object evaluate(Object feature) {
+            access();
+            return super.evaluate(feature);
+        }
+
+        @Override
+        public <T> T evaluate(Object feature, Class<T> context) {
+            access();
+            return super.evaluate(feature, context);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            access();
+            return super.equals(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            access();
+            return super.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            access();
+            return super.toString();
+        }
+    }
+}
@@ -0,0 +1,452 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import org.geotools.geometry.jts.LiteCoordinateSequence;
+import org.geotools.geometry.jts.LiteCoordinateSequenceFactory;
+import org.geotools.geometry.jts.WKBReader;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ByteArrayInStream;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBConstants;
+
+/**
+ * A WKB reader meant to decode the geometry columns of a result set with as little allocation as possible. The
+ * coordinates are decoded straight into the coordinate sequences of the geometry factory, which are created once, with
+ * the dimension declared in the WKB geometry header.
+ * When the factory builds packed sequences ({@link PackedCoordinateSequenceFactory} or
+ * {@link LiteCoordinateSequenceFactory}) the ordinates are read into the array backing the sequence, without creating
+ * any intermediate coordinate object.
+ *
+ * <p>Supports both ISO and PostGIS extended WKB, curved geometries are delegated to the general purpose
+ * {@link WKBReader}. The reader is stateful, and thus not thread safe, use a separate instance per thread.
+ *
+ * <p>The result set columns are read with {@link ResultSet#getBytes} and decoded from the returned array, without
+ * copying it. The drivers of the stores using this reader (PostgreSQL, SQLite and H2) build their
+ * {@link ResultSet#getBinaryStream} on top of the same array, so reading the stream would only add a copy. The
+ * {@link #fill(InputStream)} and {@link #fillBase64} methods copy the data in a buffer reused across rows, for the
+ * sources that actually need decoding or streaming.
+ */
+public class StreamingWKBReader {
+
+    static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /** Signals a curved geometry, that needs to be read by the general purpose reader */
+    private static final class CurvedGeometryException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        CurvedGeometryException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final CurvedGeometryException CURVED = new CurvedGeometryException();
+
+    /** Maps the base64 characters to their six bits value, -1 for characters outside of the alphabet */
+    private static final byte[] BASE64 = new byte[128];
+
+    static {
+        Arrays.fill(BASE64, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+    private GeometryFactory factory;
+
+    private CoordinateSequenceFactory csFactory;
+
+    /** The precision model, or null if floating, in which case there is no need to round the ordinates */
+    private PrecisionModel precisionModel;
+
+    private WKBReader curvedReader;
+
+    // parsing state
+    private byte[] data;
+
+    private int position;
+
+    private int limit;
+
+    private boolean littleEndian;
+
+    public StreamingWKBReader() {
+        this(new GeometryFactory());
+    }
+
+    public StreamingWKBReader(GeometryFactory factory) {
+        setGeometryFactory(factory);
+    }
+
+    /** Sets the factory used to build the geometries */
+    public void setGeometryFactory(GeometryFactory factory) {
+        if (factory != this.factory) {
+            this.factory = factory;
+            this.csFactory = factory.getCoordinateSequenceFactory();
+            this.precisionModel = factory.getPrecisionModel().isFloating() ? null : factory.getPrecisionModel();
+            this.curvedReader = null;
+        }
+    }
+
+    public GeometryFactory getGeometryFactory() {
+        return factory;
+    }
+
+    /**
+     * Returns the buffer holding the bytes read by the last fill operation. The buffer is reused, and possibly
+     * replaced by a larger one, by the following fills.
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Reads the stream contents into the buffer
+     *
+     * @return The number of bytes read, or -1 if the stream is null
+     */
+    public int fill(InputStream is) throws IOException {
+        if (is == null) {
+            return -1;
+        }
+        int length = 0;
+        int read;
+        while ((read = is.read(buffer, length, buffer.length - length)) >= 0) {
+            length += read;
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Decodes base64 encoded contents into the buffer, skipping the line breaks and any other character outside of the
+     * base64 alphabet
+     *
+     * @return The number of bytes decoded
+     */
+    public int fillBase64(byte[] encoded, int length) {
+        // three bytes every four characters, at most
+        int maxLength = (length / 4 + 1) * 3;
+        if (buffer.length < maxLength) {
+            buffer = new byte[Math.max(maxLength, buffer.length * 2)];
+        }
+        return decodeBase64(encoded, length, buffer);
+    }
+
+    /**
+     * Decodes base64 encoded contents into the target array, skipping the line breaks and any other character outside
+     * of the base64 alphabet. The target must be at least three quarters of the source length, it can be the source
+     * itself, as the decoded bytes never overtake the encoded ones.
+     *
+     * @return The number of bytes decoded
+     */
+    public static int decodeBase64(byte[] encoded, int length, byte[] target) {
+        int decoded = 0;
+        int bits = 0;
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            int c = encoded[i];
+            if (c == '=') {
+                break;
+            }
+            int value = c >= 0 ? BASE64[c] : -1;
+            if (value < 0) {
+                continue;
+            }
+            bits = (bits << 6) | value;
+            if (++count == 4) {
+                target[decoded++] = (byte) (bits >> 16);
+                target[decoded++] = (byte) (bits >> 8);
+                target[decoded++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 3) {
+            target[decoded++] = (byte) (bits >> 10);
+            target[decoded++] = (byte) (bits >> 2);
+        } else if (count == 2) {
+            target[decoded++] = (byte) (bits >> 4);
+        }
+        return decoded;
+    }
+
+    /** Reads the geometry stored in a binary column, returns null if the column is null */
+    public Geometry read(ResultSet rs, int column) throws SQLException, IOException {
+        byte[] bytes = rs.getBytes(column);
+        return bytes == null ? null : read(bytes);
+    }
+
+    /** Reads the geometry stored in a binary column, returns null if the column is null */
+    public Geometry read(ResultSet rs, String column) throws SQLException, IOException {
+        byte[] bytes = rs.getBytes(column);
+        return bytes == null ? null : read(bytes);
+    }
+
+    /** Reads a geometry from its WKB representation */
+    public Geometry read(byte[] bytes) throws IOException {
+        return read(bytes, 0, bytes.length);
+    }
+
+    /** Reads a geometry from the WKB representation found in a range of the array, which can be the buffer */
+    public Geometry read(byte[] bytes, int offset, int length) throws IOException {
+        this.data = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+        this.littleEndian = false;
+        try {
+            return readGeometry(0);
+        } catch (CurvedGeometryException e) {
+            return readCurved(bytes, offset, length);
+        } catch (ParseException e) {
+            throw new IOException("An exception occurred while parsing WKB data", e);
+        } finally {
+            this.data = null;
+        }
+    }
+
+    private Geometry readCurved(byte[] bytes, int offset, int length) throws IOException {
+        if (curvedReader == null) {
+            curvedReader = new WKBReader(factory);
+        }
+        byte[] wkb = offset == 0 ? bytes : Arrays.copyOfRange(bytes, offset, offset + length);
+        try {
+            return curvedReader.read(new ByteArrayInStream(wkb));
+        } catch (ParseException e) {
+            throw new IOException("An exception occurred while parsing WKB data", e);
+        }
+    }
+
+    private Geometry readGeometry(int srid) throws ParseException, CurvedGeometryException {
+        byte order = readByte();
+        // lenient like WKBReader, an unknown byte order keeps the one of the parent geometry
+        if (order == WKBConstants.wkbNDR) {
+            littleEndian = true;
+        } else if (order == WKBConstants.wkbXDR) {
+            littleEndian = false;
+        }
+
+        int typeInt = readInt();
+        int geometryType = (typeInt & 0xffff) % 1000;
+        // Z and M flags, either PostGIS EWKB or ISO (1000 range is Z, 2000 is M, 3000 is ZM)
+        int isoDimensions = (typeInt & 0xffff) / 1000;
+        boolean hasZ = (typeInt & 0x80000000) != 0 || isoDimensions == 1 || isoDimensions == 3;
+        boolean hasM = (typeInt & 0x40000000) != 0 || isoDimensions == 2 || isoDimensions == 3;
+        if ((typeInt & 0x20000000) != 0) {
+            srid = readInt();
+        }
+        int dimension = 2 + (hasZ ? 1 : 0) + (hasM ? 1 : 0);
+        int measures = hasM ? 1 : 0;
+
+        Geometry geometry;
+        switch (geometryType) {
+            case WKBConstants.wkbPoint:
+                geometry = readPoint(dimension, measures);
+                break;
+            case WKBConstants.wkbLineString:
+                geometry = factory.createLineString(readLineSequence(dimension, measures));
+                break;
+            case WKBConstants.wkbPolygon:
+                geometry = readPolygon(dimension, measures);
+                break;
+            case WKBConstants.wkbMultiPoint:
+                geometry = factory.createMultiPoint(readComponents(new Point[readCount(5)], srid));
+                break;
+            case WKBConstants.wkbMultiLineString:
+                geometry = factory.createMultiLineString(readComponents(new LineString[readCount(5)], srid));
+                break;
+            case WKBConstants.wkbMultiPolygon:
+                geometry = factory.createMultiPolygon(readComponents(new Polygon[readCount(5)], srid));
+                break;
+            case WKBConstants.wkbGeometryCollection:
+                geometry = factory.createGeometryCollection(readComponents(new Geometry[readCount(5)], srid));
+                break;
+            default:
+                // circular strings, compound curves, curve polygons, multi curves and multi surfaces
+                if (geometryType > WKBConstants.wkbGeometryCollection && geometryType <= 12) {
+                    throw CURVED;
+                }
+                throw new ParseException("Unknown WKB type " + geometryType);
+        }
+        if (srid != 0) {
+            geometry.setSRID(srid);
+        }
+        return geometry;
+    }
+
+    private <T extends Geometry> T[] readComponents(T[] components, int srid)
+            throws ParseException, CurvedGeometryException {
+        Class<?> type = components.getClass().getComponentType();
+        for (int i = 0; i < components.length; i++) {
+            Geometry g = readGeometry(srid);
+            if (!type.isInstance(g)) {
+                throw new ParseException("Invalid geometry type encountered in " + type.getSimpleName() + " array");
+            }
+            @SuppressWarnings("unchecked")
+            T component = (T) g;
+            components[i] = component;
+        }
+        return components;
+    }
+
+    private Point readPoint(int dimension, int measures) throws ParseException {
+        CoordinateSequence cs = readSequence(1, dimension, measures);
+        // a point with NaN ordinates is the WKB representation of the empty point
+        if (Double.isNaN(cs.getX(0)) || Double.isNaN(cs.getY(0))) {
+            return factory.createPoint();
+        }
+        return factory.createPoint(cs);
+    }
+
+    private CoordinateSequence readLineSequence(int dimension, int measures) throws ParseException {
+        int size = readCount(dimension * 8);
+        CoordinateSequence cs = readSequence(size, dimension, measures);
+        if (size == 1) {
+            return CoordinateSequences.extend(csFactory, cs, 2);
+        }
+        return cs;
+    }
+
+    private Polygon readPolygon(int dimension, int measures) throws ParseException {
+        int rings = readCount(4);
+        if (rings == 0) {
+            return factory.createPolygon();
+        }
+        LinearRing shell = readRing(dimension, measures);
+        LinearRing[] holes = new LinearRing[rings - 1];
+        for (int i = 0; i < holes.length; i++) {
+            holes[i] = readRing(dimension, measures);
+        }
+        return factory.createPolygon(shell, holes);
+    }
+
+    private LinearRing readRing(int dimension, int measures) throws ParseException {
+        int size = readCount(dimension * 8);
+        CoordinateSequence cs = readSequence(size, dimension, measures);
+        if (!CoordinateSequences.isRing(cs)) {
+            cs = CoordinateSequences.ensureValidRing(csFactory, cs);
+        }
+        return factory.createLinearRing(cs);
+    }
+
+    private CoordinateSequence readSequence(int size, int dimension, int measures) throws ParseException {
+        if (csFactory instanceof PackedCoordinateSequenceFactory
+                || csFactory instanceof LiteCoordinateSequenceFactory) {
+            double[] ordinates = new double[size * dimension];
+            for (int i = 0; i < ordinates.length; i++) {
+                double value = readDouble();
+                ordinates[i] = precisionModel != null && i % dimension < 2 ? precisionModel.makePrecise(value) : value;
+            }
+            if (csFactory instanceof PackedCoordinateSequenceFactory packed) {
+                return packed.create(ordinates, dimension, measures);
+            }
+            return new LiteCoordinateSequence(ordinates, dimension, measures);
+        }
+
+        CoordinateSequence cs = csFactory.create(size, dimension, measures);
+        int target = Math.min(cs.getDimension(), dimension);
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < dimension; j++) {
+                double value = readDouble();
+                if (j < target) {
+                    cs.setOrdinate(i, j, precisionModel != null && j < 2 ? precisionModel.makePrecise(value) : value);
+                }
+            }
+        }
+        return cs;
+    }
+
+    /** Reads the number of elements of a WKB array, checking they fit in the remaining bytes */
+    private int readCount(int minElementSize) throws ParseException {
+        int count = readInt();
+        if (count < 0 || (long) count * minElementSize > limit - position) {
+            throw new ParseException("Invalid WKB element count " + Integer.toUnsignedString(count));
+        }
+        return count;
+    }
+
+    private void ensure(int bytes) throws ParseException {
+        if (position + bytes > limit) {
+            throw new ParseException("Unexpected end of WKB data at offset " + position);
+        }
+    }
+
+    private byte readByte() throws ParseException {
+        ensure(1);
+        return data[position++];
+    }
+
+    private int readInt() throws ParseException {
+        ensure(4);
+        byte[] d = data;
+        int p = position;
+        position += 4;
+        if (littleEndian) {
+            return (d[p] & 0xff) | (d[p + 1] & 0xff) << 8 | (d[p + 2] & 0xff) << 16 | (d[p + 3] & 0xff) << 24;
+        } else {
+            return (d[p] & 0xff) << 24 | (d[p + 1] & 0xff) << 16 | (d[p + 2] & 0xff) << 8 | (d[p + 3] & 0xff);
+        }
+    }
+
+    private double readDouble() throws ParseException {
+        ensure(8);
+        byte[] d = data;
+        int p = position;
+        position += 8;
+        long bits;
+        if (littleEndian) {
+            bits = (d[p] & 0xffL)
+                    | (d[p + 1] & 0xffL) << 8
+                    | (d[p + 2] & 0xffL) << 16
+                    | (d[p + 3] & 0xffL) << 24
+                    | (d[p + 4] & 0xffL) << 32
+                    | (d[p + 5] & 0xffL) << 40
+                    | (d[p + 6] & 0xffL) << 48
+                    | (d[p + 7] & 0xffL) << 56;
+        } else {
+            bits = (d[p] & 0xffL) << 56
+                    | (d[p + 1] & 0xffL) << 48
+                    | (d[p + 2] & 0xffL) << 40
+                    | (d[p + 3] & 0xffL) << 32
+                    | (d[p + 4] & 0xffL) << 24
+                    | (d[p + 5] & 0xffL) << 16
+                    | (d[p + 6] & 0xffL) << 8
+                    | (d[p + 7] & 0xffL);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+}
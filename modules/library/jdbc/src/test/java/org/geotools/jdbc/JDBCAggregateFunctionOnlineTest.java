@@ -43,6 +43,7 @@
 import org.geotools.feature.visitor.GroupByVisitor;
 import org.geotools.feature.visitor.GroupByVisitorBuilder;
 import org.geotools.feature.visitor.MaxVisitor;
+import org.geotools.feature.visitor.MedianVisitor;
 import org.geotools.feature.visitor.MinVisitor;
 import org.geotools.feature.visitor.NearestVisitor;
 import org.geotools.feature.visitor.StandardDeviationVisitor;
@@ -669,6 +670,22 @@ public void testStandardDeviationWithFilter() throws Exception {
         assertEquals(0.55, v.getResult().toDouble(), 0.01);
     }
 
+    @Test
+    public void testMedian() throws Exception {
+        FilterFactory ff = dataStore.getFilterFactory();
+        PropertyName p = ff.property(aname("doubleProperty"));
+
+        // pushed down only by some databases, the result has to be the same in any case
+        MedianVisitor v = new MedianVisitor(p);
+        dataStore.getFeatureSource(tname("ft1")).accepts(Query.ALL, v, null);
+        assertEquals(1.1, v.getResult().toDouble(), 0.01);
+
+        Filter f = ff.greater(ff.property(aname("doubleProperty")), ff.literal(1));
+        v = new MedianVisitor(p);
+        dataStore.getFeatureSource(tname("ft1")).accepts(new Query(tname("ft1"), f), v, null);
+        assertEquals(1.65, v.getResult().toDouble(), 0.01);
+    }
+
     @Test
     public void testStandardDeviationWithLimitOffset() throws Exception {
         assumeTrue(dataStore.getSQLDialect().isLimitOffsetSupported());
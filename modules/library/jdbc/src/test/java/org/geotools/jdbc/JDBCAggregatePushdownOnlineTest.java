@@ -0,0 +1,186 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.geotools.jdbc.JDBCAggregatePushdownTestSetup.GROUPS;
+import static org.geotools.jdbc.JDBCAggregatePushdownTestSetup.ROWS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.feature.Feature;
+import org.geotools.api.feature.FeatureVisitor;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.feature.visitor.Aggregate;
+import org.geotools.feature.visitor.CalcResult;
+import org.geotools.feature.visitor.GroupByVisitor;
+import org.geotools.feature.visitor.MedianVisitor;
+import org.geotools.feature.visitor.StandardDeviationVisitor;
+import org.junit.Test;
+
+/**
+ * Tests the aggregates pushed down by the dialect, and the streaming of grouped results. The aggregates the dialect
+ * does not register are computed in memory, the results must be the same in both cases.
+ */
+public abstract class JDBCAggregatePushdownOnlineTest extends JDBCTestSupport {
+
+    protected static final String AGGREGATES = "aggregates";
+
+    /** Records whether the visitor had to be run in memory */
+    static class TrackingMedianVisitor extends MedianVisitor {
+
+        boolean visited;
+
+        TrackingMedianVisitor(Expression expression) {
+            super(expression);
+        }
+
+        @Override
+        public void visit(Feature feature) {
+            visited = true;
+            super.visit(feature);
+        }
+    }
+
+    protected FilterFactory ff;
+
+    protected SimpleFeatureSource source;
+
+    @Override
+    protected abstract JDBCAggregatePushdownTestSetup createTestSetup();
+
+    @Override
+    protected void connect() throws Exception {
+        super.connect();
+        ff = dataStore.getFilterFactory();
+        source = dataStore.getFeatureSource(tname(AGGREGATES));
+    }
+
+    @Test
+    public void testMedian() throws Exception {
+        boolean pushedDown = isPushedDown(MedianVisitor.class);
+        TrackingMedianVisitor visitor = new TrackingMedianVisitor(ff.property(aname("value")));
+        source.getFeatures(Query.ALL).accepts(visitor, null);
+        assertEquals(!pushedDown, visitor.visited);
+        assertEquals((ROWS - 1) / 2d, visitor.getResult().toDouble(), 0d);
+
+        visitor = new TrackingMedianVisitor(ff.property(aname("value")));
+        source.getFeatures(lessThan(5)).accepts(visitor, null);
+        assertEquals(!pushedDown, visitor.visited);
+        assertEquals(2d, visitor.getResult().toDouble(), 0d);
+    }
+
+    @Test
+    public void testMedianNotNumeric() throws Exception {
+        // the median of strings is never encoded in SQL, computed in memory
+        TrackingMedianVisitor visitor = new TrackingMedianVisitor(ff.property(aname("name")));
+        source.getFeatures(lessThan(3)).accepts(visitor, null);
+        assertTrue(visitor.visited);
+        assertEquals("f1", visitor.getResult().getValue());
+    }
+
+    @Test
+    public void testGroupByMedian() throws Exception {
+        GroupByVisitor visitor = new GroupByVisitor(
+                Aggregate.MEDIAN, ff.property(aname("value")), List.of(ff.property(aname("grp"))), null);
+        source.getFeatures(Query.ALL).accepts(visitor, null);
+        assertEquals(isPushedDown(MedianVisitor.class), visitor.wasOptimized());
+        assertEquals(!visitor.wasOptimized(), visitor.wasVisited());
+
+        Map<List<Object>, CalcResult> results = ((GroupByVisitor.GroupByResult) visitor.getResult()).getResults();
+        assertEquals(GROUPS, results.size());
+        // each group holds grp, grp + GROUPS, ..., grp + (ROWS / GROUPS - 1) * GROUPS
+        for (int grp = 0; grp < GROUPS; grp++) {
+            double expected = grp + (ROWS / GROUPS - 1) * GROUPS / 2d;
+            assertEquals(expected, results.get(List.of(grp)).toDouble(), 0d);
+        }
+    }
+
+    @Test
+    public void testGroupByExpression() throws Exception {
+        // grouping on an expression goes through a sub-query, using the aliased source column
+        Expression decile = ff.divide(ff.property(aname("grp")), ff.literal(100));
+        GroupByVisitor visitor = new GroupByVisitor(Aggregate.MAX, ff.property(aname("value")), List.of(decile), null);
+        source.getFeatures(Query.ALL).accepts(visitor, null);
+        assertTrue(visitor.wasOptimized());
+        assertFalse(visitor.wasVisited());
+
+        Map<List<Object>, CalcResult> results = ((GroupByVisitor.GroupByResult) visitor.getResult()).getResults();
+        assertEquals(GROUPS / 100, results.size());
+        // decile 0 holds the values whose grp is in [0, 99], that is, i % 1000 < 100
+        CalcResult first = results.get(List.of(0));
+        assertEquals(ROWS - GROUPS + 99, first.toDouble(), 0d);
+    }
+
+    @Test
+    public void testGroupByConsumer() throws Exception {
+        // the groups are handed over while reading the result set, the visitor result stays empty
+        Map<List<Object>, CalcResult> groups = new HashMap<>();
+        GroupByVisitor visitor = new GroupByVisitor(
+                Aggregate.MAX, ff.property(aname("value")), List.of(ff.property(aname("grp"))), null);
+        visitor.setGroupConsumer(groups::put);
+        source.getFeatures(Query.ALL).accepts(visitor, null);
+        assertTrue(visitor.wasOptimized());
+        assertFalse(visitor.wasVisited());
+        assertTrue(((GroupByVisitor.GroupByResult) visitor.getResult()).getResults().isEmpty());
+
+        assertEquals(GROUPS, groups.size());
+        for (int grp = 0; grp < GROUPS; grp++) {
+            assertEquals(ROWS - GROUPS + grp, groups.get(List.of(grp)).toDouble(), 0d);
+        }
+    }
+
+    @Test
+    public void testGroupByCountEmpty() throws Exception {
+        GroupByVisitor visitor = new GroupByVisitor(
+                Aggregate.COUNT, ff.property(aname("value")), List.of(ff.property(aname("grp"))), null);
+        source.getFeatures(lessThan(0)).accepts(visitor, null);
+        assertFalse(visitor.wasVisited());
+        assertTrue(((GroupByVisitor.GroupByResult) visitor.getResult()).getResults().isEmpty());
+    }
+
+    @Test
+    public void testGroupByStandardDeviation() throws Exception {
+        GroupByVisitor visitor = new GroupByVisitor(
+                Aggregate.STD_DEV, ff.property(aname("value")), List.of(ff.property(aname("grp"))), null);
+        source.getFeatures(lessThan(4)).accepts(visitor, null);
+        assertEquals(isPushedDown(StandardDeviationVisitor.class), visitor.wasOptimized());
+        assertEquals(!visitor.wasOptimized(), visitor.wasVisited());
+        Map<List<Object>, CalcResult> results = ((GroupByVisitor.GroupByResult) visitor.getResult()).getResults();
+        assertEquals(4, results.size());
+        for (CalcResult result : results.values()) {
+            assertEquals(0d, result.toDouble(), 0d);
+        }
+    }
+
+    /** Checks if the dialect registers an aggregate function for the visitor */
+    protected boolean isPushedDown(Class<? extends FeatureVisitor> visitor) {
+        Map<Class<? extends FeatureVisitor>, String> aggregates = new HashMap<>();
+        dataStore.getSQLDialect().registerAggregateFunctions(aggregates);
+        return aggregates.containsKey(visitor);
+    }
+
+    private Query lessThan(int value) {
+        return new Query(tname(AGGREGATES), ff.less(ff.property(aname("value")), ff.literal(value)));
+    }
+}
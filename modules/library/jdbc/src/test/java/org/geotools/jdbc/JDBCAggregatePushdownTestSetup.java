@@ -0,0 +1,57 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.sql.SQLException;
+
+public abstract class JDBCAggregatePushdownTestSetup extends JDBCDelegatingTestSetup {
+
+    /** Number of rows in the "aggregates" table */
+    public static final int ROWS = 10000;
+
+    /** Number of distinct values of the "grp" column */
+    public static final int GROUPS = 1000;
+
+    protected JDBCAggregatePushdownTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected final void setUpData() throws Exception {
+        // kill all the data
+        try {
+            dropAggregatesTable();
+        } catch (SQLException e) {
+        }
+
+        // create all the data
+        createAggregatesTable();
+    }
+
+    /**
+     * Creates a table with the following schema:
+     *
+     * <p>aggregates( fid:Integer; name:String; grp:Integer; value:Double )
+     *
+     * <p>The primary key is fid, grp is not nullable. The table should be populated with {@link #ROWS} rows, the row i
+     * having fid i, name "f" + i, grp i % {@link #GROUPS}, and value i.
+     */
+    protected abstract void createAggregatesTable() throws Exception;
+
+    /** Drops the "aggregates" table previously created */
+    protected abstract void dropAggregatesTable() throws Exception;
+}
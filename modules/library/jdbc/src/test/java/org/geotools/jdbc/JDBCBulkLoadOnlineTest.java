@@ -0,0 +1,262 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.data.FeatureEvent;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.identity.FeatureId;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.DefaultTransaction;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.feature.DefaultFeatureCollection;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.util.factory.Hints;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/** Tests the bulk loading path of {@link JDBCFeatureStore#addFeatures} */
+public abstract class JDBCBulkLoadOnlineTest extends JDBCTestSupport {
+
+    protected static final String BULK = "bulk";
+
+    protected static final String BULK_SEQ = "bulk_seq";
+
+    protected static final GeometryFactory GF = new GeometryFactory();
+
+    @Override
+    protected abstract JDBCBulkLoadTestSetup createTestSetup();
+
+    @Test
+    public void testBulkLoad() throws Exception {
+        JDBCFeatureStore store = (JDBCFeatureStore) dataStore.getFeatureSource(tname(BULK));
+        List<FeatureEvent> events = new ArrayList<>();
+        store.addFeatureListener(events::add);
+
+        DefaultFeatureCollection features = buildFeatures(store.getSchema(), 23);
+        List<FeatureId> ids = store.addFeatures((SimpleFeatureCollection) features);
+
+        // the keys follow the existing row
+        assertEquals(23, ids.size());
+        assertEquals(23, events.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(tname(BULK) + "." + (i + 2), ids.get(i).getID());
+        }
+        int i = 0;
+        for (SimpleFeature f : features) {
+            assertEquals(ids.get(i++).getID(), f.getID());
+        }
+        assertFeatures(store, 23);
+    }
+
+    @Test
+    public void testChunks() throws Exception {
+        JDBCFeatureStore store = (JDBCFeatureStore) dataStore.getFeatureSource(tname(BULK));
+        int count = JDBCDataStore.BULK_LOAD_CHUNK_SIZE * 2 + 5;
+        List<FeatureId> ids = store.addFeatures((SimpleFeatureCollection) buildFeatures(store.getSchema(), count));
+
+        assertEquals(count, ids.size());
+        assertEquals(tname(BULK) + "." + (count + 1), ids.get(count - 1).getID());
+        assertFeatures(store, count);
+    }
+
+    @Test
+    public void testConcurrentInsertBetweenChunks() throws Exception {
+        // another writer takes the next key while the second chunk is being read, the keys of the second chunk
+        // are computed after it
+        JDBCFeatureStore store = (JDBCFeatureStore) dataStore.getFeatureSource(tname(BULK));
+        int chunk = JDBCDataStore.BULK_LOAD_CHUNK_SIZE;
+        int count = chunk + 5;
+        DefaultFeatureCollection features = buildFeatures(store.getSchema(), count);
+        SimpleFeatureCollection interleaved = new DefaultFeatureCollection(features) {
+            @Override
+            public SimpleFeatureIterator features() {
+                SimpleFeatureIterator delegate = super.features();
+                return new SimpleFeatureIterator() {
+                    int read = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public SimpleFeature next() {
+                        if (read++ == chunk) {
+                            insertOther(store.getSchema(), chunk + 2);
+                        }
+                        return delegate.next();
+                    }
+
+                    @Override
+                    public void close() {
+                        delegate.close();
+                    }
+                };
+            }
+        };
+
+        List<FeatureId> ids = store.addFeatures(interleaved);
+        assertEquals(count, ids.size());
+        assertEquals(tname(BULK) + "." + (chunk + 1), ids.get(chunk - 1).getID());
+        assertEquals(tname(BULK) + "." + (chunk + 3), ids.get(chunk).getID());
+        assertEquals(tname(BULK) + "." + (count + 2), ids.get(count - 1).getID());
+
+        Map<String, SimpleFeature> byId = readAll(store);
+        assertEquals(count + 2, byId.size());
+        assertEquals("other", byId.get(tname(BULK) + "." + (chunk + 2)).getAttribute(aname("name")));
+    }
+
+    private void insertOther(SimpleFeatureType schema, int fid) {
+        try {
+            JDBCFeatureStore other = (JDBCFeatureStore) dataStore.getFeatureSource(tname(BULK));
+            SimpleFeatureBuilder fb = new SimpleFeatureBuilder(schema);
+            fb.set(aname("name"), "other");
+            fb.set(aname("value"), -1d);
+            SimpleFeature f = fb.buildFeature(tname(BULK) + "." + fid);
+            f.getUserData().put(Hints.USE_PROVIDED_FID, true);
+            other.addFeatures(DataUtilities.collection(f));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    public void testSequencedKeys() throws Exception {
+        // the keys of each chunk are fetched from the sequence before the chunk is sent, on the same connection
+        JDBCFeatureStore store = (JDBCFeatureStore) dataStore.getFeatureSource(tname(BULK_SEQ));
+        int count = JDBCDataStore.BULK_LOAD_CHUNK_SIZE * 2 + 5;
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(store.getSchema());
+        DefaultFeatureCollection features = new DefaultFeatureCollection();
+        for (int i = 0; i < count; i++) {
+            fb.set(aname("name"), "f" + i);
+            fb.set(aname("geom"), GF.createPoint(new Coordinate(i, -i)));
+            features.add(fb.buildFeature(null));
+        }
+
+        try (Transaction tx = new DefaultTransaction()) {
+            store.setTransaction(tx);
+            List<FeatureId> ids = store.addFeatures((SimpleFeatureCollection) features);
+            tx.commit();
+            assertEquals(count, ids.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(tname(BULK_SEQ) + "." + (i + 1), ids.get(i).getID());
+            }
+        }
+        store.setTransaction(Transaction.AUTO_COMMIT);
+
+        Map<String, SimpleFeature> byId = readAll(store);
+        assertEquals(count, byId.size());
+        for (int i = 0; i < count; i++) {
+            SimpleFeature f = byId.get(tname(BULK_SEQ) + "." + (i + 1));
+            assertEquals("f" + i, f.getAttribute(aname("name")));
+            assertTrue(GF.createPoint(new Coordinate(i, -i)).equalsExact((Geometry) f.getDefaultGeometry()));
+        }
+    }
+
+    @Test
+    public void testUseProvidedFid() throws Exception {
+        JDBCFeatureStore store = (JDBCFeatureStore) dataStore.getFeatureSource(tname(BULK));
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(store.getSchema());
+        DefaultFeatureCollection features = new DefaultFeatureCollection();
+        fb.set(aname("name"), "provided");
+        fb.set(aname("value"), 1d);
+        SimpleFeature provided = fb.buildFeature(tname(BULK) + ".100");
+        provided.getUserData().put(Hints.USE_PROVIDED_FID, true);
+        features.add(provided);
+        fb.set(aname("name"), "generated");
+        fb.set(aname("value"), 2d);
+        features.add(fb.buildFeature(null));
+
+        List<FeatureId> ids = store.addFeatures((SimpleFeatureCollection) features);
+        assertEquals(tname(BULK) + ".100", ids.get(0).getID());
+        assertEquals(tname(BULK) + ".2", ids.get(1).getID());
+        assertEquals(3, store.getCount(Query.ALL));
+    }
+
+    @Test
+    public void testRollback() throws Exception {
+        JDBCFeatureStore store = (JDBCFeatureStore) dataStore.getFeatureSource(tname(BULK));
+        try (Transaction tx = new DefaultTransaction()) {
+            store.setTransaction(tx);
+            store.addFeatures((SimpleFeatureCollection) buildFeatures(store.getSchema(), 12));
+            assertEquals(13, store.getCount(Query.ALL));
+            tx.rollback();
+        }
+        store.setTransaction(Transaction.AUTO_COMMIT);
+        assertEquals(1, store.getCount(Query.ALL));
+    }
+
+    private DefaultFeatureCollection buildFeatures(SimpleFeatureType schema, int count) {
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(schema);
+        DefaultFeatureCollection features = new DefaultFeatureCollection();
+        for (int i = 0; i < count; i++) {
+            // mix null and non null values, forcing the rows to change shape
+            fb.set(aname("name"), i % 5 == 0 ? null : "f" + i);
+            fb.set(aname("value"), i * 0.5);
+            fb.set(aname("geom"), i % 4 == 3 ? null : GF.createPoint(new Coordinate(i, -i)));
+            // sorted by id, the ids are padded to keep the insertion order
+            features.add(fb.buildFeature(String.format("new%05d", i)));
+        }
+        return features;
+    }
+
+    private Map<String, SimpleFeature> readAll(JDBCFeatureStore store) throws IOException {
+        Map<String, SimpleFeature> byId = new HashMap<>();
+        try (SimpleFeatureIterator it = store.getFeatures().features()) {
+            while (it.hasNext()) {
+                SimpleFeature f = it.next();
+                byId.put(f.getID(), f);
+            }
+        }
+        return byId;
+    }
+
+    private void assertFeatures(JDBCFeatureStore store, int count) throws IOException {
+        Map<String, SimpleFeature> byId = readAll(store);
+        assertEquals(count + 1, byId.size());
+        for (int i = 0; i < count; i++) {
+            SimpleFeature f = byId.get(tname(BULK) + "." + (i + 2));
+            if (i % 5 == 0) {
+                assertNull(f.getAttribute(aname("name")));
+            } else {
+                assertEquals("f" + i, f.getAttribute(aname("name")));
+            }
+            assertEquals(i * 0.5, ((Number) f.getAttribute(aname("value"))).doubleValue(), 0d);
+            if (i % 4 == 3) {
+                assertNull(f.getDefaultGeometry());
+            } else {
+                assertTrue(GF.createPoint(new Coordinate(i, -i)).equalsExact((Geometry) f.getDefaultGeometry()));
+            }
+        }
+    }
+}
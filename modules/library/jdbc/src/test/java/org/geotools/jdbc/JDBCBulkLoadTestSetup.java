@@ -0,0 +1,68 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.sql.SQLException;
+
+public abstract class JDBCBulkLoadTestSetup extends JDBCDelegatingTestSetup {
+
+    protected JDBCBulkLoadTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected final void setUpData() throws Exception {
+        // kill all the data
+        try {
+            dropBulkTable();
+        } catch (SQLException e) {
+        }
+        try {
+            dropSequencedBulkTable();
+        } catch (SQLException e) {
+        }
+
+        // create all the data
+        createBulkTable();
+        createSequencedBulkTable();
+    }
+
+    /**
+     * Creates a table with the following schema:
+     *
+     * <p>bulk( fid:Integer; name:String; value:Double; geom:Point;srid=4326 )
+     *
+     * <p>The primary key fid is not generated by the database. The table should be populated with the following data: 1
+     * | "existing" | 0.0 | NULL
+     */
+    protected abstract void createBulkTable() throws Exception;
+
+    /** Drops the "bulk" table previously created */
+    protected abstract void dropBulkTable() throws Exception;
+
+    /**
+     * Creates an empty table with the following schema:
+     *
+     * <p>bulk_seq( fid:Integer; name:String; geom:Point;srid=4326 )
+     *
+     * <p>The primary key fid is filled by a sequence.
+     */
+    protected abstract void createSequencedBulkTable() throws Exception;
+
+    /** Drops the "bulk_seq" table previously created, and its sequence */
+    protected abstract void dropSequencedBulkTable() throws Exception;
+}
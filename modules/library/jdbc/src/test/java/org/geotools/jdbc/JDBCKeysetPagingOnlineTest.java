@@ -0,0 +1,164 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.geotools.jdbc.JDBCKeysetPagingTestSetup.ROWS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.sort.SortBy;
+import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.util.factory.Hints;
+import org.junit.Test;
+
+/** Tests keyset pagination */
+public abstract class JDBCKeysetPagingOnlineTest extends JDBCTestSupport {
+
+    protected static final int PAGE = 10;
+
+    protected FilterFactory ff;
+
+    protected JDBCFeatureStore store;
+
+    @Override
+    protected abstract JDBCKeysetPagingTestSetup createTestSetup();
+
+    @Override
+    protected void connect() throws Exception {
+        super.connect();
+        ff = dataStore.getFilterFactory();
+        store = (JDBCFeatureStore) dataStore.getFeatureSource(tname("pages"));
+    }
+
+    @Test
+    public void testNaturalOrder() throws Exception {
+        assertTrue(store.getSupportedHints().contains(Hints.KEYSET_CONTINUATION));
+        Query query = new Query(tname("pages"));
+        query.setSortBy(SortBy.NATURAL_ORDER);
+        List<String> expected = read(query);
+        assertEquals(fid(0), expected.get(0));
+
+        query.setMaxFeatures(PAGE);
+        assertEquals(expected, readKeysetPages(query));
+    }
+
+    @Test
+    public void testSortedOnAttribute() throws Exception {
+        Query query = new Query(tname("pages"));
+        query.setSortBy(ff.sort(aname("grp"), SortOrder.DESCENDING));
+        // the primary key is added to make the sort stable
+        Query stable = new Query(query);
+        stable.setSortBy(ff.sort(aname("grp"), SortOrder.DESCENDING), SortBy.NATURAL_ORDER);
+        List<String> expected = read(stable);
+
+        query.setMaxFeatures(PAGE);
+        assertEquals(expected, readKeysetPages(query));
+    }
+
+    @Test
+    public void testSortedOnReversePrimaryKey() throws Exception {
+        Query query = new Query(tname("pages"));
+        query.setSortBy(SortBy.REVERSE_ORDER);
+        List<String> expected = read(query);
+        assertEquals(fid(ROWS - 1), expected.get(0));
+
+        query.setMaxFeatures(PAGE);
+        assertEquals(expected, readKeysetPages(query));
+    }
+
+    @Test
+    public void testContinuation() throws Exception {
+        Query query = new Query(tname("pages"));
+        query.setSortBy(ff.sort(aname("grp"), SortOrder.ASCENDING));
+        SimpleFeature feature = DataUtilities.first(store.getFeatures(ff.id(ff.featureId(fid(0)))));
+        assertArrayEquals(new Object[] {0, 0}, store.getKeysetContinuation(query, feature));
+
+        // the start index is ignored
+        query.setFilter(ff.less(ff.property(aname("grp")), ff.literal(1)));
+        query.setStartIndex(PAGE);
+        query.setMaxFeatures(2);
+        query.setHints(new Hints(Hints.KEYSET_CONTINUATION, new Object[] {0, 0}));
+        assertEquals(List.of(fid(7), fid(14)), read(query));
+    }
+
+    @Test
+    public void testNullableKey() throws Exception {
+        Query query = new Query(tname("pages"));
+        query.setSortBy(ff.sort(aname("name"), SortOrder.ASCENDING), SortBy.NATURAL_ORDER);
+        SimpleFeature feature = DataUtilities.first(store.getFeatures(query));
+        assertNull(store.getKeysetContinuation(query, feature));
+
+        // the hint is ignored, paging with an offset
+        query.setStartIndex(PAGE);
+        query.setMaxFeatures(PAGE);
+        List<String> expected = read(query);
+        assertEquals(PAGE, expected.size());
+        query.setHints(new Hints(Hints.KEYSET_CONTINUATION, new Object[] {"n0", 0}));
+        assertEquals(expected, read(query));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidContinuation() throws Exception {
+        Query query = new Query(tname("pages"));
+        query.setHints(new Hints(Hints.KEYSET_CONTINUATION, new Object[] {1, 2}));
+        read(query);
+    }
+
+    /** Reads all the pages following the continuation token of the last feature of the previous one */
+    private List<String> readKeysetPages(Query query) throws Exception {
+        List<String> result = new ArrayList<>();
+        Query page = new Query(query);
+        while (true) {
+            List<SimpleFeature> features = new ArrayList<>();
+            try (SimpleFeatureIterator it = store.getFeatures(page).features()) {
+                while (it.hasNext()) {
+                    features.add(it.next());
+                }
+            }
+            features.forEach(f -> result.add(f.getID()));
+            if (features.size() < query.getMaxFeatures()) {
+                break;
+            }
+            Object[] continuation = store.getKeysetContinuation(query, features.get(features.size() - 1));
+            page.setHints(new Hints(Hints.KEYSET_CONTINUATION, continuation));
+        }
+        return result;
+    }
+
+    private List<String> read(Query query) throws Exception {
+        List<String> result = new ArrayList<>();
+        try (SimpleFeatureIterator it = store.getFeatures(query).features()) {
+            while (it.hasNext()) {
+                result.add(it.next().getID());
+            }
+        }
+        return result;
+    }
+
+    private String fid(int fid) {
+        return tname("pages") + "." + fid;
+    }
+}
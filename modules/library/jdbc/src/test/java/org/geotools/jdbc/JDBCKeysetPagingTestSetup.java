@@ -0,0 +1,55 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.sql.SQLException;
+
+public abstract class JDBCKeysetPagingTestSetup extends JDBCDelegatingTestSetup {
+
+    /** Number of rows in the "pages" table */
+    public static final int ROWS = 53;
+
+    protected JDBCKeysetPagingTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected final void setUpData() throws Exception {
+        // kill all the data
+        try {
+            dropPagesTable();
+        } catch (SQLException e) {
+        }
+
+        // create all the data
+        createPagesTable();
+    }
+
+    /**
+     * Creates a table with the following schema:
+     *
+     * <p>pages( fid:Integer; grp:Integer; name:String )
+     *
+     * <p>The primary key is fid, grp is not nullable, name is. The table should be populated with {@link #ROWS} rows,
+     * fid going from 0 to ROWS - 1, grp being fid % 7 and name "n" followed by the fid. The rows are inserted out of
+     * fid order, in the order of (i * 17) % ROWS for i going from 0 to ROWS - 1.
+     */
+    protected abstract void createPagesTable() throws Exception;
+
+    /** Drops the "pages" table previously created */
+    protected abstract void dropPagesTable() throws Exception;
+}
@@ -0,0 +1,94 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.geotools.jdbc.JDBCMetadataPrefetchTestSetup.TABLES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.util.factory.Hints;
+import org.junit.Test;
+import org.locationtech.jts.geom.Point;
+
+/** Tests the background loading of the tables metadata */
+public abstract class JDBCMetadataPrefetchOnlineTest extends JDBCTestSupport {
+
+    @Override
+    protected abstract JDBCMetadataPrefetchTestSetup createTestSetup();
+
+    @Test
+    public void testPrefetch() throws Exception {
+        dataStore.prefetchMetadata(2).get();
+        assertNull(dataStore.prefetchExecutor);
+
+        for (int i = 0; i < TABLES; i++) {
+            JDBCState state = getState(i);
+            assertNotNull(state.getPrimaryKey());
+            assertEquals(aname("fid"), state.getPrimaryKey().getColumns().get(0).getName());
+            // built, and the prefetched columns consumed
+            SimpleFeatureType schema = state.getFeatureType();
+            assertNotNull(schema);
+            assertNull(state.takePrefetchedColumns());
+
+            assertEquals(2, schema.getAttributeCount());
+            assertFalse(schema.getDescriptor(aname("name")).isNillable());
+            assertPoint(schema.getGeometryDescriptor());
+        }
+    }
+
+    @Test
+    public void testFlushed() throws Exception {
+        dataStore.prefetchMetadata(1).get();
+        JDBCState state = getState(0);
+        SimpleFeatureType prefetched = state.getFeatureType();
+        state.flush();
+        assertNull(state.getFeatureType());
+
+        // loaded again from the database, one table at a time, with the same outcome
+        SimpleFeatureType loaded = dataStore.getSchema(tname("prefetch0"));
+        assertEquals(prefetched.getAttributeCount(), loaded.getAttributeCount());
+        assertPoint(loaded.getGeometryDescriptor());
+        assertEquals(prefetched.getGeometryDescriptor().getUserData(), loaded.getGeometryDescriptor().getUserData());
+    }
+
+    @Test
+    public void testNotPrefetched() throws Exception {
+        JDBCState state = getState(0);
+        assertNull(state.takePrefetchedColumns());
+        assertPoint(dataStore.getSchema(tname("prefetch0")).getGeometryDescriptor());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreads() {
+        dataStore.prefetchMetadata(0);
+    }
+
+    JDBCState getState(int table) throws Exception {
+        return ((JDBCFeatureStore) dataStore.getFeatureSource(tname("prefetch" + table))).getState();
+    }
+
+    void assertPoint(GeometryDescriptor geom) {
+        assertEquals(aname("geom"), geom.getLocalName());
+        assertEquals(Point.class, geom.getType().getBinding());
+        assertEquals(4326, geom.getUserData().get(JDBCDataStore.JDBC_NATIVE_SRID));
+        assertEquals(2, geom.getUserData().get(Hints.COORDINATE_DIMENSION));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.sql.SQLException;
+
+public abstract class JDBCMetadataPrefetchTestSetup extends JDBCDelegatingTestSetup {
+
+    /** Number of "prefetch" tables */
+    public static final int TABLES = 5;
+
+    protected JDBCMetadataPrefetchTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected final void setUpData() throws Exception {
+        for (int i = 0; i < TABLES; i++) {
+            // kill all the data
+            try {
+                dropPrefetchTable("prefetch" + i);
+            } catch (SQLException e) {
+            }
+
+            // create all the data
+            createPrefetchTable("prefetch" + i);
+        }
+    }
+
+    /**
+     * Creates a table with the following schema:
+     *
+     * <p>tableName( fid:Integer; name:String; geom:Point )
+     *
+     * <p>The primary key is fid, name is not nullable, and geom is registered as a two dimensional point column in
+     * EPSG:4326. The table can be left empty.
+     */
+    protected abstract void createPrefetchTable(String tableName) throws Exception;
+
+    /** Drops a table previously created by {@link #createPrefetchTable(String)} */
+    protected abstract void dropPrefetchTable(String tableName) throws Exception;
+}
@@ -0,0 +1,230 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.geotools.jdbc.JDBCParallelReadTestSetup.ROWS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.sort.SortBy;
+import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.data.DefaultTransaction;
+import org.geotools.feature.visitor.SumVisitor;
+import org.geotools.feature.visitor.UniqueVisitor;
+import org.geotools.util.factory.Hints;
+import org.junit.Test;
+
+/** Tests the parallel reads of {@link JDBCFeatureSource} */
+public abstract class JDBCParallelReadOnlineTest extends JDBCTestSupport {
+
+    protected static final String PARALLEL = "parallel";
+
+    protected FilterFactory ff;
+
+    @Override
+    protected abstract JDBCParallelReadTestSetup createTestSetup();
+
+    @Override
+    protected void connect() throws Exception {
+        super.connect();
+        ff = dataStore.getFilterFactory();
+    }
+
+    @Test
+    public void testSplitReads() throws Exception {
+        JDBCFeatureSource source = dataStore.getAbsoluteFeatureSource(tname(PARALLEL));
+        List<Filter> partitions = source.splitReads();
+        assertEquals(4, partitions.size());
+
+        // the partitions do not overlap, and cover the whole table
+        int count = 0;
+        for (Filter partition : partitions) {
+            count += source.getCount(new Query(tname(PARALLEL), partition));
+        }
+        assertEquals(ROWS, count);
+
+        // too small to be split
+        dataStore.setParallelReadMinRows(600);
+        assertNull(source.splitReads());
+    }
+
+    @Test
+    public void testReadAll() throws Exception {
+        List<SimpleFeature> features = read(new Query(tname(PARALLEL)), true);
+        assertEquals(ROWS, features.size());
+        Set<String> ids = new HashSet<>();
+        for (SimpleFeature f : features) {
+            ids.add(f.getID());
+        }
+        assertEquals(ROWS, ids.size());
+    }
+
+    @Test
+    public void testReadFiltered() throws Exception {
+        Query query = new Query(tname(PARALLEL), ff.less(ff.property(aname("value")), ff.literal(100)), aname("name"));
+        List<SimpleFeature> features = read(query, true);
+        assertEquals(100, features.size());
+        assertEquals(1, features.get(0).getAttributeCount());
+    }
+
+    @Test
+    public void testPostFilter() throws Exception {
+        // strCapitalize is not encoded in SQL, the filter is evaluated in memory on each partition
+        Filter filter = ff.equals(
+                ff.function("strEndsWith", ff.function("strCapitalize", ff.property(aname("name"))), ff.literal("7")),
+                ff.literal(true));
+        List<SimpleFeature> features = read(new Query(tname(PARALLEL), filter), true);
+        assertEquals(ROWS / 10, features.size());
+    }
+
+    @Test
+    public void testNaturalOrder() throws Exception {
+        Query query = new Query(tname(PARALLEL));
+        query.setSortBy(SortBy.NATURAL_ORDER);
+        List<SimpleFeature> features = read(query, true);
+        assertEquals(ROWS, features.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(tname(PARALLEL) + "." + i, features.get(i).getID());
+        }
+
+        query.setSortBy(SortBy.REVERSE_ORDER);
+        features = read(query, true);
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(tname(PARALLEL) + "." + (ROWS - 1 - i), features.get(i).getID());
+        }
+    }
+
+    @Test
+    public void testMergeSorted() throws Exception {
+        Query query = new Query(tname(PARALLEL));
+        query.setSortBy(ff.sort(aname("value"), SortOrder.DESCENDING));
+        List<SimpleFeature> features = read(query, true);
+        assertEquals(ROWS, features.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(ROWS - 1 - i, ((Number) features.get(i).getAttribute(aname("value"))).intValue());
+        }
+    }
+
+    @Test
+    public void testSequentialReads() throws Exception {
+        // string sorting depends on the database collation
+        Query query = new Query(tname(PARALLEL));
+        query.setSortBy(ff.sort(aname("name"), SortOrder.ASCENDING));
+        assertEquals(ROWS, read(query, false).size());
+
+        // paging
+        query = new Query(tname(PARALLEL));
+        query.setMaxFeatures(10);
+        assertEquals(10, read(query, false).size());
+
+        // transactions
+        try (Transaction t = new DefaultTransaction();
+                FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                        dataStore.getFeatureReader(new Query(tname(PARALLEL)), t)) {
+            assertFalse(reader instanceof ParallelFeatureReader);
+            int count = 0;
+            while (reader.hasNext()) {
+                reader.next();
+                count++;
+            }
+            assertEquals(ROWS, count);
+        }
+    }
+
+    @Test
+    public void testCloseEarly() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                    dataStore.getFeatureReader(new Query(tname(PARALLEL)), Transaction.AUTO_COMMIT)) {
+                assertTrue(reader instanceof ParallelFeatureReader);
+                for (int j = 0; j < 10; j++) {
+                    assertTrue(reader.hasNext());
+                    reader.next();
+                }
+                reader.close();
+                assertFalse(reader.hasNext());
+            }
+        }
+        // still works after the early closes, the connections have been released
+        assertEquals(ROWS, read(new Query(tname(PARALLEL)), true).size());
+    }
+
+    @Test
+    public void testVisitors() throws Exception {
+        JDBCFeatureSource source = dataStore.getAbsoluteFeatureSource(tname(PARALLEL));
+        AtomicInteger tasks = new AtomicInteger();
+        ExecutorService executor =
+                new ThreadPoolExecutor(4, 4, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+                    @Override
+                    public void execute(Runnable command) {
+                        tasks.incrementAndGet();
+                        super.execute(command);
+                    }
+                };
+        try {
+            Query query = new Query(tname(PARALLEL));
+            query.getHints().put(Hints.EXECUTOR_SERVICE, executor);
+
+            // can be encoded in SQL, no need to split
+            SumVisitor sum = new SumVisitor(ff.property(aname("value")));
+            source.getFeatures(query).accepts(sum, null);
+            assertEquals(ROWS * (ROWS - 1) / 2, sum.getResult().toInt());
+            assertEquals(0, tasks.get());
+
+            // uses a function that cannot be encoded, visited in parallel
+            UniqueVisitor unique = new UniqueVisitor(ff.function("strCapitalize", ff.property(aname("name"))));
+            source.getFeatures(query).accepts(unique, null);
+            assertEquals(4, tasks.get());
+            assertEquals(ROWS, unique.getUnique().size());
+            assertTrue(unique.getUnique().contains("F999"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** Reads the features, checking if the reader is a parallel one */
+    protected List<SimpleFeature> read(Query query, boolean parallel) throws IOException {
+        List<SimpleFeature> features = new ArrayList<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                dataStore.getFeatureReader(query, Transaction.AUTO_COMMIT)) {
+            assertEquals(parallel, reader instanceof ParallelFeatureReader);
+            while (reader.hasNext()) {
+                features.add(reader.next());
+            }
+        }
+        return features;
+    }
+}
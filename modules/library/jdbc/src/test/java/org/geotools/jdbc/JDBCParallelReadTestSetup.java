@@ -0,0 +1,61 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.sql.SQLException;
+
+public abstract class JDBCParallelReadTestSetup extends JDBCDelegatingTestSetup {
+
+    /** Number of rows in the "parallel" table */
+    public static final int ROWS = 1000;
+
+    protected JDBCParallelReadTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected final void setUpData() throws Exception {
+        // kill all the data
+        try {
+            dropParallelTable();
+        } catch (SQLException e) {
+        }
+
+        // create all the data
+        createParallelTable();
+    }
+
+    @Override
+    protected void setUpDataStore(JDBCDataStore dataStore) {
+        super.setUpDataStore(dataStore);
+        dataStore.setParallelReadThreads(4);
+        dataStore.setParallelReadMinRows(100);
+    }
+
+    /**
+     * Creates a table with the following schema:
+     *
+     * <p>parallel( fid:Integer; name:String; value:Integer )
+     *
+     * <p>The primary key is fid, value is not nullable. The table should be populated with {@link #ROWS} rows, the row
+     * i having fid i, name "f" + i, and value (i * 7919) % {@link #ROWS}, which is not correlated with the key.
+     */
+    protected abstract void createParallelTable() throws Exception;
+
+    /** Drops the "parallel" table previously created */
+    protected abstract void dropParallelTable() throws Exception;
+}
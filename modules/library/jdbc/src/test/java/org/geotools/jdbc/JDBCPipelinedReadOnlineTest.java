@@ -0,0 +1,212 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.geotools.jdbc.JDBCPipelinedReadTestSetup.ROWS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.sort.SortBy;
+import org.geotools.data.util.ScreenMap;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.referencing.operation.transform.AffineTransform2D;
+import org.geotools.util.factory.Hints;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Point;
+
+/** Tests the pipelined geometry decoding of {@link PipelinedFeatureReader} */
+public abstract class JDBCPipelinedReadOnlineTest extends JDBCTestSupport {
+
+    protected static final String PIPELINED = "pipelined";
+
+    @Override
+    protected abstract JDBCPipelinedReadTestSetup createTestSetup();
+
+    @Test
+    public void testPipelinedRead() throws Exception {
+        assertFeatures(read(new Query(tname(PIPELINED)), true));
+    }
+
+    @Test
+    public void testSequentialRead() throws Exception {
+        dataStore.setDecodeThreads(0);
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = openReader(new Query(tname(PIPELINED)))) {
+            assertFalse(reader instanceof PipelinedFeatureReader);
+        }
+        assertFeatures(read(new Query(tname(PIPELINED)), false));
+    }
+
+    @Test
+    public void testNoGeometries() throws Exception {
+        Query query = new Query(tname(PIPELINED), Filter.INCLUDE, aname("name"));
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = openReader(query)) {
+            assertFalse(((PipelinedFeatureReader) reader).isPipelined());
+            int count = 0;
+            while (reader.hasNext()) {
+                assertEquals(1, reader.next().getAttributeCount());
+                count++;
+            }
+            assertEquals(ROWS, count);
+        }
+    }
+
+    @Test
+    public void testCloseEarly() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = openReader(new Query(tname(PIPELINED)))) {
+                for (int j = 0; j < 10; j++) {
+                    assertTrue(reader.hasNext());
+                    assertEquals(tname(PIPELINED) + "." + j, reader.next().getID());
+                }
+            }
+        }
+        // closing without reading, the background thread is never started
+        openReader(new Query(tname(PIPELINED))).close();
+
+        // still works after the early closes
+        assertFeatures(read(new Query(tname(PIPELINED)), true));
+    }
+
+    /** The screen map checks skip the same features as the sequential reader does */
+    @Test
+    public void testScreenMap() throws Exception {
+        List<String> pipelined = readIds(screenMapQuery(), true);
+        dataStore.setDecodeThreads(0);
+        List<String> sequential = readIds(screenMapQuery(), false);
+
+        assertEquals(sequential, pipelined);
+        assertTrue(pipelined.size() > 0);
+        assertTrue(pipelined.size() < ROWS - ROWS / 10);
+    }
+
+    /** Once the screen map area is full the reader stops, rather than skipping all the remaining points */
+    @Test
+    public void testScreenMapFull() throws Exception {
+        assertScreenMapFull(true);
+        dataStore.setDecodeThreads(0);
+        assertScreenMapFull(false);
+    }
+
+    private void assertScreenMapFull(boolean pipelined) throws IOException {
+        // all the points in the filter area fall in a single pixel
+        ScreenMap screenMap = new ScreenMap(0, 0, 1, 1, new AffineTransform2D(0.001, 0, 0, -0.001, 0, 0));
+        screenMap.setSpans(0.001, 0.001);
+        Filter bbox = CommonFactoryFinder.getFilterFactory().bbox(aname("geom"), 0, -999, 999, 0, "EPSG:4326");
+        Query query = new Query(tname(PIPELINED), bbox);
+        query.setHints(new Hints(Hints.SCREENMAP, screenMap));
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = openReader(query)) {
+            assertEquals(pipelined, reader instanceof PipelinedFeatureReader pfr && pfr.isPipelined());
+            assertTrue(reader.hasNext());
+            assertEquals(tname(PIPELINED) + ".1", reader.next().getID());
+            assertFalse(reader.hasNext());
+
+            JDBCFeatureReader jdbcReader = (JDBCFeatureReader) reader;
+            assertTrue(jdbcReader.screenMapFull);
+            assertEquals(JDBCFeatureReader.SCREENMAP_CHECK_INTERVAL, jdbcReader.screenMapSkips);
+        }
+    }
+
+    /** A background thread interrupted while the queue is full makes the reader fail, rather than hang */
+    @Test(timeout = 60000)
+    public void testProducerInterrupted() throws Exception {
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = openReader(new Query(tname(PIPELINED)))) {
+            PipelinedFeatureReader pipelined = (PipelinedFeatureReader) reader;
+            assertTrue(pipelined.hasNext());
+            while (!pipelined.isQueueFull()) {
+                Thread.sleep(10);
+            }
+            dataStore.getParallelReadExecutor().shutdownNow();
+
+            int count = 0;
+            try {
+                while (reader.hasNext()) {
+                    reader.next();
+                    count++;
+                }
+                fail("The reader should have reported the interruption");
+            } catch (IOException e) {
+                assertTrue(count < ROWS);
+            }
+        }
+    }
+
+    private Query screenMapQuery() {
+        // maps the points on the diagonal of a 10x10 pixels screen
+        ScreenMap screenMap = new ScreenMap(0, 0, 10, 10, new AffineTransform2D(0.01, 0, 0, -0.01, 0, 0));
+        screenMap.setSpans(1, 1);
+        Query query = new Query(tname(PIPELINED));
+        query.setHints(new Hints(Hints.SCREENMAP, screenMap));
+        return query;
+    }
+
+    private FeatureReader<SimpleFeatureType, SimpleFeature> openReader(Query query) throws IOException {
+        query.setSortBy(SortBy.NATURAL_ORDER);
+        return dataStore.getFeatureReader(query, Transaction.AUTO_COMMIT);
+    }
+
+    private List<SimpleFeature> read(Query query, boolean pipelined) throws IOException {
+        List<SimpleFeature> features = new ArrayList<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = openReader(query)) {
+            if (reader instanceof PipelinedFeatureReader pfr) {
+                assertEquals(pipelined, pfr.isPipelined());
+            } else {
+                assertFalse(pipelined);
+            }
+            while (reader.hasNext()) {
+                features.add(reader.next());
+            }
+            assertFalse(reader.hasNext());
+        }
+        return features;
+    }
+
+    private List<String> readIds(Query query, boolean pipelined) throws IOException {
+        List<String> ids = new ArrayList<>();
+        for (SimpleFeature feature : read(query, pipelined)) {
+            ids.add(feature.getID());
+        }
+        return ids;
+    }
+
+    private void assertFeatures(List<SimpleFeature> features) {
+        assertEquals(ROWS, features.size());
+        for (int i = 0; i < ROWS; i++) {
+            SimpleFeature f = features.get(i);
+            assertEquals(tname(PIPELINED) + "." + i, f.getID());
+            assertEquals("f" + i, f.getAttribute(aname("name")));
+            Point p = (Point) f.getDefaultGeometry();
+            if (i % 10 == 0) {
+                assertNull(p);
+            } else {
+                assertEquals(new Coordinate(i, -i), p.getCoordinate());
+            }
+        }
+    }
+}
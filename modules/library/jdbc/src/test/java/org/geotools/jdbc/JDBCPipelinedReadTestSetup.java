@@ -0,0 +1,60 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.sql.SQLException;
+
+public abstract class JDBCPipelinedReadTestSetup extends JDBCDelegatingTestSetup {
+
+    /** Number of rows in the "pipelined" table */
+    public static final int ROWS = 1000;
+
+    protected JDBCPipelinedReadTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected final void setUpData() throws Exception {
+        // kill all the data
+        try {
+            dropPipelinedTable();
+        } catch (SQLException e) {
+        }
+
+        // create all the data
+        createPipelinedTable();
+    }
+
+    @Override
+    protected void setUpDataStore(JDBCDataStore dataStore) {
+        super.setUpDataStore(dataStore);
+        dataStore.setDecodeThreads(3);
+    }
+
+    /**
+     * Creates a table with the following schema:
+     *
+     * <p>pipelined( fid:Integer; name:String; geom:Point;srid=4326 )
+     *
+     * <p>The table should be populated with {@link #ROWS} rows, for i in [0, ROWS): i | "f" + i | POINT(i -i), the
+     * geometry being null when i is a multiple of 10. The primary key is fid.
+     */
+    protected abstract void createPipelinedTable() throws Exception;
+
+    /** Drops the "pipelined" table previously created */
+    protected abstract void dropPipelinedTable() throws Exception;
+}
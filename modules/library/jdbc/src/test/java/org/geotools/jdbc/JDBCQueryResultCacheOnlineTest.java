@@ -0,0 +1,196 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.geotools.jdbc.JDBCQueryResultCacheTestSetup.ROWS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import org.geotools.api.data.FeatureWriter;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.DefaultTransaction;
+import org.geotools.data.store.QueryResultCache;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.util.factory.Hints;
+import org.junit.Test;
+
+/** Tests the caching of counts, and their invalidation */
+public abstract class JDBCQueryResultCacheOnlineTest extends JDBCTestSupport {
+
+    protected static final String RESULTS = "results";
+
+    protected static final String VALUE = "value";
+
+    protected SimpleFeatureStore store;
+
+    protected QueryResultCache cache;
+
+    @Override
+    protected abstract JDBCQueryResultCacheTestSetup createTestSetup();
+
+    @Override
+    protected void connect() throws Exception {
+        super.connect();
+        store = (SimpleFeatureStore) dataStore.getFeatureSource(tname(RESULTS));
+        cache = ((JDBCFeatureStore) store).getState().getQueryResultCache();
+    }
+
+    @Test
+    public void testCached() throws Exception {
+        Query query = lessThan(10);
+        assertEquals(10, store.getCount(query));
+        assertEquals(10, store.getCount(query));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // modified bypassing the store, the cache does not notice
+        ((JDBCQueryResultCacheTestSetup) setup).insertResult(-1);
+        assertEquals(10, store.getCount(query));
+        assertEquals(ROWS + 1, store.getCount(Query.ALL));
+    }
+
+    @Test
+    public void testInvalidatedByWrites() throws Exception {
+        Query query = lessThan(10);
+        assertEquals(10, store.getCount(query));
+        store.addFeatures(DataUtilities.collection(feature(-1)));
+        assertEquals(11, store.getCount(query));
+
+        store.removeFeatures(lessThan(5).getFilter());
+        assertEquals(5, store.getCount(query));
+
+        store.modifyFeatures(aname(VALUE), 100, lessThan(7).getFilter());
+        assertEquals(3, store.getCount(query));
+        assertEquals(0, cache.getHits());
+    }
+
+    /** The edits made through a feature writer, with no listeners around, invalidate the cache as well */
+    @Test
+    public void testInvalidatedByFeatureWriter() throws Exception {
+        Query query = lessThan(10);
+        assertEquals(10, store.getCount(query));
+
+        // remove
+        try (FeatureWriter<SimpleFeatureType, SimpleFeature> writer =
+                dataStore.getFeatureWriter(tname(RESULTS), lessThan(2).getFilter(), Transaction.AUTO_COMMIT)) {
+            while (writer.hasNext()) {
+                writer.next();
+                writer.remove();
+            }
+        }
+        assertEquals(8, store.getCount(query));
+
+        // update
+        try (FeatureWriter<SimpleFeatureType, SimpleFeature> writer =
+                dataStore.getFeatureWriter(tname(RESULTS), lessThan(4).getFilter(), Transaction.AUTO_COMMIT)) {
+            while (writer.hasNext()) {
+                writer.next().setAttribute(aname(VALUE), 100);
+                writer.write();
+            }
+        }
+        assertEquals(6, store.getCount(query));
+
+        // append
+        try (FeatureWriter<SimpleFeatureType, SimpleFeature> writer =
+                dataStore.getFeatureWriterAppend(tname(RESULTS), Transaction.AUTO_COMMIT)) {
+            writer.next().setAttribute(aname(VALUE), -1);
+            writer.write();
+        }
+        assertEquals(7, store.getCount(query));
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testInvalidatedByCommit() throws Exception {
+        Query query = lessThan(10);
+        assertEquals(10, store.getCount(query));
+
+        try (Transaction tx = new DefaultTransaction()) {
+            SimpleFeatureStore txStore = (SimpleFeatureStore) dataStore.getFeatureSource(tname(RESULTS), tx);
+            txStore.addFeatures(DataUtilities.collection(feature(-1)));
+            // not cached within the transaction
+            assertEquals(11, txStore.getCount(query));
+            assertEquals(11, txStore.getCount(query));
+            assertEquals(10, store.getCount(query));
+            tx.commit();
+        }
+        assertEquals(11, store.getCount(query));
+    }
+
+    @Test
+    public void testInvalidatedByRollback() throws Exception {
+        Query query = lessThan(10);
+        try (Transaction tx = new DefaultTransaction()) {
+            SimpleFeatureStore txStore = (SimpleFeatureStore) dataStore.getFeatureSource(tname(RESULTS), tx);
+            txStore.addFeatures(DataUtilities.collection(feature(-1)));
+            tx.rollback();
+        }
+        assertEquals(10, store.getCount(query));
+        assertEquals(10, store.getCount(query));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testEstimatedCount() throws Exception {
+        Query query = new Query(tname(RESULTS));
+        query.setHints(new Hints(Hints.ESTIMATED_RESULT, true));
+        assertTrue(store.getSupportedHints().contains(Hints.ESTIMATED_RESULT));
+        // either estimated from fresh statistics, or counted if the database keeps none
+        assertEquals(ROWS, store.getCount(query));
+        assertEquals(ROWS, store.getCount(Query.ALL));
+        // cached separately from the exact count
+        assertEquals(2, cache.getMisses());
+
+        // only full table counts can be estimated
+        query.setFilter(lessThan(10).getFilter());
+        assertEquals(10, store.getCount(query));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        assertEquals(10, dataStore.getQueryResultCacheSize());
+        JDBCDataStore other = setup.createDataStoreFactory().createDataStore(createDataStoreFactoryParams());
+        try {
+            JDBCFeatureStore source = (JDBCFeatureStore) other.getFeatureSource(tname(RESULTS));
+            assertNull(source.getState().getQueryResultCache());
+            assertEquals(ROWS, source.getCount(Query.ALL));
+        } finally {
+            other.dispose();
+        }
+    }
+
+    private Query lessThan(int value) {
+        FilterFactory ff = dataStore.getFilterFactory();
+        Filter filter = ff.less(ff.property(aname(VALUE)), ff.literal(value));
+        return new Query(tname(RESULTS), filter);
+    }
+
+    private SimpleFeature feature(int value) throws IOException {
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(store.getSchema());
+        fb.set(aname(VALUE), value);
+        return fb.buildFeature(null);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.sql.SQLException;
+
+public abstract class JDBCQueryResultCacheTestSetup extends JDBCDelegatingTestSetup {
+
+    /** Number of rows in the "results" table */
+    public static final int ROWS = 100;
+
+    protected JDBCQueryResultCacheTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected final void setUpData() throws Exception {
+        // kill all the data
+        try {
+            dropResultsTable();
+        } catch (SQLException e) {
+        }
+
+        // create all the data
+        createResultsTable();
+        updateStatistics();
+    }
+
+    @Override
+    protected void setUpDataStore(JDBCDataStore dataStore) {
+        super.setUpDataStore(dataStore);
+        dataStore.setQueryResultCacheSize(10);
+    }
+
+    /**
+     * Creates a table with the following schema:
+     *
+     * <p>results( fid:Integer; value:Integer )
+     *
+     * <p>The primary key fid is generated by the database. The table should be populated with {@link #ROWS} rows, the
+     * values going from 0 to ROWS - 1.
+     */
+    protected abstract void createResultsTable() throws Exception;
+
+    /** Drops the "results" table previously created */
+    protected abstract void dropResultsTable() throws Exception;
+
+    /** Inserts a row in the "results" table, bypassing the data store */
+    protected abstract void insertResult(int value) throws Exception;
+
+    /**
+     * Updates the table statistics used to estimate the row count, if the database keeps any, see
+     * {@link SQLDialect#getEstimatedCount(String, org.geotools.api.feature.simple.SimpleFeatureType,
+     * java.sql.Connection)}
+     */
+    protected void updateStatistics() throws Exception {
+        // nothing to do by default
+    }
+}
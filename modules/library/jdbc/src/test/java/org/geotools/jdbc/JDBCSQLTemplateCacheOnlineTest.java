@@ -0,0 +1,189 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.geotools.jdbc.JDBCSQLTemplateCacheTestSetup.ROWS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.sort.SortOrder;
+import org.junit.Test;
+
+/** Tests the reuse of the SQL of structurally identical queries */
+public abstract class JDBCSQLTemplateCacheOnlineTest extends JDBCTestSupport {
+
+    protected static final String TEMPLATES = "templates";
+
+    protected FilterFactory ff;
+
+    protected SQLTemplateCache cache;
+
+    @Override
+    protected abstract JDBCSQLTemplateCacheTestSetup createTestSetup();
+
+    @Override
+    protected void connect() throws Exception {
+        super.connect();
+        ff = dataStore.getFilterFactory();
+        cache = dataStore.getSQLTemplateCache();
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            Filter filter = ff.and(
+                    ff.greaterOrEqual(ff.property(aname("value")), ff.literal(i * 10)),
+                    ff.less(ff.property(aname("value")), ff.literal(i * 10 + 5)));
+            List<SimpleFeature> features = read(query(filter));
+            assertEquals(5, features.size());
+            assertEquals(tname(TEMPLATES) + "." + (i * 10), features.get(0).getID());
+        }
+        assertEquals(1, cache.getMisses());
+        assertEquals(4, cache.getHits());
+        assertEquals(1, cache.size());
+
+        // no filter at all
+        assertEquals(ROWS, read(query(Filter.INCLUDE)).size());
+        assertEquals(ROWS, read(query(Filter.INCLUDE)).size());
+        assertEquals(2, cache.getMisses());
+        assertEquals(5, cache.getHits());
+    }
+
+    @Test
+    public void testStructure() throws Exception {
+        Filter filter = ff.less(ff.property(aname("value")), ff.literal(10));
+        assertEquals(10, read(query(filter)).size());
+        // different literal type
+        assertEquals(10, read(query(ff.less(ff.property(aname("value")), ff.literal(10L)))).size());
+        // different properties
+        Query names = query(filter);
+        names.setPropertyNames(aname("name"));
+        assertEquals(10, read(names).size());
+        // different sorting
+        Query sorted = query(filter);
+        sorted.setSortBy(ff.sort(aname("value"), SortOrder.DESCENDING));
+        List<SimpleFeature> features = read(sorted);
+        assertEquals(tname(TEMPLATES) + ".9", features.get(0).getID());
+        // different paging
+        Query paged = query(filter);
+        paged.setMaxFeatures(3);
+        assertEquals(3, read(paged).size());
+        paged.setMaxFeatures(4);
+        assertEquals(4, read(paged).size());
+
+        assertEquals(6, cache.getMisses());
+        assertEquals(0, cache.getHits());
+
+        sorted.setFilter(ff.less(ff.property(aname("value")), ff.literal(5)));
+        features = read(sorted);
+        assertEquals(5, features.size());
+        assertEquals(tname(TEMPLATES) + ".4", features.get(0).getID());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testBBOX() throws Exception {
+        // map tiles, each one holding 5 points
+        for (int i = 0; i < 3; i++) {
+            double min = i * 10 - 0.5;
+            double max = i * 10 + 4.5;
+            List<SimpleFeature> features =
+                    read(query(ff.bbox(aname("geom"), min, min, max, max, "EPSG:4326")));
+            assertEquals(5, features.size());
+            assertEquals(tname(TEMPLATES) + "." + (i * 10), features.get(0).getID());
+        }
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testIds() throws Exception {
+        Filter filter = ff.id(Set.of(ff.featureId(tname(TEMPLATES) + ".1")));
+        assertEquals(1, read(query(filter)).size());
+        assertEquals(1, read(query(filter)).size());
+        filter = ff.id(Set.of(ff.featureId(tname(TEMPLATES) + ".2")));
+        List<SimpleFeature> features = read(query(filter));
+        assertEquals(tname(TEMPLATES) + ".2", features.get(0).getID());
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testNotCacheable() throws Exception {
+        // arithmetic is encoded in SQL, but not handled by the cache
+        Filter filter = ff.less(ff.add(ff.property(aname("value")), ff.literal(90)), ff.literal(100));
+        assertEquals(10, read(query(filter)).size());
+        assertEquals(10, read(query(filter)).size());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            Query query = query(ff.less(ff.property(aname("value")), ff.literal(50)));
+            query.setMaxFeatures(i + 1);
+            assertEquals(i + 1, read(query).size());
+        }
+        assertEquals(10, cache.size());
+        assertEquals(20, cache.getMisses());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testDisable() throws Exception {
+        assertEquals(10, dataStore.getSQLTemplateCacheSize());
+        dataStore.setSQLTemplateCacheSize(0);
+        assertNull(dataStore.getSQLTemplateCache());
+        assertEquals(0, dataStore.getSQLTemplateCacheSize());
+        assertEquals(10, read(query(ff.less(ff.property(aname("value")), ff.literal(10)))).size());
+    }
+
+    /** A query on the "templates" table, sorted by value */
+    protected Query query(Filter filter) {
+        Query query = new Query(tname(TEMPLATES), filter);
+        query.setSortBy(ff.sort(aname("value"), SortOrder.ASCENDING));
+        return query;
+    }
+
+    protected List<SimpleFeature> read(Query query) throws IOException {
+        List<SimpleFeature> features = new ArrayList<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                dataStore.getFeatureReader(query, Transaction.AUTO_COMMIT)) {
+            while (reader.hasNext()) {
+                features.add(reader.next());
+            }
+        }
+        return features;
+    }
+}
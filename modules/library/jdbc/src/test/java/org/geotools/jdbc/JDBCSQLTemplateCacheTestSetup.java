@@ -0,0 +1,60 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.sql.SQLException;
+
+public abstract class JDBCSQLTemplateCacheTestSetup extends JDBCDelegatingTestSetup {
+
+    /** Number of rows in the "templates" table */
+    public static final int ROWS = 100;
+
+    protected JDBCSQLTemplateCacheTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected final void setUpData() throws Exception {
+        // kill all the data
+        try {
+            dropTemplatesTable();
+        } catch (SQLException e) {
+        }
+
+        // create all the data
+        createTemplatesTable();
+    }
+
+    @Override
+    protected void setUpDataStore(JDBCDataStore dataStore) {
+        super.setUpDataStore(dataStore);
+        dataStore.setSQLTemplateCacheSize(10);
+    }
+
+    /**
+     * Creates a table with the following schema:
+     *
+     * <p>templates( fid:Integer; name:String; value:Integer; geom:Point;srid=4326 )
+     *
+     * <p>The table should be populated with {@link #ROWS} rows, the row i having fid i, name "f" + i, value i, and
+     * geometry POINT(i i).
+     */
+    protected abstract void createTemplatesTable() throws Exception;
+
+    /** Drops the "templates" table previously created */
+    protected abstract void dropTemplatesTable() throws Exception;
+}
@@ -0,0 +1,45 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class SQLDialectEscapeNameTest {
+
+    @Test
+    public void testEscapedNames() {
+        String[] escape = {"\""};
+        SQLDialect dialect = new JDBCSQLTemplateCacheTest.InliningDialect(new JDBCDataStore()) {
+            @Override
+            public String getNameEscape() {
+                return escape[0];
+            }
+        };
+        assertEquals("\"name\"", dialect.escapeName("name"));
+        assertSame(dialect.escapeName("name"), dialect.escapeName("name"));
+        assertEquals("\"a\"\"b\"", dialect.escapeName("a\"b"));
+
+        // a different escape invalidates the memoized names
+        escape[0] = "`";
+        assertEquals("`name`", dialect.escapeName("name"));
+        escape[0] = "";
+        assertEquals("name", dialect.escapeName("name"));
+    }
+}
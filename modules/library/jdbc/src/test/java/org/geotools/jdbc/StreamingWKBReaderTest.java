@@ -0,0 +1,253 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.Random;
+import org.geotools.geometry.jts.CircularString;
+import org.geotools.geometry.jts.LiteCoordinateSequence;
+import org.geotools.geometry.jts.LiteCoordinateSequenceFactory;
+import org.geotools.geometry.jts.WKBReader;
+import org.geotools.geometry.jts.WKTReader2;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.Ordinate;
+import org.locationtech.jts.io.WKBWriter;
+import org.locationtech.jts.io.WKTReader;
+
+public class StreamingWKBReaderTest {
+
+    static final String[] WKTS = {
+        "POINT (1 2)",
+        "POINT EMPTY",
+        "LINESTRING (0 0, 10 10, 20 0)",
+        "LINESTRING EMPTY",
+        "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 4, 4 4, 4 2, 2 2))",
+        "POLYGON EMPTY",
+        "MULTIPOINT ((1 1), (2 2))",
+        "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3, 4 4))",
+        "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)))",
+        "GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1), POLYGON ((0 0, 1 0, 1 1, 0 0)))",
+        "POINT Z (1 2 3)",
+        "LINESTRING Z (0 0 1, 10 10 2)",
+        "POLYGON Z ((0 0 1, 10 0 2, 10 10 3, 0 0 1))",
+        "LINESTRING M (0 0 1, 10 10 2)",
+        "LINESTRING ZM (0 0 1 5, 10 10 2 6)"
+    };
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        StreamingWKBReader reader = new StreamingWKBReader();
+        WKTReader wktReader = new WKTReader();
+        for (String wkt : WKTS) {
+            Geometry expected = wktReader.read(wkt);
+            for (int byteOrder : new int[] {ByteOrderValues.BIG_ENDIAN, ByteOrderValues.LITTLE_ENDIAN}) {
+                WKBWriter writer = writer(wkt, byteOrder);
+                Geometry actual = reader.read(writer.write(expected));
+                assertTrue(wkt, expected.equalsExact(actual));
+                assertEquals(wkt, expected.getGeometryType(), actual.getGeometryType());
+            }
+        }
+    }
+
+    private static WKBWriter writer(String wkt, int byteOrder) {
+        int dimension = wkt.contains(" ZM ") ? 4 : wkt.contains(" Z ") || wkt.contains(" M ") ? 3 : 2;
+        WKBWriter writer = new WKBWriter(dimension, byteOrder);
+        if (wkt.contains(" M ")) {
+            writer.setOutputOrdinates(EnumSet.of(Ordinate.X, Ordinate.Y, Ordinate.M));
+        }
+        return writer;
+    }
+
+    @Test
+    public void testOrdinates() throws Exception {
+        StreamingWKBReader reader = new StreamingWKBReader();
+        String wkt = "LINESTRING ZM (0 1 2 3, 4 5 6 7)";
+        LineString ls =
+                (LineString) reader.read(writer(wkt, ByteOrderValues.BIG_ENDIAN).write(new WKTReader().read(wkt)));
+        assertEquals(4, ls.getCoordinateSequence().getDimension());
+        assertEquals(1, ls.getCoordinateSequence().getMeasures());
+        assertEquals(6, ls.getCoordinateSequence().getZ(1), 0d);
+        assertEquals(7, ls.getCoordinateSequence().getM(1), 0d);
+
+        wkt = "LINESTRING M (0 1 2, 4 5 6)";
+        ls = (LineString) reader.read(writer(wkt, ByteOrderValues.BIG_ENDIAN).write(new WKTReader().read(wkt)));
+        assertEquals(3, ls.getCoordinateSequence().getDimension());
+        assertEquals(1, ls.getCoordinateSequence().getMeasures());
+        assertEquals(6, ls.getCoordinateSequence().getM(1), 0d);
+    }
+
+    @Test
+    public void testPackedSequences() throws Exception {
+        Geometry expected = new WKTReader().read(WKTS[4]);
+        byte[] wkb = new WKBWriter().write(expected);
+
+        StreamingWKBReader reader =
+                new StreamingWKBReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+        Polygon polygon = (Polygon) reader.read(wkb);
+        assertTrue(polygon.getExteriorRing().getCoordinateSequence() instanceof PackedCoordinateSequence.Double);
+        assertTrue(expected.equalsExact(polygon));
+
+        reader.setGeometryFactory(new GeometryFactory(new LiteCoordinateSequenceFactory()));
+        polygon = (Polygon) reader.read(wkb);
+        assertTrue(polygon.getExteriorRing().getCoordinateSequence() instanceof LiteCoordinateSequence);
+        assertTrue(expected.equalsExact(polygon));
+    }
+
+    @Test
+    public void testPrecisionModel() throws Exception {
+        byte[] wkb = new WKBWriter().write(new WKTReader().read("POINT (1.26 2.74)"));
+        StreamingWKBReader reader = new StreamingWKBReader(new GeometryFactory(new PrecisionModel(10)));
+        Point p = (Point) reader.read(wkb);
+        assertEquals(1.3, p.getX(), 1e-9);
+        assertEquals(2.7, p.getY(), 1e-9);
+    }
+
+    @Test
+    public void testExtendedWKB() throws Exception {
+        Geometry expected = new WKTReader().read("MULTIPOINT ((1 1 1), (2 2 2))");
+        expected.setSRID(4326);
+        byte[] wkb = new WKBWriter(3, true).write(expected);
+        Geometry actual = new StreamingWKBReader().read(wkb);
+        assertTrue(expected.equalsExact(actual));
+        assertEquals(4326, actual.getSRID());
+        assertEquals(4326, actual.getGeometryN(1).getSRID());
+    }
+
+    @Test
+    public void testNonStrict() throws Exception {
+        // a single point line, and an unclosed ring, fixed as the general purpose reader does
+        byte[] line = WKBReader.hexToBytes("0000000002000000013FF00000000000004000000000000000");
+        LineString ls = (LineString) new StreamingWKBReader().read(line);
+        assertEquals(2, ls.getNumPoints());
+
+        Geometry closed = new WKTReader().read("POLYGON ((0 0, 1 0, 1 1, 0 0))");
+        byte[] wkb = new WKBWriter().write(closed);
+        // drop the closing point, patching the number of points
+        byte[] truncated = Arrays.copyOf(wkb, wkb.length - 16);
+        truncated[12] = 3;
+        Polygon p = (Polygon) new StreamingWKBReader().read(truncated);
+        assertTrue(p.getExteriorRing().isClosed());
+    }
+
+    @Test
+    public void testCurves() throws Exception {
+        Geometry expected = new WKTReader2().read("CIRCULARSTRING (0 0, 1 1, 2 0)");
+        byte[] wkb = WKBReader.hexToBytes("000000000800000003" + "0000000000000000" + "0000000000000000"
+                + "3FF0000000000000" + "3FF0000000000000" + "4000000000000000" + "0000000000000000");
+        Geometry actual = new StreamingWKBReader().read(wkb);
+        assertTrue(actual instanceof CircularString);
+        assertTrue(expected.equalsExact(actual));
+    }
+
+    @Test
+    public void testInvalid() throws Exception {
+        byte[] wkb = new WKBWriter().write(new WKTReader().read(WKTS[2]));
+        StreamingWKBReader reader = new StreamingWKBReader();
+        try {
+            reader.read(wkb, 0, wkb.length - 1);
+            fail("Should have failed on truncated data");
+        } catch (IOException e) {
+            // fine
+        }
+        // too many points for the data available
+        wkb[8] = 100;
+        try {
+            reader.read(wkb);
+            fail("Should have failed on the invalid point count");
+        } catch (IOException e) {
+            // fine
+        }
+    }
+
+    @Test
+    public void testFillAndBase64() throws Exception {
+        StreamingWKBReader reader = new StreamingWKBReader();
+        byte[] data = new byte[StreamingWKBReader.INITIAL_BUFFER_SIZE * 3 + 7];
+        new Random(0).nextBytes(data);
+        int length = reader.fill(new ByteArrayInputStream(data));
+        assertEquals(data.length, length);
+        assertArrayEquals(data, Arrays.copyOf(reader.getBuffer(), length));
+        assertEquals(-1, reader.fill((InputStream) null));
+
+        // base64 with line breaks, as the PostgreSQL encode function generates them
+        for (int size : new int[] {0, 1, 2, 3, 100, 101, 102}) {
+            byte[] raw = Arrays.copyOf(data, size);
+            byte[] encoded = Base64.getMimeEncoder().encodeToString(raw).getBytes(StandardCharsets.US_ASCII);
+            length = reader.fillBase64(encoded, encoded.length);
+            assertArrayEquals(raw, Arrays.copyOf(reader.getBuffer(), length));
+        }
+    }
+
+    @Test
+    public void testResultSet() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:streamingwkb;DB_CLOSE_DELAY=-1");
+        WKTReader wktReader = new WKTReader();
+        try (Connection cx = dataSource.getConnection();
+                Statement st = cx.createStatement()) {
+            st.execute("CREATE TABLE \"geoms\" (\"id\" INT PRIMARY KEY, \"geom\" BLOB)");
+            try (PreparedStatement ps = cx.prepareStatement("INSERT INTO \"geoms\" VALUES (?, ?)")) {
+                for (int i = 0; i <= WKTS.length; i++) {
+                    ps.setInt(1, i);
+                    ps.setBytes(2, i < WKTS.length ? new WKBWriter().write(wktReader.read(WKTS[i])) : null);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+
+            StreamingWKBReader reader = new StreamingWKBReader();
+            try (ResultSet rs = st.executeQuery("SELECT \"id\", \"geom\" FROM \"geoms\" ORDER BY \"id\"")) {
+                while (rs.next()) {
+                    int id = rs.getInt(1);
+                    Geometry g = id % 2 == 0 ? reader.read(rs, 2) : reader.read(rs, "geom");
+                    if (id < WKTS.length) {
+                        Geometry expected = wktReader.read(WKTS[id]);
+                        assertTrue(WKTS[id], expected.equals(g) || expected.isEmpty() && g.isEmpty());
+                    } else {
+                        assertNull(g);
+                    }
+                }
+            }
+        }
+    }
+}
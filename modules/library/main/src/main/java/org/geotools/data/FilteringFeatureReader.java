@@ -23,8 +23,10 @@
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.feature.Feature;
 import org.geotools.api.feature.IllegalAttributeException;
+import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.FeatureType;
 import org.geotools.api.filter.Filter;
+import org.geotools.filter.FilterCompiler;
 import org.geotools.filter.visitor.BindingFilterVisitor;
 
 /**
@@ -55,7 +57,12 @@
      */
     public FilteringFeatureReader(FeatureReader<T, F> featureReader, Filter filter) {
         this.featureReader = featureReader;
-        this.filter = (Filter) filter.accept(new BindingFilterVisitor(featureReader.getFeatureType()), null);
+        Filter bound = (Filter) filter.accept(new BindingFilterVisitor(featureReader.getFeatureType()), null);
+        if (featureReader.getFeatureType() instanceof SimpleFeatureType schema) {
+            // the filter is evaluated against each feature, compile it for the reader schema
+            bound = FilterCompiler.compile(bound, schema);
+        }
+        this.filter = bound;
         next = null;
     }
 
@@ -372,6 +372,22 @@ public final ReferencedEnvelope getBounds(Query query) throws IOException {
         query = joinQuery(query);
         query = resolvePropertyNames(query);
 
+        QueryResultCache cache = getQueryResultCache();
+        if (cache == null) {
+            return computeBounds(query);
+        }
+        ReferencedEnvelope bounds = cache.getBounds(query);
+        if (bounds == null) {
+            long stamp = cache.getStamp();
+            bounds = computeBounds(query);
+            if (bounds != null) {
+                cache.putBounds(query, bounds, stamp);
+            }
+        }
+        return bounds;
+    }
+
+    private ReferencedEnvelope computeBounds(Query query) throws IOException {
         //
         // calculate the bounds
         //
@@ -478,6 +494,22 @@ public final int getCount(Query query) throws IOException {
         query = joinQuery(query);
         query = resolvePropertyNames(query);
 
+        QueryResultCache cache = getQueryResultCache();
+        if (cache == null) {
+            return computeCount(query);
+        }
+        Integer count = cache.getCount(query);
+        if (count == null) {
+            long stamp = cache.getStamp();
+            count = computeCount(query);
+            if (count >= 0) {
+                cache.putCount(query, count, stamp);
+            }
+        }
+        return count;
+    }
+
+    private int computeCount(Query query) throws IOException {
         // calculate the count
         int count = getCountInternal(query);
 
@@ -551,6 +583,18 @@ public final int getCount(Query query) throws IOException {
         return count;
     }
 
+    /**
+     * Returns the cache of count and bounds results, if enabled in the state and working against
+     * {@link Transaction#AUTO_COMMIT}, null otherwise. Wrappers delegating to another feature source may return null
+     * so that the results are not cached twice.
+     */
+    protected QueryResultCache getQueryResultCache() {
+        if (transaction != null && transaction != Transaction.AUTO_COMMIT) {
+            return null;
+        }
+        return getState().getQueryResultCache();
+    }
+
     /**
      * Calculates the number of features of a specified query. Subclasses must implement this method. If the computation
      * is not fast, it's possible to return -1.
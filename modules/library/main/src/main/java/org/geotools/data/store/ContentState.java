@@ -126,6 +126,9 @@ public class ContentState {
     /** cached bounds of features */
     protected ReferencedEnvelope bounds;
 
+    /** cached count and bounds query results, shared among the states of the entry, or null if not enabled */
+    protected QueryResultCache queryResultCache;
+
     // EVENT NOTIFICATION SUPPORT
     /**
      * Even used for batch notification; used to collect the bounds and feature ids generated over the course of a
@@ -163,6 +166,8 @@ protected ContentState(ContentState state) {
         featureType = state.featureType;
         count = state.count;
         bounds = state.bounds == null ? null : ReferencedEnvelope.reference(state.bounds);
+        // shared, any state modifying the data has to invalidate the results of the others
+        queryResultCache = state.queryResultCache;
         batchFeatureEvent = null;
     }
 
@@ -214,6 +219,22 @@ public final void setBounds(ReferencedEnvelope bounds) {
         this.bounds = bounds;
     }
 
+    /**
+     * The cache of count and bounds query results, used only for {@link Transaction#AUTO_COMMIT}, or null if not
+     * enabled
+     */
+    public final QueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
+    /**
+     * Sets the cache of count and bounds query results. It is shared with the states copied from this one afterwards,
+     * so it should be set on the {@link Transaction#AUTO_COMMIT} state when it is created.
+     */
+    public final void setQueryResultCache(QueryResultCache queryResultCache) {
+        this.queryResultCache = queryResultCache;
+    }
+
     /**
      * Adds a listener for collection events.
      *
@@ -315,6 +336,7 @@ Filter idFilter(Feature feature) {
      * issueBatchFeatureEvent()
      */
     public final void fireFeatureEvent(FeatureEvent event) {
+        invalidateQueryResultCache();
         if (this.tx == Transaction.AUTO_COMMIT) {
             this.entry.notifiyFeatureEvent(this, event);
         } else {
@@ -339,6 +361,7 @@ public final void fireFeatureEvent(FeatureEvent event) {
 
     /** Notifies all waiting listeners that a commit has been issued; this notification is also sent to our */
     public final void fireBatchFeatureEvent(boolean isCommit) {
+        invalidateQueryResultCache();
         if (batchFeatureEvent == null) {
             return;
         }
@@ -373,6 +396,17 @@ public void flush() {
         featureType = null;
         count = -1;
         bounds = null;
+        invalidateQueryResultCache();
+    }
+
+    /**
+     * Drops the cached count and bounds query results, for stores modifying the data without firing a feature event
+     * (only needed if there are no listeners, see {@link #hasListener()}).
+     */
+    public final void invalidateQueryResultCache() {
+        if (queryResultCache != null) {
+            queryResultCache.invalidate();
+        }
     }
 
     /**
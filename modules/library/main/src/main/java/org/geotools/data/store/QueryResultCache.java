@@ -0,0 +1,206 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.store;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.geotools.api.data.Query;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+
+/**
+ * Caches the results of {@link ContentFeatureSource#getCount(Query)} and {@link ContentFeatureSource#getBounds(Query)}
+ * for the {@link org.geotools.api.data.Transaction#AUTO_COMMIT} state of a {@link ContentEntry}, so that the same
+ * count or bounds requested over and over do not hit the storage every time.
+ *
+ * <p>The cache holds up to a maximum number of results, evicting the least recently used ones, and optionally expires
+ * them after a time to live, bounding how stale the results can get when the data is modified bypassing the store. The
+ * modifications made through the store invalidate the cache, see {@link ContentState#fireFeatureEvent}.
+ *
+ * <p>The key of a result is the query as normalized by the feature source: filter, paging, sorting when paging,
+ * reprojection, joins, hints and, for the bounds, the properties.
+ */
+public class QueryResultCache {
+
+    enum Kind {
+        COUNT,
+        BOUNDS
+    }
+
+    static class Value {
+        final Object result;
+        final long expires;
+
+        Value(Object result, long expires) {
+            this.result = result;
+            this.expires = expires;
+        }
+    }
+
+    private final int maxSize;
+
+    private final long timeToLive;
+
+    private final LongSupplier clock;
+
+    private final Map<List<Object>, Value> results;
+
+    /** Incremented on every invalidation, allows to drop results computed while the data was being modified */
+    private long stamp;
+
+    private long hits;
+
+    private long misses;
+
+    /**
+     * Creates the cache.
+     *
+     * @param maxSize The maximum number of results held
+     * @param timeToLive The time a result is held, in milliseconds, or zero (or negative) to hold them until evicted or
+     *     invalidated
+     */
+    public QueryResultCache(int maxSize, long timeToLive) {
+        this(maxSize, timeToLive, System::nanoTime);
+    }
+
+    QueryResultCache(int maxSize, long timeToLive, LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be positive, was " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Value> eldest) {
+                return size() > QueryResultCache.this.maxSize;
+            }
+        };
+    }
+
+    /** The maximum number of results held */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** The time a result is held, in milliseconds, zero or negative if they do not expire */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Returns the current invalidation stamp, to be grabbed before computing a result and handed back to
+     * {@link #putCount(Query, int, long)} or {@link #putBounds(Query, ReferencedEnvelope, long)}
+     */
+    public synchronized long getStamp() {
+        return stamp;
+    }
+
+    /** Returns the cached count for the query, or null if not available */
+    public Integer getCount(Query query) {
+        return (Integer) get(Kind.COUNT, query);
+    }
+
+    /**
+     * Caches the count of a query, unless the cache was invalidated after the stamp was taken.
+     *
+     * @param stamp The value of {@link #getStamp()} before the count was computed
+     */
+    public void putCount(Query query, int count, long stamp) {
+        put(Kind.COUNT, query, count, stamp);
+    }
+
+    /** Returns a copy of the cached bounds for the query, or null if not available */
+    public ReferencedEnvelope getBounds(Query query) {
+        ReferencedEnvelope bounds = (ReferencedEnvelope) get(Kind.BOUNDS, query);
+        return bounds == null ? null : ReferencedEnvelope.create(bounds);
+    }
+
+    /**
+     * Caches a copy of the bounds of a query, unless the cache was invalidated after the stamp was taken.
+     *
+     * @param stamp The value of {@link #getStamp()} before the bounds were computed
+     */
+    public void putBounds(Query query, ReferencedEnvelope bounds, long stamp) {
+        put(Kind.BOUNDS, query, ReferencedEnvelope.create(bounds), stamp);
+    }
+
+    /** Drops all the cached results */
+    public synchronized void invalidate() {
+        results.clear();
+        stamp++;
+    }
+
+    /** The number of results currently held */
+    public synchronized int size() {
+        return results.size();
+    }
+
+    /** The number of lookups that found a result */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /** The number of lookups that did not find a result */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    private synchronized Object get(Kind kind, Query query) {
+        List<Object> key = key(kind, query);
+        Value value = results.get(key);
+        if (value != null && timeToLive > 0 && clock.getAsLong() - value.expires > 0) {
+            results.remove(key);
+            value = null;
+        }
+        if (value == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return value.result;
+    }
+
+    private synchronized void put(Kind kind, Query query, Object result, long stamp) {
+        if (stamp != this.stamp) {
+            // the data changed while the result was being computed
+            return;
+        }
+        long expires = timeToLive > 0 ? clock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(timeToLive) : 0;
+        results.put(key(kind, query), new Value(result, expires));
+    }
+
+    static List<Object> key(Kind kind, Query query) {
+        boolean paged = query.getStartIndex() != null && query.getStartIndex() > 0 || !query.isMaxFeaturesUnlimited();
+        return Arrays.asList(
+                kind,
+                query.getFilter(),
+                kind == Kind.BOUNDS && query.getPropertyNames() != null
+                        ? Arrays.asList(query.getPropertyNames())
+                        : null,
+                query.getStartIndex(),
+                query.getMaxFeatures(),
+                paged && query.getSortBy() != null ? Arrays.asList(query.getSortBy()) : null,
+                query.getCoordinateSystem(),
+                query.getCoordinateSystemReproject(),
+                query.getJoins(),
+                query.getHints());
+    }
+}
@@ -50,6 +50,7 @@
 import org.geotools.geometry.jts.GeometryCoordinateSequenceTransformer;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.referencing.CRS;
+import org.geotools.referencing.operation.MathTransformCache;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 
@@ -113,7 +114,7 @@ public void setTransformer(GeometryCoordinateSequenceTransformer transformer) {
 
     private MathTransform transform(CoordinateReferenceSystem source, CoordinateReferenceSystem target) {
         try {
-            return CRS.findMathTransform(source, target, true);
+            return MathTransformCache.getDefault().getMathTransform(source, target, true);
         } catch (FactoryException e) {
             throw new IllegalArgumentException("Could not create math transform", e);
         }
@@ -16,9 +16,14 @@
  */
 package org.geotools.data.util;
 
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.geotools.api.referencing.operation.MathTransform;
 import org.geotools.api.referencing.operation.TransformException;
 import org.geotools.geometry.jts.JTS;
+import org.geotools.referencing.operation.LinearTransform;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.CoordinateSequenceFactory;
 import org.locationtech.jts.geom.Envelope;
@@ -46,11 +51,25 @@
  *
  * When checkAndSet returns false the geometry sits in a pixel that has been already populated and can be skipped.
  *
+ * <p>The pixels are stored in square blocks, which allows to quickly check if a whole area is busy, see
+ * {@link #isFull(Envelope)}. Once done with a screen map, call {@link #release()} to allow its storage to be reused by
+ * other screen maps (e.g., the ones of the next layer or request).
+ *
  * @author jeichar
  * @author Andrea Aime - OpenGeo
  */
 public class ScreenMap {
 
+    /** Size of the side of the square blocks of pixels used to store the screen map */
+    public static final int BLOCK_SIZE = 8;
+
+    /** Maximum number of bitfields kept around for reuse, see {@link #release()} */
+    static final int MAX_POOLED_BITFIELDS = Integer.getInteger("org.geotools.screenmap.poolSize", 16);
+
+    private static final Queue<long[]> POOL = new ConcurrentLinkedQueue<>();
+
+    private static final AtomicInteger POOL_SIZE = new AtomicInteger();
+
     double[] point = new double[2];
 
     int width;
@@ -103,6 +122,14 @@ public void setTransform(MathTransform mt) {
         this.mt = mt;
     }
 
+    /**
+     * Returns true if the transformation to the screen is linear, in that case {@link #isFull(Envelope)} can be used
+     * on envelopes of any size
+     */
+    public boolean isLinear() {
+        return mt instanceof LinearTransform;
+    }
+
     public boolean checkAndSet(Envelope envelope) throws TransformException {
         if (!canSimplify(envelope)) {
             return false;
@@ -227,16 +254,126 @@ public void set(int x, int y, boolean value) {
         getBitField().set(x, y, value);
     }
 
+    /**
+     * Returns true if all the pixels touched by the envelope, once transformed to the screen, are busy. In that case
+     * every feature inside the envelope that can be simplified (see {@link #canSimplify(Envelope)}) would be skipped by
+     * {@link #get(Envelope)}. The screen footprint is computed transforming the envelope corners, so the envelope
+     * should be small enough for the transformation to be considered linear.
+     *
+     * <p>Callers grouping features by area, like the shapefile store does with its spatial index nodes, can use it to
+     * skip a whole group, after making sure all the features of the group are inside the envelope, and small enough to
+     * be simplified.
+     */
+    public boolean isFull(Envelope envelope) throws TransformException {
+        double[] corners = {
+            envelope.getMinX(), envelope.getMinY(),
+            envelope.getMinX(), envelope.getMaxY(),
+            envelope.getMaxX(), envelope.getMinY(),
+            envelope.getMaxX(), envelope.getMaxY()
+        };
+        mt.transform(corners, 0, corners, 0, 4);
+        int x1 = Integer.MAX_VALUE;
+        int y1 = Integer.MAX_VALUE;
+        int x2 = Integer.MIN_VALUE;
+        int y2 = Integer.MIN_VALUE;
+        for (int i = 0; i < corners.length; i += 2) {
+            // same rounding as used when setting the pixels
+            int x = (int) corners[i];
+            int y = (int) corners[i + 1];
+            x1 = Math.min(x1, x);
+            y1 = Math.min(y1, y);
+            x2 = Math.max(x2, x);
+            y2 = Math.max(y2, y);
+        }
+        return isFull(x1, y1, x2, y2);
+    }
+
+    /**
+     * Returns true if all the pixels in the specified range, inclusive, are busy. Pixels outside of the screen map are
+     * never busy. The check is performed on blocks of {@link #BLOCK_SIZE} x {@link #BLOCK_SIZE} pixels, with no need
+     * to look at each pixel of the blocks fully contained in the range.
+     */
+    public boolean isFull(int x1, int y1, int x2, int y2) {
+        if (x1 > x2 || y1 > y2) return false;
+        if (x1 - minx < 0 || x2 - minx > width - 1 || y1 - miny < 0 || y2 - miny > height - 1) return false;
+        if (bitfield == null) return false;
+        return bitfield.isFull(x1 - minx, y1 - miny, x2 - minx, y2 - miny);
+    }
+
+    /** Marks all pixels as free, keeping the storage around for reuse */
+    public void reset() {
+        if (bitfield != null) {
+            bitfield.clear();
+        }
+    }
+
+    /**
+     * Marks all pixels as free and releases the storage, making it available to other screen maps of similar or
+     * smaller size. The screen map can still be used afterwards, allocating new storage as needed.
+     */
+    public void release() {
+        if (bitfield != null) {
+            BitFieldMatrix released = bitfield;
+            bitfield = null;
+            if (POOL_SIZE.incrementAndGet() <= MAX_POOLED_BITFIELDS) {
+                POOL.offer(released.blocks);
+            } else {
+                POOL_SIZE.decrementAndGet();
+            }
+        }
+    }
+
+    /** Returns storage for at least the specified number of blocks, either pooled or newly allocated */
+    static long[] acquireBlocks(int size) {
+        long[] blocks = POOL.poll();
+        if (blocks != null) {
+            POOL_SIZE.decrementAndGet();
+            if (blocks.length >= size) {
+                return blocks;
+            }
+        }
+        return new long[size];
+    }
+
     /**
      * Incapsulates the bitfield representation and access logic, allows for lazy creation of the bitfield at the first
-     * time we actually need to use it (only fairly zoomed in requestes not pixel might ever be set)
+     * time we actually need to use it (only fairly zoomed in requestes not pixel might ever be set).
+     *
+     * <p>The pixels are grouped in square blocks, each one stored in a long, row by row. This makes it possible to
+     * check if a whole block is busy with a single comparison. The bits of the blocks crossing the screen map border
+     * that fall outside of it are always set.
      */
     final class BitFieldMatrix {
-        int[] pixels;
+        final long[] blocks;
+
+        final int blocksX;
+
+        final int blocksY;
 
         public BitFieldMatrix() {
-            int arraySize = width * height / 32 + 1;
-            pixels = new int[arraySize];
+            blocksX = (width + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            blocksY = (height + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            blocks = acquireBlocks(blocksX * blocksY);
+            clear();
+        }
+
+        /** Clears all the pixels, setting only the padding bits */
+        void clear() {
+            Arrays.fill(blocks, 0, blocksX * blocksY, 0L);
+            int lastX = width - (blocksX - 1) * BLOCK_SIZE;
+            int lastY = height - (blocksY - 1) * BLOCK_SIZE;
+            if (lastX < BLOCK_SIZE) {
+                long padding = ~mask(0, 0, lastX - 1, BLOCK_SIZE - 1);
+                for (int by = 0; by < blocksY; by++) {
+                    blocks[by * blocksX + blocksX - 1] |= padding;
+                }
+            }
+            if (lastY < BLOCK_SIZE) {
+                long padding = ~mask(0, 0, BLOCK_SIZE - 1, lastY - 1);
+                for (int bx = 0; bx < blocksX; bx++) {
+                    blocks[(blocksY - 1) * blocksX + bx] |= padding;
+                }
+            }
         }
 
         public boolean checkAndSet(int x, int y) {
@@ -244,20 +381,15 @@ public boolean checkAndSet(int x, int y) {
             // we cannot skip it because rendering or geometry transformation might put the geometry
             // right in the map
             if (x - minx < 0 || x - minx > width - 1 || y - miny < 0 || y - miny > height - 1) return false;
-            int bit = bit(x - minx, y - miny);
-            int index = bit / 32;
-            int offset = bit % 32;
-            int mask = 1 << offset;
-
-            try {
-                if ((pixels[index] & mask) != 0) {
-                    return true;
-                } else {
-                    pixels[index] = pixels[index] | mask;
-                    return false;
-                }
-            } catch (Exception e) {
+            int px = x - minx;
+            int py = y - miny;
+            int index = block(px, py);
+            long mask = bit(px, py);
+            if ((blocks[index] & mask) != 0) {
                 return true;
+            } else {
+                blocks[index] |= mask;
+                return false;
             }
         }
 
@@ -266,40 +398,65 @@ public boolean get(int x, int y) {
             // we cannot skip it because rendering or geometry transformation might put the geometry
             // right in the map
             if (x - minx < 0 || x - minx > width - 1 || y - miny < 0 || y - miny > height - 1) return false;
-            int bit = bit(x - minx, y - miny);
-            int index = bit / 32;
-            int offset = bit % 32;
-            int mask = 1 << offset;
-
-            try {
-                return (pixels[index] & mask) != 0 ? true : false;
-            } catch (Exception e) {
-
-                return true;
-            }
+            int px = x - minx;
+            int py = y - miny;
+            return (blocks[block(px, py)] & bit(px, py)) != 0;
         }
 
         public void set(int x, int y, boolean value) {
             if (x - minx < 0 || x - minx > width - 1 || y - miny < 0 || y - miny > height - 1) return;
-            int bit = bit(x - minx, y - miny);
-            int index = bit / 32;
-            int offset = bit % 32;
-            int mask = 1;
-            mask = mask << offset;
-
+            int px = x - minx;
+            int py = y - miny;
+            int index = block(px, py);
+            long mask = bit(px, py);
             if (value) {
-                pixels[index] = pixels[index] | mask;
+                blocks[index] |= mask;
             } else {
-                int tmp = pixels[index];
-                tmp = ~tmp;
-                tmp = tmp | mask;
-                tmp = ~tmp;
-                pixels[index] = tmp;
+                blocks[index] &= ~mask;
+            }
+        }
+
+        /** Checks all the pixels in the range are set, the range is in screen map coordinates and inside of it */
+        boolean isFull(int x1, int y1, int x2, int y2) {
+            int bx1 = x1 / BLOCK_SIZE;
+            int by1 = y1 / BLOCK_SIZE;
+            int bx2 = x2 / BLOCK_SIZE;
+            int by2 = y2 / BLOCK_SIZE;
+            for (int by = by1; by <= by2; by++) {
+                int row1 = by == by1 ? y1 % BLOCK_SIZE : 0;
+                int row2 = by == by2 ? y2 % BLOCK_SIZE : BLOCK_SIZE - 1;
+                for (int bx = bx1; bx <= bx2; bx++) {
+                    long block = blocks[by * blocksX + bx];
+                    if (block == -1L) {
+                        continue;
+                    }
+                    int col1 = bx == bx1 ? x1 % BLOCK_SIZE : 0;
+                    int col2 = bx == bx2 ? x2 % BLOCK_SIZE : BLOCK_SIZE - 1;
+                    long mask = mask(col1, row1, col2, row2);
+                    if ((block & mask) != mask) {
+                        return false;
+                    }
+                }
             }
+            return true;
+        }
+
+        private int block(int px, int py) {
+            return (py / BLOCK_SIZE) * blocksX + px / BLOCK_SIZE;
         }
 
-        private int bit(int x, int y) {
-            return width * y + x;
+        private long bit(int px, int py) {
+            return 1L << ((py % BLOCK_SIZE) * BLOCK_SIZE + px % BLOCK_SIZE);
+        }
+    }
+
+    /** Returns the mask of the pixels of a block in the specified column and row range, inclusive */
+    static long mask(int col1, int row1, int col2, int row2) {
+        long rowMask = ((1L << (col2 - col1 + 1)) - 1) << col1;
+        long mask = 0;
+        for (int row = row1; row <= row2; row++) {
+            mask |= rowMask << (row * BLOCK_SIZE);
         }
+        return mask;
     }
 }
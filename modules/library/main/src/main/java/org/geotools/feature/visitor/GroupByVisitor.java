@@ -18,11 +18,14 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.geotools.api.feature.Feature;
 import org.geotools.api.feature.FeatureVisitor;
@@ -33,7 +36,13 @@
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Point;
 
-/** Group features by one or several attributes and applies an aggregator visitor to each group. */
+/**
+ * Group features by one or several attributes and applies an aggregator visitor to each group.
+ *
+ * <p>By default the results of all groups are collected in the {@link GroupByResult} map. When a group consumer is set,
+ * see {@link #setGroupConsumer(BiConsumer)}, each group result is handed over to it instead, and the final result is
+ * empty. This allows optimizations streaming the groups from a database to avoid holding them all in memory.
+ */
 public class GroupByVisitor implements FeatureCalc, FeatureAttributeVisitor {
 
     private final Aggregate aggregate;
@@ -45,6 +54,12 @@ public class GroupByVisitor implements FeatureCalc, FeatureAttributeVisitor {
 
     private CalcResult optimizationResult = CalcResult.NULL_RESULT;
 
+    private BiConsumer<List<Object>, CalcResult> groupConsumer;
+
+    private boolean optimized;
+
+    private boolean visited;
+
     public GroupByVisitor(
             Aggregate aggregateVisitor,
             Expression expression,
@@ -57,11 +72,28 @@ public GroupByVisitor(
     }
 
     public boolean wasOptimized() {
-        return optimizationResult != null && optimizationResult != CalcResult.NULL_RESULT;
+        return optimized || optimizationResult != null && optimizationResult != CalcResult.NULL_RESULT;
     }
 
     public boolean wasVisited() {
-        return !inMemoryGroupBy.groupByIndexes.isEmpty();
+        return visited;
+    }
+
+    /**
+     * Sets a callback receiving the group by values and the aggregate result of each group, instead of collecting them
+     * in the visitor result. Groups set by optimizations are handed over as they are read, groups computed in memory
+     * when {@link #getResult()} is called. If both happen on the same visitor the same group values may be reported
+     * more than once, as no merge is performed.
+     *
+     * @param groupConsumer the group consumer, or null to collect the groups in the visitor result
+     */
+    public void setGroupConsumer(BiConsumer<List<Object>, CalcResult> groupConsumer) {
+        this.groupConsumer = groupConsumer;
+    }
+
+    /** Returns the group consumer, if any */
+    public BiConsumer<List<Object>, CalcResult> getGroupConsumer() {
+        return groupConsumer;
     }
 
     /**
@@ -82,6 +114,11 @@ public Aggregate getAggregate() {
      */
     @Override
     public CalcResult getResult() {
+        if (groupConsumer != null) {
+            // hand over the groups computed in memory, releasing them along the way
+            inMemoryGroupBy.visit(groupConsumer);
+            return new GroupByResult(Collections.emptyMap(), aggregate, groupByAttributes);
+        }
         // do a in memory computation for any visited feature
         Map<List<Object>, CalcResult> results = inMemoryGroupBy.visit();
         // create the result, if no feature was visited this will be an empty result that can be
@@ -97,6 +134,7 @@ public CalcResult getResult() {
 
     @Override
     public void visit(Feature feature) {
+        visited = true;
         inMemoryGroupBy.index((SimpleFeature) feature);
     }
 
@@ -119,8 +157,29 @@ public List<Expression> getGroupByAttributes() {
      * @param value the group by visitor result
      */
     public void setValue(List<GroupByRawResult> value) {
+        setValues(value.iterator());
+    }
+
+    /**
+     * Streaming version of {@link #setValue(List)}, the raw results are consumed one at a time, allowing optimizations
+     * to avoid holding all of them in memory before handing them over (e.g., when reading a large number of groups from
+     * a database cursor).
+     *
+     * @param values the group by visitor raw results
+     */
+    public void setValues(Iterator<GroupByRawResult> values) {
+        optimized = true;
+        if (groupConsumer != null) {
+            while (values.hasNext()) {
+                GroupByRawResult groupByRawResult = values.next();
+                groupConsumer.accept(
+                        groupByRawResult.groupByValues, aggregate.wrap(expression, groupByRawResult.visitorValue));
+            }
+            return;
+        }
         Map<List<Object>, CalcResult> results = new HashMap<>();
-        for (GroupByRawResult groupByRawResult : value) {
+        while (values.hasNext()) {
+            GroupByRawResult groupByRawResult = values.next();
             // wrap the aggregate visitor result with the appropriate feature calculation type
             results.put(groupByRawResult.groupByValues, aggregate.wrap(expression, groupByRawResult.visitorValue));
         }
@@ -186,6 +245,16 @@ Map<List<Object>, CalcResult> visit() {
             }
             return results;
         }
+
+        /** Same as {@link #visit()}, but hands over each result to the consumer, removing the group */
+        void visit(BiConsumer<List<Object>, CalcResult> consumer) {
+            Iterator<Map.Entry<List<Object>, FeatureCalc>> entries = groupByIndexes.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<List<Object>, FeatureCalc> entry = entries.next();
+                consumer.accept(entry.getKey(), entry.getValue().getResult());
+                entries.remove();
+            }
+        }
     }
 
     /** This class implements the feature calculation result of the group by visitor. */
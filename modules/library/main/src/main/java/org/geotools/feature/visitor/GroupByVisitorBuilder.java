@@ -19,6 +19,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.BiConsumer;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.filter.FilterFactory;
@@ -39,6 +40,7 @@ public final class GroupByVisitorBuilder {
     private Aggregate aggregateVisitor;
     private List<Expression> groupByAttributes = new ArrayList<>();
     private ProgressListener progressListener;
+    private BiConsumer<List<Object>, CalcResult> groupConsumer;
 
     public GroupByVisitorBuilder withAggregateAttribute(int attributeTypeIndex, SimpleFeatureType type) {
         aggregateAttribute = toExpression(attributeTypeIndex, type);
@@ -92,6 +94,12 @@ public GroupByVisitorBuilder withProgressListener(ProgressListener progressListe
         return this;
     }
 
+    /** Streams the group results to the consumer, see {@link GroupByVisitor#setGroupConsumer(BiConsumer)} */
+    public GroupByVisitorBuilder withGroupConsumer(BiConsumer<List<Object>, CalcResult> groupConsumer) {
+        this.groupConsumer = groupConsumer;
+        return this;
+    }
+
     private Expression toExpression(int attributeTypeIndex, SimpleFeatureType type) {
         FilterFactory filterFactory = CommonFactoryFinder.getFilterFactory(null);
         AttributeDescriptor attribute = type.getDescriptor(attributeTypeIndex);
@@ -128,6 +136,9 @@ public GroupByVisitor build() {
         if (progressListener == null) {
             progressListener = new NullProgressListener();
         }
-        return new GroupByVisitor(aggregateVisitor, aggregateAttribute, groupByAttributes, progressListener);
+        GroupByVisitor visitor =
+                new GroupByVisitor(aggregateVisitor, aggregateAttribute, groupByAttributes, progressListener);
+        visitor.setGroupConsumer(groupConsumer);
+        return visitor;
     }
 }
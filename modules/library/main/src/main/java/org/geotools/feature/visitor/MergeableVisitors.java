@@ -0,0 +1,135 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.geotools.api.feature.FeatureVisitor;
+import org.geotools.api.filter.expression.Expression;
+
+/**
+ * Support for data stores that can scan their data in parallel partitions. A visitor is split in independent partial
+ * visitors, one per partition, using {@link #fork(FeatureVisitor)}, each partial visitor is fed by a single thread,
+ * and the partial results are eventually merged back in the original visitor with
+ * {@link #merge(FeatureVisitor, Collection)}.
+ *
+ * <p>Only visitors whose result does not depend on the visit order are supported, that is, {@link CountVisitor},
+ * {@link SumVisitor}, {@link MinVisitor}, {@link MaxVisitor}, {@link BoundsVisitor} and {@link UniqueVisitor} (the
+ * latter only when not paging and not preserving the order). Subclasses are not supported, as they might have
+ * different semantics.
+ */
+public class MergeableVisitors {
+
+    private MergeableVisitors() {
+        // utility class
+    }
+
+    /** Returns true if the visitor can be split in partial visitors and merged back */
+    public static boolean isMergeable(FeatureVisitor visitor) {
+        if (visitor == null) {
+            return false;
+        }
+        Class<?> type = visitor.getClass();
+        if (type == UniqueVisitor.class) {
+            UniqueVisitor unique = (UniqueVisitor) visitor;
+            return !unique.preserveOrder && !unique.hasLimits();
+        }
+        return type == CountVisitor.class
+                || type == SumVisitor.class
+                || type == MinVisitor.class
+                || type == MaxVisitor.class
+                || type == BoundsVisitor.class;
+    }
+
+    /**
+     * Creates a new, empty, partial visitor computing the same aggregation as the original one
+     *
+     * @throws IllegalArgumentException if the visitor is not {@link #isMergeable(FeatureVisitor) mergeable}
+     */
+    public static FeatureVisitor fork(FeatureVisitor visitor) {
+        if (!isMergeable(visitor)) {
+            throw new IllegalArgumentException("Visitor cannot be split in partial visitors: " + visitor);
+        }
+        if (visitor instanceof CountVisitor) {
+            return new CountVisitor();
+        } else if (visitor instanceof SumVisitor sum) {
+            return new SumVisitor(sum.getExpression());
+        } else if (visitor instanceof MinVisitor min) {
+            return new MinVisitor(min.getExpression());
+        } else if (visitor instanceof MaxVisitor max) {
+            return new MaxVisitor(max.getExpression());
+        } else if (visitor instanceof BoundsVisitor) {
+            return new BoundsVisitor();
+        } else {
+            List<Expression> expressions = ((UniqueVisitor) visitor).getExpressions();
+            return new UniqueVisitor(expressions.toArray(new Expression[expressions.size()]));
+        }
+    }
+
+    /** Merges the results of the partial visitors, created with {@link #fork(FeatureVisitor)}, into the target one */
+    @SuppressWarnings("unchecked")
+    public static void merge(FeatureVisitor target, Collection<? extends FeatureVisitor> partials) {
+        if (target instanceof CountVisitor count) {
+            int total = count.getCount();
+            for (FeatureVisitor partial : partials) {
+                total += ((CountVisitor) partial).getCount();
+            }
+            count.setValue(total);
+        } else if (target instanceof BoundsVisitor bounds) {
+            for (FeatureVisitor partial : partials) {
+                bounds.getBounds().include(((BoundsVisitor) partial).getBounds());
+            }
+        } else if (target instanceof UniqueVisitor unique) {
+            Set<Object> values = new HashSet<>(unique.getUnique());
+            for (FeatureVisitor partial : partials) {
+                values.addAll(((UniqueVisitor) partial).getUnique());
+            }
+            unique.setValue(values);
+        } else {
+            CalcResult result = mergeResults((FeatureCalc) target, partials);
+            if (result == CalcResult.NULL_RESULT) {
+                return;
+            }
+            if (target instanceof SumVisitor sum) {
+                sum.setValue(result.getValue());
+            } else if (target instanceof MinVisitor min) {
+                min.setValue(result.getValue());
+            } else if (target instanceof MaxVisitor max) {
+                max.setValue(result.getValue());
+            } else {
+                throw new IllegalArgumentException("Unsupported visitor: " + target);
+            }
+        }
+    }
+
+    private static CalcResult mergeResults(FeatureCalc target, Collection<? extends FeatureVisitor> partials) {
+        CalcResult result = target.getResult();
+        for (FeatureVisitor partial : partials) {
+            CalcResult partialResult = ((FeatureCalc) partial).getResult();
+            if (partialResult == CalcResult.NULL_RESULT) {
+                continue;
+            } else if (result == CalcResult.NULL_RESULT) {
+                result = partialResult;
+            } else {
+                result = result.merge(partialResult);
+            }
+        }
+        return result;
+    }
+}
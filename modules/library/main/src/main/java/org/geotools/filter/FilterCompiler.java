@@ -0,0 +1,505 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterVisitor;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.api.filter.expression.PropertyName;
+import org.geotools.util.Converters;
+
+/**
+ * Turns a {@link Filter} into a {@link Predicate} specialized for a given {@link SimpleFeatureType}, to speed up filters
+ * evaluated in memory against many features.
+ *
+ * <p>The filter tree is compiled once in a tree of predicates, where:
+ *
+ * <ul>
+ *   <li>attributes are read by index, instead of being looked up by name through the property accessors
+ *   <li>literals are converted once, and comparisons among numbers and strings are performed on primitive values,
+ *       without going through the {@link Converters}
+ *   <li>logic filters evaluate their compiled children, short circuiting as the original ones
+ * </ul>
+ *
+ * The compiled predicates return the same results as the original filters: the fast paths are used only when the actual
+ * attribute values have the class declared in the feature type, the original filter is evaluated otherwise. Filters
+ * that cannot be compiled (e.g., spatial filters, functions) are evaluated as they are, as part of the compiled tree.
+ */
+public class FilterCompiler {
+
+    /** Numbers whose comparisons are performed using their double value, without loss of precision */
+    private static final Set<Class<?>> ORDERED_NUMBERS =
+            Set.of(Byte.class, Short.class, Integer.class, Long.class, Double.class);
+
+    /** Numbers that can be compared for equality on their primitive values */
+    private static final Set<Class<?>> EQUALITY_NUMBERS =
+            Set.of(Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+
+    private final SimpleFeatureType schema;
+
+    /** The indexes of the attributes read by the compiled predicates */
+    private final List<Integer> attributes = new ArrayList<>();
+
+    /**
+     * Compiles the filter for the given feature type
+     *
+     * @param filter The filter to compile
+     * @param schema The type of the features the filter will be evaluated against
+     * @return A compiled filter, behaving like the original one
+     */
+    public static CompiledFilter compile(Filter filter, SimpleFeatureType schema) {
+        if (filter instanceof CompiledFilter compiled && compiled.schema == schema) {
+            return compiled;
+        }
+        FilterCompiler compiler = new FilterCompiler(schema);
+        Predicate<SimpleFeature> predicate = compiler.compile(filter);
+        int[] attributes = compiler.attributes.stream().mapToInt(i -> i).toArray();
+        return new CompiledFilter(filter, schema, predicate, attributes);
+    }
+
+    private FilterCompiler(SimpleFeatureType schema) {
+        this.schema = schema;
+    }
+
+    private Predicate<SimpleFeature> compile(Filter filter) {
+        if (filter == Filter.INCLUDE) {
+            return f -> true;
+        } else if (filter == Filter.EXCLUDE) {
+            return f -> false;
+        }
+
+        Class<?> clazz = filter.getClass();
+        Predicate<SimpleFeature> result = null;
+        if (clazz == AndImpl.class) {
+            result = compileAnd(compileChildren(((AndImpl) filter).getChildren()));
+        } else if (clazz == OrImpl.class) {
+            result = compileOr(compileChildren(((OrImpl) filter).getChildren()));
+        } else if (clazz == NotImpl.class) {
+            Predicate<SimpleFeature> child = compile(((NotImpl) filter).getFilter());
+            result = f -> !child.test(f);
+        } else if (clazz == IsEqualsToImpl.class) {
+            result = compileEquals((IsEqualsToImpl) filter, false);
+        } else if (clazz == IsNotEqualToImpl.class) {
+            result = compileEquals((IsNotEqualToImpl) filter, true);
+        } else if (clazz == IsGreaterThanImpl.class) {
+            result = compileComparison((BinaryComparisonAbstract) filter, (l, r) -> l > r, c -> c > 0);
+        } else if (clazz == IsGreaterThanOrEqualToImpl.class) {
+            result = compileComparison((BinaryComparisonAbstract) filter, (l, r) -> l >= r, c -> c >= 0);
+        } else if (clazz == IsLessThenImpl.class) {
+            result = compileComparison((BinaryComparisonAbstract) filter, (l, r) -> !(l >= r), c -> c < 0);
+        } else if (clazz == IsLessThenOrEqualToImpl.class) {
+            result = compileComparison((BinaryComparisonAbstract) filter, (l, r) -> !(l > r), c -> c <= 0);
+        } else if (clazz == IsNullImpl.class) {
+            result = compileNull((IsNullImpl) filter);
+        } else if (clazz == IsBetweenImpl.class) {
+            result = compileBetween((IsBetweenImpl) filter);
+        }
+
+        if (result == null) {
+            result = filter::evaluate;
+        }
+        return result;
+    }
+
+    private List<Predicate<SimpleFeature>> compileChildren(List<Filter> children) {
+        List<Predicate<SimpleFeature>> result = new ArrayList<>(children.size());
+        for (Filter child : children) {
+            result.add(compile(child));
+        }
+        return result;
+    }
+
+    private Predicate<SimpleFeature> compileAnd(List<Predicate<SimpleFeature>> children) {
+        if (children.size() == 2) {
+            Predicate<SimpleFeature> c1 = children.get(0);
+            Predicate<SimpleFeature> c2 = children.get(1);
+            return f -> c1.test(f) && c2.test(f);
+        }
+        @SuppressWarnings("unchecked")
+        Predicate<SimpleFeature>[] array = children.toArray(new Predicate[children.size()]);
+        return f -> {
+            for (Predicate<SimpleFeature> child : array) {
+                if (!child.test(f)) return false;
+            }
+            return true;
+        };
+    }
+
+    private Predicate<SimpleFeature> compileOr(List<Predicate<SimpleFeature>> children) {
+        if (children.size() == 2) {
+            Predicate<SimpleFeature> c1 = children.get(0);
+            Predicate<SimpleFeature> c2 = children.get(1);
+            return f -> c1.test(f) || c2.test(f);
+        }
+        @SuppressWarnings("unchecked")
+        Predicate<SimpleFeature>[] array = children.toArray(new Predicate[children.size()]);
+        return f -> {
+            for (Predicate<SimpleFeature> child : array) {
+                if (child.test(f)) return true;
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Compiles equality comparisons between an attribute and a literal, following the same conversion rules as
+     * {@link IsEqualsToImpl#evaluateInternal(Object, Object)}
+     */
+    private Predicate<SimpleFeature> compileEquals(BinaryComparisonAbstract filter, boolean negate) {
+        Operands operands = getOperands(filter);
+        if (operands == null) return null;
+
+        Object literal = operands.value;
+        Class<?> binding = operands.binding;
+        Predicate<Object> equals = null;
+        if (binding == String.class && literal instanceof String string) {
+            if (filter.isMatchingCase()) {
+                equals = v -> string.equals(v);
+            } else {
+                equals = v -> string.equalsIgnoreCase((String) v);
+            }
+        } else if (EQUALITY_NUMBERS.contains(binding) && EQUALITY_NUMBERS.contains(literal.getClass())) {
+            Number number = (Number) literal;
+            if (binding == literal.getClass()) {
+                // same class, Number.equals semantics
+                if (binding == Double.class) {
+                    long bits = Double.doubleToLongBits(number.doubleValue());
+                    equals = v -> Double.doubleToLongBits((Double) v) == bits;
+                } else if (binding == Float.class) {
+                    int bits = Float.floatToIntBits(number.floatValue());
+                    equals = v -> Float.floatToIntBits((Float) v) == bits;
+                } else {
+                    long value = number.longValue();
+                    equals = v -> ((Number) v).longValue() == value;
+                }
+            } else {
+                // the literal converted to the attribute type, or a numeric comparison
+                Object converted = Converters.convert(literal, binding);
+                double fp2 = number.doubleValue();
+                long lg2 = number.longValue();
+                boolean integral2 = fp2 == lg2;
+                equals = v -> {
+                    if (converted != null && converted.equals(v)) return true;
+                    Number n1 = (Number) v;
+                    double fp1 = n1.doubleValue();
+                    long lg1 = n1.longValue();
+                    if (fp1 == lg1 && integral2) return lg1 == lg2;
+                    return fp1 == fp2 || Double.isNaN(fp1) && Double.isNaN(fp2);
+                };
+            }
+        }
+        if (equals == null) return null;
+
+        // null values are never equal to the literal
+        if (negate) {
+            return guard(filter, operands.attribute, binding, true, equals.negate());
+        }
+        return guard(filter, operands.attribute, binding, false, equals);
+    }
+
+    /**
+     * Compiles ordering comparisons between an attribute and a literal, following the same conversion rules as
+     * {@link CompareFilterImpl#compare(Comparable, Comparable)}
+     *
+     * @param filter The comparison filter
+     * @param numeric The comparison between two numbers, left and right as in the filter
+     * @param textual The test on the result of comparing two strings, left and right as in the filter
+     */
+    private Predicate<SimpleFeature> compileComparison(
+            BinaryComparisonAbstract filter, DoubleComparison numeric, Predicate<Integer> textual) {
+        Operands operands = getOperands(filter);
+        if (operands == null) return null;
+
+        Object literal = operands.value;
+        Class<?> binding = operands.binding;
+        Predicate<Object> comparison = null;
+        if (ORDERED_NUMBERS.contains(binding) && ORDERED_NUMBERS.contains(literal.getClass())) {
+            // numbers are compared as doubles
+            double value = ((Number) literal).doubleValue();
+            if (operands.literalFirst) {
+                comparison = v -> numeric.test(value, ((Number) v).doubleValue());
+            } else {
+                comparison = v -> numeric.test(((Number) v).doubleValue(), value);
+            }
+        } else if (binding == String.class && literal instanceof String string && !isNumber(string)) {
+            // strings are compared as doubles when both are numbers, never the case with this literal
+            if (operands.literalFirst) {
+                comparison = v -> textual.test(string.compareTo((String) v));
+            } else {
+                comparison = v -> textual.test(((String) v).compareTo(string));
+            }
+        }
+        if (comparison == null) return null;
+
+        // comparisons with null are always false
+        return guard(filter, operands.attribute, binding, false, comparison);
+    }
+
+    private Predicate<SimpleFeature> compileNull(IsNullImpl filter) {
+        // other property names might return attributes, that need to be unpacked
+        if (filter.getExpression().getClass() != AttributeExpressionImpl.class) return null;
+        Function<SimpleFeature, Object> attribute = getAttribute(filter.getExpression());
+        if (attribute == null) return null;
+
+        return f -> attribute.apply(f) == null;
+    }
+
+    /**
+     * Compiles a between filter with literal boundaries, following the same conversion rules as
+     * {@link IsBetweenImpl#evaluateInternal(Object, Object, Object)}
+     */
+    @SuppressWarnings("unchecked")
+    private Predicate<SimpleFeature> compileBetween(IsBetweenImpl filter) {
+        Function<SimpleFeature, Object> attribute = getAttribute(filter.getExpression());
+        if (attribute == null
+                || !(filter.getLowerBoundary() instanceof Literal lower)
+                || !(filter.getUpperBoundary() instanceof Literal upper)) {
+            return null;
+        }
+        Class<?> binding = getBinding(filter.getExpression());
+        Object lowerValue = lower.evaluate(null);
+        Object upperValue = upper.evaluate(null);
+        if (lowerValue == null || upperValue == null) return null;
+
+        // boundaries are converted to the value type, and compared using compareTo
+        Object l = Converters.convert(lowerValue, binding);
+        Object u = Converters.convert(upperValue, binding);
+        if (l == null || u == null) return null;
+        Predicate<SimpleFeature> between;
+        if (binding == Double.class) {
+            double lv = (Double) l;
+            double uv = (Double) u;
+            between = guard(filter, attribute, binding, false, v -> {
+                double d = (Double) v;
+                return Double.compare(lv, d) <= 0 && Double.compare(uv, d) >= 0;
+            });
+        } else if (binding == Float.class) {
+            float lv = (Float) l;
+            float uv = (Float) u;
+            between = guard(filter, attribute, binding, false, v -> {
+                float d = (Float) v;
+                return Float.compare(lv, d) <= 0 && Float.compare(uv, d) >= 0;
+            });
+        } else if (binding == Long.class || binding == Integer.class || binding == Short.class || binding == Byte.class) {
+            long lv = ((Number) l).longValue();
+            long uv = ((Number) u).longValue();
+            between = guard(filter, attribute, binding, false, v -> {
+                long d = ((Number) v).longValue();
+                return lv <= d && uv >= d;
+            });
+        } else if (binding == String.class) {
+            String lv = (String) l;
+            String uv = (String) u;
+            between = guard(filter, attribute, binding, false, v -> lv.compareTo((String) v) <= 0
+                    && uv.compareTo((String) v) >= 0);
+        } else {
+            return null;
+        }
+
+        // null values are never between the boundaries
+        return between;
+    }
+
+    /**
+     * Wraps a test on the attribute value, falling back on the original filter if the value is not of the expected
+     * class
+     *
+     * @param filter The original filter
+     * @param attribute The attribute value accessor
+     * @param binding The expected attribute value class
+     * @param nullResult The result of the filter when the attribute value is null
+     * @param test The test on the attribute value
+     */
+    private static Predicate<SimpleFeature> guard(
+            Filter filter,
+            Function<SimpleFeature, Object> attribute,
+            Class<?> binding,
+            boolean nullResult,
+            Predicate<Object> test) {
+        return f -> {
+            Object value = attribute.apply(f);
+            if (value == null) return nullResult;
+            if (value.getClass() == binding) return test.test(value);
+            return filter.evaluate(f);
+        };
+    }
+
+    private static boolean isNumber(String string) {
+        try {
+            Double.parseDouble(string);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /** Returns the attribute and literal of a comparison, or null if the comparison is not among them */
+    private Operands getOperands(BinaryComparisonAbstract filter) {
+        Expression e1 = filter.getExpression1();
+        Expression e2 = filter.getExpression2();
+        boolean literalFirst;
+        Expression property;
+        Literal literal;
+        if (e1 instanceof Literal l && !(e2 instanceof Literal)) {
+            literalFirst = true;
+            literal = l;
+            property = e2;
+        } else if (e2 instanceof Literal l && !(e1 instanceof Literal)) {
+            literalFirst = false;
+            literal = l;
+            property = e1;
+        } else {
+            return null;
+        }
+        Function<SimpleFeature, Object> attribute = getAttribute(property);
+        Object value = literal.evaluate(null);
+        if (attribute == null || value == null) return null;
+        return new Operands(attribute, getBinding(property), value, literalFirst);
+    }
+
+    /**
+     * Returns a function reading the property value from a feature, or null if the expression is not a property of the
+     * schema. Plain property names are read by index, other property names are evaluated as usual
+     */
+    private Function<SimpleFeature, Object> getAttribute(Expression expression) {
+        if (!(expression instanceof PropertyName property)) return null;
+        int index = schema.indexOf(property.getPropertyName());
+        if (index < 0) return null;
+        attributes.add(index);
+        if (expression.getClass() == AttributeExpressionImpl.class) {
+            return f -> f.getAttribute(index);
+        }
+        return f -> property.evaluate(f);
+    }
+
+    private Class<?> getBinding(Expression property) {
+        int index = schema.indexOf(((PropertyName) property).getPropertyName());
+        return schema.getDescriptor(index).getType().getBinding();
+    }
+
+    /** A comparison between two doubles */
+    private interface DoubleComparison {
+        boolean test(double left, double right);
+    }
+
+    /** The operands of a comparison between a property and a literal */
+    private static class Operands {
+        final Function<SimpleFeature, Object> attribute;
+
+        final Class<?> binding;
+
+        final Object value;
+
+        final boolean literalFirst;
+
+        Operands(Function<SimpleFeature, Object> attribute, Class<?> binding, Object value, boolean literalFirst) {
+            this.attribute = attribute;
+            this.binding = binding;
+            this.value = value;
+            this.literalFirst = literalFirst;
+        }
+    }
+
+    /**
+     * A filter compiled for a specific feature type. Features of a different type, or objects that are not simple
+     * features, are evaluated using the original filter. Visitors are accepted by the original filter, so the compiled
+     * version is a drop in replacement for it.
+     */
+    public static class CompiledFilter implements Filter, Predicate<SimpleFeature> {
+
+        private final Filter filter;
+
+        private final SimpleFeatureType schema;
+
+        private final Predicate<SimpleFeature> predicate;
+
+        private final int[] attributes;
+
+        /** The last feature type found to be compatible with the schema */
+        private SimpleFeatureType compatible;
+
+        CompiledFilter(Filter filter, SimpleFeatureType schema, Predicate<SimpleFeature> predicate, int[] attributes) {
+            this.filter = filter;
+            this.schema = schema;
+            this.predicate = predicate;
+            this.attributes = attributes;
+            this.compatible = schema;
+        }
+
+        /** Returns the original filter */
+        public Filter getFilter() {
+            return filter;
+        }
+
+        @Override
+        public boolean test(SimpleFeature feature) {
+            SimpleFeatureType type = feature.getFeatureType();
+            if (type != compatible) {
+                if (!isCompatible(type)) {
+                    return filter.evaluate(feature);
+                }
+                compatible = type;
+            }
+            return predicate.test(feature);
+        }
+
+        /**
+         * Checks the type has the attributes used by the compiled predicates at the same positions, with the same
+         * bindings. Data stores often return features whose type is equal, but not the same, as the one they advertise
+         */
+        private boolean isCompatible(SimpleFeatureType type) {
+            if (type == schema) return true;
+            for (int index : attributes) {
+                if (index >= type.getAttributeCount()) return false;
+                AttributeDescriptor expected = schema.getDescriptor(index);
+                AttributeDescriptor actual = type.getDescriptor(index);
+                if (!expected.getLocalName().equals(actual.getLocalName())
+                        || !expected.getType().getBinding().equals(actual.getType().getBinding())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean evaluate(Object object) {
+            if (object instanceof SimpleFeature feature) {
+                return test(feature);
+            }
+            return filter.evaluate(object);
+        }
+
+        @Override
+        public Object accept(FilterVisitor visitor, Object extraData) {
+            return filter.accept(visitor, extraData);
+        }
+
+        @Override
+        public String toString() {
+            return filter.toString();
+        }
+    }
+}
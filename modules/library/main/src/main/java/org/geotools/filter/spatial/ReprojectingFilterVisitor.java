@@ -44,12 +44,14 @@
 import org.geotools.api.geometry.BoundingBox;
 import org.geotools.api.referencing.FactoryException;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform;
 import org.geotools.api.referencing.operation.TransformException;
 import org.geotools.filter.function.BoundedByFunction;
 import org.geotools.filter.visitor.DuplicatingFilterVisitor;
 import org.geotools.geometry.jts.JTS;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.referencing.CRS;
+import org.geotools.referencing.operation.MathTransformCache;
 import org.locationtech.jts.geom.Geometry;
 
 /**
@@ -359,7 +361,8 @@ protected Geometry reproject(Object value, CoordinateReferenceSystem propertyCrs
         try {
             // reproject
             CoordinateReferenceSystem geomCRS = (CoordinateReferenceSystem) geom.getUserData();
-            Geometry transformed = JTS.transform(geom, CRS.findMathTransform(geomCRS, propertyCrs, true));
+            MathTransform transform = MathTransformCache.getDefault().getMathTransform(geomCRS, propertyCrs, true);
+            Geometry transformed = JTS.transform(geom, transform);
             transformed.setUserData(propertyCrs);
 
             return transformed;
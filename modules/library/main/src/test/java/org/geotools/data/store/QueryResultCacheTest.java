@@ -0,0 +1,145 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.store;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.geotools.api.data.Query;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.junit.Test;
+
+public class QueryResultCacheTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    @Test
+    public void testCount() {
+        QueryResultCache cache = new QueryResultCache(10, 0);
+        Query query = new Query("test", FF.less(FF.property("value"), FF.literal(10)));
+        assertNull(cache.getCount(query));
+        cache.putCount(query, 10, cache.getStamp());
+
+        // an equal query hits the cache
+        Query equal = new Query("test", FF.less(FF.property("value"), FF.literal(10)));
+        assertEquals(Integer.valueOf(10), cache.getCount(equal));
+        // the properties are not relevant for counts, but they are for bounds
+        equal.setPropertyNames("value");
+        assertEquals(Integer.valueOf(10), cache.getCount(equal));
+        assertNull(cache.getBounds(query));
+
+        Query paged = new Query(query);
+        paged.setMaxFeatures(5);
+        assertNull(cache.getCount(paged));
+        assertEquals(2, cache.getHits());
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    public void testSorting() {
+        QueryResultCache cache = new QueryResultCache(10, 0);
+        Query query = new Query("test");
+        cache.putCount(query, 100, cache.getStamp());
+
+        // sorting does not change the count of an unpaged query
+        Query sorted = new Query(query);
+        sorted.setSortBy(FF.sort("value", SortOrder.ASCENDING));
+        assertEquals(Integer.valueOf(100), cache.getCount(sorted));
+
+        // but it does choose the features of a page
+        sorted.setStartIndex(10);
+        cache.putCount(sorted, 90, cache.getStamp());
+        Query reversed = new Query(sorted);
+        reversed.setSortBy(FF.sort("value", SortOrder.DESCENDING));
+        assertNull(cache.getCount(reversed));
+        assertEquals(Integer.valueOf(90), cache.getCount(sorted));
+    }
+
+    @Test
+    public void testBoundsCopied() {
+        QueryResultCache cache = new QueryResultCache(10, 0);
+        Query query = new Query("test");
+        ReferencedEnvelope bounds = new ReferencedEnvelope(0, 10, 0, 10, DefaultGeographicCRS.WGS84);
+        cache.putBounds(query, bounds, cache.getStamp());
+        bounds.expandToInclude(20, 20);
+
+        ReferencedEnvelope cached = cache.getBounds(query);
+        assertEquals(new ReferencedEnvelope(0, 10, 0, 10, DefaultGeographicCRS.WGS84), cached);
+        cached.expandToInclude(30, 30);
+        assertNotSame(cached, cache.getBounds(query));
+        assertEquals(10, cache.getBounds(query).getMaxX(), 0d);
+    }
+
+    @Test
+    public void testEviction() {
+        QueryResultCache cache = new QueryResultCache(2, 0);
+        Query q1 = new Query("test", FF.less(FF.property("value"), FF.literal(1)));
+        Query q2 = new Query("test", FF.less(FF.property("value"), FF.literal(2)));
+        Query q3 = new Query("test", FF.less(FF.property("value"), FF.literal(3)));
+        cache.putCount(q1, 1, cache.getStamp());
+        cache.putCount(q2, 2, cache.getStamp());
+        // q1 becomes the most recently used, q2 is evicted
+        assertEquals(Integer.valueOf(1), cache.getCount(q1));
+        cache.putCount(q3, 3, cache.getStamp());
+        assertEquals(2, cache.size());
+        assertNull(cache.getCount(q2));
+        assertEquals(Integer.valueOf(1), cache.getCount(q1));
+        assertEquals(Integer.valueOf(3), cache.getCount(q3));
+    }
+
+    @Test
+    public void testTimeToLive() {
+        AtomicLong time = new AtomicLong();
+        QueryResultCache cache = new QueryResultCache(10, 1000, time::get);
+        Query query = new Query("test");
+        cache.putCount(query, 100, cache.getStamp());
+
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals(Integer.valueOf(100), cache.getCount(query));
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(2));
+        assertNull(cache.getCount(query));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidation() {
+        QueryResultCache cache = new QueryResultCache(10, 0);
+        Query query = new Query("test");
+        cache.putCount(query, 100, cache.getStamp());
+        cache.invalidate();
+        assertNull(cache.getCount(query));
+
+        // a result computed while the data was being modified is not cached
+        long stamp = cache.getStamp();
+        cache.invalidate();
+        cache.putCount(query, 101, stamp);
+        assertNull(cache.getCount(query));
+        assertEquals(0, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        new QueryResultCache(0, 0);
+    }
+}
@@ -16,8 +16,11 @@
  */
 package org.geotools.data.util;
 
+import java.awt.geom.AffineTransform;
+import org.geotools.referencing.operation.transform.AffineTransform2D;
 import org.junit.Assert;
 import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
 
 public class ScreenMapTest {
     private int xmin;
@@ -153,4 +156,87 @@ public void testOutsideScreen() throws Exception {
         Assert.assertTrue(map.checkAndSet(0, 0));
         Assert.assertTrue(map.get(0, 0));
     }
+
+    @Test
+    public void testResetAndRelease() throws Exception {
+        ScreenMap map = new ScreenMap(10, 10, 20, 20);
+        Assert.assertFalse(map.checkAndSet(12, 15));
+        Assert.assertTrue(map.get(12, 15));
+
+        // reset keeps the storage, but clears the pixels
+        map.reset();
+        Assert.assertFalse(map.get(12, 15));
+        Assert.assertFalse(map.checkAndSet(12, 15));
+
+        // a released map can still be used
+        map.release();
+        Assert.assertFalse(map.get(12, 15));
+        Assert.assertFalse(map.checkAndSet(12, 15));
+        Assert.assertTrue(map.get(12, 15));
+        map.release();
+
+        // a map reusing released storage starts clean, even if the storage is larger than needed
+        ScreenMap large = new ScreenMap(0, 0, 100, 100);
+        xmin = ymin = 0;
+        width = height = 100;
+        setAll(large, true);
+        large.release();
+        ScreenMap small = new ScreenMap(0, 0, 13, 9);
+        for (int x = 0; x < 13; x++) {
+            for (int y = 0; y < 9; y++) {
+                Assert.assertFalse(small.get(x, y));
+            }
+        }
+        Assert.assertFalse(small.isFull(12, 8, 12, 8));
+    }
+
+    @Test
+    public void testIsFull() throws Exception {
+        // not a multiple of the block size, to test the partial blocks
+        ScreenMap map = new ScreenMap(5, 5, 21, 13);
+        Assert.assertFalse(map.isFull(5, 5, 25, 17));
+
+        for (int x = 7; x <= 25; x++) {
+            for (int y = 6; y <= 17; y++) {
+                map.set(x, y, true);
+            }
+        }
+        // whole blocks, partial blocks, single pixels
+        Assert.assertTrue(map.isFull(7, 6, 25, 17));
+        Assert.assertTrue(map.isFull(8, 8, 23, 15));
+        Assert.assertTrue(map.isFull(20, 16, 25, 17));
+        Assert.assertTrue(map.isFull(25, 17, 25, 17));
+        Assert.assertFalse(map.isFull(6, 6, 25, 17));
+        Assert.assertFalse(map.isFull(7, 5, 25, 17));
+        Assert.assertFalse(map.isFull(6, 10, 6, 10));
+
+        // pixels outside of the screen map are never busy
+        Assert.assertFalse(map.isFull(7, 6, 26, 17));
+        Assert.assertFalse(map.isFull(7, 6, 25, 18));
+
+        // clearing a single pixel in the middle
+        map.set(15, 10, false);
+        Assert.assertFalse(map.isFull(7, 6, 25, 17));
+        Assert.assertTrue(map.isFull(16, 6, 25, 17));
+    }
+
+    @Test
+    public void testIsFullEnvelope() throws Exception {
+        // one world unit every 2 pixels
+        ScreenMap map = new ScreenMap(0, 0, 32, 32, new AffineTransform2D(AffineTransform.getScaleInstance(2, 2)));
+        for (int x = 0; x < 20; x++) {
+            for (int y = 0; y < 10; y++) {
+                map.set(x, y, true);
+            }
+        }
+        Assert.assertTrue(map.isFull(new Envelope(0, 9.9, 0, 4.9)));
+        Assert.assertTrue(map.isFull(new Envelope(2, 3, 1, 2)));
+        Assert.assertFalse(map.isFull(new Envelope(0, 10, 0, 4.9)));
+        Assert.assertFalse(map.isFull(new Envelope(0, 9.9, 0, 5)));
+
+        // the features inside a full envelope are skipped
+        map.setSpans(1, 1);
+        Assert.assertTrue(map.get(new Envelope(3, 3.1, 3, 3.1)));
+        Assert.assertTrue(map.checkAndSet(new Envelope(3, 3.1, 3, 3.1)));
+    }
 }
@@ -23,6 +23,8 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -422,6 +424,43 @@ public void testMergingGroupByResultsWithNull() throws Exception {
         });
     }
 
+    @Test
+    public void testGroupConsumer() throws Exception {
+        Map<List<Object>, Object> groups = new HashMap<>();
+        GroupByVisitor visitor = new GroupByVisitorBuilder()
+                .withAggregateAttribute("energy_consumption", buildingType)
+                .withAggregateVisitor("Max")
+                .withGroupByAttribute("building_type", buildingType)
+                .withGroupConsumer((values, result) -> groups.put(values, result.getValue()))
+                .build();
+        featureCollection.accepts(visitor, new NullProgressListener());
+        assertTrue(visitor.wasVisited());
+
+        // the groups are handed over to the consumer, not kept in the result
+        CalcResult result = visitor.getResult();
+        assertTrue(((GroupByVisitor.GroupByResult) result).getResults().isEmpty());
+        assertEquals(Map.of(List.of("SCHOOL"), 60.0, List.of("FABRIC"), 500.0, List.of("HOUSE"), 6.0), groups);
+
+        // and released once handed over
+        groups.clear();
+        visitor.getResult();
+        assertTrue(groups.isEmpty());
+    }
+
+    @Test
+    public void testGroupConsumerOptimized() {
+        List<List<Object>> groups = new ArrayList<>();
+        GroupByVisitor visitor = buildVisitor("energy_consumption", "Max", "building_type");
+        visitor.setGroupConsumer((values, result) -> groups.add(values));
+        visitor.setValues(List.of(
+                        new GroupByVisitor.GroupByRawResult(List.of("SCHOOL"), 60.0),
+                        new GroupByVisitor.GroupByRawResult(List.of("HOUSE"), 6.0))
+                .iterator());
+        assertTrue(visitor.wasOptimized());
+        assertEquals(List.of(List.of("SCHOOL"), List.of("HOUSE")), groups);
+        assertTrue(((GroupByVisitor.GroupByResult) visitor.getResult()).getResults().isEmpty());
+    }
+
     @Test
     public void testFeatureAttributeVisitor() {
         GroupByVisitor visitor = buildVisitor("energy_consumption", "Average", "building_type");
@@ -0,0 +1,126 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.geotools.api.feature.FeatureVisitor;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+
+public class MergeableVisitorsTest {
+
+    static FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+
+    static List<SimpleFeature> features = new ArrayList<>();
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("test", "geom:Point,name:String,value:Integer");
+        GeometryFactory gf = new GeometryFactory();
+        for (int i = 0; i < 10; i++) {
+            features.add(SimpleFeatureBuilder.build(
+                    type, new Object[] {gf.createPoint(new Coordinate(i, -i)), "n" + i % 3, i}, null));
+        }
+    }
+
+    /** Visits the features with the given number of partial visitors, and merges them back */
+    private void visitInPartitions(FeatureVisitor visitor, int partitions) {
+        List<FeatureVisitor> partials = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            partials.add(MergeableVisitors.fork(visitor));
+        }
+        for (int i = 0; i < features.size(); i++) {
+            partials.get(i % partitions).visit(features.get(i));
+        }
+        MergeableVisitors.merge(visitor, partials);
+    }
+
+    @Test
+    public void testMergeable() {
+        assertTrue(MergeableVisitors.isMergeable(new CountVisitor()));
+        assertTrue(MergeableVisitors.isMergeable(new UniqueVisitor("name")));
+        assertFalse(MergeableVisitors.isMergeable(new SumAreaVisitor(ff.property("geom"))));
+        assertFalse(MergeableVisitors.isMergeable(new MedianVisitor("value")));
+        UniqueVisitor ordered = new UniqueVisitor("name");
+        ordered.setPreserveOrder(true);
+        assertFalse(MergeableVisitors.isMergeable(ordered));
+        UniqueVisitor paged = new UniqueVisitor("name");
+        paged.setMaxFeatures(2);
+        assertFalse(MergeableVisitors.isMergeable(paged));
+    }
+
+    @Test
+    public void testCount() {
+        CountVisitor visitor = new CountVisitor();
+        visitInPartitions(visitor, 3);
+        assertEquals(10, visitor.getCount());
+    }
+
+    @Test
+    public void testSum() {
+        SumVisitor visitor = new SumVisitor(ff.property("value"));
+        visitInPartitions(visitor, 4);
+        assertEquals(45, ((Number) visitor.getResult().getValue()).intValue());
+    }
+
+    @Test
+    public void testMinMax() {
+        MinVisitor min = new MinVisitor(ff.property("value"));
+        visitInPartitions(min, 3);
+        assertEquals(0, min.getResult().toInt());
+        MaxVisitor max = new MaxVisitor(ff.property("value"));
+        visitInPartitions(max, 3);
+        assertEquals(9, max.getResult().toInt());
+    }
+
+    @Test
+    public void testMinEmptyPartitions() {
+        // more partitions than features, some will be empty
+        MinVisitor min = new MinVisitor(ff.property("value"));
+        visitInPartitions(min, 20);
+        assertEquals(0, min.getResult().toInt());
+    }
+
+    @Test
+    public void testBounds() {
+        BoundsVisitor visitor = new BoundsVisitor();
+        visitInPartitions(visitor, 3);
+        assertEquals(new ReferencedEnvelope(0, 9, -9, 0, null), visitor.getBounds());
+    }
+
+    @Test
+    public void testUnique() {
+        UniqueVisitor visitor = new UniqueVisitor("name");
+        visitInPartitions(visitor, 4);
+        assertEquals(Set.of("n0", "n1", "n2"), visitor.getUnique());
+    }
+}
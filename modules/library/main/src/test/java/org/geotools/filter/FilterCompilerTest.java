@@ -0,0 +1,190 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.filter.FilterCompiler.CompiledFilter;
+import org.geotools.filter.visitor.DuplicatingFilterVisitor;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FilterCompilerTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    static final String[] ATTRIBUTES = {"b", "s", "i", "l", "f", "d", "str"};
+
+    static final Object[] LITERALS = {
+        5, 5L, (short) 5, (byte) 5, 5f, 5d, 5.5d, 5.5f, -0d, 0d, Double.NaN, 1e20, "5", "5.0", "abc", "ABC", null
+    };
+
+    SimpleFeatureType schema;
+
+    List<SimpleFeature> features;
+
+    @Before
+    public void setUp() {
+        SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+        tb.setName("test");
+        tb.add("b", Byte.class);
+        tb.add("s", Short.class);
+        tb.add("i", Integer.class);
+        tb.add("l", Long.class);
+        tb.add("f", Float.class);
+        tb.add("d", Double.class);
+        tb.add("str", String.class);
+        schema = tb.buildFeatureType();
+
+        features = new ArrayList<>();
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(schema);
+        features.add(fb.buildFeature(null, (byte) 5, (short) 5, 5, 5L, 5f, 5d, "abc"));
+        features.add(fb.buildFeature(null, (byte) 4, (short) 6, 4, 6L, 5.5f, 5.5d, "ABC"));
+        features.add(fb.buildFeature(null, (byte) -1, (short) 0, 0, Long.MAX_VALUE, 0f, -0d, "5"));
+        features.add(fb.buildFeature(null, (byte) 0, (short) 0, -5, -5L, Float.NaN, Double.NaN, "5.0"));
+        features.add(fb.buildFeature(null, null, null, null, null, null, 1e20, "zzz"));
+        features.add(fb.buildFeature(null, (byte) 0, (short) 0, Integer.MAX_VALUE, 0L, 0f, 0d, null));
+
+        // values not matching the attribute bindings, handled by the original filters
+        SimpleFeature mismatched = fb.buildFeature(null, (byte) 5, (short) 5, 5, 5L, 5f, 5d, "abc");
+        mismatched.setAttribute("i", 5L);
+        mismatched.setAttribute("d", "5");
+        mismatched.setAttribute("str", 5);
+        features.add(mismatched);
+    }
+
+    @Test
+    public void testComparisons() {
+        for (String attribute : ATTRIBUTES) {
+            for (Object value : LITERALS) {
+                Expression property = FF.property(attribute);
+                Expression literal = FF.literal(value);
+                for (Expression[] operands : new Expression[][] {{property, literal}, {literal, property}}) {
+                    Expression e1 = operands[0];
+                    Expression e2 = operands[1];
+                    assertSameResults(FF.equals(e1, e2));
+                    assertSameResults(FF.equal(e1, e2, false));
+                    assertSameResults(FF.notEqual(e1, e2));
+                    assertSameResults(FF.notEqual(e1, e2, false));
+                    assertSameResults(FF.greater(e1, e2));
+                    assertSameResults(FF.greaterOrEqual(e1, e2));
+                    assertSameResults(FF.less(e1, e2));
+                    assertSameResults(FF.lessOrEqual(e1, e2));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBetween() {
+        Object[][] bounds = {{0, 5}, {4.5, 5.5}, {-1L, 10L}, {"4", "6"}, {"a", "b"}, {0, "abc"}};
+        for (String attribute : ATTRIBUTES) {
+            for (Object[] bound : bounds) {
+                assertSameResults(FF.between(FF.property(attribute), FF.literal(bound[0]), FF.literal(bound[1])));
+            }
+        }
+    }
+
+    @Test
+    public void testLogic() {
+        Filter gt = FF.greater(FF.property("i"), FF.literal(0));
+        Filter eq = FF.equals(FF.property("str"), FF.literal("abc"));
+        Filter nil = FF.isNull(FF.property("l"));
+        Filter like = FF.like(FF.property("str"), "a%");
+        assertSameResults(nil);
+        assertSameResults(FF.and(gt, eq));
+        assertSameResults(FF.and(Arrays.asList(gt, eq, like)));
+        assertSameResults(FF.or(gt, nil));
+        assertSameResults(FF.or(Arrays.asList(eq, nil, like)));
+        assertSameResults(FF.not(FF.or(gt, eq)));
+        assertSameResults(FF.and(FF.not(nil), FF.or(like, Filter.EXCLUDE)));
+        assertSameResults(FF.or(Filter.INCLUDE, gt));
+    }
+
+    @Test
+    public void testNotCompilable() {
+        // properties missing from the schema, comparisons between properties, functions
+        assertSameResults(FF.equals(FF.property("missing"), FF.literal(5)));
+        assertSameResults(FF.less(FF.property("i"), FF.property("l")));
+        assertSameResults(FF.greater(FF.function("strLength", FF.property("str")), FF.literal(2)));
+        assertSameResults(FF.equals(FF.literal(5), FF.literal(5)));
+    }
+
+    @Test
+    public void testOtherFeatureTypes() throws Exception {
+        Filter filter = FF.and(
+                FF.greater(FF.property("i"), FF.literal(4)), FF.equals(FF.property("str"), FF.literal("abc")));
+        CompiledFilter compiled = FilterCompiler.compile(filter, schema);
+
+        // same structure, different instance
+        SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+        tb.init(schema);
+        SimpleFeatureType copy = tb.buildFeatureType();
+        SimpleFeature feature = SimpleFeatureBuilder.retype(features.get(0), copy);
+        assertTrue(compiled.test(feature));
+
+        // attributes in different positions
+        tb = new SimpleFeatureTypeBuilder();
+        tb.setName("reordered");
+        tb.add("str", String.class);
+        tb.add("i", Integer.class);
+        SimpleFeatureType reordered = tb.buildFeatureType();
+        feature = SimpleFeatureBuilder.build(reordered, new Object[] {"abc", 5}, null);
+        assertTrue(compiled.test(feature));
+        feature = SimpleFeatureBuilder.build(reordered, new Object[] {"abc", 3}, null);
+        assertFalse(compiled.test(feature));
+
+        // not a feature at all
+        assertEquals(filter.evaluate(null), compiled.evaluate(null));
+    }
+
+    @Test
+    public void testDropInReplacement() {
+        Filter filter = FF.less(FF.property("i"), FF.literal(4));
+        CompiledFilter compiled = FilterCompiler.compile(filter, schema);
+        assertSame(filter, compiled.getFilter());
+        assertSame(compiled, FilterCompiler.compile(compiled, schema));
+        assertEquals(filter.toString(), compiled.toString());
+
+        // visitors see the original filter
+        Filter duplicate = (Filter) compiled.accept(new DuplicatingFilterVisitor(), null);
+        assertEquals(filter, duplicate);
+    }
+
+    private void assertSameResults(Filter filter) {
+        CompiledFilter compiled = FilterCompiler.compile(filter, schema);
+        for (SimpleFeature feature : features) {
+            boolean expected = filter.evaluate(feature);
+            assertEquals(filter + " on " + feature, expected, compiled.evaluate(feature));
+            assertEquals(filter + " on " + feature, expected, compiled.test(feature));
+        }
+    }
+}
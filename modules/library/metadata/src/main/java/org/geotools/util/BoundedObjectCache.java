@@ -0,0 +1,311 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, concurrent implementation of {@link ObjectCache}. This instance is used when caching is desired under heavy
+ * concurrency, with a predictable memory footprint.
+ *
+ * <p>The cache is split in segments selected by the key hash, each holding at most its share of the capacity. Reads do
+ * not take any lock: the values are held in a {@link ConcurrentHashMap} and a read only marks the entry as recently
+ * used. Writes lock the segment of the key, and when the segment is full evict an entry with the CLOCK algorithm, an
+ * approximation of LRU: the entries are visited in insertion order, the ones used since the last visit are given a
+ * second chance, the first one that was not is evicted.
+ *
+ * <p>The {@link #writeLock} and {@link #writeUnLock} methods lock a single key, so that under concurrent misses only
+ * the thread holding the lock loads the value, while the others wait for it and then find it with {@link #peek}. The
+ * locks are released from memory once no thread holds or waits for them.
+ *
+ * <p>The hit, miss and eviction counts are available for monitoring.
+ *
+ * @since 35
+ */
+public final class BoundedObjectCache<K, V> implements ObjectCache<K, V> {
+
+    /** The maximum number of segments. */
+    private static final int MAX_SEGMENTS = 64;
+
+    /** The minimum number of entries held by a segment, smaller caches use less segments. */
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    /** A cache entry. */
+    private static final class Node<K, V> {
+        final K key;
+
+        volatile V value;
+
+        /** Set on read, cleared when the eviction clock passes over the entry. */
+        volatile boolean referenced;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /** A portion of the cache, with its own capacity and eviction clock. */
+    private static final class Segment<K, V> {
+        final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+
+        /** The entries in insertion order, guarded by {@link #lock}. */
+        final ArrayDeque<Node<K, V>> clock = new ArrayDeque<>();
+
+        final ReentrantLock lock = new ReentrantLock();
+
+        final int capacity;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+
+    /** A key lock, counting the threads holding or waiting for it. */
+    @SuppressWarnings("serial")
+    private static final class KeyLock extends ReentrantLock {
+        /** Guarded by the {@link ConcurrentHashMap#compute} of the {@link #locks} map. */
+        int users;
+    }
+
+    private final Segment<K, V>[] segments;
+
+    private final int capacity;
+
+    /** The locks of the keys being written. */
+    private final ConcurrentHashMap<K, KeyLock> locks = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity The maximum number of entries.
+     */
+    public BoundedObjectCache(final int capacity) {
+        this(capacity, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity The maximum number of entries.
+     * @param concurrency The expected number of threads writing the cache at the same time, used to size the segments.
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedObjectCache(final int capacity, final int concurrency) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The cache capacity must be positive: " + capacity);
+        }
+        int count = Math.min(MAX_SEGMENTS, Math.max(1, concurrency));
+        count = Math.min(count, Math.max(1, capacity / MIN_SEGMENT_CAPACITY));
+        count = Integer.highestOneBit(count);
+        this.capacity = capacity;
+        this.segments = new Segment[count];
+        // spread the remainder so that the segment capacities add up to the cache capacity
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+    }
+
+    private Segment<K, V> segmentFor(final Object key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return segments[h & (segments.length - 1)];
+    }
+
+    /** Removes all entries from this cache. */
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+                segment.clock.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the object from the cache, without blocking.
+     *
+     * @param key The key whose associated value is to be returned.
+     */
+    @Override
+    public V get(final K key) {
+        final Node<K, V> node = segmentFor(key).map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        // avoid writing a shared cache line when not needed
+        if (!node.referenced) {
+            node.referenced = true;
+        }
+        hits.increment();
+        return node.value;
+    }
+
+    /** Returns the object from the cache, without affecting the statistics and the eviction order. */
+    @Override
+    public V peek(final K key) {
+        final Node<K, V> node = segmentFor(key).map.get(key);
+        return node != null ? node.value : null;
+    }
+
+    /** Stores a value, evicting the least recently used entries of its segment if full. */
+    @Override
+    public void put(final K key, final V object) {
+        final Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            final Node<K, V> node = segment.map.get(key);
+            if (node != null) {
+                node.value = object;
+                node.referenced = true;
+                return;
+            }
+            final Node<K, V> added = new Node<>(key, object);
+            segment.map.put(key, added);
+            segment.clock.addLast(added);
+            while (segment.map.size() > segment.capacity) {
+                evict(segment);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /** Evicts one entry from the segment, must be called holding the segment lock. */
+    private void evict(final Segment<K, V> segment) {
+        Node<K, V> node;
+        while ((node = segment.clock.pollFirst()) != null) {
+            if (node.referenced) {
+                node.referenced = false;
+                segment.clock.addLast(node);
+            } else {
+                segment.map.remove(node.key, node);
+                evictions.increment();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void writeLock(final K key) {
+        final KeyLock lock = locks.compute(key, (k, l) -> {
+            if (l == null) {
+                l = new KeyLock();
+            }
+            l.users++;
+            return l;
+        });
+        // Must be outside the above compute, since this call may block.
+        lock.lock();
+    }
+
+    @Override
+    public void writeUnLock(final K key) {
+        locks.compute(key, (k, l) -> {
+            if (l == null || !l.isHeldByCurrentThread()) {
+                throw new IllegalMonitorStateException("Cannot unlock prior to locking");
+            }
+            l.unlock();
+            return --l.users == 0 ? null : l;
+        });
+    }
+
+    /** @return the keys of the object currently in the cache */
+    @Override
+    public Set<K> getKeys() {
+        final Set<K> keys = new HashSet<>();
+        for (Segment<K, V> segment : segments) {
+            keys.addAll(segment.map.keySet());
+        }
+        return keys;
+    }
+
+    /** Removes the given key from the cache. */
+    @Override
+    public void remove(final K key) {
+        final Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            final Node<K, V> node = segment.map.remove(key);
+            if (node != null) {
+                segment.clock.remove(node);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /** Returns the maximum number of entries. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Returns the number of entries currently in the cache. */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.map.size();
+        }
+        return size;
+    }
+
+    /** Returns the number of {@link #get} calls that found a value. */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /** Returns the number of {@link #get} calls that did not find a value. */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /** Returns the number of entries evicted to keep the cache within its capacity. */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedObjectCache[size="
+                + size()
+                + ", capacity="
+                + capacity
+                + ", hits="
+                + getHitCount()
+                + ", misses="
+                + getMissCount()
+                + ", evictions="
+                + getEvictionCount()
+                + "]";
+    }
+}
@@ -185,7 +185,7 @@ public static <K, V> ObjectCache<K, V> create(Hints hints) throws FactoryRegistr
     /**
      * Utility method used to produce an ObjectCache.
      *
-     * @param policy One of "weak", "all", "none", "soft"
+     * @param policy One of "weak", "all", "none", "fixed", "soft", "bounded"
      * @param size Used to indicate requested size, exact use depends on policy
      * @return A new ObjectCache
      * @see Hints.BUFFER_POLICY
@@ -203,6 +203,8 @@ public static <K, V> ObjectCache<K, V> create(String policy, int size) {
             return new FixedSizeObjectCache<>(size);
         } else if ("soft".equals(policy)) {
             return new SoftObjectCache<>(size);
+        } else if ("bounded".equalsIgnoreCase(policy)) {
+            return new BoundedObjectCache<>(size);
         } else {
             return new DefaultObjectCache<>(size);
         }
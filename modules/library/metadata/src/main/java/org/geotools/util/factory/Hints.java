@@ -533,6 +533,25 @@ public class Hints extends RenderingHints {
      */
     public static final Key FEATURE_2D = new Key(Boolean.class);
 
+    /**
+     * Indicates that an approximate result is acceptable when computing the count or the bounds of a query, allowing a
+     * datastore to answer from statistics (e.g., the ones collected by a database for its query planner) instead of
+     * scanning the data.
+     *
+     * @since 35.0
+     */
+    public static final Key ESTIMATED_RESULT = new Key(Boolean.class);
+
+    /**
+     * The continuation token of a paged query, that is, the values of the sort keys of the last feature of the
+     * previous page. Datastores supporting keyset pagination use it to start the page right after that feature,
+     * ignoring {@link org.geotools.api.data.Query#getStartIndex()}, so that each page is read in constant time instead
+     * of having the database skip all the features of the previous pages.
+     *
+     * @since 35.0
+     */
+    public static final Key KEYSET_CONTINUATION = new Key(Object[].class);
+
     /**
      * Key to control the maximum number of features that will be kept in memory when performing a fallback merge-sort
      * (used when the datastore does not have native means to handle feature sorting)
@@ -772,11 +791,16 @@ public class Hints extends RenderingHints {
      *   <li>{@code "fixed") for holding a fixed number of values specified by {@link #CACHE_LIMIT}. <li>{@code "all"}
      *       for holding values through strong references.</li> <li>{@code "none"} for disabling the cache.</li>
      *       <li>{@code "soft"} for holding the value throuhg(@linkplain java.lang.ref.SoftReference soft references}.
+     *       <li>{@code "bounded"} for holding at most {@link #CACHE_LIMIT} values through strong references, evicting
+     *       the least recently used ones. Reads do not lock, this option is meant for heavily concurrent access.
+     *   <li>{@code "default"}, also used when no policy is given, for holding every value through strong references
+     *       as {@code "all"} does.
      * </ul>
      *
      * @since 2.5
      */
-    public static final OptionKey CACHE_POLICY = new OptionKey("weak", "all", "fixed", "none", "default", "soft");
+    public static final OptionKey CACHE_POLICY =
+            new OptionKey("weak", "all", "fixed", "none", "default", "soft", "bounded");
 
     /**
      * The recommended maximum number of referencing objects to hold in a
@@ -0,0 +1,146 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/** Tests the {@link BoundedObjectCache}. */
+public final class BoundedObjectCacheTest {
+
+    @Test
+    public void testSimple() {
+        BoundedObjectCache<Integer, String> cache = new BoundedObjectCache<>(10);
+        assertNull(cache.get(1));
+        cache.put(1, "one");
+        assertEquals("one", cache.get(1));
+        assertEquals("one", cache.peek(1));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cache.put(1, "uno");
+        assertEquals("uno", cache.peek(1));
+        assertEquals(1, cache.size());
+
+        cache.remove(1);
+        assertNull(cache.peek(1));
+        assertTrue(cache.getKeys().isEmpty());
+    }
+
+    @Test
+    public void testEviction() {
+        BoundedObjectCache<Integer, String> cache = new BoundedObjectCache<>(16, 1);
+        for (int i = 0; i < 16; i++) {
+            cache.put(i, "v" + i);
+        }
+        assertEquals(16, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+
+        // the recently used entry gets a second chance, the next one in insertion order is evicted
+        cache.get(0);
+        cache.put(16, "v16");
+        assertEquals(16, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals("v0", cache.peek(0));
+        assertNull(cache.peek(1));
+        assertEquals("v16", cache.peek(16));
+
+        for (int i = 100; i < 200; i++) {
+            cache.put(i, "v" + i);
+        }
+        assertEquals(16, cache.size());
+        assertEquals(101, cache.getEvictionCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCapacity() {
+        BoundedObjectCache<Integer, Integer> cache = new BoundedObjectCache<>(1000, 64);
+        for (int i = 0; i < 10000; i++) {
+            cache.put(i, i);
+        }
+        assertEquals(1000, cache.getCapacity());
+        assertEquals(1000, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new BoundedObjectCache<>(0);
+    }
+
+    @Test(expected = IllegalMonitorStateException.class)
+    public void testUnlockWithoutLock() {
+        new BoundedObjectCache<>(10).writeUnLock("key");
+    }
+
+    /** Concurrent misses on the same key must load the value only once. */
+    @Test
+    public void testLoadOnce() throws Exception {
+        final BoundedObjectCache<String, Object> cache = new BoundedObjectCache<>(10);
+        final AtomicInteger loads = new AtomicInteger();
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Callable<Object> task = () -> {
+                    start.await();
+                    Object value = cache.get("key");
+                    if (value == null) {
+                        try {
+                            cache.writeLock("key");
+                            value = cache.peek("key");
+                            if (value == null) {
+                                loads.incrementAndGet();
+                                Thread.sleep(50);
+                                value = new Object();
+                                cache.put("key", value);
+                            }
+                        } finally {
+                            cache.writeUnLock("key");
+                        }
+                    }
+                    return value;
+                };
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+            Object first = results.get(0).get();
+            for (Future<Object> result : results) {
+                assertSame(first, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, loads.get());
+    }
+}
@@ -21,6 +21,7 @@
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import org.geotools.util.factory.Hints;
 import org.junit.Test;
 
 /**
@@ -77,4 +78,20 @@ public void testRemove() {
         cache.remove(key1);
         assertEquals(0, cache.getKeys().size());
     }
+
+    /** Tests that the unbounded cache is created when no cache policy is given. */
+    @Test
+    public void testCreateWithoutPolicy() {
+        Hints hints = new Hints(Hints.CACHE_LIMIT, 0);
+        ObjectCache<Integer, String> cache = ObjectCaches.create(hints);
+        assertTrue(cache instanceof DefaultObjectCache);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "value " + i);
+        }
+        assertEquals(100, cache.getKeys().size());
+
+        hints.put(Hints.CACHE_POLICY, "bounded");
+        hints.put(Hints.CACHE_LIMIT, 10);
+        assertTrue(ObjectCaches.create(hints) instanceof BoundedObjectCache);
+    }
 }
@@ -87,13 +87,15 @@
 import org.geotools.referencing.operation.DefaultMathTransformFactory;
 import org.geotools.referencing.operation.DefaultTransformation;
 import org.geotools.referencing.operation.ManyCoordinateOperationFactory;
+import org.geotools.referencing.operation.MathTransformCache;
 import org.geotools.referencing.operation.projection.MapProjection;
 import org.geotools.referencing.operation.transform.ConcatenatedTransform;
 import org.geotools.referencing.operation.transform.IdentityTransform;
 import org.geotools.referencing.util.CRSUtilities;
 import org.geotools.referencing.wkt.Formattable;
 import org.geotools.util.GenericName;
-import org.geotools.util.SoftValueHashMap;
+import org.geotools.util.ObjectCache;
+import org.geotools.util.ObjectCaches;
 import org.geotools.util.UnsupportedImplementationException;
 import org.geotools.util.Version;
 import org.geotools.util.factory.Factory;
@@ -168,13 +170,23 @@ public static enum AxisOrder {
     /** A factory for default lenient operations. */
     private static volatile CoordinateOperationFactory lenientFactory;
 
+    /**
+     * The maximum number of coordinate reference systems held by each of the {@link #decode} and {@link #parseWKT}
+     * caches, can be set with the {@code org.geotools.referencing.crsCacheSize} system property.
+     */
+    static final int CACHE_SIZE = Integer.getInteger("org.geotools.referencing.crsCacheSize", 1000);
+
     /** A cache for coordinate reference systems in the default axis order */
-    private static SoftValueHashMap<String, CoordinateReferenceSystem> defaultCache = new SoftValueHashMap<>();
+    private static final ObjectCache<String, CoordinateReferenceSystem> defaultCache =
+            ObjectCaches.create("bounded", CACHE_SIZE);
 
     /** A cache for the coordinate reference systems in the xy (east/north) axis order */
-    private static SoftValueHashMap<String, CoordinateReferenceSystem> xyCache = new SoftValueHashMap<>();
+    private static final ObjectCache<String, CoordinateReferenceSystem> xyCache =
+            ObjectCaches.create("bounded", CACHE_SIZE);
 
-    private static SoftValueHashMap<String, CoordinateReferenceSystem> wktCache = new SoftValueHashMap<>();
+    /** A cache for the coordinate reference systems parsed from WKT */
+    private static final ObjectCache<String, CoordinateReferenceSystem> wktCache =
+            ObjectCaches.create("bounded", CACHE_SIZE);
 
     /* Registers a listener automatically invoked when the system-wide configuration changed. */
     static {
@@ -189,6 +201,7 @@ public void stateChanged(ChangeEvent e) {
                     xyCache.clear();
                     wktCache.clear();
                     defaultCache.clear();
+                    MathTransformCache.getDefault().clear();
                 }
             }
         });
@@ -506,19 +519,19 @@ public static CoordinateReferenceSystem decode(String code, final boolean longit
             throws NoSuchAuthorityCodeException, FactoryException {
         code = code.trim().toUpperCase();
 
-        CoordinateReferenceSystem result;
-        if (longitudeFirst) {
-            result = defaultCache.get(code);
-        } else {
-            result = xyCache.get(code);
-        }
-
+        final ObjectCache<String, CoordinateReferenceSystem> cache = longitudeFirst ? defaultCache : xyCache;
+        CoordinateReferenceSystem result = cache.get(code);
         if (result == null) {
-            result = getAuthorityFactory(longitudeFirst).createCoordinateReferenceSystem(code);
-            if (longitudeFirst) {
-                defaultCache.put(code, result);
-            } else {
-                xyCache.put(code, result);
+            // lock the code only, so that concurrent decodes of other codes are not blocked
+            try {
+                cache.writeLock(code);
+                result = cache.peek(code);
+                if (result == null) {
+                    result = getAuthorityFactory(longitudeFirst).createCoordinateReferenceSystem(code);
+                    cache.put(code, result);
+                }
+            } finally {
+                cache.writeUnLock(code);
             }
         }
 
@@ -542,8 +555,16 @@ public static CoordinateReferenceSystem decode(String code, final boolean longit
     public static CoordinateReferenceSystem parseWKT(final String wkt) throws FactoryException {
         CoordinateReferenceSystem result = wktCache.get(wkt);
         if (result == null) {
-            result = ReferencingFactoryFinder.getCRSFactory(null).createFromWKT(wkt);
-            wktCache.put(wkt, result);
+            try {
+                wktCache.writeLock(wkt);
+                result = wktCache.peek(wkt);
+                if (result == null) {
+                    result = ReferencingFactoryFinder.getCRSFactory(null).createFromWKT(wkt);
+                    wktCache.put(wkt, result);
+                }
+            } finally {
+                wktCache.writeUnLock(wkt);
+            }
         }
         return result;
     }
@@ -1660,6 +1681,7 @@ public static void reset(final String aspects) {
         }
         xyCache.clear();
         defaultCache.clear();
+        MathTransformCache.getDefault().clear();
         FORCED_LON_LAT = null;
         defaultFactory = null;
         xyFactory = null;
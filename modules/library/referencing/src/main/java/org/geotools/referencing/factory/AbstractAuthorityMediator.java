@@ -303,7 +303,7 @@ public IdentifiedObject createObject(String code) throws FactoryException {
     // CRSAuthority
     //
     @Override
-    public synchronized CompoundCRS createCompoundCRS(final String code) throws FactoryException {
+    public CompoundCRS createCompoundCRS(final String code) throws FactoryException {
         final String key = toKey(code);
         CompoundCRS crs = (CompoundCRS) cache.get(key);
         if (crs == null) {
@@ -640,7 +640,7 @@ public Object run(AbstractCachedAuthorityFactory worker) throws FactoryException
     }
 
     @Override
-    public synchronized Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
+    public Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
             final String sourceCode, final String targetCode) throws FactoryException {
 
         final Object key = ObjectCaches.toKey(getAuthority(), sourceCode, targetCode);
@@ -671,7 +671,7 @@ public CoordinateOperation createCoordinateOperation(String code) throws Factory
 
     @Override
     @SuppressWarnings("unchecked")
-    public synchronized Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
+    public Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
             final String sourceCode, final String targetCode) throws FactoryException {
 
         final Object key = ObjectCaches.toKey(getAuthority(), sourceCode, targetCode);
@@ -711,7 +711,7 @@ public void dispose() throws FactoryException {
      * @since 2.4
      */
     @Override
-    public synchronized IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
+    public IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
             throws FactoryException {
         return new CachedFinder(type);
     }
@@ -19,12 +19,9 @@
  */
 package org.geotools.referencing.factory;
 
-import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
@@ -90,12 +87,17 @@
  * instead of a strong one. This means that this buffered factory will continue to returns them as long as they are in
  * use somewhere else in the Java virtual machine, but will be discarted (and recreated on the fly if needed) otherwise.
  *
+ * <p>Objects found in the cache are returned without locking. On a miss the code is locked, so that concurrent misses
+ * on the same code create the object only once, and the cache is checked again. Only the creation itself is
+ * synchronized on this factory, since the backing store is usually not thread safe and may be disposed concurrently,
+ * for example by {@link DeferredAuthorityFactory} after a timeout.
+ *
  * @since 2.1
  * @version $Id$
  * @author Martin Desruisseaux (IRD)
  */
 public class BufferedAuthorityFactory extends AbstractAuthorityFactory implements BufferedFactory {
-    /** The default value for {@link #maxStrongReferences}. */
+    /** The default maximum number of objects to keep by strong reference. */
     static final int DEFAULT_MAX = 20;
 
     /**
@@ -110,13 +112,7 @@ public class BufferedAuthorityFactory extends AbstractAuthorityFactory implement
     volatile AbstractAuthorityFactory backingStore;
 
     /** The pool of cached objects. */
-    private final LinkedHashMap<Object, Object> pool = new LinkedHashMap<>(32, 0.75f, true);
-
-    /**
-     * The maximum number of objects to keep by strong reference. If a greater amount of objects are created, then the
-     * strong references for the oldest ones are replaced by weak references.
-     */
-    private final int maxStrongReferences;
+    private final OldReferencingObjectCache pool;
 
     /** The pool of objects identified by {@link #find}. */
     private final Map<IdentifiedObject, IdentifiedObject> findPool = new WeakHashMap<>();
@@ -153,7 +149,7 @@ protected BufferedAuthorityFactory(AbstractAuthorityFactory factory, final int m
             factory = ((BufferedAuthorityFactory) factory).backingStore;
         }
         this.backingStore = factory;
-        this.maxStrongReferences = maxStrongReferences;
+        this.pool = new OldReferencingObjectCache(maxStrongReferences);
         completeHints();
     }
 
@@ -169,7 +165,7 @@ protected BufferedAuthorityFactory(AbstractAuthorityFactory factory, final int m
      */
     BufferedAuthorityFactory(final int priority, final int maxStrongReferences) {
         super(priority);
-        this.maxStrongReferences = maxStrongReferences;
+        this.pool = new OldReferencingObjectCache(maxStrongReferences);
         // completeHints() will be invoked by DeferredAuthorityFactory.getBackingStore()
     }
 
@@ -348,16 +344,29 @@ public InternationalString getDescriptionText(final String code)
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized IdentifiedObject createObject(final String code) throws FactoryException {
+    public IdentifiedObject createObject(final String code) throws FactoryException {
         final IdentifiedObject object;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof IdentifiedObject identifiedObject) {
             object = identifiedObject;
         } else {
-            object = getBackingStore().createObject(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof IdentifiedObject identifiedObject) {
+                    object = identifiedObject;
+                } else {
+                    synchronized (this) {
+                        object = getBackingStore().createObject(code);
+                    }
+                    pool.put(key, object);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, object);
+        pool.put(key, object);
         return object;
     }
 
@@ -367,16 +376,29 @@ public synchronized IdentifiedObject createObject(final String code) throws Fact
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized Datum createDatum(final String code) throws FactoryException {
+    public Datum createDatum(final String code) throws FactoryException {
         final Datum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof Datum datum1) {
             datum = datum1;
         } else {
-            datum = getBackingStore().createDatum(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof Datum datum1) {
+                    datum = datum1;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createDatum(code);
+                    }
+                    pool.put(key, datum);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, datum);
+        pool.put(key, datum);
         return datum;
     }
 
@@ -386,16 +408,29 @@ public synchronized Datum createDatum(final String code) throws FactoryException
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized EngineeringDatum createEngineeringDatum(final String code) throws FactoryException {
+    public EngineeringDatum createEngineeringDatum(final String code) throws FactoryException {
         final EngineeringDatum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof EngineeringDatum engineeringDatum) {
             datum = engineeringDatum;
         } else {
-            datum = getBackingStore().createEngineeringDatum(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof EngineeringDatum engineeringDatum) {
+                    datum = engineeringDatum;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createEngineeringDatum(code);
+                    }
+                    pool.put(key, datum);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, datum);
+        pool.put(key, datum);
         return datum;
     }
 
@@ -405,16 +440,29 @@ public synchronized EngineeringDatum createEngineeringDatum(final String code) t
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized ImageDatum createImageDatum(final String code) throws FactoryException {
+    public ImageDatum createImageDatum(final String code) throws FactoryException {
         final ImageDatum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof ImageDatum imageDatum) {
             datum = imageDatum;
         } else {
-            datum = getBackingStore().createImageDatum(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof ImageDatum imageDatum) {
+                    datum = imageDatum;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createImageDatum(code);
+                    }
+                    pool.put(key, datum);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, datum);
+        pool.put(key, datum);
         return datum;
     }
 
@@ -424,16 +472,29 @@ public synchronized ImageDatum createImageDatum(final String code) throws Factor
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized VerticalDatum createVerticalDatum(final String code) throws FactoryException {
+    public VerticalDatum createVerticalDatum(final String code) throws FactoryException {
         final VerticalDatum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof VerticalDatum verticalDatum) {
             datum = verticalDatum;
         } else {
-            datum = getBackingStore().createVerticalDatum(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof VerticalDatum verticalDatum) {
+                    datum = verticalDatum;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createVerticalDatum(code);
+                    }
+                    pool.put(key, datum);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, datum);
+        pool.put(key, datum);
         return datum;
     }
 
@@ -443,16 +504,29 @@ public synchronized VerticalDatum createVerticalDatum(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized TemporalDatum createTemporalDatum(final String code) throws FactoryException {
+    public TemporalDatum createTemporalDatum(final String code) throws FactoryException {
         final TemporalDatum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof TemporalDatum temporalDatum) {
             datum = temporalDatum;
         } else {
-            datum = getBackingStore().createTemporalDatum(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof TemporalDatum temporalDatum) {
+                    datum = temporalDatum;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createTemporalDatum(code);
+                    }
+                    pool.put(key, datum);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, datum);
+        pool.put(key, datum);
         return datum;
     }
 
@@ -462,16 +536,29 @@ public synchronized TemporalDatum createTemporalDatum(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized GeodeticDatum createGeodeticDatum(final String code) throws FactoryException {
+    public GeodeticDatum createGeodeticDatum(final String code) throws FactoryException {
         final GeodeticDatum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof GeodeticDatum geodeticDatum) {
             datum = geodeticDatum;
         } else {
-            datum = getBackingStore().createGeodeticDatum(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof GeodeticDatum geodeticDatum) {
+                    datum = geodeticDatum;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createGeodeticDatum(code);
+                    }
+                    pool.put(key, datum);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, datum);
+        pool.put(key, datum);
         return datum;
     }
 
@@ -481,16 +568,29 @@ public synchronized GeodeticDatum createGeodeticDatum(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized Ellipsoid createEllipsoid(final String code) throws FactoryException {
+    public Ellipsoid createEllipsoid(final String code) throws FactoryException {
         final Ellipsoid ellipsoid;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof Ellipsoid ellipsoid1) {
             ellipsoid = ellipsoid1;
         } else {
-            ellipsoid = getBackingStore().createEllipsoid(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof Ellipsoid ellipsoid1) {
+                    ellipsoid = ellipsoid1;
+                } else {
+                    synchronized (this) {
+                        ellipsoid = getBackingStore().createEllipsoid(code);
+                    }
+                    pool.put(key, ellipsoid);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, ellipsoid);
+        pool.put(key, ellipsoid);
         return ellipsoid;
     }
 
@@ -500,16 +600,29 @@ public synchronized Ellipsoid createEllipsoid(final String code) throws FactoryE
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized PrimeMeridian createPrimeMeridian(final String code) throws FactoryException {
+    public PrimeMeridian createPrimeMeridian(final String code) throws FactoryException {
         final PrimeMeridian meridian;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof PrimeMeridian primeMeridian) {
             meridian = primeMeridian;
         } else {
-            meridian = getBackingStore().createPrimeMeridian(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof PrimeMeridian primeMeridian) {
+                    meridian = primeMeridian;
+                } else {
+                    synchronized (this) {
+                        meridian = getBackingStore().createPrimeMeridian(code);
+                    }
+                    pool.put(key, meridian);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, meridian);
+        pool.put(key, meridian);
         return meridian;
     }
 
@@ -519,16 +632,29 @@ public synchronized PrimeMeridian createPrimeMeridian(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized Extent createExtent(final String code) throws FactoryException {
+    public Extent createExtent(final String code) throws FactoryException {
         final Extent extent;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof Extent extent1) {
             extent = extent1;
         } else {
-            extent = getBackingStore().createExtent(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof Extent extent1) {
+                    extent = extent1;
+                } else {
+                    synchronized (this) {
+                        extent = getBackingStore().createExtent(code);
+                    }
+                    pool.put(key, extent);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, extent);
+        pool.put(key, extent);
         return extent;
     }
 
@@ -538,16 +664,29 @@ public synchronized Extent createExtent(final String code) throws FactoryExcepti
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CoordinateSystem createCoordinateSystem(final String code) throws FactoryException {
+    public CoordinateSystem createCoordinateSystem(final String code) throws FactoryException {
         final CoordinateSystem cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof CoordinateSystem system) {
             cs = system;
         } else {
-            cs = getBackingStore().createCoordinateSystem(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof CoordinateSystem system) {
+                    cs = system;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createCoordinateSystem(code);
+                    }
+                    pool.put(key, cs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, cs);
+        pool.put(key, cs);
         return cs;
     }
 
@@ -557,16 +696,29 @@ public synchronized CoordinateSystem createCoordinateSystem(final String code) t
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CartesianCS createCartesianCS(final String code) throws FactoryException {
+    public CartesianCS createCartesianCS(final String code) throws FactoryException {
         final CartesianCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof CartesianCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createCartesianCS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof CartesianCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createCartesianCS(code);
+                    }
+                    pool.put(key, cs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, cs);
+        pool.put(key, cs);
         return cs;
     }
 
@@ -576,16 +728,29 @@ public synchronized CartesianCS createCartesianCS(final String code) throws Fact
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized PolarCS createPolarCS(final String code) throws FactoryException {
+    public PolarCS createPolarCS(final String code) throws FactoryException {
         final PolarCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof PolarCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createPolarCS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof PolarCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createPolarCS(code);
+                    }
+                    pool.put(key, cs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, cs);
+        pool.put(key, cs);
         return cs;
     }
 
@@ -595,16 +760,29 @@ public synchronized PolarCS createPolarCS(final String code) throws FactoryExcep
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CylindricalCS createCylindricalCS(final String code) throws FactoryException {
+    public CylindricalCS createCylindricalCS(final String code) throws FactoryException {
         final CylindricalCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof CylindricalCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createCylindricalCS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof CylindricalCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createCylindricalCS(code);
+                    }
+                    pool.put(key, cs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, cs);
+        pool.put(key, cs);
         return cs;
     }
 
@@ -614,16 +792,29 @@ public synchronized CylindricalCS createCylindricalCS(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized SphericalCS createSphericalCS(final String code) throws FactoryException {
+    public SphericalCS createSphericalCS(final String code) throws FactoryException {
         final SphericalCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof SphericalCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createSphericalCS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof SphericalCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createSphericalCS(code);
+                    }
+                    pool.put(key, cs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, cs);
+        pool.put(key, cs);
         return cs;
     }
 
@@ -633,16 +824,29 @@ public synchronized SphericalCS createSphericalCS(final String code) throws Fact
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized EllipsoidalCS createEllipsoidalCS(final String code) throws FactoryException {
+    public EllipsoidalCS createEllipsoidalCS(final String code) throws FactoryException {
         final EllipsoidalCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof EllipsoidalCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createEllipsoidalCS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof EllipsoidalCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createEllipsoidalCS(code);
+                    }
+                    pool.put(key, cs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, cs);
+        pool.put(key, cs);
         return cs;
     }
 
@@ -652,16 +856,29 @@ public synchronized EllipsoidalCS createEllipsoidalCS(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized VerticalCS createVerticalCS(final String code) throws FactoryException {
+    public VerticalCS createVerticalCS(final String code) throws FactoryException {
         final VerticalCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof VerticalCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createVerticalCS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof VerticalCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createVerticalCS(code);
+                    }
+                    pool.put(key, cs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, cs);
+        pool.put(key, cs);
         return cs;
     }
 
@@ -671,16 +888,29 @@ public synchronized VerticalCS createVerticalCS(final String code) throws Factor
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized TimeCS createTimeCS(final String code) throws FactoryException {
+    public TimeCS createTimeCS(final String code) throws FactoryException {
         final TimeCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof TimeCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createTimeCS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof TimeCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createTimeCS(code);
+                    }
+                    pool.put(key, cs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, cs);
+        pool.put(key, cs);
         return cs;
     }
 
@@ -690,16 +920,29 @@ public synchronized TimeCS createTimeCS(final String code) throws FactoryExcepti
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CoordinateSystemAxis createCoordinateSystemAxis(final String code) throws FactoryException {
+    public CoordinateSystemAxis createCoordinateSystemAxis(final String code) throws FactoryException {
         final CoordinateSystemAxis axis;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof CoordinateSystemAxis systemAxis) {
             axis = systemAxis;
         } else {
-            axis = getBackingStore().createCoordinateSystemAxis(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof CoordinateSystemAxis systemAxis) {
+                    axis = systemAxis;
+                } else {
+                    synchronized (this) {
+                        axis = getBackingStore().createCoordinateSystemAxis(code);
+                    }
+                    pool.put(key, axis);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, axis);
+        pool.put(key, axis);
         return axis;
     }
 
@@ -709,16 +952,29 @@ public synchronized CoordinateSystemAxis createCoordinateSystemAxis(final String
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized Unit<?> createUnit(final String code) throws FactoryException {
+    public Unit<?> createUnit(final String code) throws FactoryException {
         final Unit<?> unit;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof Unit unit1) {
             unit = unit1;
         } else {
-            unit = getBackingStore().createUnit(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof Unit unit1) {
+                    unit = unit1;
+                } else {
+                    synchronized (this) {
+                        unit = getBackingStore().createUnit(code);
+                    }
+                    pool.put(key, unit);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, unit);
+        pool.put(key, unit);
         return unit;
     }
 
@@ -728,17 +984,30 @@ public synchronized Unit<?> createUnit(final String code) throws FactoryExceptio
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(final String code)
+    public CoordinateReferenceSystem createCoordinateReferenceSystem(final String code)
             throws FactoryException {
         final CoordinateReferenceSystem crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof CoordinateReferenceSystem system) {
             crs = system;
         } else {
-            crs = getBackingStore().createCoordinateReferenceSystem(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof CoordinateReferenceSystem system) {
+                    crs = system;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createCoordinateReferenceSystem(code);
+                    }
+                    pool.put(key, crs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, crs);
+        pool.put(key, crs);
         return crs;
     }
 
@@ -748,16 +1017,29 @@ public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(fi
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized CompoundCRS createCompoundCRS(final String code) throws FactoryException {
+    public CompoundCRS createCompoundCRS(final String code) throws FactoryException {
         final CompoundCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof CompoundCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createCompoundCRS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof CompoundCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createCompoundCRS(code);
+                    }
+                    pool.put(key, crs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, crs);
+        pool.put(key, crs);
         return crs;
     }
 
@@ -767,16 +1049,29 @@ public synchronized CompoundCRS createCompoundCRS(final String code) throws Fact
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized DerivedCRS createDerivedCRS(final String code) throws FactoryException {
+    public DerivedCRS createDerivedCRS(final String code) throws FactoryException {
         final DerivedCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof DerivedCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createDerivedCRS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof DerivedCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createDerivedCRS(code);
+                    }
+                    pool.put(key, crs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, crs);
+        pool.put(key, crs);
         return crs;
     }
 
@@ -786,16 +1081,29 @@ public synchronized DerivedCRS createDerivedCRS(final String code) throws Factor
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized EngineeringCRS createEngineeringCRS(final String code) throws FactoryException {
+    public EngineeringCRS createEngineeringCRS(final String code) throws FactoryException {
         final EngineeringCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof EngineeringCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createEngineeringCRS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof EngineeringCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createEngineeringCRS(code);
+                    }
+                    pool.put(key, crs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, crs);
+        pool.put(key, crs);
         return crs;
     }
 
@@ -805,16 +1113,29 @@ public synchronized EngineeringCRS createEngineeringCRS(final String code) throw
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized GeographicCRS createGeographicCRS(final String code) throws FactoryException {
+    public GeographicCRS createGeographicCRS(final String code) throws FactoryException {
         final GeographicCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof GeographicCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createGeographicCRS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof GeographicCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createGeographicCRS(code);
+                    }
+                    pool.put(key, crs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, crs);
+        pool.put(key, crs);
         return crs;
     }
 
@@ -824,16 +1145,29 @@ public synchronized GeographicCRS createGeographicCRS(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized GeocentricCRS createGeocentricCRS(final String code) throws FactoryException {
+    public GeocentricCRS createGeocentricCRS(final String code) throws FactoryException {
         final GeocentricCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof GeocentricCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createGeocentricCRS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof GeocentricCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createGeocentricCRS(code);
+                    }
+                    pool.put(key, crs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, crs);
+        pool.put(key, crs);
         return crs;
     }
 
@@ -843,16 +1177,29 @@ public synchronized GeocentricCRS createGeocentricCRS(final String code) throws
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized ImageCRS createImageCRS(final String code) throws FactoryException {
+    public ImageCRS createImageCRS(final String code) throws FactoryException {
         final ImageCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof ImageCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createImageCRS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof ImageCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createImageCRS(code);
+                    }
+                    pool.put(key, crs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, crs);
+        pool.put(key, crs);
         return crs;
     }
 
@@ -862,16 +1209,29 @@ public synchronized ImageCRS createImageCRS(final String code) throws FactoryExc
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized ProjectedCRS createProjectedCRS(final String code) throws FactoryException {
+    public ProjectedCRS createProjectedCRS(final String code) throws FactoryException {
         final ProjectedCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof ProjectedCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createProjectedCRS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof ProjectedCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createProjectedCRS(code);
+                    }
+                    pool.put(key, crs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, crs);
+        pool.put(key, crs);
         return crs;
     }
 
@@ -881,16 +1241,29 @@ public synchronized ProjectedCRS createProjectedCRS(final String code) throws Fa
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized TemporalCRS createTemporalCRS(final String code) throws FactoryException {
+    public TemporalCRS createTemporalCRS(final String code) throws FactoryException {
         final TemporalCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof TemporalCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createTemporalCRS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof TemporalCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createTemporalCRS(code);
+                    }
+                    pool.put(key, crs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, crs);
+        pool.put(key, crs);
         return crs;
     }
 
@@ -900,16 +1273,29 @@ public synchronized TemporalCRS createTemporalCRS(final String code) throws Fact
      * @throws FactoryException if the object creation failed.
      */
     @Override
-    public synchronized VerticalCRS createVerticalCRS(final String code) throws FactoryException {
+    public VerticalCRS createVerticalCRS(final String code) throws FactoryException {
         final VerticalCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof VerticalCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createVerticalCRS(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof VerticalCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createVerticalCRS(code);
+                    }
+                    pool.put(key, crs);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, crs);
+        pool.put(key, crs);
         return crs;
     }
 
@@ -920,16 +1306,29 @@ public synchronized VerticalCRS createVerticalCRS(final String code) throws Fact
      * @since 2.2
      */
     @Override
-    public synchronized ParameterDescriptor createParameterDescriptor(final String code) throws FactoryException {
+    public ParameterDescriptor createParameterDescriptor(final String code) throws FactoryException {
         final ParameterDescriptor parameter;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof ParameterDescriptor descriptor) {
             parameter = descriptor;
         } else {
-            parameter = getBackingStore().createParameterDescriptor(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof ParameterDescriptor descriptor) {
+                    parameter = descriptor;
+                } else {
+                    synchronized (this) {
+                        parameter = getBackingStore().createParameterDescriptor(code);
+                    }
+                    pool.put(key, parameter);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, parameter);
+        pool.put(key, parameter);
         return parameter;
     }
 
@@ -940,16 +1339,29 @@ public synchronized ParameterDescriptor createParameterDescriptor(final String c
      * @since 2.2
      */
     @Override
-    public synchronized OperationMethod createOperationMethod(final String code) throws FactoryException {
+    public OperationMethod createOperationMethod(final String code) throws FactoryException {
         final OperationMethod method;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof OperationMethod operationMethod) {
             method = operationMethod;
         } else {
-            method = getBackingStore().createOperationMethod(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof OperationMethod operationMethod) {
+                    method = operationMethod;
+                } else {
+                    synchronized (this) {
+                        method = getBackingStore().createOperationMethod(code);
+                    }
+                    pool.put(key, method);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, method);
+        pool.put(key, method);
         return method;
     }
 
@@ -960,16 +1372,29 @@ public synchronized OperationMethod createOperationMethod(final String code) thr
      * @since 2.2
      */
     @Override
-    public synchronized CoordinateOperation createCoordinateOperation(final String code) throws FactoryException {
+    public CoordinateOperation createCoordinateOperation(final String code) throws FactoryException {
         final CoordinateOperation operation;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof CoordinateOperation coordinateOperation) {
             operation = coordinateOperation;
         } else {
-            operation = getBackingStore().createCoordinateOperation(code);
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof CoordinateOperation coordinateOperation) {
+                    operation = coordinateOperation;
+                } else {
+                    synchronized (this) {
+                        operation = getBackingStore().createCoordinateOperation(code);
+                    }
+                    pool.put(key, operation);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, operation);
+        pool.put(key, operation);
         return operation;
     }
 
@@ -980,20 +1405,35 @@ public synchronized CoordinateOperation createCoordinateOperation(final String c
      * @since 2.2
      */
     @Override
-    public synchronized Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
+    public Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
             final String sourceCRS, final String targetCRS) throws FactoryException {
         final Set<CoordinateOperation> operations;
         final CodePair key = new CodePair(trimAuthority(sourceCRS), trimAuthority(targetCRS));
-        final Object cached = get(key);
+        final Object cached = pool.get(key);
         if (cached instanceof Set) {
             @SuppressWarnings("unchecked")
             Set<CoordinateOperation> cast = (Set<CoordinateOperation>) cached;
             operations = cast;
         } else {
-            operations = Collections.unmodifiableSet(
-                    getBackingStore().createFromCoordinateReferenceSystemCodes(sourceCRS, targetCRS));
+            try {
+                pool.writeLock(key);
+                final Object found = pool.peek(key);
+                if (found instanceof Set) {
+                    @SuppressWarnings("unchecked")
+                    Set<CoordinateOperation> cast = (Set<CoordinateOperation>) found;
+                    operations = cast;
+                } else {
+                    synchronized (this) {
+                        operations = Collections.unmodifiableSet(
+                                getBackingStore().createFromCoordinateReferenceSystemCodes(sourceCRS, targetCRS));
+                    }
+                    pool.put(key, operations);
+                }
+            } finally {
+                pool.writeUnLock(key);
+            }
         }
-        put(key, operations);
+        pool.put(key, operations);
         return operations;
     }
 
@@ -1036,7 +1476,7 @@ public String toString() {
      * @since 2.4
      */
     @Override
-    public synchronized IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
+    public IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
             throws FactoryException {
         return new Finder(getBackingStore().getIdentifiedObjectFinder(type));
     }
@@ -1118,47 +1558,4 @@ public synchronized void dispose() throws FactoryException {
         findPool.clear();
         super.dispose();
     }
-
-    /**
-     * Returns an object from the pool for the specified code. If the object was retained as a {@linkplain Reference
-     * weak reference}, the {@link Reference#get referent} is returned.
-     *
-     * @todo Consider logging a message here to the finer or finest level.
-     */
-    private Object get(final Object key) {
-        assert Thread.holdsLock(this);
-        Object object = pool.get(key);
-        if (object instanceof Reference<?> reference) {
-            object = reference.get();
-        }
-        return object;
-    }
-
-    /**
-     * Put an element in the pool. This method is invoked everytime a {@code createFoo(...)} method is invoked, even if
-     * an object was already in the pool for the given code, for the following reasons: 1) Replaces weak reference by
-     * strong reference (if applicable) and 2) Alters the linked hash set order, so that this object is declared as the
-     * last one used.
-     */
-    private void put(final Object key, final Object object) {
-        assert Thread.holdsLock(this);
-        pool.put(key, object);
-        int toReplace = pool.size() - maxStrongReferences;
-        if (toReplace > 0) {
-            for (final Iterator<Map.Entry<Object, Object>> it = pool.entrySet().iterator(); it.hasNext(); ) {
-                final Map.Entry<Object, Object> entry = it.next();
-                final Object value = entry.getValue();
-                if (value instanceof Reference reference) {
-                    if (reference.get() == null) {
-                        it.remove();
-                    }
-                    continue;
-                }
-                entry.setValue(new WeakReference<>(value));
-                if (--toReplace == 0) {
-                    break;
-                }
-            }
-        }
-    }
 }
@@ -199,7 +199,7 @@ public InternationalString getDescriptionText(String code) throws FactoryExcepti
     // CRSAuthority
     //
     @Override
-    public synchronized CompoundCRS createCompoundCRS(final String code) throws FactoryException {
+    public CompoundCRS createCompoundCRS(final String code) throws FactoryException {
         final String key = toKey(code);
         CompoundCRS crs = (CompoundCRS) cache.get(key);
         if (crs == null) {
@@ -758,7 +758,7 @@ public CoordinateOperation createCoordinateOperation(String code) throws Factory
 
     @Override
     @SuppressWarnings("unchecked")
-    public synchronized Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
+    public Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
             final String sourceCode, final String targetCode) throws FactoryException {
 
         final Object key = ObjectCaches.toKey(getAuthority(), sourceCode, targetCode);
@@ -160,7 +160,7 @@ public InternationalString getDescriptionText(String code) throws FactoryExcepti
     // CRSAuthority
     //
     @Override
-    public synchronized CompoundCRS createCompoundCRS(final String code) throws FactoryException {
+    public CompoundCRS createCompoundCRS(final String code) throws FactoryException {
         final String key = toKey(code);
         CompoundCRS crs = (CompoundCRS) cache.get(key);
         if (crs == null) {
@@ -372,7 +372,7 @@ public String getBackingStoreDescription() throws FactoryException {
      * @since 2.4
      */
     @Override
-    public synchronized IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
+    public IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
             throws FactoryException {
         return new Finder(delegate.getIdentifiedObjectFinder(type), ObjectCaches.create("weak", 250));
     }
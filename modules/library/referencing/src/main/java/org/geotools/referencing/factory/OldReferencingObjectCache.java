@@ -18,101 +18,154 @@
 
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.geotools.util.ObjectCache;
+import org.geotools.util.ObjectCaches;
 
 /**
  * Caching implementation for ReferencingObjectCache. This instance is used when actual caching is desired. This is a
  * temporary class.
  *
+ * <p>The most recently used objects are held by strong references in a {@linkplain ObjectCaches bounded} cache. Every
+ * object is also held by a {@linkplain WeakReference weak reference}, so that the objects evicted from the bounded
+ * cache are still returned as long as they are in use somewhere else in the Java virtual machine. Neither {@link #get}
+ * nor {@link #put} block, so this cache can be shared by concurrent threads without external synchronization.
+ *
+ * <p>The {@link #writeLock} and {@link #writeUnLock} methods lock a single key. A thread missing an object locks its
+ * key, {@linkplain #peek peeks} again and only creates the object if it is still missing, so that concurrent misses on
+ * the same key create the object once, while misses on different keys do not wait for each other.
+ *
  * @since 2.4
  * @author Cory Horner (Refractions Research)
  */
 final class OldReferencingObjectCache {
-    /**
-     * The pool of cached objects.
-     *
-     * <p>The following may be seen for a key (String key?):
-     *
-     * <ul>
-     *   <li>Object (ie a strong reference) usually a referencing object like CoordinateReferenceSystem or Datum
-     *   <li>WeakReference used to hold a referencing object (may be cleaned up at any time
-     * </ul>
-     */
-    private final LinkedHashMap<Object, Object> pool = new LinkedHashMap<>(32, 0.75f, true);
+    /** A key lock, counting the threads holding or waiting for it. */
+    @SuppressWarnings("serial")
+    private static final class KeyLock extends ReentrantLock {
+        /** Guarded by the {@link ConcurrentHashMap#compute} of the {@link #locks} map. */
+        int users;
+    }
 
-    /**
-     * The maximum number of objects to keep by strong reference. If a greater amount of objects are created, then the
-     * strong references for the oldest ones are replaced by weak references.
-     */
-    private final int maxStrongReferences;
+    /** The minimal number of weak references to hold before to look for the cleared ones. */
+    private static final int MIN_PURGE_THRESHOLD = 64;
+
+    /** The most recently used objects, held by strong references. */
+    private final ObjectCache<Object, Object> pool;
+
+    /** All the objects in the cache, held by weak references. */
+    private final Map<Object, Reference<Object>> weakPool = new ConcurrentHashMap<>();
+
+    /** The locks of the keys being created. */
+    private final Map<Object, KeyLock> locks = new ConcurrentHashMap<>();
+
+    /** The number of weak references above which the cleared ones are removed from {@link #weakPool}. */
+    private volatile int purgeThreshold = MIN_PURGE_THRESHOLD;
 
     /**
      * Creates a new cache which will hold the specified amount of object by strong references. Any additional object
      * will be help by weak references.
      */
     public OldReferencingObjectCache(final int maxStrongReferences) {
-        this.maxStrongReferences = maxStrongReferences;
+        pool = ObjectCaches.create(maxStrongReferences > 0 ? "bounded" : "none", maxStrongReferences);
     }
 
     /** Removes all entries from this map. */
-    public synchronized void clear() {
-        if (pool != null) {
-            pool.clear();
-        }
+    public void clear() {
+        pool.clear();
+        weakPool.clear();
     }
 
     /**
-     * Returns an object from the pool for the specified code. If the object was retained as a {@linkplain Reference
-     * weak reference}, the {@link Reference#get referent} is returned.
+     * Returns an object from the pool for the specified code. If the object is no longer held by a strong reference,
+     * the referent of its {@linkplain Reference weak reference} is returned.
      *
      * @param key The authority code.
      * @todo Consider logging a message here to the finer or finest level.
      */
     public Object get(final Object key) {
-        // assert Thread.holdsLock(factory);
-        Object object = pool.get(key);
-        if (object instanceof Reference reference) {
-            object = reference.get();
+        return weakGet(key, pool.get(key));
+    }
+
+    /**
+     * Returns an object from the pool for the specified code, like {@link #get} but without touching the access order
+     * of the strong references. Used to check again for an object after {@linkplain #writeLock locking} its key.
+     *
+     * @param key The authority code.
+     */
+    public Object peek(final Object key) {
+        return weakGet(key, pool.peek(key));
+    }
+
+    /** Returns the given object if not null, or the referent of the weak reference held for the given key. */
+    private Object weakGet(final Object key, Object object) {
+        if (object == null) {
+            final Reference<Object> reference = weakPool.get(key);
+            if (reference != null) {
+                object = reference.get();
+                if (object == null) {
+                    weakPool.remove(key, reference);
+                }
+            }
         }
         return object;
     }
 
     /**
      * Put an element in the pool. This method is invoked everytime a {@code createFoo(...)} method is invoked, even if
-     * an object was already in the pool for the given code, for the following reasons: 1) Replaces weak reference by
-     * strong reference (if applicable) and 2) Alters the linked hash set order, so that this object is declared as the
-     * last one used.
+     * an object was already in the pool for the given code, in order to hold again by strong reference an object that
+     * was only retained by a weak reference.
      *
      * @param key the authority code.
      * @param object The referencing object to add in the pool.
      */
     public void put(final Object key, final Object object) {
-        // assert Thread.holdsLock(factory);
-        pool.put(key, object);
-        int toReplace = pool.size() - maxStrongReferences;
-        if (toReplace > 0) {
-            for (final Iterator<Map.Entry<Object, Object>> it = pool.entrySet().iterator(); it.hasNext(); ) {
-                final Map.Entry<Object, Object> entry = it.next();
-                final Object value = entry.getValue();
-                if (value instanceof Reference reference) {
-                    if (reference.get() == null) {
-                        it.remove();
-                    }
-                    continue;
-                }
-                entry.setValue(new WeakReference<>(value));
-                if (--toReplace == 0) {
-                    break;
-                }
+        if (pool.peek(key) != object) {
+            pool.put(key, object);
+        }
+        final Reference<Object> reference = weakPool.get(key);
+        if (reference == null || reference.get() != object) {
+            weakPool.put(key, new WeakReference<>(object));
+            if (weakPool.size() > purgeThreshold) {
+                weakPool.values().removeIf(r -> r.get() == null);
+                purgeThreshold = Math.max(MIN_PURGE_THRESHOLD, 2 * weakPool.size());
             }
         }
     }
 
-    public void writeLock(Object key) {}
+    /**
+     * Locks the given key, blocking if another thread holds its lock. Every call must be followed by a call to
+     * {@link #writeUnLock} in a {@code finally} block.
+     *
+     * @param key the authority code.
+     */
+    public void writeLock(final Object key) {
+        final KeyLock lock = locks.compute(key, (k, l) -> {
+            if (l == null) {
+                l = new KeyLock();
+            }
+            l.users++;
+            return l;
+        });
+        // Must be outside the above compute, since this call may block.
+        lock.lock();
+    }
 
-    public void writeUnLock(Object key) {}
+    /**
+     * Unlocks the given key, previously locked by the current thread.
+     *
+     * @param key the authority code.
+     */
+    public void writeUnLock(final Object key) {
+        locks.compute(key, (k, l) -> {
+            if (l == null || !l.isHeldByCurrentThread()) {
+                throw new IllegalMonitorStateException("Cannot unlock prior to locking");
+            }
+            l.unlock();
+            return --l.users == 0 ? null : l;
+        });
+    }
 
     public boolean containsKey(Object key) {
         return false;
@@ -87,6 +87,11 @@
  * they are in use somewhere else in the Java virtual machine, but will be discarted (and recreated on the fly if
  * needed) otherwise.
  *
+ * <p>Objects found in the cache are returned without locking. On a miss the code is locked, so that concurrent misses
+ * on the same code create the object only once, and the cache is checked again. Only the creation itself is
+ * synchronized on this factory, since the backing store is usually not thread safe and may be disposed concurrently,
+ * for example by {@link DeferredAuthorityFactory} after a timeout.
+ *
  * @since 2.4
  * @version $Id$
  * @author Martin Desruisseaux (IRD)
@@ -335,14 +340,27 @@ public InternationalString getDescriptionText(final String code) throws FactoryE
 
     /** Returns an arbitrary object from a code. */
     @Override
-    public synchronized IdentifiedObject createObject(final String code) throws FactoryException {
+    public IdentifiedObject createObject(final String code) throws FactoryException {
         final IdentifiedObject object;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof IdentifiedObject identifiedObject) {
             object = identifiedObject;
         } else {
-            object = getBackingStore().createObject(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof IdentifiedObject identifiedObject) {
+                    object = identifiedObject;
+                } else {
+                    synchronized (this) {
+                        object = getBackingStore().createObject(code);
+                    }
+                    objectCache.put(key, object);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, object);
         return object;
@@ -350,14 +368,27 @@ public synchronized IdentifiedObject createObject(final String code) throws Fact
 
     /** Returns an arbitrary datum from a code. */
     @Override
-    public synchronized Datum createDatum(final String code) throws FactoryException {
+    public Datum createDatum(final String code) throws FactoryException {
         final Datum datum;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof Datum datum1) {
             datum = datum1;
         } else {
-            datum = getBackingStore().createDatum(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof Datum datum1) {
+                    datum = datum1;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createDatum(code);
+                    }
+                    objectCache.put(key, datum);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, datum);
         return datum;
@@ -365,14 +396,27 @@ public synchronized Datum createDatum(final String code) throws FactoryException
 
     /** Returns an engineering datum from a code. */
     @Override
-    public synchronized EngineeringDatum createEngineeringDatum(final String code) throws FactoryException {
+    public EngineeringDatum createEngineeringDatum(final String code) throws FactoryException {
         final EngineeringDatum datum;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof EngineeringDatum engineeringDatum) {
             datum = engineeringDatum;
         } else {
-            datum = getBackingStore().createEngineeringDatum(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof EngineeringDatum engineeringDatum) {
+                    datum = engineeringDatum;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createEngineeringDatum(code);
+                    }
+                    objectCache.put(key, datum);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, datum);
         return datum;
@@ -380,14 +424,27 @@ public synchronized EngineeringDatum createEngineeringDatum(final String code) t
 
     /** Returns an image datum from a code. */
     @Override
-    public synchronized ImageDatum createImageDatum(final String code) throws FactoryException {
+    public ImageDatum createImageDatum(final String code) throws FactoryException {
         final ImageDatum datum;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof ImageDatum imageDatum) {
             datum = imageDatum;
         } else {
-            datum = getBackingStore().createImageDatum(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof ImageDatum imageDatum) {
+                    datum = imageDatum;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createImageDatum(code);
+                    }
+                    objectCache.put(key, datum);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, datum);
         return datum;
@@ -395,14 +452,27 @@ public synchronized ImageDatum createImageDatum(final String code) throws Factor
 
     /** Returns a vertical datum from a code. */
     @Override
-    public synchronized VerticalDatum createVerticalDatum(final String code) throws FactoryException {
+    public VerticalDatum createVerticalDatum(final String code) throws FactoryException {
         final VerticalDatum datum;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof VerticalDatum verticalDatum) {
             datum = verticalDatum;
         } else {
-            datum = getBackingStore().createVerticalDatum(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof VerticalDatum verticalDatum) {
+                    datum = verticalDatum;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createVerticalDatum(code);
+                    }
+                    objectCache.put(key, datum);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, datum);
         return datum;
@@ -410,14 +480,27 @@ public synchronized VerticalDatum createVerticalDatum(final String code) throws
 
     /** Returns a temporal datum from a code. */
     @Override
-    public synchronized TemporalDatum createTemporalDatum(final String code) throws FactoryException {
+    public TemporalDatum createTemporalDatum(final String code) throws FactoryException {
         final TemporalDatum datum;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof TemporalDatum temporalDatum) {
             datum = temporalDatum;
         } else {
-            datum = getBackingStore().createTemporalDatum(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof TemporalDatum temporalDatum) {
+                    datum = temporalDatum;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createTemporalDatum(code);
+                    }
+                    objectCache.put(key, datum);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, datum);
         return datum;
@@ -425,14 +508,27 @@ public synchronized TemporalDatum createTemporalDatum(final String code) throws
 
     /** Returns a geodetic datum from a code. */
     @Override
-    public synchronized GeodeticDatum createGeodeticDatum(final String code) throws FactoryException {
+    public GeodeticDatum createGeodeticDatum(final String code) throws FactoryException {
         final GeodeticDatum datum;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof GeodeticDatum geodeticDatum) {
             datum = geodeticDatum;
         } else {
-            datum = getBackingStore().createGeodeticDatum(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof GeodeticDatum geodeticDatum) {
+                    datum = geodeticDatum;
+                } else {
+                    synchronized (this) {
+                        datum = getBackingStore().createGeodeticDatum(code);
+                    }
+                    objectCache.put(key, datum);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, datum);
         return datum;
@@ -440,14 +536,27 @@ public synchronized GeodeticDatum createGeodeticDatum(final String code) throws
 
     /** Returns an ellipsoid from a code. */
     @Override
-    public synchronized Ellipsoid createEllipsoid(final String code) throws FactoryException {
+    public Ellipsoid createEllipsoid(final String code) throws FactoryException {
         final Ellipsoid ellipsoid;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof Ellipsoid ellipsoid1) {
             ellipsoid = ellipsoid1;
         } else {
-            ellipsoid = getBackingStore().createEllipsoid(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof Ellipsoid ellipsoid1) {
+                    ellipsoid = ellipsoid1;
+                } else {
+                    synchronized (this) {
+                        ellipsoid = getBackingStore().createEllipsoid(code);
+                    }
+                    objectCache.put(key, ellipsoid);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, ellipsoid);
         return ellipsoid;
@@ -455,14 +564,27 @@ public synchronized Ellipsoid createEllipsoid(final String code) throws FactoryE
 
     /** Returns a prime meridian from a code. */
     @Override
-    public synchronized PrimeMeridian createPrimeMeridian(final String code) throws FactoryException {
+    public PrimeMeridian createPrimeMeridian(final String code) throws FactoryException {
         final PrimeMeridian meridian;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof PrimeMeridian primeMeridian) {
             meridian = primeMeridian;
         } else {
-            meridian = getBackingStore().createPrimeMeridian(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof PrimeMeridian primeMeridian) {
+                    meridian = primeMeridian;
+                } else {
+                    synchronized (this) {
+                        meridian = getBackingStore().createPrimeMeridian(code);
+                    }
+                    objectCache.put(key, meridian);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, meridian);
         return meridian;
@@ -470,14 +592,27 @@ public synchronized PrimeMeridian createPrimeMeridian(final String code) throws
 
     /** Returns an extent (usually an area of validity) from a code. */
     @Override
-    public synchronized Extent createExtent(final String code) throws FactoryException {
+    public Extent createExtent(final String code) throws FactoryException {
         final Extent extent;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof Extent extent1) {
             extent = extent1;
         } else {
-            extent = getBackingStore().createExtent(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof Extent extent1) {
+                    extent = extent1;
+                } else {
+                    synchronized (this) {
+                        extent = getBackingStore().createExtent(code);
+                    }
+                    objectCache.put(key, extent);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, extent);
         return extent;
@@ -485,14 +620,27 @@ public synchronized Extent createExtent(final String code) throws FactoryExcepti
 
     /** Returns an arbitrary coordinate system from a code. */
     @Override
-    public synchronized CoordinateSystem createCoordinateSystem(final String code) throws FactoryException {
+    public CoordinateSystem createCoordinateSystem(final String code) throws FactoryException {
         final CoordinateSystem cs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof CoordinateSystem system) {
             cs = system;
         } else {
-            cs = getBackingStore().createCoordinateSystem(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof CoordinateSystem system) {
+                    cs = system;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createCoordinateSystem(code);
+                    }
+                    objectCache.put(key, cs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, cs);
         return cs;
@@ -500,14 +648,27 @@ public synchronized CoordinateSystem createCoordinateSystem(final String code) t
 
     /** Returns a cartesian coordinate system from a code. */
     @Override
-    public synchronized CartesianCS createCartesianCS(final String code) throws FactoryException {
+    public CartesianCS createCartesianCS(final String code) throws FactoryException {
         final CartesianCS cs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof CartesianCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createCartesianCS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof CartesianCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createCartesianCS(code);
+                    }
+                    objectCache.put(key, cs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, cs);
         return cs;
@@ -515,14 +676,27 @@ public synchronized CartesianCS createCartesianCS(final String code) throws Fact
 
     /** Returns a polar coordinate system from a code. */
     @Override
-    public synchronized PolarCS createPolarCS(final String code) throws FactoryException {
+    public PolarCS createPolarCS(final String code) throws FactoryException {
         final PolarCS cs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof PolarCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createPolarCS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof PolarCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createPolarCS(code);
+                    }
+                    objectCache.put(key, cs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, cs);
         return cs;
@@ -530,14 +704,27 @@ public synchronized PolarCS createPolarCS(final String code) throws FactoryExcep
 
     /** Returns a cylindrical coordinate system from a code. */
     @Override
-    public synchronized CylindricalCS createCylindricalCS(final String code) throws FactoryException {
+    public CylindricalCS createCylindricalCS(final String code) throws FactoryException {
         final CylindricalCS cs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof CylindricalCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createCylindricalCS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof CylindricalCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createCylindricalCS(code);
+                    }
+                    objectCache.put(key, cs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, cs);
         return cs;
@@ -545,14 +732,27 @@ public synchronized CylindricalCS createCylindricalCS(final String code) throws
 
     /** Returns a spherical coordinate system from a code. */
     @Override
-    public synchronized SphericalCS createSphericalCS(final String code) throws FactoryException {
+    public SphericalCS createSphericalCS(final String code) throws FactoryException {
         final SphericalCS cs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof SphericalCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createSphericalCS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof SphericalCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createSphericalCS(code);
+                    }
+                    objectCache.put(key, cs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, cs);
         return cs;
@@ -560,14 +760,27 @@ public synchronized SphericalCS createSphericalCS(final String code) throws Fact
 
     /** Returns an ellipsoidal coordinate system from a code. */
     @Override
-    public synchronized EllipsoidalCS createEllipsoidalCS(final String code) throws FactoryException {
+    public EllipsoidalCS createEllipsoidalCS(final String code) throws FactoryException {
         final EllipsoidalCS cs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof EllipsoidalCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createEllipsoidalCS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof EllipsoidalCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createEllipsoidalCS(code);
+                    }
+                    objectCache.put(key, cs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, cs);
         return cs;
@@ -575,14 +788,27 @@ public synchronized EllipsoidalCS createEllipsoidalCS(final String code) throws
 
     /** Returns a vertical coordinate system from a code. */
     @Override
-    public synchronized VerticalCS createVerticalCS(final String code) throws FactoryException {
+    public VerticalCS createVerticalCS(final String code) throws FactoryException {
         final VerticalCS cs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof VerticalCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createVerticalCS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof VerticalCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createVerticalCS(code);
+                    }
+                    objectCache.put(key, cs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, cs);
         return cs;
@@ -590,14 +816,27 @@ public synchronized VerticalCS createVerticalCS(final String code) throws Factor
 
     /** Returns a temporal coordinate system from a code. */
     @Override
-    public synchronized TimeCS createTimeCS(final String code) throws FactoryException {
+    public TimeCS createTimeCS(final String code) throws FactoryException {
         final TimeCS cs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof TimeCS cS) {
             cs = cS;
         } else {
-            cs = getBackingStore().createTimeCS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof TimeCS cS) {
+                    cs = cS;
+                } else {
+                    synchronized (this) {
+                        cs = getBackingStore().createTimeCS(code);
+                    }
+                    objectCache.put(key, cs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, cs);
         return cs;
@@ -605,14 +844,27 @@ public synchronized TimeCS createTimeCS(final String code) throws FactoryExcepti
 
     /** Returns a coordinate system axis from a code. */
     @Override
-    public synchronized CoordinateSystemAxis createCoordinateSystemAxis(final String code) throws FactoryException {
+    public CoordinateSystemAxis createCoordinateSystemAxis(final String code) throws FactoryException {
         final CoordinateSystemAxis axis;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof CoordinateSystemAxis systemAxis) {
             axis = systemAxis;
         } else {
-            axis = getBackingStore().createCoordinateSystemAxis(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof CoordinateSystemAxis systemAxis) {
+                    axis = systemAxis;
+                } else {
+                    synchronized (this) {
+                        axis = getBackingStore().createCoordinateSystemAxis(code);
+                    }
+                    objectCache.put(key, axis);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, axis);
         return axis;
@@ -620,14 +872,27 @@ public synchronized CoordinateSystemAxis createCoordinateSystemAxis(final String
 
     /** Returns an unit from a code. */
     @Override
-    public synchronized Unit<?> createUnit(final String code) throws FactoryException {
+    public Unit<?> createUnit(final String code) throws FactoryException {
         final Unit<?> unit;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof Unit unit1) {
             unit = unit1;
         } else {
-            unit = getBackingStore().createUnit(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof Unit unit1) {
+                    unit = unit1;
+                } else {
+                    synchronized (this) {
+                        unit = getBackingStore().createUnit(code);
+                    }
+                    objectCache.put(key, unit);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, unit);
         return unit;
@@ -635,7 +900,7 @@ public synchronized Unit<?> createUnit(final String code) throws FactoryExceptio
 
     /** Returns an arbitrary coordinate reference system from a code. */
     @Override
-    public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(final String code)
+    public CoordinateReferenceSystem createCoordinateReferenceSystem(final String code)
             throws FactoryException {
         final CoordinateReferenceSystem crs;
         final String key = trimAuthority(code);
@@ -643,9 +908,22 @@ public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(fi
         if (cached instanceof CoordinateReferenceSystem system) {
             crs = system;
         } else {
-            crs = getBackingStore().createCoordinateReferenceSystem(code);
-            if (LOGGER.isLoggable(Level.FINER)) {
-                LOGGER.finer("Created CRS with code:" + code + "\n" + crs);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof CoordinateReferenceSystem system) {
+                    crs = system;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createCoordinateReferenceSystem(code);
+                    }
+                    if (LOGGER.isLoggable(Level.FINER)) {
+                        LOGGER.finer("Created CRS with code:" + code + "\n" + crs);
+                    }
+                    objectCache.put(key, crs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
             }
         }
         LOGGER.fine(() -> "Using CRS[" + crs.getName() + "] for code:" + code);
@@ -655,14 +933,27 @@ public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(fi
 
     /** Returns a 3D coordinate reference system from a code. */
     @Override
-    public synchronized CompoundCRS createCompoundCRS(final String code) throws FactoryException {
+    public CompoundCRS createCompoundCRS(final String code) throws FactoryException {
         final CompoundCRS crs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof CompoundCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createCompoundCRS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof CompoundCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createCompoundCRS(code);
+                    }
+                    objectCache.put(key, crs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, crs);
         return crs;
@@ -670,14 +961,27 @@ public synchronized CompoundCRS createCompoundCRS(final String code) throws Fact
 
     /** Returns a derived coordinate reference system from a code. */
     @Override
-    public synchronized DerivedCRS createDerivedCRS(final String code) throws FactoryException {
+    public DerivedCRS createDerivedCRS(final String code) throws FactoryException {
         final DerivedCRS crs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof DerivedCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createDerivedCRS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof DerivedCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createDerivedCRS(code);
+                    }
+                    objectCache.put(key, crs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, crs);
         return crs;
@@ -685,14 +989,27 @@ public synchronized DerivedCRS createDerivedCRS(final String code) throws Factor
 
     /** Returns an engineering coordinate reference system from a code. */
     @Override
-    public synchronized EngineeringCRS createEngineeringCRS(final String code) throws FactoryException {
+    public EngineeringCRS createEngineeringCRS(final String code) throws FactoryException {
         final EngineeringCRS crs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof EngineeringCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createEngineeringCRS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof EngineeringCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createEngineeringCRS(code);
+                    }
+                    objectCache.put(key, crs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, crs);
         return crs;
@@ -700,14 +1017,27 @@ public synchronized EngineeringCRS createEngineeringCRS(final String code) throw
 
     /** Returns a geographic coordinate reference system from a code. */
     @Override
-    public synchronized GeographicCRS createGeographicCRS(final String code) throws FactoryException {
+    public GeographicCRS createGeographicCRS(final String code) throws FactoryException {
         final GeographicCRS crs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof GeographicCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createGeographicCRS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof GeographicCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createGeographicCRS(code);
+                    }
+                    objectCache.put(key, crs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, crs);
         return crs;
@@ -715,14 +1045,27 @@ public synchronized GeographicCRS createGeographicCRS(final String code) throws
 
     /** Returns a geocentric coordinate reference system from a code. */
     @Override
-    public synchronized GeocentricCRS createGeocentricCRS(final String code) throws FactoryException {
+    public GeocentricCRS createGeocentricCRS(final String code) throws FactoryException {
         final GeocentricCRS crs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof GeocentricCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createGeocentricCRS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof GeocentricCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createGeocentricCRS(code);
+                    }
+                    objectCache.put(key, crs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, crs);
         return crs;
@@ -730,14 +1073,27 @@ public synchronized GeocentricCRS createGeocentricCRS(final String code) throws
 
     /** Returns an image coordinate reference system from a code. */
     @Override
-    public synchronized ImageCRS createImageCRS(final String code) throws FactoryException {
+    public ImageCRS createImageCRS(final String code) throws FactoryException {
         final ImageCRS crs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof ImageCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createImageCRS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof ImageCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createImageCRS(code);
+                    }
+                    objectCache.put(key, crs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, crs);
         return crs;
@@ -745,14 +1101,27 @@ public synchronized ImageCRS createImageCRS(final String code) throws FactoryExc
 
     /** Returns a projected coordinate reference system from a code. */
     @Override
-    public synchronized ProjectedCRS createProjectedCRS(final String code) throws FactoryException {
+    public ProjectedCRS createProjectedCRS(final String code) throws FactoryException {
         final ProjectedCRS crs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof ProjectedCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createProjectedCRS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof ProjectedCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createProjectedCRS(code);
+                    }
+                    objectCache.put(key, crs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, crs);
         return crs;
@@ -760,14 +1129,27 @@ public synchronized ProjectedCRS createProjectedCRS(final String code) throws Fa
 
     /** Returns a temporal coordinate reference system from a code. */
     @Override
-    public synchronized TemporalCRS createTemporalCRS(final String code) throws FactoryException {
+    public TemporalCRS createTemporalCRS(final String code) throws FactoryException {
         final TemporalCRS crs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof TemporalCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createTemporalCRS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof TemporalCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createTemporalCRS(code);
+                    }
+                    objectCache.put(key, crs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, crs);
         return crs;
@@ -775,14 +1157,27 @@ public synchronized TemporalCRS createTemporalCRS(final String code) throws Fact
 
     /** Returns a vertical coordinate reference system from a code. */
     @Override
-    public synchronized VerticalCRS createVerticalCRS(final String code) throws FactoryException {
+    public VerticalCRS createVerticalCRS(final String code) throws FactoryException {
         final VerticalCRS crs;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof VerticalCRS rS) {
             crs = rS;
         } else {
-            crs = getBackingStore().createVerticalCRS(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof VerticalCRS rS) {
+                    crs = rS;
+                } else {
+                    synchronized (this) {
+                        crs = getBackingStore().createVerticalCRS(code);
+                    }
+                    objectCache.put(key, crs);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, crs);
         return crs;
@@ -790,14 +1185,27 @@ public synchronized VerticalCRS createVerticalCRS(final String code) throws Fact
 
     /** Returns a parameter descriptor from a code. */
     @Override
-    public synchronized ParameterDescriptor createParameterDescriptor(final String code) throws FactoryException {
+    public ParameterDescriptor createParameterDescriptor(final String code) throws FactoryException {
         final ParameterDescriptor parameter;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof ParameterDescriptor descriptor) {
             parameter = descriptor;
         } else {
-            parameter = getBackingStore().createParameterDescriptor(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof ParameterDescriptor descriptor) {
+                    parameter = descriptor;
+                } else {
+                    synchronized (this) {
+                        parameter = getBackingStore().createParameterDescriptor(code);
+                    }
+                    objectCache.put(key, parameter);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, parameter);
         return parameter;
@@ -805,14 +1213,27 @@ public synchronized ParameterDescriptor createParameterDescriptor(final String c
 
     /** Returns an operation method from a code. */
     @Override
-    public synchronized OperationMethod createOperationMethod(final String code) throws FactoryException {
+    public OperationMethod createOperationMethod(final String code) throws FactoryException {
         final OperationMethod method;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof OperationMethod operationMethod) {
             method = operationMethod;
         } else {
-            method = getBackingStore().createOperationMethod(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof OperationMethod operationMethod) {
+                    method = operationMethod;
+                } else {
+                    synchronized (this) {
+                        method = getBackingStore().createOperationMethod(code);
+                    }
+                    objectCache.put(key, method);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, method);
         return method;
@@ -820,14 +1241,27 @@ public synchronized OperationMethod createOperationMethod(final String code) thr
 
     /** Returns an operation from a single operation code. */
     @Override
-    public synchronized CoordinateOperation createCoordinateOperation(final String code) throws FactoryException {
+    public CoordinateOperation createCoordinateOperation(final String code) throws FactoryException {
         final CoordinateOperation operation;
         final String key = trimAuthority(code);
         final Object cached = objectCache.get(key);
         if (cached instanceof CoordinateOperation coordinateOperation) {
             operation = coordinateOperation;
         } else {
-            operation = getBackingStore().createCoordinateOperation(code);
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof CoordinateOperation coordinateOperation) {
+                    operation = coordinateOperation;
+                } else {
+                    synchronized (this) {
+                        operation = getBackingStore().createCoordinateOperation(code);
+                    }
+                    objectCache.put(key, operation);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, operation);
         return operation;
@@ -836,16 +1270,29 @@ public synchronized CoordinateOperation createCoordinateOperation(final String c
     /** Returns an operation from coordinate reference system codes. */
     @SuppressWarnings("unchecked")
     @Override
-    public synchronized Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
+    public Set<CoordinateOperation> createFromCoordinateReferenceSystemCodes(
             final String sourceCode, final String targetCode) throws FactoryException {
         final Set<CoordinateOperation> operations;
         final CodePair key = new CodePair(trimAuthority(sourceCode), trimAuthority(targetCode));
         final Object cached = objectCache.get(key);
-        if (cached instanceof CoordinateOperation) {
+        if (cached instanceof Set) {
             operations = (Set<CoordinateOperation>) cached;
         } else {
-            operations = Collections.unmodifiableSet(
-                    getBackingStore().createFromCoordinateReferenceSystemCodes(sourceCode, targetCode));
+            try {
+                objectCache.writeLock(key);
+                final Object found = objectCache.peek(key);
+                if (found instanceof Set) {
+                    operations = (Set<CoordinateOperation>) found;
+                } else {
+                    synchronized (this) {
+                        operations = Collections.unmodifiableSet(
+                                getBackingStore().createFromCoordinateReferenceSystemCodes(sourceCode, targetCode));
+                    }
+                    objectCache.put(key, operations);
+                }
+            } finally {
+                objectCache.writeUnLock(key);
+            }
         }
         objectCache.put(key, operations);
         return operations;
@@ -887,7 +1334,7 @@ public String toString() {
      * lookup to the underlying backing store and caches the result.
      */
     @Override
-    public synchronized IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
+    public IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
             throws FactoryException {
         return new Finder(getBackingStore().getIdentifiedObjectFinder(type));
     }
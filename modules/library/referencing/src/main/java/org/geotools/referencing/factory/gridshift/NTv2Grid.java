@@ -0,0 +1,426 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.gridshift;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.util.URLs;
+
+/**
+ * A NTv2 grid shift file, read on demand. Only the file and sub-grid headers are parsed when the grid is opened, the
+ * shifts are read from the file content when a point is transformed. Local files are memory-mapped, so that opening
+ * even a large national grid is immediate and its content is paged in by the operating system as needed, outside of
+ * the Java heap. Other resources, such as grids packaged in a jar, are read in a single byte array.
+ *
+ * <p>The sub-grids form a tree, the densified grids being children of the grid they refine. The sub-grids of each level
+ * are held in a spatial index, so that the sub-grid containing a point is found without scanning all of them.
+ *
+ * <p>Instances are immutable and safe for use by concurrent threads.
+ *
+ * @since 35
+ * @see NTv2GridShiftFactory#openNTv2Grid(URL)
+ */
+public final class NTv2Grid {
+
+    /** The length of a header record, an 8 characters key followed by an 8 bytes value. */
+    private static final int RECORD_LENGTH = 16;
+
+    /** The number of records in the overview and sub-grid headers. */
+    private static final int HEADER_RECORDS = 11;
+
+    /** The length of the sub-grid headers. */
+    private static final int SUB_HEADER_LENGTH = HEADER_RECORDS * RECORD_LENGTH;
+
+    /** The number of iterations computing a reverse shift. */
+    private static final int REVERSE_ITERATIONS = 4;
+
+    /** The parent name of the top level sub-grids. */
+    private static final String NO_PARENT = "NONE";
+
+    /** A sub-grid. The bounds are in the file units, with longitudes positive toward West. */
+    private static final class SubGrid {
+        final String name;
+
+        final double minLat, maxLat, minLon, maxLon;
+
+        final double latInc, lonInc;
+
+        final int columns, rows;
+
+        /** The position of the first node in the file. */
+        final int dataOffset;
+
+        /** The densified sub-grids, or {@code null} if none. */
+        Index children;
+
+        SubGrid(
+                String name,
+                double minLat,
+                double maxLat,
+                double minLon,
+                double maxLon,
+                double latInc,
+                double lonInc,
+                int dataOffset) {
+            this.name = name;
+            this.minLat = minLat;
+            this.maxLat = maxLat;
+            this.minLon = minLon;
+            this.maxLon = maxLon;
+            this.latInc = latInc;
+            this.lonInc = lonInc;
+            this.columns = (int) Math.round((maxLon - minLon) / lonInc) + 1;
+            this.rows = (int) Math.round((maxLat - minLat) / latInc) + 1;
+            this.dataOffset = dataOffset;
+        }
+
+        boolean contains(final double lon, final double lat) {
+            return lon >= minLon && lon <= maxLon && lat >= minLat && lat <= maxLat;
+        }
+    }
+
+    /**
+     * A spatial index over the sub-grids of a level of the tree. The extent of the sub-grids is divided in cells
+     * listing the sub-grids they intersect. A few sub-grids are simply scanned.
+     */
+    private static final class Index {
+        /** Below this number of sub-grids, they are scanned without using cells. */
+        private static final int SCAN_THRESHOLD = 8;
+
+        final SubGrid[] grids;
+
+        final double minLon, minLat, cellWidth, cellHeight;
+
+        final int size;
+
+        /** The sub-grids intersecting each cell, or {@code null} if they are scanned. */
+        final SubGrid[][] cells;
+
+        Index(final List<SubGrid> list) {
+            grids = list.toArray(new SubGrid[list.size()]);
+            double x0 = Double.POSITIVE_INFINITY, y0 = Double.POSITIVE_INFINITY;
+            double x1 = Double.NEGATIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+            for (SubGrid grid : grids) {
+                x0 = Math.min(x0, grid.minLon);
+                y0 = Math.min(y0, grid.minLat);
+                x1 = Math.max(x1, grid.maxLon);
+                y1 = Math.max(y1, grid.maxLat);
+            }
+            minLon = x0;
+            minLat = y0;
+            if (grids.length < SCAN_THRESHOLD) {
+                size = 0;
+                cellWidth = cellHeight = 0;
+                cells = null;
+                return;
+            }
+            size = (int) Math.ceil(Math.sqrt(grids.length));
+            cellWidth = (x1 - x0) / size;
+            cellHeight = (y1 - y0) / size;
+            final List<List<SubGrid>> content = new ArrayList<>(size * size);
+            for (int i = size * size; --i >= 0; ) {
+                content.add(new ArrayList<>());
+            }
+            for (SubGrid grid : grids) {
+                final int c0 = column(grid.minLon), c1 = column(grid.maxLon);
+                final int r0 = row(grid.minLat), r1 = row(grid.maxLat);
+                for (int r = r0; r <= r1; r++) {
+                    for (int c = c0; c <= c1; c++) {
+                        content.get(r * size + c).add(grid);
+                    }
+                }
+            }
+            cells = new SubGrid[size * size][];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = content.get(i).toArray(new SubGrid[0]);
+            }
+        }
+
+        private int column(final double lon) {
+            return Math.max(0, Math.min(size - 1, (int) ((lon - minLon) / cellWidth)));
+        }
+
+        private int row(final double lat) {
+            return Math.max(0, Math.min(size - 1, (int) ((lat - minLat) / cellHeight)));
+        }
+
+        /** Returns the most densified sub-grid containing the given point, or {@code null} if none. */
+        SubGrid find(final double lon, final double lat) {
+            final SubGrid[] candidates;
+            if (cells == null) {
+                candidates = grids;
+            } else if (lon < minLon || lat < minLat) {
+                return null;
+            } else {
+                candidates = cells[row(lat) * size + column(lon)];
+            }
+            for (SubGrid grid : candidates) {
+                if (grid.contains(lon, lat)) {
+                    if (grid.children != null) {
+                        final SubGrid child = grid.children.find(lon, lat);
+                        if (child != null) {
+                            return child;
+                        }
+                    }
+                    return grid;
+                }
+            }
+            return null;
+        }
+    }
+
+    /** The file content, possibly memory-mapped. Only absolute reads are performed. */
+    private final ByteBuffer buffer;
+
+    /** The number of file units in a degree, 3600 for grids in seconds. */
+    private final double unitsPerDegree;
+
+    /** The index over the top level sub-grids. */
+    private final Index index;
+
+    /** The number of sub-grids. */
+    private final int subGridCount;
+
+    /** The grid location, for messages. */
+    private final String location;
+
+    /**
+     * Creates a grid from the given file content.
+     *
+     * @param buffer The NTv2 file content.
+     * @param location The grid location, for messages.
+     * @throws IOException if the content is not a valid NTv2 grid.
+     */
+    NTv2Grid(final ByteBuffer buffer, final String location) throws IOException {
+        this.buffer = buffer;
+        this.location = location;
+        if (buffer.limit() < 2 * SUB_HEADER_LENGTH || !"NUM_OREC".equals(key(0))) {
+            throw new IOException("Not a NTv2 grid: " + location);
+        }
+        // the record count is 11, choose the byte order accordingly
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(8) != HEADER_RECORDS) {
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (buffer.getInt(8) != HEADER_RECORDS) {
+                throw new IOException("Unsupported NTv2 header in " + location);
+            }
+        }
+        subGridCount = buffer.getInt(2 * RECORD_LENGTH + 8);
+        final String units = string(3 * RECORD_LENGTH);
+        switch (units) {
+            case "SECONDS":
+                unitsPerDegree = 3600;
+                break;
+            case "MINUTES":
+                unitsPerDegree = 60;
+                break;
+            case "DEGREES":
+                unitsPerDegree = 1;
+                break;
+            default:
+                throw new IOException("Unsupported NTv2 units '" + units + "' in " + location);
+        }
+        // read the sub-grid headers, skipping over their content
+        final Map<String, List<SubGrid>> children = new HashMap<>();
+        final List<SubGrid> all = new ArrayList<>(subGridCount);
+        int offset = HEADER_RECORDS * RECORD_LENGTH;
+        for (int i = 0; i < subGridCount; i++) {
+            if (offset + SUB_HEADER_LENGTH > buffer.limit() || !"SUB_NAME".equals(key(offset))) {
+                throw new IOException("Invalid NTv2 sub-grid header at offset " + offset + " in " + location);
+            }
+            final SubGrid grid = new SubGrid(
+                    string(offset),
+                    value(offset, 4),
+                    value(offset, 5),
+                    value(offset, 6),
+                    value(offset, 7),
+                    value(offset, 8),
+                    value(offset, 9),
+                    offset + SUB_HEADER_LENGTH);
+            final int count = buffer.getInt(offset + 10 * RECORD_LENGTH + 8);
+            if (count != grid.rows * grid.columns
+                    || (long) grid.dataOffset + (long) count * RECORD_LENGTH > buffer.limit()) {
+                throw new IOException("Invalid NTv2 sub-grid " + grid.name + " in " + location);
+            }
+            children.computeIfAbsent(string(offset + RECORD_LENGTH), k -> new ArrayList<>()).add(grid);
+            all.add(grid);
+            offset = grid.dataOffset + count * RECORD_LENGTH;
+        }
+        for (SubGrid grid : all) {
+            final List<SubGrid> list = children.remove(grid.name);
+            if (list != null) {
+                grid.children = new Index(list);
+            }
+        }
+        final List<SubGrid> top = new ArrayList<>(children.getOrDefault(NO_PARENT, List.of()));
+        children.remove(NO_PARENT);
+        // sub-grids whose parent is missing are handled as top level ones
+        children.values().forEach(top::addAll);
+        if (top.isEmpty()) {
+            throw new IOException("No top level sub-grid in " + location);
+        }
+        index = new Index(top);
+    }
+
+    /**
+     * Opens the given NTv2 grid. Local files are memory-mapped, other resources are read in memory.
+     *
+     * @param location The grid location.
+     * @return The grid.
+     * @throws IOException if the grid cannot be read, or is not a valid NTv2 grid.
+     */
+    public static NTv2Grid open(final URL location) throws IOException {
+        final ByteBuffer buffer;
+        final File file = "file".equals(location.getProtocol()) ? URLs.urlToFile(location) : null;
+        if (file != null) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                final long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("The NTv2 grid " + file + " is too large to be mapped");
+                }
+                // the mapping remains valid after the channel is closed
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        } else {
+            try (InputStream in = location.openStream()) {
+                buffer = ByteBuffer.wrap(in.readAllBytes());
+            }
+        }
+        return new NTv2Grid(buffer, location.toExternalForm());
+    }
+
+    /** Returns the key of the record at the given offset. */
+    private String key(final int offset) {
+        final byte[] bytes = new byte[8];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII).trim();
+    }
+
+    /** Returns the text value of the record at the given offset. */
+    private String string(final int offset) {
+        return key(offset + 8);
+    }
+
+    /** Returns the numeric value of a record of the sub-grid header at the given offset. */
+    private double value(final int offset, final int record) {
+        return buffer.getDouble(offset + record * RECORD_LENGTH + 8);
+    }
+
+    /**
+     * Computes the shift at the given position, in file units with longitudes positive toward West.
+     *
+     * @param shift Where to store the latitude and longitude shifts.
+     * @return {@code false} if the position is not covered by the grid.
+     */
+    private boolean interpolate(final double lon, final double lat, final double[] shift) {
+        final SubGrid grid = index.find(lon, lat);
+        if (grid == null) {
+            return false;
+        }
+        // the last row and column are interpolated in the previous cell
+        final int column = Math.min((int) ((lon - grid.minLon) / grid.lonInc), Math.max(0, grid.columns - 2));
+        final int row = Math.min((int) ((lat - grid.minLat) / grid.latInc), Math.max(0, grid.rows - 2));
+        final double x = (lon - (grid.minLon + grid.lonInc * column)) / grid.lonInc;
+        final double y = (lat - (grid.minLat + grid.latInc * row)) / grid.latInc;
+        final int a = grid.dataOffset + (row * grid.columns + column) * RECORD_LENGTH;
+        final int b = grid.columns > 1 ? a + RECORD_LENGTH : a;
+        final int c = grid.rows > 1 ? a + grid.columns * RECORD_LENGTH : a;
+        final int d = c + (b - a);
+        // each node holds the latitude and longitude shifts, followed by their accuracies
+        for (int i = 0; i < 2; i++) {
+            final int k = i * Float.BYTES;
+            final double va = buffer.getFloat(a + k);
+            final double vb = buffer.getFloat(b + k);
+            final double vc = buffer.getFloat(c + k);
+            final double vd = buffer.getFloat(d + k);
+            shift[i] = va + (vb - va) * x + (vc - va) * y + (va + vd - vb - vc) * x * y;
+        }
+        return true;
+    }
+
+    /**
+     * Shifts a position from the source datum to the target datum of this grid.
+     *
+     * @param lon The longitude in decimal degrees, positive toward East.
+     * @param lat The latitude in decimal degrees.
+     * @param shifted Where to store the shifted longitude and latitude, in decimal degrees.
+     * @return {@code false} if the position is not covered by the grid, in which case {@code shifted} is unchanged.
+     */
+    public boolean shiftForward(final double lon, final double lat, final double[] shifted) {
+        final double x = -lon * unitsPerDegree;
+        final double y = lat * unitsPerDegree;
+        final double[] shift = new double[2];
+        if (!interpolate(x, y, shift)) {
+            return false;
+        }
+        shifted[0] = -(x + shift[1]) / unitsPerDegree;
+        shifted[1] = (y + shift[0]) / unitsPerDegree;
+        return true;
+    }
+
+    /**
+     * Shifts a position from the target datum to the source datum of this grid. The shift is computed iteratively,
+     * starting from the shift at the given position.
+     *
+     * @param lon The longitude in decimal degrees, positive toward East.
+     * @param lat The latitude in decimal degrees.
+     * @param shifted Where to store the shifted longitude and latitude, in decimal degrees.
+     * @return {@code false} if the position is not covered by the grid, in which case {@code shifted} is unchanged.
+     */
+    public boolean shiftReverse(final double lon, final double lat, final double[] shifted) {
+        final double x = -lon * unitsPerDegree;
+        final double y = lat * unitsPerDegree;
+        final double[] shift = new double[2];
+        double sx = x, sy = y;
+        for (int i = 0; i < REVERSE_ITERATIONS; i++) {
+            if (!interpolate(sx, sy, shift)) {
+                return false;
+            }
+            sx = x - shift[1];
+            sy = y - shift[0];
+        }
+        shifted[0] = -sx / unitsPerDegree;
+        shifted[1] = sy / unitsPerDegree;
+        return true;
+    }
+
+    /** Returns the number of sub-grids. */
+    public int getSubGridCount() {
+        return subGridCount;
+    }
+
+    /** Returns {@code true} if the grid content is memory-mapped. */
+    public boolean isMapped() {
+        return buffer.isDirect();
+    }
+
+    @Override
+    public String toString() {
+        return "NTv2Grid[" + location + ", " + subGridCount + " sub-grids" + (isMapped() ? ", mapped" : "") + "]";
+    }
+}
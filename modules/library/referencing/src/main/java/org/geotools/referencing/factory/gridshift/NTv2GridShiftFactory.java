@@ -52,6 +52,9 @@ public class NTv2GridShiftFactory extends ReferencingFactory implements Buffered
     /** The soft cache that holds loaded grids. */
     private final SoftValueHashMap<String, GridShiftFile> ntv2GridCache;
 
+    /** The soft cache that holds the grids read on demand. */
+    private final SoftValueHashMap<String, NTv2Grid> openGridCache = new SoftValueHashMap<>(GRID_CACHE_HARD_REFERENCES);
+
     /** Constructs a factory with the default priority. */
     public NTv2GridShiftFactory() {
         super();
@@ -112,6 +115,35 @@ public GridShiftFile createNTv2Grid(URL gridLocation) throws FactoryException {
         }
     }
 
+    /**
+     * Opens a NTv2 grid read on demand. Unlike {@link #createNTv2Grid(URL)}, only the grid headers are read, local
+     * files being memory-mapped. The grid is cached, so that all the transforms using it share the same instance.
+     *
+     * @param gridLocation The NTv2 grid file location
+     * @return the grid
+     * @throws FactoryException if grid cannot be opened
+     * @since 35
+     */
+    public NTv2Grid openNTv2Grid(URL gridLocation) throws FactoryException {
+        if (gridLocation == null) {
+            throw new FactoryException("The grid location must be not null");
+        }
+        final String key = gridLocation.toExternalForm();
+        synchronized (openGridCache) { // Prevent simultaneous threads trying to open same grid
+            NTv2Grid grid = openGridCache.get(key);
+            if (grid == null) {
+                try {
+                    grid = NTv2Grid.open(gridLocation);
+                } catch (IOException e) {
+                    LOGGER.log(Level.SEVERE, e.getLocalizedMessage(), e);
+                    throw new FactoryException("NTv2 Grid " + gridLocation + " could not be opened.", e);
+                }
+                openGridCache.put(key, grid);
+            }
+            return grid;
+        }
+    }
+
     /**
      * Checks if a given resource is a valid NTv2 file without fully loading it.
      *
@@ -0,0 +1,295 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.CoordinateOperationFactory;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.operation.transform.IdentityTransform;
+import org.geotools.util.BoundedObjectCache;
+import org.geotools.util.Utilities;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+
+/**
+ * A cache of the math transforms between pairs of coordinate reference systems, shared by the code reprojecting data
+ * over and over between the same CRS, such as the renderer, the reprojecting feature collections and the filter
+ * reprojection.
+ *
+ * <p>The entries are keyed by the <em>identity</em> of the source and target CRS, plus the lenient flag and the hints
+ * used to select the {@link CoordinateOperationFactory}. A hit only costs a hash lookup, without comparing the CRS
+ * definitions nor going through the operation factory. A CRS instance that is equal but not identical to a cached one
+ * misses this cache, and falls back on the {@linkplain CRS#findMathTransform CRS utility methods}, whose factories
+ * buffer the operations by CRS equality. Since {@link CRS#decode(String)} and {@link CRS#parseWKT} cache the CRS they
+ * create, the same definitions usually end up being the same instances.
+ *
+ * <p>The {@linkplain #warmUp() warm up} methods preload the transforms of the CRS pairs known in advance to be
+ * frequently used, so that the first requests do not pay for their creation.
+ *
+ * @since 35
+ */
+public final class MathTransformCache {
+
+    static final Logger LOGGER = Logging.getLogger(MathTransformCache.class);
+
+    /**
+     * The system property setting the maximum number of transforms held by the {@linkplain #getDefault default}
+     * cache.
+     */
+    public static final String CACHE_SIZE_KEY = "org.geotools.referencing.transformCacheSize";
+
+    /**
+     * The system property listing the CRS pairs loaded by {@link #warmUp()}. The pairs are separated by {@code ';'}, the
+     * source and target codes by {@code "->"}, as in {@code EPSG:4326->EPSG:3857;EPSG:4326->EPSG:32632}.
+     */
+    public static final String WARM_UP_KEY = "org.geotools.referencing.transformCache.warmUp";
+
+    /** The separator between the source and target codes of a warm up pair. */
+    static final String PAIR_SEPARATOR = "->";
+
+    private static final MathTransformCache DEFAULT = new MathTransformCache(Integer.getInteger(CACHE_SIZE_KEY, 500));
+
+    /** The cache key. The CRS are compared by identity, the hints by equality. */
+    private static final class Key {
+        final CoordinateReferenceSystem source;
+
+        final CoordinateReferenceSystem target;
+
+        final boolean lenient;
+
+        final Hints hints;
+
+        final int hash;
+
+        Key(CoordinateReferenceSystem source, CoordinateReferenceSystem target, boolean lenient, Hints hints) {
+            this.source = source;
+            this.target = target;
+            this.lenient = lenient;
+            this.hints = hints;
+            int code = 31 * System.identityHashCode(source) + System.identityHashCode(target);
+            code = 31 * code + (lenient ? 1 : 0);
+            this.hash = hints != null ? 31 * code + hints.hashCode() : code;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object instanceof Key that) {
+                return source == that.source
+                        && target == that.target
+                        && lenient == that.lenient
+                        && Utilities.equals(hints, that.hints);
+            }
+            return false;
+        }
+    }
+
+    private final BoundedObjectCache<Key, MathTransform> cache;
+
+    /**
+     * Creates a new cache. Most code should use the {@linkplain #getDefault default} cache, so that the transforms are
+     * shared.
+     *
+     * @param capacity The maximum number of transforms held.
+     */
+    public MathTransformCache(final int capacity) {
+        cache = new BoundedObjectCache<>(capacity);
+    }
+
+    /**
+     * Returns the cache shared through the library. Its capacity is set by the {@value #CACHE_SIZE_KEY} system
+     * property, 500 by default.
+     */
+    public static MathTransformCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the math transform between two CRS, using the operation factories of the {@link CRS} utility methods.
+     *
+     * @param sourceCRS The source CRS.
+     * @param targetCRS The target CRS.
+     * @param lenient {@code true} if the math transform should be created even when there is no information available
+     *     for a datum shift.
+     * @return The math transform from {@code sourceCRS} to {@code targetCRS}.
+     * @throws FactoryException If no math transform can be created for the specified source and target CRS.
+     * @see CRS#findMathTransform(CoordinateReferenceSystem, CoordinateReferenceSystem, boolean)
+     */
+    public MathTransform getMathTransform(
+            final CoordinateReferenceSystem sourceCRS, final CoordinateReferenceSystem targetCRS, final boolean lenient)
+            throws FactoryException {
+        return getMathTransform(sourceCRS, targetCRS, lenient, null);
+    }
+
+    /**
+     * Returns the math transform between two CRS, using the coordinate operation factory selected by the given hints.
+     *
+     * @param sourceCRS The source CRS.
+     * @param targetCRS The target CRS.
+     * @param lenient {@code true} if the math transform should be created even when there is no information available
+     *     for a datum shift.
+     * @param hints The hints used to select the coordinate operation factory, or {@code null} for the factories of the
+     *     {@link CRS} utility methods.
+     * @return The math transform from {@code sourceCRS} to {@code targetCRS}.
+     * @throws FactoryException If no math transform can be created for the specified source and target CRS.
+     */
+    public MathTransform getMathTransform(
+            final CoordinateReferenceSystem sourceCRS,
+            final CoordinateReferenceSystem targetCRS,
+            final boolean lenient,
+            final Hints hints)
+            throws FactoryException {
+        Utilities.ensureNonNull("sourceCRS", sourceCRS);
+        Utilities.ensureNonNull("targetCRS", targetCRS);
+        MathTransform transform = cache.get(new Key(sourceCRS, targetCRS, lenient, hints));
+        if (transform == null) {
+            // the hints may be modified by the caller afterwards, keep a copy
+            final Key key = new Key(sourceCRS, targetCRS, lenient, hints != null ? new Hints(hints) : null);
+            try {
+                cache.writeLock(key);
+                transform = cache.peek(key);
+                if (transform == null) {
+                    transform = createMathTransform(sourceCRS, targetCRS, lenient, key.hints);
+                    cache.put(key, transform);
+                }
+            } finally {
+                cache.writeUnLock(key);
+            }
+        }
+        return transform;
+    }
+
+    private static MathTransform createMathTransform(
+            final CoordinateReferenceSystem sourceCRS,
+            final CoordinateReferenceSystem targetCRS,
+            final boolean lenient,
+            final Hints hints)
+            throws FactoryException {
+        if (hints == null) {
+            return CRS.findMathTransform(sourceCRS, targetCRS, lenient);
+        }
+        if (CRS.equalsIgnoreMetadata(sourceCRS, targetCRS)) {
+            return IdentityTransform.create(sourceCRS.getCoordinateSystem().getDimension());
+        }
+        final Hints factoryHints = new Hints(hints);
+        factoryHints.put(Hints.LENIENT_DATUM_SHIFT, lenient);
+        final CoordinateOperationFactory factory = ReferencingFactoryFinder.getCoordinateOperationFactory(factoryHints);
+        return factory.createOperation(sourceCRS, targetCRS).getMathTransform();
+    }
+
+    /**
+     * Loads the transform between two CRS, decoded with {@link CRS#decode(String)}.
+     *
+     * @param sourceCode The source CRS code.
+     * @param targetCode The target CRS code.
+     * @param lenient {@code true} if the math transform should be created even when there is no information available
+     *     for a datum shift.
+     * @throws FactoryException if a CRS cannot be decoded, or the transform cannot be created.
+     */
+    public void warmUp(final String sourceCode, final String targetCode, final boolean lenient)
+            throws FactoryException {
+        getMathTransform(CRS.decode(sourceCode), CRS.decode(targetCode), lenient);
+    }
+
+    /**
+     * Loads the transforms of the given CRS pairs, written as {@code <source code>-><target code>}. The pairs that
+     * cannot be loaded are logged and skipped.
+     *
+     * @param pairs The CRS pairs.
+     * @param lenient {@code true} if the math transforms should be created even when there is no information available
+     *     for a datum shift.
+     * @return The number of transforms loaded.
+     */
+    public int warmUp(final Collection<String> pairs, final boolean lenient) {
+        int count = 0;
+        for (String pair : pairs) {
+            final int split = pair.indexOf(PAIR_SEPARATOR);
+            if (split < 0) {
+                LOGGER.warning("Skipping invalid CRS pair '" + pair + "', expected <source>" + PAIR_SEPARATOR
+                        + "<target>");
+                continue;
+            }
+            final String source = pair.substring(0, split).trim();
+            final String target = pair.substring(split + PAIR_SEPARATOR.length()).trim();
+            try {
+                warmUp(source, target, lenient);
+                count++;
+            } catch (FactoryException e) {
+                LOGGER.log(Level.WARNING, "Could not load the transform from " + source + " to " + target, e);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Loads the lenient transforms of the CRS pairs listed by the {@value #WARM_UP_KEY} system property, if any.
+     *
+     * @return The number of transforms loaded.
+     */
+    public int warmUp() {
+        final String property = System.getProperty(WARM_UP_KEY);
+        if (property == null) {
+            return 0;
+        }
+        final List<String> pairs = new ArrayList<>();
+        for (String pair : property.split(";")) {
+            if (!pair.isBlank()) {
+                pairs.add(pair);
+            }
+        }
+        final int count = warmUp(pairs, true);
+        LOGGER.fine("Preloaded " + count + " of " + pairs.size() + " transforms");
+        return count;
+    }
+
+    /** Removes all the transforms from the cache. */
+    public void clear() {
+        cache.clear();
+    }
+
+    /** Returns the number of transforms in the cache. */
+    public int size() {
+        return cache.size();
+    }
+
+    /** Returns the number of lookups that found the transform in the cache. */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /** Returns the number of lookups that had to create the transform. */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    @Override
+    public String toString() {
+        return "MathTransformCache[" + cache + "]";
+    }
+}
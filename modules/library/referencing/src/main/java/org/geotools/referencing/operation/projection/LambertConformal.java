@@ -265,6 +265,75 @@ protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst)
         return new Point2D.Double(x, y);
     }
 
+    /**
+     * Transforms in place an array of (<var>&lambda;</var>,<var>&phi;</var>) coordinates (units in radians), with the
+     * same equations than {@link #transformNormalized(double, double, Point2D)}.
+     */
+    @Override
+    int transformNormalized(final double[] pts, final int offset, final int numPts) {
+        int failures = 0;
+        final double shift = belgium ? BELGE_A : 0;
+        final int end = offset + 2 * numPts;
+        for (int i = offset; i < end; i += 2) {
+            final double y = pts[i + 1];
+            final double rho;
+            if (abs(abs(y) - PI / 2) < EPSILON) {
+                if (y * n <= 0) {
+                    pts[i] = pts[i + 1] = Double.NaN;
+                    failures++;
+                    continue;
+                }
+                rho = 0;
+            } else if (isSpherical) {
+                rho = F * pow(tan(PI / 4 + 0.5 * y), -n);
+            } else {
+                rho = F * pow(tsfn(y, sin(y)), n);
+            }
+            final double x = pts[i] * n - shift;
+            pts[i + 1] = rho0 - rho * cos(x);
+            pts[i] = rho * sin(x);
+        }
+        return failures;
+    }
+
+    /**
+     * Transforms in place an array of (<var>x</var>,<var>y</var>) coordinates, with the same equations than
+     * {@link #inverseTransformNormalized(double, double, Point2D)}.
+     */
+    @Override
+    int inverseTransformNormalized(final double[] pts, final int offset, final int numPts) {
+        int failures = 0;
+        final double shift = belgium ? BELGE_A : 0;
+        final int end = offset + 2 * numPts;
+        for (int i = offset; i < end; i += 2) {
+            double x = pts[i];
+            double y = rho0 - pts[i + 1];
+            double rho = hypot(x, y); // Zero when the latitude is 90 degrees.
+            if (rho > EPSILON) {
+                if (n < 0) {
+                    rho = -rho;
+                    x = -x;
+                    y = -y;
+                }
+                pts[i] = (atan2(x, y) + shift) / n;
+                if (isSpherical) {
+                    pts[i + 1] = 2.0 * atan(pow(F / rho, 1.0 / n)) - PI / 2;
+                } else {
+                    try {
+                        pts[i + 1] = cphi2(pow(rho / F, 1.0 / n));
+                    } catch (ProjectionException e) {
+                        pts[i] = pts[i + 1] = Double.NaN;
+                        failures++;
+                    }
+                }
+            } else {
+                pts[i] = 0.0;
+                pts[i + 1] = n < 0 ? -(PI / 2) : PI / 2;
+            }
+        }
+        return failures;
+    }
+
     /** Returns a hash value for this projection. */
     @Override
     public int hashCode() {
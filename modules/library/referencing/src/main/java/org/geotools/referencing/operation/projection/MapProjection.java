@@ -33,6 +33,7 @@
 import static java.lang.Math.toDegrees;
 import static java.lang.Math.toRadians;
 
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.io.Serial;
 import java.io.Serializable;
@@ -258,6 +259,12 @@ public abstract class MapProjection extends AbstractMathTransform implements Mat
     /** Marks if the projection is invertible. The vast majority is, subclasses can override. */
     protected boolean invertible = true;
 
+    /** Flags for {@link #bulkKernels}. */
+    private static final int BULK_CHECKED = 1, BULK_FORWARD = 2, BULK_INVERSE = 4;
+
+    /** Which of the bulk kernels can be used, computed when first needed. */
+    private transient volatile int bulkKernels;
+
     /**
      * Constructs a new map projection from the suplied parameters.
      *
@@ -812,6 +819,139 @@ protected abstract Point2D inverseTransformNormalized(double x, double y, final
     protected abstract Point2D transformNormalized(double lambda, double phi, final Point2D ptDst)
             throws ProjectionException;
 
+    /**
+     * Bulk version of {@link #transformNormalized(double, double, Point2D)}, transforming in place an array of
+     * (<var>lambda</var>,<var>phi</var>) pairs in radians, with the {@link #centralMeridian} already removed. The
+     * points that can't be transformed are set to {@link Double#NaN}.
+     *
+     * <p>Kernels are straight loops over the array, without allocation nor virtual call, so that the JIT compiler can
+     * unroll and optimize them. The default implementation does nothing and returns -1, in which case the points are
+     * transformed one by one. A kernel is used only if it is declared by the same class than the point-wise method, so
+     * that a subclass overriding the latter falls back on it.
+     *
+     * @param pts The coordinates to transform in place.
+     * @param offset The offset of the first point.
+     * @param numPts The number of points.
+     * @return The number of points that could not be transformed, or -1 if there is no bulk kernel.
+     */
+    int transformNormalized(final double[] pts, final int offset, final int numPts) {
+        return -1;
+    }
+
+    /**
+     * Bulk version of {@link #inverseTransformNormalized(double, double, Point2D)}, transforming in place an array of
+     * normalized (<var>x</var>,<var>y</var>) pairs. The points that can't be transformed are set to
+     * {@link Double#NaN}.
+     *
+     * @param pts The coordinates to transform in place.
+     * @param offset The offset of the first point.
+     * @param numPts The number of points.
+     * @return The number of points that could not be transformed, or -1 if there is no bulk kernel.
+     * @see #transformNormalized(double[], int, int)
+     */
+    int inverseTransformNormalized(final double[] pts, final int offset, final int numPts) {
+        return -1;
+    }
+
+    /** Returns {@code true} if the forward or inverse bulk kernel can be used. */
+    final boolean isBulkSupported(final boolean inverse) {
+        int flags = bulkKernels;
+        if (flags == 0) {
+            flags = BULK_CHECKED;
+            if (isBulkDeclared("transformNormalized")) {
+                flags |= BULK_FORWARD;
+            }
+            if (isBulkDeclared("inverseTransformNormalized")) {
+                flags |= BULK_INVERSE;
+            }
+            bulkKernels = flags;
+        }
+        return (flags & (inverse ? BULK_INVERSE : BULK_FORWARD)) != 0;
+    }
+
+    /** Returns {@code true} if the bulk version of the given method is declared by the point-wise one class. */
+    private boolean isBulkDeclared(final String name) {
+        final Class<?> bulk = getDeclaringClass(name, double[].class, int.class, int.class);
+        return bulk != null
+                && bulk != MapProjection.class
+                && bulk == getDeclaringClass(name, double.class, double.class, Point2D.class);
+    }
+
+    /** Returns the most specialized class declaring the given method, or {@code null} if none. */
+    private Class<?> getDeclaringClass(final String name, final Class<?>... parameterTypes) {
+        for (Class<?> type = getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod(name, parameterTypes);
+                return type;
+            } catch (NoSuchMethodException | SecurityException e) {
+                // not declared here, or not visible, check the parent class
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Applies an affine transform on an array of points. This is a plain loop, which the JIT compiler can unroll and
+     * vectorize.
+     */
+    static void affine(
+            final double[] src,
+            final int srcOff,
+            final double[] dst,
+            final int dstOff,
+            final int numPts,
+            final double m00,
+            final double m01,
+            final double m02,
+            final double m10,
+            final double m11,
+            final double m12) {
+        final int end = srcOff + 2 * numPts;
+        for (int i = srcOff, j = dstOff; i < end; i += 2, j += 2) {
+            final double x = src[i];
+            final double y = src[i + 1];
+            dst[j] = m00 * x + m01 * y + m02;
+            dst[j + 1] = m10 * x + m11 * y + m12;
+        }
+    }
+
+    /**
+     * Copies the source points in the destination array, if they are not already there. Afterward, the points can be
+     * transformed in place in the destination array, even if the source and destination regions overlap.
+     */
+    private static void copy(final double[] src, final int srcOff, final double[] dst, final int dstOff, int numPts) {
+        if (src != dst || srcOff != dstOff) {
+            System.arraycopy(src, srcOff, dst, dstOff, 2 * numPts);
+        }
+    }
+
+    /**
+     * Verifies the geographic ranges of the given points in radians, until the first one out of range if any. The
+     * {@code shift} is added to the longitudes before the check.
+     */
+    private void verifyGeographicRanges(
+            final AbstractMathTransform tr,
+            final double[] pts,
+            final int offset,
+            final int numPts,
+            final double shift) {
+        final int end = offset + 2 * numPts;
+        for (int i = offset; i < end; i += 2) {
+            if (verifyGeographicRanges(tr, toDegrees(pts[i] + shift), toDegrees(pts[i + 1]))) {
+                warningLogged();
+                break;
+            }
+        }
+    }
+
+    /** Rolls the longitudes of the given points in the {@code [-PI..PI]} range. */
+    private static void rollLongitudes(final double[] pts, final int offset, final int numPts, final double shift) {
+        final int end = offset + 2 * numPts;
+        for (int i = offset; i < end; i += 2) {
+            pts[i] = rollLongitude(pts[i] + shift);
+        }
+    }
+
     /**
      * Transforms the specified {@code ptSrc} and stores the result in {@code ptDst}.
      *
@@ -868,6 +1008,9 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
     @Override
     public final void transform(final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, int numPts)
             throws ProjectionException {
+        if (transform(null, srcPts, srcOff, dstPts, dstOff, numPts, null)) {
+            return;
+        }
         /*
          * Vérifie s'il faudra parcourir le tableau en sens inverse.
          * Ce sera le cas si les tableaux source et destination se
@@ -904,6 +1047,75 @@ public final void transform(final double[] srcPts, int srcOff, final double[] ds
         }
     }
 
+    /**
+     * Transforms a list of coordinate point ordinal values through the given affine transforms and this projection in a
+     * single pass, if this projection has a {@linkplain #transformNormalized(double[], int, int) bulk kernel}. The
+     * affine transforms are folded with the conversion from degrees to radians, the {@link #centralMeridian} removal,
+     * the {@link #globalScale} and the false easting and northing, so that the points are visited once before and once
+     * after the projection kernel.
+     *
+     * <p>The results may differ from the point by point transformation in the last bits, and the
+     * {@linkplain #checkReciprocal reciprocal checks} enabled by assertions are not performed.
+     */
+    @Override
+    protected final boolean transform(
+            final AffineTransform before,
+            final double[] srcPts,
+            final int srcOff,
+            final double[] dstPts,
+            final int dstOff,
+            final int numPts,
+            final AffineTransform after)
+            throws ProjectionException {
+        if (!isBulkSupported(false)) {
+            return false;
+        }
+        if (numPts <= 0) {
+            return true;
+        }
+        copy(srcPts, srcOff, dstPts, dstOff, numPts);
+        // degrees to radians and central meridian removal, preceded by the "before" transform
+        final double r = PI / 180;
+        double m00 = r, m01 = 0, m02 = -centralMeridian, m10 = 0, m11 = r, m12 = 0;
+        if (before != null) {
+            m00 = r * before.getScaleX();
+            m01 = r * before.getShearX();
+            m02 = r * before.getTranslateX() - centralMeridian;
+            m10 = r * before.getShearY();
+            m11 = r * before.getScaleY();
+            m12 = r * before.getTranslateY();
+        }
+        affine(dstPts, dstOff, dstPts, dstOff, numPts, m00, m01, m02, m10, m11, m12);
+        if (verifyCoordinateRanges()) {
+            verifyGeographicRanges(this, dstPts, dstOff, numPts, centralMeridian);
+        }
+        if (centralMeridian != 0) {
+            // see transform(Point2D, Point2D) for why the longitudes are rolled only in this case
+            rollLongitudes(dstPts, dstOff, numPts, 0);
+        }
+        final int failures = transformNormalized(dstPts, dstOff, numPts);
+        // global scale and false origin, followed by the "after" transform
+        m00 = globalScale;
+        m01 = 0;
+        m02 = falseEasting;
+        m10 = 0;
+        m11 = globalScale;
+        m12 = falseNorthing;
+        if (after != null) {
+            m00 = after.getScaleX() * globalScale;
+            m01 = after.getShearX() * globalScale;
+            m02 = after.getScaleX() * falseEasting + after.getShearX() * falseNorthing + after.getTranslateX();
+            m10 = after.getShearY() * globalScale;
+            m11 = after.getScaleY() * globalScale;
+            m12 = after.getShearY() * falseEasting + after.getScaleY() * falseNorthing + after.getTranslateY();
+        }
+        affine(dstPts, dstOff, dstPts, dstOff, numPts, m00, m01, m02, m10, m11, m12);
+        if (failures > 0) {
+            throw new ProjectionException(ErrorKeys.OUT_OF_PROJECTION_VALID_AREA_$1, getName());
+        }
+        return true;
+    }
+
     /**
      * Transforms a list of coordinate point ordinal values. Ordinates must be
      * (<var>longitude</var>,<var>latitude</var>) pairs in decimal degrees.
@@ -1019,6 +1231,9 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
         @Override
         public final void transform(final double[] src, int srcOffset, final double[] dest, int dstOffset, int numPts)
                 throws TransformException {
+            if (transform(null, src, srcOffset, dest, dstOffset, numPts, null)) {
+                return;
+            }
             /*
              * Vérifie s'il faudra parcourir le tableau en sens inverse.
              * Ce sera le cas si les tableaux source et destination se
@@ -1097,6 +1312,72 @@ public final void transform(final float[] src, int srcOffset, final float[] dest
             }
         }
 
+        /**
+         * Inverse transforms a list of coordinate point ordinal values through the given affine transforms and this
+         * projection in a single pass, if the projection has a
+         * {@linkplain MapProjection#inverseTransformNormalized(double[], int, int) bulk kernel}.
+         *
+         * @see MapProjection#transform(AffineTransform, double[], int, double[], int, int, AffineTransform)
+         */
+        @Override
+        protected final boolean transform(
+                final AffineTransform before,
+                final double[] srcPts,
+                final int srcOff,
+                final double[] dstPts,
+                final int dstOff,
+                final int numPts,
+                final AffineTransform after)
+                throws ProjectionException {
+            if (!isBulkSupported(true)) {
+                return false;
+            }
+            if (numPts <= 0) {
+                return true;
+            }
+            copy(srcPts, srcOff, dstPts, dstOff, numPts);
+            // false origin removal and global scale, preceded by the "before" transform
+            double m00 = 1 / globalScale, m01 = 0, m02 = -falseEasting / globalScale;
+            double m10 = 0, m11 = 1 / globalScale, m12 = -falseNorthing / globalScale;
+            if (before != null) {
+                m00 = before.getScaleX() / globalScale;
+                m01 = before.getShearX() / globalScale;
+                m02 = (before.getTranslateX() - falseEasting) / globalScale;
+                m10 = before.getShearY() / globalScale;
+                m11 = before.getScaleY() / globalScale;
+                m12 = (before.getTranslateY() - falseNorthing) / globalScale;
+            }
+            affine(dstPts, dstOff, dstPts, dstOff, numPts, m00, m01, m02, m10, m11, m12);
+            final int failures = inverseTransformNormalized(dstPts, dstOff, numPts);
+            if (centralMeridian != 0) {
+                rollLongitudes(dstPts, dstOff, numPts, centralMeridian);
+            }
+            if (verifyCoordinateRanges()) {
+                verifyGeographicRanges(this, dstPts, dstOff, numPts, 0);
+            }
+            // radians to degrees, followed by the "after" transform
+            final double d = 180 / PI;
+            m00 = d;
+            m01 = 0;
+            m02 = 0;
+            m10 = 0;
+            m11 = d;
+            m12 = 0;
+            if (after != null) {
+                m00 = after.getScaleX() * d;
+                m01 = after.getShearX() * d;
+                m02 = after.getTranslateX();
+                m10 = after.getShearY() * d;
+                m11 = after.getScaleY() * d;
+                m12 = after.getTranslateY();
+            }
+            affine(dstPts, dstOff, dstPts, dstOff, numPts, m00, m01, m02, m10, m11, m12);
+            if (failures > 0) {
+                throw new ProjectionException(ErrorKeys.OUT_OF_PROJECTION_VALID_AREA_$1, getName());
+            }
+            return true;
+        }
+
         /** Returns the original map projection. */
         @Override
         public MathTransform2D inverse() {
@@ -166,6 +166,39 @@ protected Point2D inverseTransformNormalized(double x, double y, final Point2D p
         return new Point2D.Double(x, y);
     }
 
+    /** Transforms in place an array of (<var>&lambda;</var>,<var>&phi;</var>) coordinates (units in radians). */
+    @Override
+    int transformNormalized(final double[] pts, final int offset, final int numPts) {
+        int failures = 0;
+        final int end = offset + 2 * numPts;
+        for (int i = offset + 1; i < end; i += 2) {
+            final double y = pts[i];
+            if (abs(y) > PI / 2 - EPSILON) {
+                pts[i - 1] = pts[i] = Double.NaN;
+                failures++;
+            } else {
+                pts[i] = -log(tsfn(y, sin(y)));
+            }
+        }
+        return failures;
+    }
+
+    /** Transforms in place an array of (<var>x</var>,<var>y</var>) coordinates. */
+    @Override
+    int inverseTransformNormalized(final double[] pts, final int offset, final int numPts) {
+        int failures = 0;
+        final int end = offset + 2 * numPts;
+        for (int i = offset + 1; i < end; i += 2) {
+            try {
+                pts[i] = cphi2(exp(-pts[i]));
+            } catch (ProjectionException e) {
+                pts[i - 1] = pts[i] = Double.NaN;
+                failures++;
+            }
+        }
+        return failures;
+    }
+
     /**
      * Provides the transform equations for the spherical case of the Mercator projection.
      *
@@ -229,6 +262,33 @@ protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst)
             }
             return new Point2D.Double(x, y);
         }
+
+        /** Transforms in place an array of coordinates using equations for a sphere. */
+        @Override
+        int transformNormalized(final double[] pts, final int offset, final int numPts) {
+            int failures = 0;
+            final int end = offset + 2 * numPts;
+            for (int i = offset + 1; i < end; i += 2) {
+                final double y = pts[i];
+                if (abs(y) > PI / 2 - EPSILON) {
+                    pts[i - 1] = pts[i] = Double.NaN;
+                    failures++;
+                } else {
+                    pts[i] = log(tan(PI / 4 + 0.5 * y));
+                }
+            }
+            return failures;
+        }
+
+        /** Inverse transforms in place an array of coordinates using equations for a sphere. */
+        @Override
+        int inverseTransformNormalized(final double[] pts, final int offset, final int numPts) {
+            final int end = offset + 2 * numPts;
+            for (int i = offset + 1; i < end; i += 2) {
+                pts[i] = PI / 2 - 2.0 * atan(exp(-pts[i]));
+            }
+            return 0;
+        }
     }
 
     /** Returns a hash value for this projection. */
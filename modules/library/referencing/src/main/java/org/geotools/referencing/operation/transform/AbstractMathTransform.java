@@ -298,6 +298,42 @@ public void transform(
         }
     }
 
+    /**
+     * Transforms a list of two-dimensional coordinate points by the given affine transform, then by this transform,
+     * then by the other affine transform, in a single pass over the array. This is invoked by the
+     * {@linkplain ConcatenatedTransform concatenated transforms} having this transform as their only non-linear step,
+     * so that implementations can fold the affine steps (typically axis swaps and unit conversions) into their own
+     * math.
+     *
+     * <p>The default implementation returns {@code false} without transforming anything, in which case the caller
+     * applies the steps one after the other.
+     *
+     * @param before The affine transform to apply before this transform, or {@code null} if none.
+     * @param srcPts The array containing the source point coordinates.
+     * @param srcOff The offset to the first point to be transformed in the source array.
+     * @param dstPts The array into which the transformed point coordinates are returned. May be the same than
+     *     {@code srcPts}.
+     * @param dstOff The offset to the location of the first transformed point that is stored in the destination array.
+     * @param numPts The number of point objects to be transformed.
+     * @param after The affine transform to apply after this transform, or {@code null} if none.
+     * @return {@code true} if the points have been transformed, or {@code false} if this transform does not support
+     *     the fused transformation.
+     * @throws TransformException if a point can't be transformed. Implementations should try to transform all the
+     *     points before throwing the exception, as {@link #transform(double[],int,double[],int,int)} does.
+     * @since 35
+     */
+    protected boolean transform(
+            final AffineTransform before,
+            final double[] srcPts,
+            final int srcOff,
+            final double[] dstPts,
+            final int dstOff,
+            final int numPts,
+            final AffineTransform after)
+            throws TransformException {
+        return false;
+    }
+
     /**
      * Transform the specified shape. The default implementation computes quadratic curves using three points for each
      * shape segments.
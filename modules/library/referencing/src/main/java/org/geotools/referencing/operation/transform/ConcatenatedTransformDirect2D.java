@@ -17,8 +17,12 @@
 package org.geotools.referencing.operation.transform;
 
 import java.awt.Shape;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.referencing.operation.MathTransform;
 import org.geotools.api.referencing.operation.MathTransform2D;
 import org.geotools.api.referencing.operation.Matrix;
 import org.geotools.api.referencing.operation.NoninvertibleTransformException;
@@ -49,6 +53,27 @@ final class ConcatenatedTransformDirect2D extends ConcatenatedTransformDirect im
      */
     private final MathTransform2D transform2;
 
+    /** The steps of a transform made of a single non-linear step surrounded by at most two affine transforms. */
+    private static final class FusedSteps {
+        final AffineTransform before;
+
+        final AbstractMathTransform transform;
+
+        final AffineTransform after;
+
+        FusedSteps(AffineTransform before, AbstractMathTransform transform, AffineTransform after) {
+            this.before = before;
+            this.transform = transform;
+            this.after = after;
+        }
+    }
+
+    /** Marker for the transforms whose steps cannot be fused. */
+    private static final FusedSteps NOT_FUSABLE = new FusedSteps(null, null, null);
+
+    /** The steps to be fused in array transforms, computed when first needed. */
+    private transient FusedSteps fused;
+
     /** Constructs a concatenated transform. */
     public ConcatenatedTransformDirect2D(final MathTransform2D transform1, final MathTransform2D transform2) {
         super(transform1, transform2);
@@ -70,6 +95,70 @@ public Point2D transform(final Point2D ptSrc, Point2D ptDst) throws TransformExc
         return transform2.transform(ptDst, ptDst);
     }
 
+    /**
+     * Transforms a list of coordinate point ordinal values. If this transform is made of a single non-linear step
+     * surrounded by affine transforms, for example a map projection preceded by an axis swap, the steps are given a
+     * chance to be applied in a single pass by the non-linear step. Otherwise the steps are applied one after the
+     * other.
+     */
+    @Override
+    public void transform(final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, int numPts)
+            throws TransformException {
+        final FusedSteps steps = getFusedSteps();
+        if (steps == NOT_FUSABLE
+                || !steps.transform.transform(steps.before, srcPts, srcOff, dstPts, dstOff, numPts, steps.after)) {
+            super.transform(srcPts, srcOff, dstPts, dstOff, numPts);
+        }
+    }
+
+    /** Returns the steps to be fused, or {@link #NOT_FUSABLE}. */
+    private FusedSteps getFusedSteps() {
+        // No synchronization, the worst case is the steps computed twice
+        FusedSteps steps = fused;
+        if (steps == null) {
+            steps = NOT_FUSABLE;
+            final List<MathTransform> list = new ArrayList<>(3);
+            flatten(this, list);
+            AffineTransform before = null, after = null;
+            AbstractMathTransform transform = null;
+            boolean valid = list.size() <= 3;
+            for (final MathTransform step : list) {
+                if (!valid) {
+                    break;
+                }
+                valid = step.getSourceDimensions() == 2 && step.getTargetDimensions() == 2;
+                if (step instanceof AffineTransform affine) {
+                    if (transform == null && before == null) {
+                        before = affine;
+                    } else if (transform != null && after == null) {
+                        after = affine;
+                    } else {
+                        valid = false;
+                    }
+                } else if (step instanceof AbstractMathTransform candidate && transform == null) {
+                    transform = candidate;
+                } else {
+                    valid = false;
+                }
+            }
+            if (valid && transform != null) {
+                steps = new FusedSteps(before, transform, after);
+            }
+            fused = steps;
+        }
+        return steps;
+    }
+
+    /** Adds the steps of the given transform to the list. */
+    private static void flatten(final MathTransform transform, final List<MathTransform> steps) {
+        if (transform instanceof ConcatenatedTransform concatenated) {
+            flatten(concatenated.transform1, steps);
+            flatten(concatenated.transform2, steps);
+        } else {
+            steps.add(transform);
+        }
+    }
+
     /** Transforms the specified shape. */
     @Override
     public Shape createTransformedShape(final Shape shape) throws TransformException {
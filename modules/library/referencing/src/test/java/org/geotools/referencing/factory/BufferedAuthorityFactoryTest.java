@@ -0,0 +1,141 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.geotools.api.metadata.citation.Citation;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.IdentifiedObject;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.util.InternationalString;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.referencing.cs.DefaultEllipsoidalCS;
+import org.geotools.referencing.datum.DefaultGeodeticDatum;
+import org.junit.Test;
+
+/** Tests the {@link BufferedAuthorityFactory} under concurrent access. */
+public class BufferedAuthorityFactoryTest {
+
+    static final int THREADS = 8;
+
+    /** Creates a new CRS on every call, slowly so that concurrent misses overlap, and counts them. */
+    static class CountingFactory extends AbstractAuthorityFactory {
+
+        final AtomicInteger created = new AtomicInteger();
+
+        CountingFactory() {
+            super(NORMAL_PRIORITY);
+        }
+
+        @Override
+        public Citation getAuthority() {
+            return Citations.EPSG;
+        }
+
+        @Override
+        public Set<String> getAuthorityCodes(Class<? extends IdentifiedObject> type) {
+            return Set.of("4326", "4258");
+        }
+
+        @Override
+        public InternationalString getDescriptionText(String code) {
+            return null;
+        }
+
+        @Override
+        public CoordinateReferenceSystem createCoordinateReferenceSystem(String code) throws FactoryException {
+            created.incrementAndGet();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new FactoryException("Interrupted while creating " + code, e);
+            }
+            return new DefaultGeographicCRS(DefaultGeodeticDatum.WGS84, DefaultEllipsoidalCS.GEODETIC_2D);
+        }
+    }
+
+    static class CRSBufferedFactory extends BufferedAuthorityFactory implements CRSAuthorityFactory {
+
+        CRSBufferedFactory(AbstractAuthorityFactory factory) {
+            super(factory);
+        }
+    }
+
+    /** Concurrent misses on the same code create the object only once, and all get the same instance. */
+    @Test
+    public void testConcurrentMisses() throws Exception {
+        CountingFactory backingStore = new CountingFactory();
+        CRSBufferedFactory factory = new CRSBufferedFactory(backingStore);
+        List<CoordinateReferenceSystem> results = create(factory, "EPSG:4326", "EPSG:4326");
+        assertEquals(1, backingStore.created.get());
+        for (CoordinateReferenceSystem crs : results) {
+            assertSame(results.get(0), crs);
+        }
+        assertSame(results.get(0), factory.createCoordinateReferenceSystem("4326"));
+        assertEquals(1, backingStore.created.get());
+    }
+
+    /** Misses on different codes create one object each. */
+    @Test
+    public void testConcurrentDistinctMisses() throws Exception {
+        CountingFactory backingStore = new CountingFactory();
+        CRSBufferedFactory factory = new CRSBufferedFactory(backingStore);
+        List<CoordinateReferenceSystem> results = create(factory, "EPSG:4326", "EPSG:4258");
+        assertEquals(2, backingStore.created.get());
+        for (int i = 2; i < results.size(); i++) {
+            assertSame(results.get(i % 2), results.get(i));
+        }
+        assertNotSame(results.get(0), results.get(1));
+    }
+
+    /** Looks up the given codes in turn from {@link #THREADS} threads started at the same time. */
+    private List<CoordinateReferenceSystem> create(CRSAuthorityFactory factory, String... codes) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<CoordinateReferenceSystem>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                String code = codes[i % codes.length];
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return factory.createCoordinateReferenceSystem(code);
+                }));
+            }
+            start.countDown();
+            List<CoordinateReferenceSystem> results = new ArrayList<>();
+            for (Future<CoordinateReferenceSystem> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+/** Tests the {@link OldReferencingObjectCache}. */
+public class OldReferencingObjectCacheTest {
+
+    @Test
+    public void testGetPut() {
+        OldReferencingObjectCache cache = new OldReferencingObjectCache(20);
+        Object value = new Object();
+        assertNull(cache.get("4326"));
+        cache.put("4326", value);
+        assertSame(value, cache.get("4326"));
+        cache.clear();
+        assertNull(cache.get("4326"));
+    }
+
+    /** The objects evicted from the strong references are still returned while in use. */
+    @Test
+    public void testWeakRetention() {
+        OldReferencingObjectCache cache = new OldReferencingObjectCache(20);
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Object value = Integer.valueOf(i);
+            values.add(value);
+            cache.put(String.valueOf(i), value);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertSame(values.get(i), cache.get(String.valueOf(i)));
+        }
+    }
+
+    @Test
+    public void testNoStrongReferences() {
+        OldReferencingObjectCache cache = new OldReferencingObjectCache(0);
+        Object value = new Object();
+        cache.put("4326", value);
+        assertSame(value, cache.get("4326"));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        OldReferencingObjectCache cache = new OldReferencingObjectCache(20);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        String key = String.valueOf(i % 100);
+                        Object value = cache.get(key);
+                        if (value == null) {
+                            value = key;
+                        } else {
+                            assertEquals(key, value);
+                        }
+                        cache.put(key, value);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
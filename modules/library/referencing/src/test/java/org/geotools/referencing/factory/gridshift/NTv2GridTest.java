@@ -0,0 +1,119 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.gridshift;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import au.com.objectix.jgridshift.GridShift;
+import au.com.objectix.jgridshift.GridShiftFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import org.geotools.api.referencing.FactoryException;
+import org.junit.Test;
+
+/** Tests the {@link NTv2Grid}, against the grids fully loaded by {@link GridShiftFile}. */
+public class NTv2GridTest {
+
+    private static final URL TEST_GRID = NTv2GridTest.class.getResource("BALR2009.gsb");
+
+    private static final URL MALFORMED_GRID = NTv2GridTest.class.getResource("malformedNTv2grid.gsb");
+
+    private static final double TOLERANCE = 1E-9;
+
+    /** Points covered by the test grid, as (longitude, latitude) pairs. */
+    private static final double[] POINTS = {3.084896111, 39.592654167, 1.45, 38.95, 4.2, 39.95, 2.65, 39.55, 3.5, 39.3};
+
+    private static GridShiftFile loadReference() throws IOException {
+        try (InputStream in = TEST_GRID.openStream()) {
+            GridShiftFile grid = new GridShiftFile();
+            grid.loadGridShiftFile(in, false);
+            return grid;
+        }
+    }
+
+    private static void assertSameShifts(NTv2Grid grid) throws IOException {
+        GridShiftFile reference = loadReference();
+        double[] shifted = new double[2];
+        for (int i = 0; i < POINTS.length; i += 2) {
+            GridShift shift = new GridShift();
+            shift.setLonPositiveEastDegrees(POINTS[i]);
+            shift.setLatDegrees(POINTS[i + 1]);
+            assertTrue(reference.gridShiftForward(shift));
+            assertTrue(grid.shiftForward(POINTS[i], POINTS[i + 1], shifted));
+            assertEquals(shift.getShiftedLonPositiveEastDegrees(), shifted[0], TOLERANCE);
+            assertEquals(shift.getShiftedLatDegrees(), shifted[1], TOLERANCE);
+
+            shift = new GridShift();
+            shift.setLonPositiveEastDegrees(POINTS[i]);
+            shift.setLatDegrees(POINTS[i + 1]);
+            assertTrue(reference.gridShiftReverse(shift));
+            assertTrue(grid.shiftReverse(POINTS[i], POINTS[i + 1], shifted));
+            assertEquals(shift.getShiftedLonPositiveEastDegrees(), shifted[0], TOLERANCE);
+            assertEquals(shift.getShiftedLatDegrees(), shifted[1], TOLERANCE);
+        }
+    }
+
+    @Test
+    public void testMapped() throws Exception {
+        NTv2Grid grid = NTv2Grid.open(TEST_GRID);
+        assertTrue(grid.isMapped());
+        assertEquals(1, grid.getSubGridCount());
+        assertSameShifts(grid);
+    }
+
+    @Test
+    public void testInMemory() throws Exception {
+        byte[] content;
+        try (InputStream in = TEST_GRID.openStream()) {
+            content = in.readAllBytes();
+        }
+        NTv2Grid grid = new NTv2Grid(ByteBuffer.wrap(content), TEST_GRID.toExternalForm());
+        assertFalse(grid.isMapped());
+        assertSameShifts(grid);
+    }
+
+    @Test
+    public void testNotCovered() throws Exception {
+        NTv2Grid grid = NTv2Grid.open(TEST_GRID);
+        double[] shifted = {Double.NaN, Double.NaN};
+        assertFalse(grid.shiftForward(-3.7, 40.4, shifted));
+        assertFalse(grid.shiftReverse(-3.7, 40.4, shifted));
+        assertTrue(Double.isNaN(shifted[0]));
+    }
+
+    @Test(expected = IOException.class)
+    public void testMalformed() throws Exception {
+        NTv2Grid.open(MALFORMED_GRID);
+    }
+
+    @Test
+    public void testShared() throws FactoryException {
+        NTv2GridShiftFactory factory = new NTv2GridShiftFactory();
+        NTv2Grid grid = factory.openNTv2Grid(TEST_GRID);
+        assertSame(grid, factory.openNTv2Grid(TEST_GRID));
+    }
+
+    @Test(expected = FactoryException.class)
+    public void testOpenMalformed() throws FactoryException {
+        new NTv2GridShiftFactory().openNTv2Grid(MALFORMED_GRID);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.util.factory.Hints;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MathTransformCacheTest {
+
+    MathTransformCache cache;
+
+    CoordinateReferenceSystem wgs84;
+
+    CoordinateReferenceSystem lcc;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new MathTransformCache(10);
+        wgs84 = CRS.decode("EPSG:4326");
+        lcc = CRS.decode("EPSG:42101");
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        MathTransform transform = cache.getMathTransform(wgs84, lcc, true);
+        assertEquals(CRS.findMathTransform(wgs84, lcc, true), transform);
+        assertEquals(1, cache.getMissCount());
+
+        assertSame(transform, cache.getMathTransform(wgs84, lcc, true));
+        assertEquals(1, cache.getHitCount());
+
+        // the lenient flag and the hints are part of the key
+        cache.getMathTransform(wgs84, lcc, false);
+        cache.getMathTransform(wgs84, lcc, true, new Hints(Hints.LENIENT_DATUM_SHIFT, true));
+        assertEquals(3, cache.size());
+        assertEquals(3, cache.getMissCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testIdentity() throws Exception {
+        MathTransform transform = cache.getMathTransform(wgs84, CRS.decode("EPSG:4326"), false);
+        assertTrue(transform.isIdentity());
+        assertTrue(cache.getMathTransform(wgs84, wgs84, false, new Hints()).isIdentity());
+    }
+
+    @Test
+    public void testEqualButNotIdentical() throws Exception {
+        CoordinateReferenceSystem copy = CRS.parseWKT(lcc.toWKT());
+        MathTransform transform = cache.getMathTransform(DefaultGeographicCRS.WGS84, lcc, true);
+        // compared by identity, the copy is another entry, still backed by the same operation
+        assertEquals(transform, cache.getMathTransform(DefaultGeographicCRS.WGS84, copy, true));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        List<String> pairs = List.of("EPSG:4326->EPSG:42101", "EPSG:4326 -> CRS:84", "invalid", "EPSG:1->EPSG:2");
+        int loaded = cache.warmUp(pairs, true);
+        assertEquals(2, loaded);
+        assertEquals(2, cache.size());
+
+        // the codes are decoded with CRS.decode, the following lookups hit the cache
+        cache.getMathTransform(CRS.decode("EPSG:4326"), CRS.decode("EPSG:42101"), true);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testWarmUpFromProperty() throws Exception {
+        System.setProperty(MathTransformCache.WARM_UP_KEY, "EPSG:4326->EPSG:42101; CRS:84->EPSG:42101;");
+        try {
+            assertEquals(2, cache.warmUp());
+        } finally {
+            System.clearProperty(MathTransformCache.WARM_UP_KEY);
+        }
+        assertEquals(0, cache.warmUp());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.projection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import org.geotools.api.parameter.ParameterValueGroup;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.api.referencing.operation.MathTransformFactory;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.operation.transform.AffineTransform2D;
+import org.geotools.referencing.operation.transform.ConcatenatedTransform;
+import org.junit.Test;
+
+/** Tests the bulk transformation of arrays by the {@link MapProjection} kernels, against the point-wise path. */
+public final class BulkTransformTest {
+
+    /** Geographic coordinates, as (longitude, latitude) pairs in decimal degrees. */
+    private static final double[] GEOGRAPHIC = {
+        0, 0, 2.35, 48.85, -73.98, 40.75, 151.2, -33.87, 9.3, 45.4, -120.5, 60.1, 179.9, -10.2, 3.1, 50.9
+    };
+
+    private static MapProjection create(String method, double semiMinor, String... parameters) throws Exception {
+        MathTransformFactory factory = ReferencingFactoryFinder.getMathTransformFactory(null);
+        ParameterValueGroup values = factory.getDefaultParameters(method);
+        values.parameter("semi_major").setValue(6378137.0);
+        values.parameter("semi_minor").setValue(semiMinor);
+        for (int i = 0; i < parameters.length; i += 2) {
+            values.parameter(parameters[i]).setValue(Double.parseDouble(parameters[i + 1]));
+        }
+        return (MapProjection) factory.createParameterizedTransform(values);
+    }
+
+    /** Transforms the points one by one. */
+    private static double[] transformPointwise(MathTransform2D transform, double[] source) throws Exception {
+        double[] target = new double[source.length];
+        for (int i = 0; i < source.length; i += 2) {
+            Point2D point = transform.transform(new Point2D.Double(source[i], source[i + 1]), null);
+            target[i] = point.getX();
+            target[i + 1] = point.getY();
+        }
+        return target;
+    }
+
+    /** Checks that the array and point-wise transforms agree, forward and inverse, and that they round trip. */
+    private static void assertBulkEquals(MathTransform2D transform, double[] source) throws Exception {
+        double[] expected = transformPointwise(transform, source);
+        double[] actual = new double[source.length];
+        transform.transform(source, 0, actual, 0, source.length / 2);
+        for (int i = 0; i < source.length; i++) {
+            assertEquals(expected[i], actual[i], 1E-6);
+        }
+        MathTransform2D inverse = transform.inverse();
+        double[] back = new double[source.length];
+        inverse.transform(actual, 0, back, 0, actual.length / 2);
+        double[] expectedBack = transformPointwise(inverse, actual);
+        for (int i = 0; i < source.length; i++) {
+            assertEquals(expectedBack[i], back[i], 1E-9);
+            assertEquals(source[i], back[i], 1E-7);
+        }
+    }
+
+    private static boolean hasBulkKernels(MapProjection projection) {
+        return projection.isBulkSupported(false) && projection.isBulkSupported(true);
+    }
+
+    @Test
+    public void testSphericalMercator() throws Exception {
+        MapProjection mercator = create("Mercator_1SP", 6378137.0);
+        assertTrue(mercator instanceof Mercator.Spherical);
+        assertTrue(hasBulkKernels(mercator));
+        assertBulkEquals(mercator, GEOGRAPHIC);
+    }
+
+    @Test
+    public void testMercator() throws Exception {
+        MapProjection mercator = create("Mercator_2SP", 6356752.314245, "standard_parallel_1", "20");
+        assertTrue(hasBulkKernels(mercator));
+        assertBulkEquals(mercator, GEOGRAPHIC);
+    }
+
+    @Test
+    public void testTransverseMercator() throws Exception {
+        // UTM zone 32N
+        MapProjection utm = create(
+                "Transverse_Mercator",
+                6356752.314245,
+                "central_meridian",
+                "9",
+                "scale_factor",
+                "0.9996",
+                "false_easting",
+                "500000");
+        assertTrue(hasBulkKernels(utm));
+        double[] zone = {9, 45, 6.5, 47.2, 11.9, 36.4, 8.1, 54.8, 9.0, 0.0, 10.2, -20.3};
+        assertBulkEquals(utm, zone);
+    }
+
+    @Test
+    public void testSphericalTransverseMercator() throws Exception {
+        MapProjection tm = create("Transverse_Mercator", 6378137.0, "central_meridian", "9");
+        // the spherical formulas are only available point by point
+        assertFalse(tm.isBulkSupported(false));
+        assertBulkEquals(tm, new double[] {9, 45, 6.5, 47.2, 11.9, 36.4});
+    }
+
+    @Test
+    public void testLambertConformal() throws Exception {
+        MapProjection lcc = create(
+                "Lambert_Conformal_Conic_2SP",
+                6356752.314245,
+                "central_meridian",
+                "3",
+                "latitude_of_origin",
+                "46.5",
+                "standard_parallel_1",
+                "49",
+                "standard_parallel_2",
+                "44",
+                "false_easting",
+                "700000",
+                "false_northing",
+                "6600000");
+        assertTrue(hasBulkKernels(lcc));
+        double[] france = {3, 46.5, -4.5, 48.4, 7.7, 48.6, 2.35, 48.85, 9.4, 42.1, -1.5, 43.5};
+        assertBulkEquals(lcc, france);
+    }
+
+    /** The concatenation of an axis swap and a projection is applied in a single pass. */
+    @Test
+    public void testConcatenated() throws Exception {
+        MapProjection mercator = create("Mercator_1SP", 6378137.0);
+        MathTransform swap = new AffineTransform2D(0, 1, 1, 0, 0, 0);
+        MathTransform scale = new AffineTransform2D(new AffineTransform(0.5, 0, 0, -0.5, 100, 200));
+        MathTransform2D chain =
+                (MathTransform2D) ConcatenatedTransform.create(ConcatenatedTransform.create(swap, mercator), scale);
+
+        double[] swapped = new double[GEOGRAPHIC.length];
+        for (int i = 0; i < GEOGRAPHIC.length; i += 2) {
+            swapped[i] = GEOGRAPHIC[i + 1];
+            swapped[i + 1] = GEOGRAPHIC[i];
+        }
+        assertBulkEquals(chain, swapped);
+
+        // transform in place, with overlapping source and target
+        double[] expected = transformPointwise(chain, swapped);
+        double[] buffer = new double[swapped.length + 2];
+        System.arraycopy(swapped, 0, buffer, 0, swapped.length);
+        chain.transform(buffer, 0, buffer, 2, swapped.length / 2);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], buffer[i + 2], 1E-6);
+        }
+    }
+
+    /** The points that cannot be projected are set to NaN, the others are still transformed. */
+    @Test
+    public void testPole() throws Exception {
+        MapProjection mercator = create("Mercator_2SP", 6356752.314245);
+        double[] points = {10, 45, 10, 90, 20, 30};
+        try {
+            mercator.transform(points, 0, points, 0, 3);
+            fail("Expected a ProjectionException");
+        } catch (ProjectionException e) {
+            // expected
+        }
+        assertTrue(Double.isNaN(points[2]));
+        assertTrue(Double.isNaN(points[3]));
+        assertFalse(Double.isNaN(points[0]));
+        assertFalse(Double.isNaN(points[5]));
+    }
+}
@@ -39,6 +39,8 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -113,6 +115,9 @@ public class LabelCacheImpl implements LabelCache {
     public static boolean DISABLE_LETTER_LEVEL_CONFLICT =
             Boolean.getBoolean("org.geotools.labelcache.disableLetterLevelConflict");
 
+    /** The default size of the tiles used to place labels in parallel, see {@link #setPartitionTileSize(int)} */
+    static final int DEFAULT_PARTITION_TILE_SIZE = Integer.getInteger("org.geotools.labelcache.partitionTileSize", 0);
+
     public enum LabelRenderingMode {
         /**
          * Always uses {@link Graphics2D#drawGlyphVector(java.awt.font.GlyphVector, float, float)} to draw the straight
@@ -207,7 +212,7 @@ private static TextSymbolizer labelless(TextSymbolizer orig) {
 
     protected SLDStyleFactory styleFactory = new SLDStyleFactory();
 
-    boolean stop = false;
+    volatile boolean stop = false;
 
     Set<String> enabledLayers = new HashSet<>();
 
@@ -225,7 +230,11 @@ private static TextSymbolizer labelless(TextSymbolizer orig) {
 
     private List<RenderListener> renderListeners = new CopyOnWriteArrayList<>();
 
-    private BiFunction<Graphics2D, LabelRenderingMode, LabelPainter> constructPainter = LabelPainter::new;
+    BiFunction<Graphics2D, LabelRenderingMode, LabelPainter> constructPainter = LabelPainter::new;
+
+    private int partitionTileSize = DEFAULT_PARTITION_TILE_SIZE;
+
+    private ExecutorService partitionExecutor;
 
     @Override
     public void enableLayer(String layerId) {
@@ -242,6 +251,29 @@ public void setLabelRenderingMode(LabelRenderingMode mode) {
         this.labelRenderingMode = mode;
     }
 
+    /** Returns the size of the tiles used to place labels in parallel, zero or negative if disabled */
+    public int getPartitionTileSize() {
+        return partitionTileSize;
+    }
+
+    /**
+     * Sets the size, in pixels, of the square tiles the display area is split into in order to resolve label conflicts
+     * in parallel. Labels crossing the tile borders are placed in a second, serial pass, so the results can differ from
+     * the ones of the serial placement, but are always the same for the same labels. Zero or a negative value (the
+     * default, unless the "org.geotools.labelcache.partitionTileSize" system property is set) disables partitioning.
+     */
+    public void setPartitionTileSize(int partitionTileSize) {
+        this.partitionTileSize = partitionTileSize;
+    }
+
+    /**
+     * Sets the executor used to place the labels of each tile when partitioning is enabled, if not set the common fork
+     * join pool is used
+     */
+    public void setPartitionExecutor(ExecutorService partitionExecutor) {
+        this.partitionExecutor = partitionExecutor;
+    }
+
     /** Change the method used to construct LabelPainters. Defaults to {@link LabelPainter#LabelPainter}. */
     public void setConstructPainter(BiFunction<Graphics2D, LabelRenderingMode, LabelPainter> constructPainter) {
         this.constructPainter = constructPainter;
@@ -572,6 +604,15 @@ void paintLabels(Graphics2D graphics, Rectangle displayArea) {
         } else {
             items = getActiveLabels();
         }
+        PartitionedLabelPlacer placer = new PartitionedLabelPlacer(
+                this,
+                partitionTileSize,
+                partitionExecutor != null ? partitionExecutor : ForkJoinPool.commonPool());
+        if (!DEBUG_CACHE_BOUNDS && items.size() > 1 && placer.isPartitioned(displayArea)) {
+            placer.paint(graphics, displayArea, items, reserved);
+            return;
+        }
+
         LabelPainter painter = constructPainter.apply(graphics, labelRenderingMode);
         for (LabelCacheItem labelItem : items) {
             if (stop) return;
@@ -634,16 +675,21 @@ else if (geom instanceof LineString && !(geom instanceof LinearRing) || geom ins
                     paintPolygonBorder(painter, tempTransform, displayArea, glyphs);
                 }
         } catch (Exception e) {
-            if (LOGGER.isLoggable(Level.FINE)) {
-                LOGGER.log(Level.FINE, "Failure while painting labels", e);
-            }
-            for (RenderListener listener : renderListeners) {
-                listener.errorOccurred(e);
-            }
+            fireErrorEvent(e);
         }
         return paintedLineLabels;
     }
 
+    /** Logs the exception and notifies the render listeners about it */
+    void fireErrorEvent(Exception e) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Failure while painting labels", e);
+        }
+        for (RenderListener listener : renderListeners) {
+            listener.errorOccurred(e);
+        }
+    }
+
     private Envelope toEnvelope(Rectangle2D bounds) {
         return new Envelope(bounds.getMinX(), bounds.getMaxX(), bounds.getMinY(), bounds.getMaxY());
     }
@@ -0,0 +1,331 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.label;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import org.geotools.renderer.label.LabelIndex.InterferenceItem;
+import org.geotools.renderer.label.RecordingLabelPainter.PaintOperation;
+import org.geotools.renderer.style.TextStyle2D;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Places the labels of a {@link LabelCacheImpl} splitting the display area in square tiles, and resolving the label
+ * conflicts of each tile in parallel:
+ *
+ * <ul>
+ *   <li>each label is assigned to the tile containing its geometries, labels whose geometries span multiple tiles are
+ *       deferred to the second pass
+ *   <li>each tile places its labels in priority order, against its own conflict index. Labels that end up crossing the
+ *       tile borders, taking into account the space around them, are removed from the tile index and deferred
+ *   <li>the deferred labels are placed in priority order, against the union of the tile indexes
+ *   <li>the labels placed are painted in priority order
+ * </ul>
+ *
+ * Since the tiles labels and the deferred ones are processed in a fixed order, the same labels always end up in the
+ * same positions. Deferred labels are placed after the ones inside the tiles, so they may lose space against labels
+ * having lower priority.
+ */
+class PartitionedLabelPlacer {
+
+    private final LabelCacheImpl cache;
+
+    private final int tileSize;
+
+    private final ExecutorService executor;
+
+    /**
+     * Builds a new placer
+     *
+     * @param cache The label cache owning the labels
+     * @param tileSize The tiles size, in pixels
+     * @param executor The executor used to place the labels of each tile
+     */
+    PartitionedLabelPlacer(LabelCacheImpl cache, int tileSize, ExecutorService executor) {
+        this.cache = cache;
+        this.tileSize = tileSize;
+        this.executor = executor;
+    }
+
+    /** Returns true if the display area is large enough to be split in multiple tiles */
+    boolean isPartitioned(Rectangle displayArea) {
+        return tileSize > 0 && (displayArea.width > tileSize || displayArea.height > tileSize);
+    }
+
+    /**
+     * Returns the tile envelopes, in row major order. The tiles on the border of the display area extend to infinity,
+     * so that labels partially outside of it can still be placed in a tile.
+     */
+    List<Envelope> getTiles(Rectangle displayArea) {
+        int cols = Math.max(1, (int) Math.ceil(displayArea.width / (double) tileSize));
+        int rows = Math.max(1, (int) Math.ceil(displayArea.height / (double) tileSize));
+        List<Envelope> tiles = new ArrayList<>(cols * rows);
+        for (int r = 0; r < rows; r++) {
+            double minY = r == 0 ? Double.NEGATIVE_INFINITY : displayArea.y + r * tileSize;
+            double maxY = r == rows - 1 ? Double.POSITIVE_INFINITY : displayArea.y + (r + 1) * tileSize;
+            for (int c = 0; c < cols; c++) {
+                double minX = c == 0 ? Double.NEGATIVE_INFINITY : displayArea.x + c * tileSize;
+                double maxX = c == cols - 1 ? Double.POSITIVE_INFINITY : displayArea.x + (c + 1) * tileSize;
+                tiles.add(new Envelope(minX, maxX, minY, maxY));
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Places and paints the labels
+     *
+     * @param graphics The target graphics
+     * @param displayArea The display area, as used by the label cache
+     * @param items The labels, in priority order
+     * @param reserved The areas that labels cannot use
+     */
+    void paint(Graphics2D graphics, Rectangle displayArea, List<LabelCacheItem> items, List<Rectangle2D> reserved) {
+        // assign the labels to the tiles
+        List<Envelope> tiles = getTiles(displayArea);
+        List<List<Integer>> tileItems = new ArrayList<>(tiles.size());
+        for (int i = 0; i < tiles.size(); i++) {
+            tileItems.add(new ArrayList<>());
+        }
+        List<Integer> deferred = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            int tile = getTile(items.get(i), tiles);
+            if (tile >= 0) {
+                tileItems.get(tile).add(i);
+            } else {
+                deferred.add(i);
+            }
+        }
+
+        // place the labels of each tile in parallel, each tile writes only the slots of its own labels
+        @SuppressWarnings("unchecked")
+        List<PaintOperation>[] operations = new List[items.size()];
+        List<Future<TileResult>> futures = new ArrayList<>();
+        for (int i = 0; i < tiles.size(); i++) {
+            if (!tileItems.get(i).isEmpty()) {
+                Graphics2D tileGraphics = (Graphics2D) graphics.create();
+                TileTask task = new TileTask(
+                        tiles.get(i), tileItems.get(i), items, operations, displayArea, reserved, tileGraphics);
+                futures.add(executor.submit(task));
+            }
+        }
+        LabelIndex index = new LabelIndex();
+        index.reserveArea(reserved);
+        try {
+            for (Future<TileResult> future : futures) {
+                TileResult result = future.get();
+                for (InterferenceItem placed : result.placed) {
+                    index.index.insert(placed.env, placed);
+                }
+                deferred.addAll(result.deferred);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            return;
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            cache.fireErrorEvent(e.getCause() instanceof Exception ex ? ex : e);
+            return;
+        }
+        if (cache.stop) return;
+
+        // reconcile the labels crossing the tile borders, in priority order
+        deferred.sort(null);
+        RecordingLabelPainter recorder = new RecordingLabelPainter(graphics, cache.labelRenderingMode);
+        for (Integer i : deferred) {
+            if (cache.stop) return;
+            cache.paintLabel(graphics, displayArea, index, 0, recorder, items.get(i));
+            operations[i] = recorder.takeOperations();
+        }
+
+        // and finally paint, in priority order
+        int painted = 0;
+        LabelPainter painter = cache.constructPainter.apply(graphics, cache.labelRenderingMode);
+        for (int i = 0; i < items.size(); i++) {
+            if (cache.stop) return;
+            List<PaintOperation> itemOperations = operations[i];
+            if (itemOperations == null || itemOperations.isEmpty()) {
+                continue;
+            }
+            try {
+                painter.setLabel(items.get(i));
+                for (PaintOperation operation : itemOperations) {
+                    operation.paint(painter);
+                }
+                painted++;
+            } catch (Exception e) {
+                cache.fireErrorEvent(e);
+            }
+        }
+        if (LabelCacheImpl.LOGGER.isLoggable(Level.FINE)) {
+            LabelCacheImpl.LOGGER.fine("Placed " + painted + " labels out of " + items.size() + " using "
+                    + tiles.size() + " tiles, " + deferred.size() + " labels crossed the tile borders");
+        }
+    }
+
+    /** Returns the index of the tile fully containing the label geometries, or -1 if there is none */
+    private int getTile(LabelCacheItem item, List<Envelope> tiles) {
+        Envelope envelope = new Envelope();
+        for (Geometry geometry : item.getGeoms()) {
+            envelope.expandToInclude(geometry.getEnvelopeInternal());
+        }
+        if (envelope.isNull()) {
+            return -1;
+        }
+        envelope.expandBy(getMargin(item));
+        for (int i = 0; i < tiles.size(); i++) {
+            if (isInside(envelope, tiles.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the distance at which the label checks for conflicts, enlarged by the font size to account for the
+     * difference between the glyph logical bounds used to look for conflicts and the outline ones stored in the index
+     */
+    private static double getMargin(LabelCacheItem item) {
+        TextStyle2D style = item.getTextStyle();
+        double haloRadius = style.getHaloFill() != null ? Math.ceil(style.getHaloRadius()) : 0;
+        double fontSize = style.getFont() != null ? style.getFont().getSize2D() : 0;
+        return Math.max(item.getSpaceAround(), 0) + haloRadius + fontSize;
+    }
+
+    /**
+     * Checks the envelope is strictly inside the tile, so that envelopes inside different tiles cannot even touch (the
+     * label index considers touching envelopes as conflicting)
+     */
+    private static boolean isInside(Envelope envelope, Envelope tile) {
+        return envelope.getMinX() > tile.getMinX()
+                && envelope.getMaxX() < tile.getMaxX()
+                && envelope.getMinY() > tile.getMinY()
+                && envelope.getMaxY() < tile.getMaxY();
+    }
+
+    /** The labels placed inside a tile, and the ones that need to be placed in the second pass */
+    static class TileResult {
+        final List<InterferenceItem> placed = new ArrayList<>();
+
+        final List<Integer> deferred = new ArrayList<>();
+    }
+
+    /** Places the labels of a single tile */
+    private class TileTask implements Callable<TileResult> {
+
+        private final Envelope tile;
+
+        private final List<Integer> tileItems;
+
+        private final List<LabelCacheItem> items;
+
+        private final List<PaintOperation>[] operations;
+
+        private final Rectangle displayArea;
+
+        private final List<Rectangle2D> reserved;
+
+        private final Graphics2D graphics;
+
+        TileTask(
+                Envelope tile,
+                List<Integer> tileItems,
+                List<LabelCacheItem> items,
+                List<PaintOperation>[] operations,
+                Rectangle displayArea,
+                List<Rectangle2D> reserved,
+                Graphics2D graphics) {
+            this.tile = tile;
+            this.tileItems = tileItems;
+            this.items = items;
+            this.operations = operations;
+            this.displayArea = displayArea;
+            this.reserved = reserved;
+            this.graphics = graphics;
+        }
+
+        @Override
+        public TileResult call() {
+            TileResult result = new TileResult();
+            try {
+                // the painter is only used to lay out the labels, no painting happens on its graphics
+                RecordingLabelPainter recorder = new RecordingLabelPainter(graphics, cache.labelRenderingMode);
+                TileIndex index = new TileIndex();
+                index.reserveArea(reserved);
+                for (Integer i : tileItems) {
+                    if (cache.stop) break;
+                    LabelCacheItem item = items.get(i);
+                    // polygon labels shrinking the font replace the item text style, restore it if the label
+                    // needs to be placed again in the second pass
+                    TextStyle2D textStyle = item.getTextStyle();
+                    index.itemLabels.clear();
+                    cache.paintLabel(graphics, displayArea, index, 0, recorder, item);
+                    List<PaintOperation> itemOperations = recorder.takeOperations();
+                    if (isInside(item, index.itemLabels)) {
+                        operations[i] = itemOperations;
+                        result.placed.addAll(index.itemLabels);
+                    } else {
+                        for (InterferenceItem label : index.itemLabels) {
+                            index.index.remove(label.env, label);
+                        }
+                        item.setTextStyle(textStyle);
+                        result.deferred.add(i);
+                    }
+                }
+            } finally {
+                graphics.dispose();
+            }
+            return result;
+        }
+
+        private boolean isInside(LabelCacheItem item, List<InterferenceItem> labels) {
+            double margin = getMargin(item);
+            for (InterferenceItem label : labels) {
+                Envelope envelope = new Envelope(label.env);
+                envelope.expandBy(margin);
+                if (!PartitionedLabelPlacer.isInside(envelope, tile)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** A label index keeping track of the labels added for the current item */
+    static class TileIndex extends LabelIndex {
+
+        final List<InterferenceItem> itemLabels = new ArrayList<>();
+
+        @Override
+        public void addLabel(LabelCacheItem item, Rectangle2D bounds) {
+            Envelope e = new Envelope(bounds.getMinX(), bounds.getMaxX(), bounds.getMinY(), bounds.getMaxY());
+            InterferenceItem label = new InterferenceItem(e, item);
+            index.insert(e, label);
+            itemLabels.add(label);
+        }
+    }
+}
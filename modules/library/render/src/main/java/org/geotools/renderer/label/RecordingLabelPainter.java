@@ -0,0 +1,71 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.label;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.geometry.jts.LineStringCursor;
+import org.geotools.renderer.label.LabelCacheImpl.LabelRenderingMode;
+import org.locationtech.jts.geom.Coordinate;
+
+/**
+ * A {@link LabelPainter} that lays out labels as usual, but records the paint operations instead of performing them,
+ * allowing to find the label positions without touching the target graphics. The recorded operations can be replayed
+ * later against a real painter, set on the same label.
+ */
+class RecordingLabelPainter extends LabelPainter {
+
+    /** A recorded paint operation */
+    interface PaintOperation {
+        void paint(LabelPainter painter) throws Exception;
+    }
+
+    private List<PaintOperation> operations = new ArrayList<>();
+
+    /**
+     * Builds a new recording painter
+     *
+     * @param graphics The graphics used to lay out the labels, nothing will be painted on it
+     * @param labelRenderingMode The label rendering mode
+     */
+    public RecordingLabelPainter(Graphics2D graphics, LabelRenderingMode labelRenderingMode) {
+        super(graphics, labelRenderingMode);
+    }
+
+    @Override
+    public void paintStraightLabel(AffineTransform transform, Coordinate labelPoint) {
+        // the label placement code reuses both transform and coordinate while looking for other positions
+        AffineTransform tx = new AffineTransform(transform);
+        Coordinate point = labelPoint != null ? new Coordinate(labelPoint) : null;
+        operations.add(p -> p.paintStraightLabel(tx, point));
+    }
+
+    @Override
+    public void paintCurvedLabel(LineStringCursor cursor) {
+        LineStringCursor copy = new LineStringCursor(cursor);
+        operations.add(p -> p.paintCurvedLabel(copy));
+    }
+
+    /** Returns the operations recorded so far, and starts a new recording */
+    public List<PaintOperation> takeOperations() {
+        List<PaintOperation> result = operations;
+        operations = new ArrayList<>();
+        return result;
+    }
+}
@@ -76,6 +76,9 @@ final class LiteFeatureTypeStyle {
     /** The bit map used to decide whether to skip geometries that have been already drawn */
     ScreenMap screenMap;
 
+    /** The screen map handed over to the data store, kept around to release it once the layer is painted */
+    ScreenMap pushedScreenMap;
+
     /**
      * Whether the feature should be generalized in memory, or not (in this case, the store did it for us). True by
      * default
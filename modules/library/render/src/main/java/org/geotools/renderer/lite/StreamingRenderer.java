@@ -113,6 +113,7 @@
 import org.geotools.feature.FeatureIterator;
 import org.geotools.feature.FeatureTypes;
 import org.geotools.feature.SchemaException;
+import org.geotools.filter.FilterCompiler;
 import org.geotools.filter.IllegalFilterException;
 import org.geotools.filter.function.EnvFunction;
 import org.geotools.filter.function.GeometryTransformationVisitor;
@@ -137,6 +138,7 @@
 import org.geotools.referencing.CRS;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
 import org.geotools.referencing.operation.LinearTransform;
+import org.geotools.referencing.operation.MathTransformCache;
 import org.geotools.referencing.operation.matrix.XAffineTransform;
 import org.geotools.referencing.operation.transform.AffineTransform2D;
 import org.geotools.referencing.operation.transform.ConcatenatedTransform;
@@ -386,6 +388,38 @@ public class StreamingRenderer implements GTRenderer {
     public static final String SCALE_COMPUTATION_METHOD_KEY = "scaleComputationMethod";
     public static final String BYLAYER_INTERPOLATION = "byLayerInterpolation";
 
+    /**
+     * "parallelStripes" - Integer, when greater than one the map is split in the given number of stripes, each one
+     * painted in parallel by its own renderer, with its own graphics, screen map and queries, and then composited on
+     * the target graphics. The labels collected by the stripes are placed in a single pass over the whole map. Only
+     * used when painting on an image a map made of feature layers without compositing, the usual rendering is
+     * performed otherwise. In this mode render listeners are notified only of rendered features, errors and labelling,
+     * from multiple threads (calls are serialized)
+     */
+    public static final String PARALLEL_STRIPES_KEY = "parallelStripes";
+
+    /**
+     * "parallelStripesOrientation" - String, the orientation of the stripes painted in parallel, either
+     * {@link #STRIPES_HORIZONTAL} (the default) or {@link #STRIPES_VERTICAL}
+     */
+    public static final String PARALLEL_STRIPES_ORIENTATION_KEY = "parallelStripesOrientation";
+
+    /** Horizontal stripes, spanning the whole map width */
+    public static final String STRIPES_HORIZONTAL = "HORIZONTAL";
+
+    /** Vertical stripes, spanning the whole map height */
+    public static final String STRIPES_VERTICAL = "VERTICAL";
+
+    /**
+     * "featureBatchSize" - Integer, when greater than one the paint requests built while reading the features are
+     * accumulated in blocks covering the given number of features (e.g., 1024), and each block is handed over to the
+     * painting thread in a single queue operation, reducing the synchronization between the two threads when painting
+     * lots of small features. Only the hand-over is batched, rules are still evaluated and geometries still decimated
+     * and transformed one feature at a time. The painting order is not affected. Defaults to 1, each request is handed
+     * over as soon as it is built
+     */
+    public static final String FEATURE_BATCH_SIZE_KEY = "featureBatchSize";
+
     /**
      * "vectorRenderingEnabled" - Boolean yes/no (see default vectorRenderingEnabledDEFAULT) "declaredScaleDenominator"
      * - Double the value of the scale denominator to use by the renderer. by default the value is calculated based on
@@ -415,6 +449,18 @@ public class StreamingRenderer implements GTRenderer {
 
     private PainterThread painterThread;
 
+    /** The striped renderer in use, if the current map is being painted in parallel stripes */
+    private volatile StripedRenderer stripedRenderer;
+
+    /** The number of features whose paint requests are handed over to the painting thread in a single block */
+    private int featureBatchSize;
+
+    /** The paint requests accumulated for the current block of features, or null if batching is disabled */
+    private List<RenderingRequest> batch;
+
+    /** The number of features processed since the current block has been started */
+    private int batchedFeatures;
+
     private static int MAX_PIXELS_DENSIFY =
             Integer.valueOf(System.getProperty("ADVANCED_PROJECTION_DENSIFY_MAX_PIXELS", "5"));
 
@@ -490,7 +536,7 @@ private void fireFeatureRenderedEvent(Object feature) {
         }
     }
 
-    private void fireErrorEvent(Throwable t) {
+    void fireErrorEvent(Throwable t) {
         LOGGER.log(Level.SEVERE, t.getLocalizedMessage(), t);
         if (!renderListeners.isEmpty()) {
             Exception e;
@@ -514,18 +560,25 @@ private void fireErrorEvent(Throwable t) {
     @Override
     public void stopRendering() {
         renderingStopRequested = true;
-        // un-block the queue in case it was filled with requests and the main
-        // thread got blocked on it
-        requests.clear();
-        // wake up the painter and put a death pill in the queue
-        painterThread.interrupt();
-        try {
-            requests.put(new EndRequest());
-        } catch (InterruptedException e) {
-            throw new RuntimeException(
-                    "Interrupted while trying to put the end "
-                            + "request in the requests queue, this should never happen",
-                    e);
+        StripedRenderer striped = stripedRenderer;
+        if (striped != null) {
+            striped.stop();
+        }
+        // in parallel stripes mode the painter thread might have never been started
+        if (painterThread != null) {
+            // un-block the queue in case it was filled with requests and the main
+            // thread got blocked on it
+            requests.clear();
+            // wake up the painter and put a death pill in the queue
+            painterThread.interrupt();
+            try {
+                requests.put(new EndRequest());
+            } catch (InterruptedException e) {
+                throw new RuntimeException(
+                        "Interrupted while trying to put the end "
+                                + "request in the requests queue, this should never happen",
+                        e);
+            }
         }
 
         labelCache.stop();
@@ -775,8 +828,17 @@ public void paint(
                     expandEnvelope(mapExtent, worldToScreen, buffer), mapExtent.getCoordinateReferenceSystem());
         }
 
+        // paint in parallel stripes if requested and possible
+        if (getParallelStripes() > 1 && !concatTransforms && StripedRenderer.canPaint(graphics, mapContent)) {
+            paintInStripes(graphics, paintArea, mapArea, worldToScreen);
+            return;
+        }
+
         // Setup the secondary painting thread
         requests = getRequestsQueue();
+        featureBatchSize = getFeatureBatchSize();
+        batch = featureBatchSize > 1 ? new ArrayList<>() : null;
+        batchedFeatures = 0;
         painterThread = new PainterThread(requests);
         ExecutorService localThreadPool = threadPool;
         boolean localPool = false;
@@ -932,6 +994,33 @@ public void paint(
         }
     }
 
+    /** Paints the map in parallel stripes, and then the labels over the whole map */
+    private void paintInStripes(
+            Graphics2D graphics, Rectangle paintArea, ReferencedEnvelope mapArea, AffineTransform worldToScreen) {
+        labelCache.start();
+        if (labelCache instanceof LabelCacheImpl impl) {
+            impl.setLabelRenderingMode(LabelRenderingMode.valueOf(getTextRenderingMethod()));
+        }
+        StripedRenderer striped = new StripedRenderer(
+                this, renderListeners, getParallelStripes(), STRIPES_VERTICAL.equals(getParallelStripesOrientation()));
+        stripedRenderer = striped;
+        try {
+            striped.paint(graphics, paintArea, mapArea, worldToScreen, scaleDenominator, labelCache, threadPool);
+        } catch (Throwable t) {
+            fireErrorEvent(t);
+        } finally {
+            stripedRenderer = null;
+        }
+
+        if (!renderingStopRequested) {
+            renderListeners.forEach(l -> l.labellingStart());
+            labelCache.end(graphics, paintArea);
+            renderListeners.forEach(l -> l.labellingEnd());
+        } else {
+            labelCache.clear();
+        }
+    }
+
     protected void fillBackground(Graphics2D graphics, Rectangle paintArea, Style style) {
         // get the paint, could be a repeated image too (TexturePaint)
         Paint background = styleFactory.getPaint(style.getBackground(), null, null);
@@ -1175,6 +1264,7 @@ Query getStyleQuery(
                             // replace the renderer screenmap with the hint, and avoid doing
                             // the work twice
                             hints.put(Hints.SCREENMAP, fts.screenMap);
+                            fts.pushedScreenMap = fts.screenMap;
                             fts.screenMap = null;
                         }
                     }
@@ -1238,8 +1328,8 @@ void setupDensificationHints(
         AffineTransform at = worldToScreenTransform;
         AffineTransform screenToWorldTransform = new AffineTransform(at);
         screenToWorldTransform.invert();
-        MathTransform2D crsTransform =
-                (MathTransform2D) CRS.findMathTransform(CRS.getHorizontalCRS(featCrs), CRS.getHorizontalCRS(mapCRS));
+        MathTransform2D crsTransform = (MathTransform2D) MathTransformCache.getDefault()
+                .getMathTransform(CRS.getHorizontalCRS(featCrs), CRS.getHorizontalCRS(mapCRS), false);
         MathTransform2D screenTransform = new AffineTransform2D(at);
         MathTransform2D fullTranform = (MathTransform2D) ConcatenatedTransform.create(crsTransform, screenTransform);
         Rectangle2D.Double sourceDomain = new Rectangle2D.Double(
@@ -1450,8 +1540,10 @@ private MathTransform buildTransform(CoordinateReferenceSystem sourceCRS, Coordi
         if (sourceCRS != null && sourceCRS.getCoordinateSystem().getDimension() >= 3) {
             // We are going to transform over to DefaultGeographic.WGS84 on the fly
             // so we will set up our math transform to take it from there
-            MathTransform toWgs84_3d = CRS.findMathTransform(sourceCRS, DefaultGeographicCRS.WGS84_3D);
-            MathTransform toWgs84_2d = CRS.findMathTransform(DefaultGeographicCRS.WGS84_3D, DefaultGeographicCRS.WGS84);
+            MathTransformCache transforms = MathTransformCache.getDefault();
+            MathTransform toWgs84_3d = transforms.getMathTransform(sourceCRS, DefaultGeographicCRS.WGS84_3D, false);
+            MathTransform toWgs84_2d =
+                    transforms.getMathTransform(DefaultGeographicCRS.WGS84_3D, DefaultGeographicCRS.WGS84, false);
             transform = ConcatenatedTransform.create(toWgs84_3d, toWgs84_2d);
             sourceCRS = DefaultGeographicCRS.WGS84;
         }
@@ -1460,7 +1552,7 @@ private MathTransform buildTransform(CoordinateReferenceSystem sourceCRS, Coordi
         if (sourceCRS == null || destCRS == null || CRS.equalsIgnoreMetadata(sourceCRS, destCRS)) {
             mt = null;
         } else {
-            mt = (MathTransform2D) CRS.findMathTransform(sourceCRS, destCRS, true);
+            mt = (MathTransform2D) MathTransformCache.getDefault().getMathTransform(sourceCRS, destCRS, true);
         }
 
         if (transform != null) {
@@ -2131,40 +2223,65 @@ private void processStylers(final Graphics2D graphics, final Layer layer, String
         List<List<LiteFeatureTypeStyle>> txClassified = classifyByFeatureProduction(lfts);
 
         // render groups by uniform transformation
-        for (List<LiteFeatureTypeStyle> uniformLfts : txClassified) {
-            FeatureCollection features = getFeatures(layer, schema, uniformLfts);
-            if (features == null) {
-                continue;
-            }
+        try {
+            for (List<LiteFeatureTypeStyle> uniformLfts : txClassified) {
+                FeatureCollection features = getFeatures(layer, schema, uniformLfts);
+                if (features == null) {
+                    continue;
+                }
 
-            // optimize filters for in memory sequential execution
-            // step one, collect duplicated filters and expressions
-            RepeatedFilterVisitor repeatedVisitor = new RepeatedFilterVisitor();
-            uniformLfts.stream()
-                    .flatMap(fts -> Arrays.stream(fts.ruleList))
-                    .filter(r -> !r.isElseFilter() && r.getFilter() != null)
-                    .forEach(r -> r.getFilter().accept(repeatedVisitor, null));
-            Set<Object> repeatedObjects = repeatedVisitor.getRepeatedObjects();
-            // step two, memoize the repeated ones and convert simple features access to indexed
-            if (schema instanceof SimpleFeatureType || !repeatedObjects.isEmpty()) {
-                MemoryFilterOptimizer filterOptimizer =
-                        new MemoryFilterOptimizer(features.getSchema(), repeatedObjects);
-                for (LiteFeatureTypeStyle fts : uniformLfts) {
-                    for (int i = 0; i < fts.ruleList.length; i++) {
-                        Rule rule = fts.ruleList[i];
-                        DuplicatingStyleVisitor optimizingStyleVisitor =
-                                new DuplicatingStyleVisitor(STYLE_FACTORY, filterFactory, filterOptimizer);
-                        rule.accept(optimizingStyleVisitor);
-                        fts.ruleList[i] = (Rule) optimizingStyleVisitor.getCopy();
+                // optimize filters for in memory sequential execution
+                // step one, collect duplicated filters and expressions
+                RepeatedFilterVisitor repeatedVisitor = new RepeatedFilterVisitor();
+                uniformLfts.stream()
+                        .flatMap(fts -> Arrays.stream(fts.ruleList))
+                        .filter(r -> !r.isElseFilter() && r.getFilter() != null)
+                        .forEach(r -> r.getFilter().accept(repeatedVisitor, null));
+                Set<Object> repeatedObjects = repeatedVisitor.getRepeatedObjects();
+                // step two, memoize the repeated ones and convert simple features access to indexed
+                if (schema instanceof SimpleFeatureType || !repeatedObjects.isEmpty()) {
+                    MemoryFilterOptimizer filterOptimizer =
+                            new MemoryFilterOptimizer(features.getSchema(), repeatedObjects);
+                    for (LiteFeatureTypeStyle fts : uniformLfts) {
+                        for (int i = 0; i < fts.ruleList.length; i++) {
+                            Rule rule = fts.ruleList[i];
+                            DuplicatingStyleVisitor optimizingStyleVisitor =
+                                    new DuplicatingStyleVisitor(STYLE_FACTORY, filterFactory, filterOptimizer);
+                            rule.accept(optimizingStyleVisitor);
+                            Rule optimized = (Rule) optimizingStyleVisitor.getCopy();
+                            Filter filter = optimized.getFilter();
+                            if (features.getSchema() instanceof SimpleFeatureType simpleSchema
+                                    && filter != null
+                                    && filter != Filter.INCLUDE) {
+                                // the rule filter is evaluated against each feature, compile it
+                                optimized.setFilter(FilterCompiler.compile(filter, simpleSchema));
+                            }
+                            fts.ruleList[i] = optimized;
+                        }
                     }
                 }
+
+                // finally, perform rendering
+                if (isOptimizedFTSRenderingEnabled() && lfts.size() > 1) {
+                    drawOptimized(graphics, layerId, features, uniformLfts);
+                } else {
+                    drawPlain(graphics, layerId, features, uniformLfts);
+                }
             }
+        } finally {
+            // the features have been read, the screen map storage can be reused by the next layers
+            releaseScreenMaps(lfts);
+        }
+    }
 
-            // finally, perform rendering
-            if (isOptimizedFTSRenderingEnabled() && lfts.size() > 1) {
-                drawOptimized(graphics, layerId, features, uniformLfts);
-            } else {
-                drawPlain(graphics, layerId, features, uniformLfts);
+    private void releaseScreenMaps(List<LiteFeatureTypeStyle> lfts) {
+        for (LiteFeatureTypeStyle fts : lfts) {
+            if (fts.screenMap != null) {
+                fts.screenMap.release();
+            }
+            if (fts.pushedScreenMap != null) {
+                fts.pushedScreenMap.release();
+                fts.pushedScreenMap = null;
             }
         }
     }
@@ -2522,6 +2639,8 @@ private void drawPlain(
                     rf.setFeature(featureIterator.next());
                     processFeature(rf, liteFeatureTypeStyle, handler);
                 }
+            } finally {
+                flushBatch();
             }
 
             if (liteFeatureTypeStyle.composite != null) {
@@ -2586,10 +2705,13 @@ private void drawOptimized(
                 }
                 firstFeature = false;
             }
-            // submit the merge request
+            // submit the pending paint requests, and then the merge one
+            flushBatch();
             requests.put(new MergeLayersRequest(graphics, lfts));
         } catch (InterruptedException e) {
             fireErrorEvent(e);
+        } finally {
+            flushBatch();
         }
     }
 
@@ -2749,14 +2871,45 @@ void processFeature(RenderableFeature rf, LiteFeatureTypeStyle fts, ProjectionHa
             // if it has been clipped out or eliminated by the screenmap we won't emit the event
             // instead
             if (paintCommands > 0) {
-                requests.put(new FeatureRenderedRequest(rf.feature));
+                queueRequest(new FeatureRenderedRequest(rf.feature));
+            }
+            if (batch != null && ++batchedFeatures >= featureBatchSize) {
+                flushBatch();
             }
-
         } catch (Throwable tr) {
             fireErrorEvent(tr);
         }
     }
 
+    /**
+     * Sends a request built while processing features to the painting thread, or adds it to the current block of
+     * requests if batching is enabled
+     */
+    private void queueRequest(RenderingRequest request) throws InterruptedException {
+        if (batch != null) {
+            batch.add(request);
+        } else {
+            requests.put(request);
+        }
+    }
+
+    /** Sends the requests accumulated for the current block of features to the painting thread, if any */
+    private void flushBatch() {
+        if (batch == null) {
+            return;
+        }
+        batchedFeatures = 0;
+        if (!batch.isEmpty()) {
+            List<RenderingRequest> block = batch;
+            batch = new ArrayList<>(block.size());
+            try {
+                requests.put(new BatchRequest(block));
+            } catch (InterruptedException e) {
+                fireErrorEvent(e);
+            }
+        }
+    }
+
     /**
      * Applies each of a set of symbolizers in turn to a given feature.
      *
@@ -2793,7 +2946,7 @@ private int processSymbolizers(
                         coverage = coverage2D;
                         if (coverage != null) {
                             disposeCoverage = grid instanceof DisposableGridCoverage;
-                            requests.put(new RenderRasterRequest(
+                            queueRequest(new RenderRasterRequest(
                                     graphics,
                                     coverage,
                                     disposeCoverage,
@@ -2806,7 +2959,7 @@ private int processSymbolizers(
                     } else if (grid instanceof GridCoverage2DReader reader) {
                         final GeneralParameterValue[] params =
                                 (GeneralParameterValue[]) paramsPropertyName.evaluate(drawMe.feature);
-                        requests.put(new RenderCoverageReaderRequest(
+                        queueRequest(new RenderCoverageReaderRequest(
                                 graphics,
                                 reader,
                                 params,
@@ -2912,7 +3065,7 @@ private int processSymbolizers(
                         LiteShape2 clipShape = drawMe.getShape(null, worldToScreenTransform, clip, true);
                         paintShapeRequest.setClipShape(clipShape);
                     }
-                    requests.put(paintShapeRequest);
+                    queueRequest(paintShapeRequest);
                     paintCommands++;
                 }
             }
@@ -3090,6 +3243,30 @@ private int getRenderingBuffer() {
         return result.intValue();
     }
 
+    /** Returns the number of stripes the map should be split into for parallel painting */
+    private int getParallelStripes() {
+        if (rendererHints == null) return 1;
+        Number result = (Number) rendererHints.get(PARALLEL_STRIPES_KEY);
+        if (result == null) return 1;
+        return result.intValue();
+    }
+
+    /** Returns the number of features whose paint requests are handed over to the painting thread in a single block */
+    private int getFeatureBatchSize() {
+        if (rendererHints == null) return 1;
+        Number result = (Number) rendererHints.get(FEATURE_BATCH_SIZE_KEY);
+        if (result == null) return 1;
+        return result.intValue();
+    }
+
+    /** Returns the orientation of the stripes painted in parallel */
+    private String getParallelStripesOrientation() {
+        if (rendererHints == null) return STRIPES_HORIZONTAL;
+        String result = (String) rendererHints.get(PARALLEL_STRIPES_ORIENTATION_KEY);
+        if (result == null) return STRIPES_HORIZONTAL;
+        return result;
+    }
+
     /** Returns scale computation algorithm to be used. */
     private String getScaleComputationMethod() {
         if (rendererHints == null) return scaleComputationMethodDEFAULT;
@@ -3190,7 +3367,7 @@ public boolean isCanTransform() {
     public static MathTransform getMathTransform(
             CoordinateReferenceSystem sourceCRS, CoordinateReferenceSystem destCRS) {
         try {
-            return CRS.findMathTransform(sourceCRS, destCRS, true);
+            return MathTransformCache.getDefault().getMathTransform(sourceCRS, destCRS, true);
         } catch (OperationNotFoundException | FactoryException e) {
             LOGGER.log(Level.SEVERE, e.getLocalizedMessage(), e);
         }
@@ -3533,6 +3710,29 @@ void execute() {
         }
     }
 
+    /**
+     * A block of requests built while processing a batch of features, executed in order by the painting thread
+     *
+     * @see StreamingRenderer#FEATURE_BATCH_SIZE_KEY
+     */
+    protected class BatchRequest extends RenderingRequest {
+        List<RenderingRequest> requests;
+
+        public BatchRequest(List<RenderingRequest> requests) {
+            this.requests = requests;
+        }
+
+        @Override
+        void execute() {
+            for (RenderingRequest request : requests) {
+                if (renderingStopRequested) {
+                    break;
+                }
+                request.execute();
+            }
+        }
+    }
+
     /**
      * A request to merge multiple back buffers to the main graphics
      *
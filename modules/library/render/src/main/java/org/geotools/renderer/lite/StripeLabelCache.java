@@ -0,0 +1,180 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.feature.Feature;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.api.style.TextSymbolizer;
+import org.geotools.geometry.jts.LiteShape2;
+import org.geotools.referencing.operation.transform.ProjectiveTransform;
+import org.geotools.util.NumberRange;
+
+/**
+ * A {@link LabelCache} recording the labels and obstacles found while painting a single stripe of a map, see
+ * {@link StripedRenderer}. Nothing is painted, the recorded labels are meant to be replayed in the label cache of the
+ * main renderer once all the stripes have been painted, so that labels get placed in a single pass over the whole map.
+ *
+ * <p>The stripe renderer works in the stripe own screen space, the recorded shapes and obstacles are moved back in the
+ * screen space of the whole map when replayed. Labels are put from the feature reading thread and obstacles from the
+ * painting one, the methods storing them are synchronized.
+ */
+class StripeLabelCache implements LabelCache {
+
+    /** A label recorded while painting the stripe */
+    static class StripeLabel {
+        final TextSymbolizer symbolizer;
+
+        final Feature feature;
+
+        final LiteShape2 shape;
+
+        final NumberRange<Double> scaleRange;
+
+        StripeLabel(TextSymbolizer symbolizer, Feature feature, LiteShape2 shape, NumberRange<Double> scaleRange) {
+            this.symbolizer = symbolizer;
+            this.feature = feature;
+            this.shape = shape;
+            this.scaleRange = scaleRange;
+        }
+    }
+
+    private final int dx;
+
+    private final int dy;
+
+    /** The labels, grouped by layer, in layer rendering order */
+    private final Map<String, List<StripeLabel>> labels = new LinkedHashMap<>();
+
+    private final List<Rectangle2D> obstacles = new ArrayList<>();
+
+    /**
+     * Builds a new stripe label cache
+     *
+     * @param dx The horizontal offset of the stripe in the map
+     * @param dy The vertical offset of the stripe in the map
+     */
+    StripeLabelCache(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    @Override
+    public void start() {
+        // nothing to do
+    }
+
+    @Override
+    public synchronized void startLayer(String layerId) {
+        labels.computeIfAbsent(layerId, k -> new ArrayList<>());
+    }
+
+    @Override
+    public synchronized void put(
+            String layerId,
+            TextSymbolizer symbolizer,
+            Feature feature,
+            LiteShape2 shape,
+            NumberRange<Double> scaleRange) {
+        labels.computeIfAbsent(layerId, k -> new ArrayList<>())
+                .add(new StripeLabel(symbolizer, feature, shape, scaleRange));
+    }
+
+    @Override
+    public synchronized void put(Rectangle2D area) {
+        obstacles.add(new Rectangle2D.Double(area.getX() + dx, area.getY() + dy, area.getWidth(), area.getHeight()));
+    }
+
+    @Override
+    public void endLayer(String layerId, Graphics2D graphics, Rectangle displayArea) {
+        // nothing to do
+    }
+
+    @Override
+    public void end(Graphics2D graphics, Rectangle displayArea) {
+        // nothing to do, the labels are painted by the main renderer
+    }
+
+    @Override
+    public void stop() {
+        // nothing to do
+    }
+
+    @Override
+    public synchronized void clear() {
+        labels.clear();
+        obstacles.clear();
+    }
+
+    @Override
+    public synchronized void clear(String layerId) {
+        labels.remove(layerId);
+    }
+
+    @Override
+    public void disableLayer(String layerId) {
+        // nothing to do
+    }
+
+    @Override
+    public void enableLayer(String layerId) {
+        // nothing to do
+    }
+
+    @Override
+    public List orderedLabels() {
+        return Collections.emptyList();
+    }
+
+    /** Returns the ids of the layers that have been started, in rendering order */
+    synchronized List<String> getLayerIds() {
+        return new ArrayList<>(labels.keySet());
+    }
+
+    /** Returns the labels recorded for the given layer */
+    synchronized List<StripeLabel> getLabels(String layerId) {
+        List<StripeLabel> result = labels.get(layerId);
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    /** Returns the obstacles, already in the screen space of the whole map */
+    synchronized List<Rectangle2D> getObstacles() {
+        return obstacles;
+    }
+
+    /** Returns a copy of the label shape, moved in the screen space of the whole map */
+    LiteShape2 toMapShape(LiteShape2 shape) throws TransformException, FactoryException {
+        if (dx == 0 && dy == 0) {
+            return shape;
+        }
+        return new LiteShape2(
+                shape.getGeometry(),
+                ProjectiveTransform.create(AffineTransform.getTranslateInstance(dx, dy)),
+                null,
+                false,
+                true);
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.feature.Feature;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.identity.FeatureId;
+import org.geotools.api.style.FeatureTypeStyle;
+import org.geotools.api.style.Style;
+import org.geotools.api.style.TextSymbolizer;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.Layer;
+import org.geotools.map.MapContent;
+import org.geotools.renderer.RenderListener;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Paints a map by splitting it in horizontal or vertical stripes, each one painted in parallel by its own
+ * {@link StreamingRenderer}, with its own image, screen map and bbox restricted queries. The stripe images are then
+ * composited on the target graphics, while the labels collected by the stripes are replayed into the label cache of the
+ * main renderer, so that they can be placed in a single pass over the whole map.
+ *
+ * <p>A feature crossing stripes is read and labelled by each of them, labels are de-duplicated based on the feature
+ * identifier, keeping the one found in the first stripe.
+ */
+class StripedRenderer {
+
+    static final Logger LOGGER = Logging.getLogger(StripedRenderer.class);
+
+    /**
+     * The executor used when the caller does not provide one, shared by all renderers. Its daemon threads, one per
+     * processor at most, are released when idle.
+     */
+    private static final ExecutorService DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    private static ExecutorService createDefaultExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "StripedRenderer-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private final StreamingRenderer parent;
+
+    private final List<RenderListener> listeners;
+
+    private final int stripes;
+
+    private final boolean vertical;
+
+    private final List<StreamingRenderer> renderers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean stopped;
+
+    /**
+     * Builds a new striped renderer
+     *
+     * @param parent The renderer whose configuration will be replicated in the stripe renderers
+     * @param listeners The listeners to notify of rendered features and errors
+     * @param stripes The number of stripes
+     * @param vertical If true the map will be split in vertical stripes, in horizontal ones otherwise
+     */
+    StripedRenderer(StreamingRenderer parent, List<RenderListener> listeners, int stripes, boolean vertical) {
+        this.parent = parent;
+        this.listeners = listeners;
+        this.stripes = stripes;
+        this.vertical = vertical;
+    }
+
+    /**
+     * Checks the map can be painted in stripes: the target must be an image (no point in rasterizing vector outputs),
+     * the map content can only contain plain feature layers (direct layers paint the whole map, and raster layers
+     * cannot be shared among the stripe renderers, see {@link #copyLayer(Layer)}), and cannot use compositing (the
+     * stripes are painted on transparent images, blending them with the target contents would give different results)
+     */
+    static boolean canPaint(Graphics2D graphics, MapContent mapContent) {
+        GraphicsConfiguration configuration = graphics.getDeviceConfiguration();
+        if (mapContent == null
+                || configuration == null
+                || configuration.getDevice().getType() != GraphicsDevice.TYPE_IMAGE_BUFFER) {
+            return false;
+        }
+        AlphaCompositeVisitor alphaComposites = new AlphaCompositeVisitor();
+        for (Layer layer : mapContent.layers()) {
+            if (layer.getClass() != FeatureLayer.class) {
+                return false;
+            }
+            Style style = layer.getStyle();
+            if (style != null) {
+                for (FeatureTypeStyle fts : style.featureTypeStyles()) {
+                    Map<String, String> options = fts.getOptions();
+                    if (options.containsKey(FeatureTypeStyle.COMPOSITE)
+                            || options.containsKey(FeatureTypeStyle.COMPOSITE_BASE)) {
+                        return false;
+                    }
+                }
+                style.accept(alphaComposites);
+                if (alphaComposites.alphaComposite) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Paints the map stripes, composites them on the graphics, and replays the labels they collected in the label
+     * cache. The caller is responsible for starting the label cache, and for painting the labels at the end.
+     *
+     * @param graphics The target graphics
+     * @param paintArea The area to paint, in screen units
+     * @param mapArea The map area
+     * @param worldToScreen The world to screen transform
+     * @param scaleDenominator The scale denominator of the whole map, used by all the stripes
+     * @param labelCache The label cache of the main renderer
+     * @param executor The executor used to paint the stripes, if null a shared one with daemon threads is used
+     */
+    void paint(
+            Graphics2D graphics,
+            Rectangle paintArea,
+            ReferencedEnvelope mapArea,
+            AffineTransform worldToScreen,
+            double scaleDenominator,
+            LabelCache labelCache,
+            ExecutorService executor)
+            throws NoninvertibleTransformException {
+        List<Rectangle> areas = getStripeAreas(paintArea);
+        List<BufferedImage> images = new ArrayList<>();
+        List<StripeLabelCache> labelCaches = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        if (executor == null) {
+            executor = DEFAULT_EXECUTOR;
+        }
+        try {
+            for (Rectangle area : areas) {
+                BufferedImage image = new BufferedImage(area.width, area.height, BufferedImage.TYPE_INT_ARGB_PRE);
+                StripeLabelCache stripeLabels = new StripeLabelCache(area.x, area.y);
+                StreamingRenderer renderer = createRenderer(stripeLabels, scaleDenominator);
+                AffineTransform stripeWorldToScreen = AffineTransform.getTranslateInstance(-area.x, -area.y);
+                stripeWorldToScreen.concatenate(worldToScreen);
+                Rectangle stripeArea = new Rectangle(area.width, area.height);
+                ReferencedEnvelope stripeMapArea = new ReferencedEnvelope(
+                        RendererUtilities.createMapEnvelope(stripeArea, stripeWorldToScreen),
+                        mapArea.getCoordinateReferenceSystem());
+                images.add(image);
+                labelCaches.add(stripeLabels);
+                renderers.add(renderer);
+                futures.add(executor.submit(() -> {
+                    if (stopped) {
+                        return;
+                    }
+                    Graphics2D stripeGraphics = image.createGraphics();
+                    try {
+                        renderer.paint(stripeGraphics, stripeArea, stripeMapArea, stripeWorldToScreen);
+                    } finally {
+                        stripeGraphics.dispose();
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    stop();
+                    parent.fireErrorEvent(e);
+                    break;
+                } catch (ExecutionException e) {
+                    parent.fireErrorEvent(e.getCause());
+                }
+            }
+        } finally {
+            for (StreamingRenderer renderer : renderers) {
+                renderer.getMapContent().dispose();
+            }
+            renderers.clear();
+        }
+
+        if (stopped) {
+            return;
+        }
+        for (int i = 0; i < areas.size(); i++) {
+            Rectangle area = areas.get(i);
+            graphics.drawImage(images.get(i), area.x, area.y, null);
+        }
+        replayLabels(labelCaches, labelCache, graphics, paintArea);
+    }
+
+    /** Stops the rendering of all the stripes */
+    void stop() {
+        stopped = true;
+        for (StreamingRenderer renderer : renderers) {
+            renderer.stopRendering();
+        }
+    }
+
+    /** Splits the paint area in stripes, never thinner than a pixel */
+    List<Rectangle> getStripeAreas(Rectangle paintArea) {
+        int length = vertical ? paintArea.width : paintArea.height;
+        int count = Math.max(1, Math.min(stripes, length));
+        List<Rectangle> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int start = (int) ((long) length * i / count);
+            int end = (int) ((long) length * (i + 1) / count);
+            if (vertical) {
+                result.add(new Rectangle(paintArea.x + start, paintArea.y, end - start, paintArea.height));
+            } else {
+                result.add(new Rectangle(paintArea.x, paintArea.y + start, paintArea.width, end - start));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies a layer for a stripe renderer. The renderer disposes the layers at the end of the rendering, each stripe
+     * needs its own copies, sharing the feature sources and styles of the original ones.
+     */
+    static Layer copyLayer(Layer layer) {
+        FeatureLayer copy = new FeatureLayer(layer.getFeatureSource(), layer.getStyle());
+        copy.setQuery(layer.getQuery());
+        copy.setVisible(layer.isVisible());
+        copy.setSelected(layer.isSelected());
+        copy.setTitle(layer.getTitle());
+        copy.getUserData().putAll(layer.getUserData());
+        return copy;
+    }
+
+    /** Creates a map content for a stripe renderer, with copies of the original layers */
+    private MapContent createMapContent() {
+        MapContent mapContent = parent.getMapContent();
+        MapContent result = new MapContent();
+        result.getViewport().setCoordinateReferenceSystem(mapContent.getViewport().getCoordinateReferenceSystem());
+        result.getViewport().setBounds(mapContent.getViewport().getBounds());
+        for (Layer layer : mapContent.layers()) {
+            result.addLayer(copyLayer(layer));
+        }
+        return result;
+    }
+
+    /** Creates a renderer for a stripe, with the same configuration as the parent one */
+    private StreamingRenderer createRenderer(LabelCache labelCache, double scaleDenominator) {
+        StreamingRenderer renderer = new StreamingRenderer();
+        renderer.setMapContent(createMapContent());
+        renderer.setJava2DHints(parent.getJava2DHints());
+        renderer.setGeneralizationDistance(parent.getGeneralizationDistance());
+        renderer.setInteractive(parent.isInteractive());
+
+        Map<Object, Object> hints = new HashMap<>();
+        if (parent.getRendererHints() != null) {
+            hints.putAll(parent.getRendererHints());
+        }
+        hints.remove(StreamingRenderer.PARALLEL_STRIPES_KEY);
+        hints.put(StreamingRenderer.LABEL_CACHE_KEY, labelCache);
+        // make sure all stripes use the scale of the whole map, rule selection depends on it
+        hints.put(StreamingRenderer.SCALE_COMPUTATION_METHOD_KEY, StreamingRenderer.SCALE_ACCURATE);
+        hints.put(StreamingRenderer.DECLARED_SCALE_DENOM_KEY, scaleDenominator);
+        renderer.setRendererHints(hints);
+
+        if (!listeners.isEmpty()) {
+            renderer.addRenderListener(new RenderListener() {
+
+                @Override
+                public void featureRenderer(SimpleFeature feature) {
+                    synchronized (listeners) {
+                        listeners.forEach(l -> l.featureRenderer(feature));
+                    }
+                }
+
+                @Override
+                public void errorOccurred(Exception e) {
+                    synchronized (listeners) {
+                        listeners.forEach(l -> l.errorOccurred(e));
+                    }
+                }
+            });
+        }
+
+        return renderer;
+    }
+
+    /**
+     * Replays the labels collected by the stripes in the main label cache, layer by layer, skipping the labels of
+     * features already labelled by a previous stripe
+     */
+    private void replayLabels(
+            List<StripeLabelCache> labelCaches, LabelCache labelCache, Graphics2D graphics, Rectangle paintArea) {
+        // all stripes go through the same layers, but the ones not hit by any feature might have skipped some
+        Set<String> layerIdSet = new HashSet<>();
+        List<String> layerIds = new ArrayList<>();
+        for (StripeLabelCache stripeLabels : labelCaches) {
+            for (String layerId : stripeLabels.getLayerIds()) {
+                if (layerIdSet.add(layerId)) {
+                    layerIds.add(layerId);
+                }
+            }
+        }
+
+        // each stripe renderer got its own copy of the style, use a single symbolizer instance,
+        // the label cache relies on symbolizer identity to group labels
+        Map<TextSymbolizer, TextSymbolizer> symbolizers = new HashMap<>();
+        for (String layerId : layerIds) {
+            labelCache.startLayer(layerId);
+            Map<TextSymbolizer, Set<String>> labelled = new IdentityHashMap<>();
+            for (StripeLabelCache stripeLabels : labelCaches) {
+                Map<TextSymbolizer, Set<String>> stripeLabelled = new IdentityHashMap<>();
+                for (StripeLabelCache.StripeLabel label : stripeLabels.getLabels(layerId)) {
+                    TextSymbolizer symbolizer = symbolizers.computeIfAbsent(label.symbolizer, s -> s);
+                    String id = getFeatureId(label.feature);
+                    if (id != null) {
+                        if (labelled.getOrDefault(symbolizer, Set.of()).contains(id)) {
+                            continue;
+                        }
+                        stripeLabelled.computeIfAbsent(symbolizer, s -> new HashSet<>()).add(id);
+                    }
+                    try {
+                        labelCache.put(
+                                layerId,
+                                symbolizer,
+                                label.feature,
+                                stripeLabels.toMapShape(label.shape),
+                                label.scaleRange);
+                    } catch (Exception e) {
+                        LOGGER.log(Level.FINE, "Failed to move label in the map screen space", e);
+                    }
+                }
+                for (Map.Entry<TextSymbolizer, Set<String>> entry : stripeLabelled.entrySet()) {
+                    labelled.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(entry.getValue());
+                }
+            }
+            labelCache.endLayer(layerId, graphics, paintArea);
+        }
+
+        for (StripeLabelCache stripeLabels : labelCaches) {
+            for (Rectangle2D obstacle : stripeLabels.getObstacles()) {
+                labelCache.put(obstacle);
+            }
+        }
+    }
+
+    private String getFeatureId(Feature feature) {
+        FeatureId identifier = feature.getIdentifier();
+        return identifier == null ? null : identifier.getID();
+    }
+}
@@ -10,6 +10,7 @@
 import java.awt.FontFormatException;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -34,7 +35,10 @@
 import org.geotools.util.NumberRange;
 import org.junit.Before;
 import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 import org.mockito.Mockito;
@@ -261,6 +265,73 @@ public void testFollowLineAutoWrap() throws Exception {
         assertEquals(0, item.getAutoWrap());
     }
 
+    @Test
+    public void testPartitionedSparseLabels() throws Exception {
+        // labels far apart, no conflicts, same result as the serial placement
+        List<String> serialLabels = new ArrayList<>();
+        BufferedImage serial = paintPointGrid(0, 8, 32, serialLabels);
+        List<String> partitionedLabels = new ArrayList<>();
+        BufferedImage partitioned = paintPointGrid(64, 8, 32, partitionedLabels);
+
+        assertEquals(64, serialLabels.size());
+        assertEquals(serialLabels, partitionedLabels);
+        assertSameImage(serial, partitioned);
+    }
+
+    @Test
+    public void testPartitionedDenseLabels() throws Exception {
+        // labels conflicting with each other, also across the tile borders
+        List<String> labels1 = new ArrayList<>();
+        BufferedImage image1 = paintPointGrid(64, 32, 8, labels1);
+        List<String> labels2 = new ArrayList<>();
+        BufferedImage image2 = paintPointGrid(64, 32, 8, labels2);
+
+        assertTrue(labels1.size() > 0);
+        assertTrue(labels1.size() < 32 * 32);
+        // deterministic output
+        assertEquals(labels1, labels2);
+        assertSameImage(image1, image2);
+    }
+
+    /** Paints a grid of point labels, collecting the labels actually painted */
+    private BufferedImage paintPointGrid(int tileSize, int count, int step, List<String> paintedLabels)
+            throws Exception {
+        LabelCacheImpl cache = new LabelCacheImpl();
+        cache.setPartitionTileSize(tileSize);
+        cache.setConstructPainter((g, mode) -> new LabelPainter(g, mode) {
+            @Override
+            public void paintStraightLabel(AffineTransform transform, Coordinate labelPoint) throws Exception {
+                paintedLabels.add(getLabel().getLabel());
+                super.paintStraightLabel(transform, labelPoint);
+            }
+        });
+        cache.startLayer(LAYER_ID);
+        Font font = sb.createFont("Bitstream Vera Sans", 10);
+        TextSymbolizer ts = sb.createTextSymbolizer(Color.BLACK, font, "name");
+        GeometryFactory gf = new GeometryFactory();
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < count; j++) {
+                Point point = gf.createPoint(new Coordinate(step / 2d + i * step, step / 2d + j * step));
+                addToCache(cache, ts, createFeature("l" + i + "_" + j, point));
+            }
+        }
+        int size = count * step;
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_4BYTE_ABGR);
+        Graphics2D graphics = image.createGraphics();
+        cache.endLayer(LAYER_ID, graphics, new Rectangle(0, 0, size, size));
+        cache.end(graphics, new Rectangle(0, 0, size, size));
+        graphics.dispose();
+        return image;
+    }
+
+    private void assertSameImage(BufferedImage expected, BufferedImage actual) {
+        for (int x = 0; x < expected.getWidth(); x++) {
+            for (int y = 0; y < expected.getHeight(); y++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+            }
+        }
+    }
+
     private SimpleFeature createFeature(String label, Geometry geom) {
         fb.add(label);
         fb.add(geom);
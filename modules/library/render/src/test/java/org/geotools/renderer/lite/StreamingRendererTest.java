@@ -47,6 +47,7 @@
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -650,6 +651,78 @@ public SimpleFeatureCollection getFeatures(Query query) {
         assertEquals(new ReferencedEnvelope(-6, 106, -6, 106, WGS84), bbox2);
     }
 
+    @Test
+    public void testFeatureBatching() throws Exception {
+        DefaultFeatureCollection fc = new DefaultFeatureCollection();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                fc.add(createPoint(i + 0.5, j + 0.5));
+            }
+        }
+        ReferencedEnvelope envelope = new ReferencedEnvelope(0, 10, 0, 10, WGS84);
+
+        AtomicInteger plainPuts = new AtomicInteger();
+        BufferedImage plain = renderCountingRequests(fc, envelope, null, plainPuts);
+        assertEquals(100, features);
+        // one paint and one feature rendered request per point, at least
+        assertTrue(plainPuts.get() >= 200);
+
+        AtomicInteger batchedPuts = new AtomicInteger();
+        BufferedImage batched = renderCountingRequests(fc, envelope, 32, batchedPuts);
+        assertEquals(100, features);
+        // four blocks of requests, plus the few ones emitted for the layer and the end of the rendering
+        assertTrue(batchedPuts.get() < 10);
+
+        // same painting order, same output
+        for (int x = 0; x < plain.getWidth(); x++) {
+            for (int y = 0; y < plain.getHeight(); y++) {
+                assertEquals(plain.getRGB(x, y), batched.getRGB(x, y));
+            }
+        }
+    }
+
+    private BufferedImage renderCountingRequests(
+            SimpleFeatureCollection fc, ReferencedEnvelope envelope, Integer batchSize, AtomicInteger puts) {
+        MapContent mc = new MapContent();
+        mc.addLayer(new FeatureLayer(fc, createPointStyle()));
+        StreamingRenderer sr = new StreamingRenderer() {
+            @Override
+            protected RenderingBlockingQueue getRequestsQueue() {
+                return new RenderingBlockingQueue(10000) {
+                    @Override
+                    public void put(RenderingRequest e) throws InterruptedException {
+                        puts.incrementAndGet();
+                        super.put(e);
+                    }
+                };
+            }
+        };
+        sr.setMapContent(mc);
+        if (batchSize != null) {
+            sr.setRendererHints(Collections.singletonMap(StreamingRenderer.FEATURE_BATCH_SIZE_KEY, batchSize));
+        }
+        sr.addRenderListener(new RenderListener() {
+            @Override
+            public void featureRenderer(SimpleFeature feature) {
+                features++;
+            }
+
+            @Override
+            public void errorOccurred(Exception e) {
+                errors++;
+            }
+        });
+        features = 0;
+        errors = 0;
+        BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_4BYTE_ABGR);
+        Graphics2D graphics = image.createGraphics();
+        sr.paint(graphics, new Rectangle(0, 0, 100, 100), envelope);
+        graphics.dispose();
+        mc.dispose();
+        assertEquals(0, errors);
+        return image;
+    }
+
     @Test
     public void testScreenMapMemory() {
         // build a feature source with two zig-zag line occupying the same position
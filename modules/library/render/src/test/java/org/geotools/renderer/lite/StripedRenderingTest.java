@@ -0,0 +1,151 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import static java.awt.RenderingHints.KEY_ANTIALIASING;
+import static java.awt.RenderingHints.VALUE_ANTIALIAS_ON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.data.property.PropertyDataStore;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.image.test.ImageAssert;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.renderer.label.LabelCacheImpl;
+import org.geotools.test.TestData;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StripedRenderingTest {
+
+    private static final long TIME = 4000;
+
+    SimpleFeatureSource squareFS;
+
+    SimpleFeatureSource linesFS;
+
+    ReferencedEnvelope bounds;
+
+    @Before
+    public void setUp() throws Exception {
+        RendererBaseTest.setupVeraFonts();
+
+        File property = new File(TestData.getResource(this, "square.properties").toURI());
+        PropertyDataStore ds = new PropertyDataStore(property.getParentFile());
+        squareFS = ds.getFeatureSource("square");
+        linesFS = ds.getFeatureSource("diaglines");
+        bounds = new ReferencedEnvelope(0, 10, 0, 10, DefaultGeographicCRS.WGS84);
+    }
+
+    private BufferedImage render(Map<Object, Object> hints, LabelCacheImpl labelCache) throws Exception {
+        MapContent mc = new MapContent();
+        mc.addLayer(new FeatureLayer(squareFS, RendererBaseTest.loadStyle(this, "PolyStyle.sld")));
+        mc.addLayer(new FeatureLayer(linesFS, RendererBaseTest.loadStyle(this, "textLineOrientation.sld")));
+
+        StreamingRenderer renderer = new StreamingRenderer();
+        renderer.setMapContent(mc);
+        renderer.setJava2DHints(new RenderingHints(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON));
+        Map<Object, Object> rendererHints = new HashMap<>(hints);
+        rendererHints.put(StreamingRenderer.LABEL_CACHE_KEY, labelCache);
+        renderer.setRendererHints(rendererHints);
+        try {
+            return RendererBaseTest.renderImage(renderer, bounds, null);
+        } finally {
+            mc.dispose();
+        }
+    }
+
+    private void assertSameAsSerial(Map<Object, Object> hints) throws Exception {
+        LabelCacheImpl serialLabels = new LabelCacheImpl();
+        BufferedImage serial = render(Collections.emptyMap(), serialLabels);
+        LabelCacheImpl stripedLabels = new LabelCacheImpl();
+        BufferedImage striped = render(hints, stripedLabels);
+        RendererBaseTest.showImage("Striped", TIME, striped);
+
+        // labels crossing stripes are placed only once
+        assertEquals(serialLabels.getActiveLabels().size(), stripedLabels.getActiveLabels().size());
+        ImageAssert.assertEquals(serial, striped, 20);
+    }
+
+    @Test
+    public void testHorizontalStripes() throws Exception {
+        Map<Object, Object> hints = new HashMap<>();
+        hints.put(StreamingRenderer.PARALLEL_STRIPES_KEY, 4);
+        assertSameAsSerial(hints);
+    }
+
+    @Test
+    public void testVerticalStripes() throws Exception {
+        Map<Object, Object> hints = new HashMap<>();
+        hints.put(StreamingRenderer.PARALLEL_STRIPES_KEY, 3);
+        hints.put(StreamingRenderer.PARALLEL_STRIPES_ORIENTATION_KEY, StreamingRenderer.STRIPES_VERTICAL);
+        assertSameAsSerial(hints);
+    }
+
+    @Test
+    public void testSharedDaemonExecutor() throws Exception {
+        Map<Object, Object> hints = new HashMap<>();
+        hints.put(StreamingRenderer.PARALLEL_STRIPES_KEY, 4);
+        render(hints, new LabelCacheImpl());
+        render(hints, new LabelCacheImpl());
+
+        // the stripes are painted by a shared pool of daemon threads, not by a new pool at each paint
+        List<Thread> stripeThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().startsWith("StripedRenderer-"))
+                .toList();
+        assertFalse(stripeThreads.isEmpty());
+        assertTrue(stripeThreads.size() <= Runtime.getRuntime().availableProcessors());
+        for (Thread thread : stripeThreads) {
+            assertTrue(thread.isDaemon());
+        }
+    }
+
+    @Test
+    public void testStripeAreas() {
+        Rectangle paintArea = new Rectangle(10, 20, 7, 100);
+        List<Rectangle> areas = new StripedRenderer(null, null, 3, true).getStripeAreas(paintArea);
+        assertEquals(3, areas.size());
+        int x = paintArea.x;
+        for (Rectangle area : areas) {
+            assertEquals(x, area.x);
+            assertEquals(paintArea.y, area.y);
+            assertEquals(paintArea.height, area.height);
+            assertTrue(area.width >= 2);
+            x += area.width;
+        }
+        assertEquals(paintArea.getMaxX(), x, 0d);
+
+        // never thinner than a pixel
+        areas = new StripedRenderer(null, null, 16, false).getStripeAreas(new Rectangle(0, 0, 100, 5));
+        assertEquals(5, areas.size());
+        for (Rectangle area : areas) {
+            assertEquals(1, area.height);
+        }
+    }
+}
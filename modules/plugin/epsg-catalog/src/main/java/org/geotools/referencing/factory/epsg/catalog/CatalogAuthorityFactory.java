@@ -0,0 +1,339 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.catalog;
+
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.geotools.api.metadata.citation.Citation;
+import org.geotools.api.metadata.extent.Extent;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.IdentifiedObject;
+import org.geotools.api.referencing.NoSuchAuthorityCodeException;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.util.GenericName;
+import org.geotools.api.util.InternationalString;
+import org.geotools.metadata.iso.citation.CitationImpl;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.metadata.iso.extent.ExtentImpl;
+import org.geotools.metadata.iso.extent.GeographicBoundingBoxImpl;
+import org.geotools.referencing.NamedIdentifier;
+import org.geotools.referencing.factory.AbstractAuthorityFactory;
+import org.geotools.referencing.factory.DirectAuthorityFactory;
+import org.geotools.referencing.factory.IdentifiedObjectFinder;
+import org.geotools.referencing.factory.ReferencingFactoryContainer;
+import org.geotools.referencing.wkt.Symbols;
+import org.geotools.util.NameFactory;
+import org.geotools.util.SimpleInternationalString;
+import org.geotools.util.Version;
+import org.geotools.util.factory.Hints;
+
+/**
+ * Coordinate reference system authority factory backed by an {@link EpsgCatalog}. The definitions are parsed from the
+ * catalog on demand, without any SQL query, and the {@linkplain #getIdentifiedObjectFinder finder} looks up the
+ * candidates in the catalog indexes rather than scanning all the codes. The domain of validity and scope stored along
+ * with the definitions are given to the coordinate reference systems created.
+ *
+ * <p>This factory doesn't cache any result. For caching, this factory should be wrapped in some buffered factory like
+ * {@link ThreadedCatalogEpsgFactory}.
+ */
+public class CatalogAuthorityFactory extends DirectAuthorityFactory implements CRSAuthorityFactory {
+
+    /** The catalog. */
+    private final EpsgCatalog catalog;
+
+    /** The authority, with the EPSG dataset version as edition. */
+    private final Citation authority;
+
+    /** The codes of each kind of object, built only when first needed. */
+    private final Map<Class<? extends IdentifiedObject>, Set<String>> codes = new HashMap<>();
+
+    /** A WKT parser. */
+    private transient Parser parser;
+
+    /**
+     * Creates a factory reading the specified catalog.
+     *
+     * @param factories The underlying factories used for objects creation.
+     * @param catalog The catalog.
+     */
+    public CatalogAuthorityFactory(final ReferencingFactoryContainer factories, final EpsgCatalog catalog) {
+        super(factories, MINIMUM_PRIORITY + 20);
+        ensureNonNull("catalog", catalog);
+        this.catalog = catalog;
+        final CitationImpl citation = new CitationImpl(Citations.EPSG);
+        citation.setEdition(new SimpleInternationalString(catalog.getVersion()));
+        citation.freeze();
+        authority = citation;
+        // Same hints as the EPSG database backed factories, the definitions use the authority axis order
+        hints.put(Hints.FORCE_LONGITUDE_FIRST_AXIS_ORDER, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_DIRECTIONS, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_UNITS, Boolean.FALSE);
+        hints.put(Hints.VERSION, new Version(catalog.getVersion()));
+    }
+
+    /** Returns the organization or party responsible for definition and maintenance of the database. */
+    @Override
+    public Citation getAuthority() {
+        return authority;
+    }
+
+    /** Returns a description of the catalog. */
+    @Override
+    public String getBackingStoreDescription() {
+        return catalog.toString();
+    }
+
+    /**
+     * Returns the set of authority codes of the given type. The kind of each entry is recorded in the catalog, so the
+     * filtering does not need to parse the definitions.
+     *
+     * @param type The spatial reference objects type (may be {@code Object.class}).
+     * @return The set of authority codes for spatial reference objects of the given type.
+     */
+    @Override
+    public Set<String> getAuthorityCodes(Class<? extends IdentifiedObject> type) {
+        if (type == null || type.isAssignableFrom(IdentifiedObject.class)) {
+            type = IdentifiedObject.class;
+        }
+        synchronized (codes) {
+            Set<String> result = codes.get(type);
+            if (result == null) {
+                final Set<String> filtered = new LinkedHashSet<>();
+                final int size = catalog.size();
+                for (int i = 0; i < size; i++) {
+                    if (type.isAssignableFrom(CatalogKeys.TYPES[catalog.getKind(i)])) {
+                        filtered.add(String.valueOf(catalog.getCode(i)));
+                    }
+                }
+                result = Collections.unmodifiableSet(filtered);
+                codes.put(type, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Returns the Well Know Text from a code.
+     *
+     * @param code Value allocated by authority.
+     * @return The Well Know Text (WKT) for the specified code.
+     * @throws NoSuchAuthorityCodeException if the specified {@code code} was not found.
+     */
+    public String getWKT(final String code) throws NoSuchAuthorityCodeException {
+        ensureNonNull("code", code);
+        final int index = indexOf(code);
+        if (index < 0) {
+            throw noSuchAuthorityCode(IdentifiedObject.class, code);
+        }
+        return catalog.getWKT(index);
+    }
+
+    /** Returns the position of the specified code in the catalog, or a negative value if not found. */
+    private int indexOf(final String code) {
+        try {
+            return catalog.indexOf(Integer.parseInt(trimAuthority(code)));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Gets a description of the object corresponding to a code.
+     *
+     * @param code Value allocated by authority.
+     * @return A description of the object, or {@code null} if the object has no description.
+     * @throws NoSuchAuthorityCodeException if the specified {@code code} was not found.
+     */
+    @Override
+    public InternationalString getDescriptionText(final String code) throws NoSuchAuthorityCodeException {
+        final String wkt = getWKT(code);
+        int start = wkt.indexOf('"');
+        if (start >= 0) {
+            final int end = wkt.indexOf('"', ++start);
+            if (end >= 0) {
+                return new SimpleInternationalString(wkt.substring(start, end).trim());
+            }
+        }
+        return null;
+    }
+
+    /** Returns the parser. */
+    private Parser getParser() {
+        if (parser == null) {
+            parser = new Parser();
+        }
+        return parser;
+    }
+
+    /**
+     * Returns an arbitrary object from a code.
+     *
+     * @param code Value allocated by authority.
+     * @throws NoSuchAuthorityCodeException if the specified {@code code} was not found.
+     * @throws FactoryException if the object creation failed for some other reason.
+     */
+    @Override
+    public IdentifiedObject createObject(final String code) throws NoSuchAuthorityCodeException, FactoryException {
+        return createCoordinateReferenceSystem(code);
+    }
+
+    /**
+     * Returns a coordinate reference system from a code.
+     *
+     * @param code Value allocated by authority.
+     * @throws NoSuchAuthorityCodeException if the specified {@code code} was not found.
+     * @throws FactoryException if the object creation failed for some other reason.
+     */
+    @Override
+    public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(final String code)
+            throws NoSuchAuthorityCodeException, FactoryException {
+        ensureNonNull("code", code);
+        final int index = indexOf(code);
+        if (index < 0) {
+            throw noSuchAuthorityCode(CoordinateReferenceSystem.class, code);
+        }
+        final Parser parser = getParser();
+        try {
+            parser.code = trimAuthority(code);
+            parser.domainOfValidity = getDomainOfValidity(index);
+            parser.scope = catalog.getScope(index);
+            return parser.parseCoordinateReferenceSystem(catalog.getWKT(index));
+        } catch (ParseException exception) {
+            throw new FactoryException(exception);
+        }
+    }
+
+    /** Returns the domain of validity of the entry at the specified position, or {@code null} if unknown. */
+    private Extent getDomainOfValidity(final int index) {
+        final String description = catalog.getAreaDescription(index);
+        final double[] bounds = catalog.getGeographicBounds(index);
+        if (description == null && bounds == null) {
+            return null;
+        }
+        final ExtentImpl extent = new ExtentImpl();
+        if (description != null) {
+            extent.setDescription(new SimpleInternationalString(description));
+        }
+        if (bounds != null) {
+            extent.setGeographicElements(
+                    Collections.singleton(new GeographicBoundingBoxImpl(bounds[0], bounds[1], bounds[2], bounds[3])));
+        }
+        return (Extent) extent.unmodifiable();
+    }
+
+    /** Trims the authority scope, if present. */
+    @Override
+    protected String trimAuthority(String code) {
+        code = code.trim();
+        final GenericName name = NameFactory.create(code);
+        final GenericName scope = name.scope().name();
+        if (scope != null && Citations.identifierMatches(authority, scope.toString())) {
+            return name.tip().toString().trim();
+        }
+        return code;
+    }
+
+    /**
+     * Returns a finder looking up the candidates in the catalog indexes. Candidates are first searched among the
+     * objects sharing the same ellipsoid and projection method, then, if a full scan is allowed, among the objects
+     * sharing the same projection method. Only the objects of a kind that is not indexed are compared against all the
+     * codes.
+     */
+    @Override
+    public IdentifiedObjectFinder getIdentifiedObjectFinder(final Class<? extends IdentifiedObject> type)
+            throws FactoryException {
+        return new Finder(this, type);
+    }
+
+    /** A finder using the catalog indexes. */
+    final class Finder extends IdentifiedObjectFinder {
+
+        Finder(final AbstractAuthorityFactory factory, final Class<? extends IdentifiedObject> type) {
+            super(factory, type);
+        }
+
+        @Override
+        protected Set getSpecificCodeCandidates(final IdentifiedObject object) throws FactoryException {
+            final long key = CatalogKeys.key(object, true);
+            if (key == CatalogKeys.NONE) {
+                return Collections.emptySet();
+            }
+            return toCodes(catalog.lookup(key, true));
+        }
+
+        @Override
+        protected Set<String> getCodeCandidates(final IdentifiedObject object) throws FactoryException {
+            final long key = CatalogKeys.key(object, false);
+            if (key == CatalogKeys.NONE) {
+                return super.getCodeCandidates(object);
+            }
+            return toCodes(catalog.lookup(key, false));
+        }
+
+        private Set<String> toCodes(final int[] positions) {
+            final Set<String> result = new LinkedHashSet<>();
+            for (int position : positions) {
+                result.add(String.valueOf(catalog.getCode(position)));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The WKT parser for this authority factory. This parser add automatically the authority code if it was not
+     * explicitly specified in the WKT, and the domain of validity and scope of the catalog entry.
+     */
+    private final class Parser extends org.geotools.referencing.wkt.Parser {
+        /** For cross-version compatibility. */
+        private static final long serialVersionUID = 6135429452786312045L;
+
+        /** The authority code for the WKT to be parsed. */
+        String code;
+
+        /** The domain of validity and scope for the WKT to be parsed, or {@code null} if unknown. */
+        Extent domainOfValidity;
+
+        String scope;
+
+        /** Creates the parser. */
+        public Parser() {
+            super(Symbols.DEFAULT, factories);
+        }
+
+        /** Add the authority code to the specified properties, if not already present. */
+        @Override
+        protected Map<String, Object> alterProperties(Map<String, Object> properties) {
+            if (properties.get(IdentifiedObject.IDENTIFIERS_KEY) == null && code != null) {
+                properties = new HashMap<>(properties);
+                properties.put(IdentifiedObject.IDENTIFIERS_KEY, new NamedIdentifier(authority, code));
+            }
+            // only invoked for the root element, the coordinate reference system described by the catalog entry
+            if (domainOfValidity != null) {
+                properties.put(CoordinateReferenceSystem.DOMAIN_OF_VALIDITY_KEY, domainOfValidity);
+            }
+            if (scope != null) {
+                properties.put(CoordinateReferenceSystem.SCOPE_KEY, scope);
+            }
+            return super.alterProperties(properties);
+        }
+    }
+}
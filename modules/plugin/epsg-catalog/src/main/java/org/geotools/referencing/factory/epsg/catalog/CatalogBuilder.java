@@ -0,0 +1,313 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.catalog;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.metadata.extent.Extent;
+import org.geotools.api.metadata.extent.GeographicBoundingBox;
+import org.geotools.api.metadata.extent.GeographicExtent;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.util.InternationalString;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.factory.epsg.ThreadedEpsgFactory;
+import org.geotools.referencing.wkt.Parser;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Builds the {@link EpsgCatalog} files. The definitions are added as WKT, either one by one or by dumping the whole
+ * content of an EPSG authority factory, and are parsed back in order to make sure they can be read, and to compute the
+ * lookup keys. WKT 1 has no room for the domain of validity and scope, they are stored next to the definitions.
+ *
+ * <p>The {@link #main main} method is run at build time, dumping the EPSG database of the HSQL plugin into the catalog
+ * bundled with this plugin.
+ */
+public class CatalogBuilder {
+
+    static final Logger LOGGER = Logging.getLogger(CatalogBuilder.class);
+
+    /** A catalog entry waiting to be written. */
+    private static final class Entry {
+        final byte[][] texts;
+        final double[] bounds;
+        final byte kind;
+        final long specific;
+        final long coarse;
+
+        Entry(final byte[][] texts, final double[] bounds, final byte kind, final long specific, final long coarse) {
+            this.texts = texts;
+            this.bounds = bounds;
+            this.kind = kind;
+            this.specific = specific;
+            this.coarse = coarse;
+        }
+    }
+
+    /** The entries, sorted by code. */
+    private final TreeMap<Integer, Entry> entries = new TreeMap<>();
+
+    /** The parser used to validate the definitions. */
+    private final Parser parser = new Parser();
+
+    /**
+     * Adds a definition to the catalog, replacing any previous definition for the same code.
+     *
+     * @param code The EPSG code.
+     * @param wkt The Well Known Text of the coordinate reference system.
+     * @throws ParseException if the WKT cannot be parsed.
+     */
+    public void add(final int code, final String wkt) throws ParseException {
+        add(code, wkt, null, null);
+    }
+
+    /**
+     * Adds a definition to the catalog, along with its domain of validity and scope, replacing any previous definition
+     * for the same code. Only the description and the first geographic bounding box of the domain of validity are
+     * stored.
+     *
+     * @param code The EPSG code.
+     * @param wkt The Well Known Text of the coordinate reference system.
+     * @param domainOfValidity The domain of validity, or {@code null} if unknown.
+     * @param scope The scope, or {@code null} if unknown.
+     * @throws ParseException if the WKT cannot be parsed.
+     */
+    public void add(final int code, final String wkt, final Extent domainOfValidity, final InternationalString scope)
+            throws ParseException {
+        final CoordinateReferenceSystem crs = parser.parseCoordinateReferenceSystem(wkt);
+        final byte[][] texts = new byte[EpsgCatalog.TEXTS][];
+        texts[EpsgCatalog.WKT] = wkt.getBytes(StandardCharsets.UTF_8);
+        texts[EpsgCatalog.AREA] = toBytes(domainOfValidity != null ? domainOfValidity.getDescription() : null);
+        texts[EpsgCatalog.SCOPE] = toBytes(scope);
+        entries.put(
+                code,
+                new Entry(
+                        texts,
+                        getBounds(domainOfValidity),
+                        CatalogKeys.kind(crs),
+                        CatalogKeys.key(crs, true),
+                        CatalogKeys.key(crs, false)));
+    }
+
+    /** Encodes a text in UTF-8, null texts being stored as empty ones. */
+    private static byte[] toBytes(final InternationalString text) {
+        return text != null ? text.toString().getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    /** Returns the first geographic bounding box of the extent, filled with NaN if there is none. */
+    private static double[] getBounds(final Extent extent) {
+        final double[] bounds = new double[EpsgCatalog.BOUNDS];
+        Arrays.fill(bounds, Double.NaN);
+        if (extent != null && extent.getGeographicElements() != null) {
+            for (GeographicExtent element : extent.getGeographicElements()) {
+                if (element instanceof GeographicBoundingBox box) {
+                    bounds[0] = box.getWestBoundLongitude();
+                    bounds[1] = box.getEastBoundLongitude();
+                    bounds[2] = box.getSouthBoundLatitude();
+                    bounds[3] = box.getNorthBoundLatitude();
+                    break;
+                }
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Adds all the coordinate reference systems of the specified factory having a numeric code. The ones that cannot
+     * be created, or whose WKT cannot be parsed back, are logged and skipped.
+     *
+     * @param factory The factory to dump.
+     * @return The number of definitions added.
+     * @throws FactoryException if the authority codes cannot be listed.
+     */
+    public int addAll(final CRSAuthorityFactory factory) throws FactoryException {
+        int count = 0;
+        for (String code : factory.getAuthorityCodes(CoordinateReferenceSystem.class)) {
+            final String number = code.substring(code.indexOf(':') + 1).trim();
+            final int value;
+            try {
+                value = Integer.parseInt(number);
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            try {
+                final CoordinateReferenceSystem crs = factory.createCoordinateReferenceSystem(code);
+                // use toString, it's more lenient than toWKT
+                add(
+                        value,
+                        crs.toString().replaceAll("[\\n\\r]+| {2,}", ""),
+                        crs.getDomainOfValidity(),
+                        crs.getScope());
+                count++;
+            } catch (Exception e) {
+                LOGGER.log(Level.FINE, "Skipping EPSG:" + number + ", " + e.getMessage(), e);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adds all the definitions of a property file in the format used by the WKT plugin, EPSG codes as keys and WKT as
+     * values. The ones that cannot be parsed are logged and skipped.
+     *
+     * @param definitions The definitions.
+     * @return The number of definitions added.
+     */
+    public int addAll(final Properties definitions) {
+        int count = 0;
+        for (Map.Entry<Object, Object> entry : definitions.entrySet()) {
+            final String code = ((String) entry.getKey()).trim();
+            try {
+                add(Integer.parseInt(code), ((String) entry.getValue()).trim());
+                count++;
+            } catch (NumberFormatException | ParseException e) {
+                LOGGER.log(Level.FINE, "Skipping EPSG:" + code + ", " + e.getMessage(), e);
+            }
+        }
+        return count;
+    }
+
+    /** Returns the number of definitions added so far. */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Writes the catalog.
+     *
+     * @param file The file to write.
+     * @param version The version of the EPSG dataset the definitions come from.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(final File file, final String version) throws IOException {
+        final List<long[]> specific = new ArrayList<>();
+        final List<long[]> coarse = new ArrayList<>();
+        int index = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.specific != CatalogKeys.NONE) {
+                specific.add(new long[] {entry.specific, index});
+                coarse.add(new long[] {entry.coarse, index});
+            }
+            index++;
+        }
+        specific.sort((a, b) -> Long.compare(a[0], b[0]));
+        coarse.sort((a, b) -> Long.compare(a[0], b[0]));
+
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create directory " + parent);
+        }
+        final byte[] versionBytes = version.getBytes(StandardCharsets.UTF_8);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(EpsgCatalog.MAGIC);
+            out.writeInt(EpsgCatalog.FORMAT);
+            out.writeInt(entries.size());
+            out.writeInt(specific.size());
+            out.writeInt(coarse.size());
+            out.writeInt(versionBytes.length);
+            out.write(versionBytes);
+            for (Integer code : entries.keySet()) {
+                out.writeInt(code);
+            }
+            int offset = 0;
+            for (Entry entry : entries.values()) {
+                for (byte[] text : entry.texts) {
+                    out.writeInt(offset);
+                    offset += text.length;
+                }
+            }
+            out.writeInt(offset);
+            for (Entry entry : entries.values()) {
+                out.writeByte(entry.kind);
+            }
+            for (Entry entry : entries.values()) {
+                for (double bound : entry.bounds) {
+                    out.writeDouble(bound);
+                }
+            }
+            writeIndex(out, specific);
+            writeIndex(out, coarse);
+            for (Entry entry : entries.values()) {
+                for (byte[] text : entry.texts) {
+                    out.write(text);
+                }
+            }
+        }
+    }
+
+    private static void writeIndex(final DataOutputStream out, final List<long[]> index) throws IOException {
+        for (long[] pair : index) {
+            out.writeLong(pair[0]);
+        }
+        for (long[] pair : index) {
+            out.writeInt((int) pair[1]);
+        }
+    }
+
+    /**
+     * Generates a catalog. The first argument is the catalog file to write. If a second argument is provided, it is the
+     * property file to read the definitions from, otherwise the definitions are read from the EPSG database found on
+     * the classpath.
+     *
+     * @param args The command line arguments.
+     * @throws Exception if the catalog cannot be generated.
+     */
+    public static void main(final String... args) throws Exception {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: CatalogBuilder <catalog file> [<epsg.properties>]");
+        }
+        final File file = new File(args[0]);
+        final CatalogBuilder builder = new CatalogBuilder();
+        final String version;
+        if (args.length > 1) {
+            final Properties definitions = new Properties();
+            try (InputStream in = new FileInputStream(args[1])) {
+                definitions.load(in);
+            }
+            builder.addAll(definitions);
+            version = new File(args[1]).getName();
+        } else {
+            // ask for the database backed factory, not for this plugin one
+            final ThreadedEpsgFactory factory = (ThreadedEpsgFactory) ReferencingFactoryFinder.getCRSAuthorityFactory(
+                    "EPSG",
+                    new Hints(Hints.CRS_AUTHORITY_FACTORY, ThreadedEpsgFactory.class));
+            builder.addAll(factory);
+            final InternationalString edition = factory.getAuthority().getEdition();
+            version = edition != null ? edition.toString() : "unknown";
+            factory.dispose();
+        }
+        builder.write(file, version);
+        LOGGER.info("Wrote " + builder.size() + " definitions of the EPSG dataset " + version + " to " + file);
+    }
+}
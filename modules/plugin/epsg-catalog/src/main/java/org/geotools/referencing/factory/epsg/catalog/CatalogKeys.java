@@ -0,0 +1,145 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.catalog;
+
+import java.util.Locale;
+import org.geotools.api.referencing.IdentifiedObject;
+import org.geotools.api.referencing.crs.CompoundCRS;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.crs.GeocentricCRS;
+import org.geotools.api.referencing.crs.GeographicCRS;
+import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.api.referencing.crs.SingleCRS;
+import org.geotools.api.referencing.crs.VerticalCRS;
+import org.geotools.api.referencing.datum.Datum;
+import org.geotools.api.referencing.datum.Ellipsoid;
+import org.geotools.api.referencing.datum.GeodeticDatum;
+import org.geotools.api.referencing.datum.PrimeMeridian;
+import si.uom.NonSI;
+import si.uom.SI;
+
+/**
+ * Computes the kind and the lookup keys of the coordinate reference systems stored in an {@link EpsgCatalog}.
+ *
+ * <p>Two keys are computed for the geographic, projected and geocentric CRS. The <cite>specific</cite> key hashes the
+ * kind of CRS, the projection method, the ellipsoid axes and the prime meridian. The <cite>coarse</cite> key only
+ * hashes the kind of CRS and the projection method. Neither depends on names, identifiers or axis order, so the CRS
+ * equal ignoring metadata to a catalog entry share its keys, whatever their source. Keys may collide, the candidates
+ * found through them still have to be compared with the looked up object.
+ */
+final class CatalogKeys {
+
+    /** The kind of the CRS that cannot be classified in the other kinds. */
+    static final byte OTHER = 0;
+
+    /** The kind of the {@link GeographicCRS}. */
+    static final byte GEOGRAPHIC = 1;
+
+    /** The kind of the {@link ProjectedCRS}. */
+    static final byte PROJECTED = 2;
+
+    /** The kind of the {@link GeocentricCRS}. */
+    static final byte GEOCENTRIC = 3;
+
+    /** The kind of the {@link VerticalCRS}. */
+    static final byte VERTICAL = 4;
+
+    /** The kind of the {@link CompoundCRS}. */
+    static final byte COMPOUND = 5;
+
+    /** The interfaces implemented by each kind of CRS, indexed by kind. */
+    static final Class<?>[] TYPES = {
+        CoordinateReferenceSystem.class,
+        GeographicCRS.class,
+        ProjectedCRS.class,
+        GeocentricCRS.class,
+        VerticalCRS.class,
+        CompoundCRS.class
+    };
+
+    /** The key of the objects that are not indexed. */
+    static final long NONE = 0;
+
+    private CatalogKeys() {}
+
+    /** Returns the kind of the specified object. */
+    static byte kind(final IdentifiedObject object) {
+        // ProjectedCRS must be tested before GeographicCRS, a few implementations are both
+        if (object instanceof ProjectedCRS) return PROJECTED;
+        if (object instanceof GeographicCRS) return GEOGRAPHIC;
+        if (object instanceof GeocentricCRS) return GEOCENTRIC;
+        if (object instanceof VerticalCRS) return VERTICAL;
+        if (object instanceof CompoundCRS) return COMPOUND;
+        return OTHER;
+    }
+
+    /**
+     * Returns the lookup key of the specified object, or {@link #NONE} if objects of that kind are not indexed.
+     *
+     * @param object The object to compute the key for.
+     * @param specific {@code true} for the specific key, {@code false} for the coarse one.
+     */
+    static long key(final IdentifiedObject object, final boolean specific) {
+        final byte kind = kind(object);
+        if (kind != GEOGRAPHIC && kind != PROJECTED && kind != GEOCENTRIC) {
+            return NONE;
+        }
+        long key = mix(0x5bd1e995L, kind);
+        if (object instanceof ProjectedCRS projected) {
+            key = mix(key, normalize(projected.getConversionFromBase().getMethod().getName().getCode()));
+        }
+        if (specific) {
+            final Datum datum = ((SingleCRS) object).getDatum();
+            if (datum instanceof GeodeticDatum geodetic) {
+                final Ellipsoid ellipsoid = geodetic.getEllipsoid();
+                final double semiMajor =
+                        ellipsoid.getAxisUnit().getConverterTo(SI.METRE).convert(ellipsoid.getSemiMajorAxis());
+                final double inverseFlattening = ellipsoid.getInverseFlattening();
+                key = mix(key, Math.round(semiMajor * 1000));
+                key = mix(key, Double.isInfinite(inverseFlattening) ? 0 : Math.round(inverseFlattening * 1E6));
+                final PrimeMeridian meridian = geodetic.getPrimeMeridian();
+                final double longitude = meridian.getAngularUnit()
+                        .getConverterTo(NonSI.DEGREE_ANGLE)
+                        .convert(meridian.getGreenwichLongitude());
+                key = mix(key, Math.round(longitude * 1E6));
+            }
+        }
+        return key == NONE ? 1 : key;
+    }
+
+    /**
+     * Normalizes the name of an operation method, so that the OGC, EPSG and ESRI spellings of the same name
+     * ("Transverse Mercator", "Transverse_Mercator") produce the same key.
+     */
+    private static long normalize(final String name) {
+        long hash = 0;
+        final String lower = name.toLowerCase(Locale.ENGLISH);
+        for (int i = 0; i < lower.length(); i++) {
+            final char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                hash = 31 * hash + c;
+            }
+        }
+        return hash;
+    }
+
+    /** Mixes a value in a hash, spreading its bits over the whole key. */
+    private static long mix(long hash, final long value) {
+        hash = (hash ^ value) * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 32);
+    }
+}
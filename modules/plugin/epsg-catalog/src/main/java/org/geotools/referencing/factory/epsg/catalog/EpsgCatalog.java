@@ -0,0 +1,238 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.catalog;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A read only, memory mapped catalog of EPSG coordinate reference systems, as written by {@link CatalogBuilder}. The
+ * file is laid out as follows, all numbers being big endian:
+ *
+ * <ul>
+ *   <li>the header: the {@link #MAGIC} number, the {@link #FORMAT} version, the number of entries, the sizes of the
+ *       specific and coarse indexes, and the EPSG dataset version as a length prefixed UTF-8 string;
+ *   <li>the sorted EPSG codes, as {@code int};
+ *   <li>the offsets of the texts of each entry in the data section, as {@code int}, plus a final offset marking its
+ *       end. Each entry has {@link #TEXTS} texts: the WKT definition, the description of the domain of validity and
+ *       the scope, the last two being empty when unknown;
+ *   <li>the kind of each entry, as a {@code byte} (see {@link CatalogKeys});
+ *   <li>the geographic bounding box of the domain of validity of each entry, as the west, east, south and north
+ *       {@code double} bounds, all NaN when unknown;
+ *   <li>the specific and the coarse indexes, each made of the sorted {@code long} keys followed by the {@code int}
+ *       positions of the matching entries;
+ *   <li>the data section, holding the texts encoded in UTF-8.
+ * </ul>
+ *
+ * Opening a catalog only maps the file and reads the header, entries are decoded on demand. Instances are immutable and
+ * can be shared among threads, all the reads use absolute positions.
+ */
+public final class EpsgCatalog {
+
+    /** The magic number opening the catalog files, {@code "GTEC"}. */
+    static final int MAGIC = 0x47544543;
+
+    /** The version of the file layout. */
+    static final int FORMAT = 2;
+
+    /** The number of texts stored for each entry. */
+    static final int TEXTS = 3;
+
+    /** The position of the WKT definition, domain of validity description and scope among the texts of an entry. */
+    static final int WKT = 0, AREA = 1, SCOPE = 2;
+
+    /** The number of bounds stored for each entry. */
+    static final int BOUNDS = 4;
+
+    /** The mapped file. */
+    private final ByteBuffer buffer;
+
+    /** The EPSG dataset version. */
+    private final String version;
+
+    /** The number of entries. */
+    private final int size;
+
+    /** The number of entries in the specific and coarse indexes. */
+    private final int specificSize, coarseSize;
+
+    /** The positions of the sections in the file. */
+    private final int codes, offsets, kinds, extents, specific, coarse, data;
+
+    private EpsgCatalog(final ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not an EPSG catalog");
+        }
+        final int format = buffer.getInt(4);
+        if (format != FORMAT) {
+            throw new IOException("Unsupported EPSG catalog format " + format + ", expected " + FORMAT);
+        }
+        size = buffer.getInt(8);
+        specificSize = buffer.getInt(12);
+        coarseSize = buffer.getInt(16);
+        final int versionLength = buffer.getInt(20);
+        final byte[] bytes = new byte[versionLength];
+        buffer.get(24, bytes);
+        version = new String(bytes, StandardCharsets.UTF_8);
+        codes = 24 + versionLength;
+        offsets = codes + Integer.BYTES * size;
+        kinds = offsets + Integer.BYTES * (TEXTS * size + 1);
+        extents = kinds + size;
+        specific = extents + Double.BYTES * BOUNDS * size;
+        coarse = specific + (Long.BYTES + Integer.BYTES) * specificSize;
+        data = coarse + (Long.BYTES + Integer.BYTES) * coarseSize;
+    }
+
+    /**
+     * Maps the specified catalog file in memory.
+     *
+     * @param file The catalog file.
+     * @return The catalog.
+     * @throws IOException if the file cannot be read, or is not a catalog.
+     */
+    public static EpsgCatalog open(final File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+                FileChannel channel = raf.getChannel()) {
+            // the mapping stays valid after the channel is closed
+            return new EpsgCatalog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /** Returns the version of the EPSG dataset the catalog was generated from. */
+    public String getVersion() {
+        return version;
+    }
+
+    /** Returns the number of entries in the catalog. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns the EPSG code of the entry at the specified position. */
+    public int getCode(final int index) {
+        return buffer.getInt(codes + Integer.BYTES * index);
+    }
+
+    /** Returns the position of the entry with the specified EPSG code, or a negative value if there is none. */
+    public int indexOf(final int code) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int value = getCode(mid);
+            if (value < code) {
+                low = mid + 1;
+            } else if (value > code) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /** Returns the kind of the entry at the specified position, as one of the {@link CatalogKeys} constants. */
+    byte getKind(final int index) {
+        return buffer.get(kinds + index);
+    }
+
+    /** Returns the WKT definition of the entry at the specified position. */
+    public String getWKT(final int index) {
+        return getText(index, WKT);
+    }
+
+    /** Returns the domain of validity description of the entry at the specified position, or null if unknown. */
+    public String getAreaDescription(final int index) {
+        final String text = getText(index, AREA);
+        return text.isEmpty() ? null : text;
+    }
+
+    /** Returns the scope of the entry at the specified position, or null if unknown. */
+    public String getScope(final int index) {
+        final String text = getText(index, SCOPE);
+        return text.isEmpty() ? null : text;
+    }
+
+    /**
+     * Returns the geographic bounding box of the domain of validity of the entry at the specified position, as the
+     * west, east, south and north bounds, or null if unknown.
+     */
+    public double[] getGeographicBounds(final int index) {
+        final double[] bounds = new double[BOUNDS];
+        for (int i = 0; i < BOUNDS; i++) {
+            bounds[i] = buffer.getDouble(extents + Double.BYTES * (BOUNDS * index + i));
+            if (Double.isNaN(bounds[i])) {
+                return null;
+            }
+        }
+        return bounds;
+    }
+
+    /** Returns one of the texts of the entry at the specified position. */
+    private String getText(final int index, final int text) {
+        final int position = offsets + Integer.BYTES * (TEXTS * index + text);
+        final int start = buffer.getInt(position);
+        final int end = buffer.getInt(position + Integer.BYTES);
+        final byte[] bytes = new byte[end - start];
+        buffer.get(data + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the positions of the entries indexed under the specified key, in ascending order.
+     *
+     * @param key The key, as computed by {@link CatalogKeys#key}.
+     * @param specific {@code true} to search the specific index, {@code false} for the coarse one.
+     */
+    int[] lookup(final long key, final boolean specific) {
+        final int keys = specific ? this.specific : this.coarse;
+        final int count = specific ? specificSize : coarseSize;
+        final int positions = keys + Long.BYTES * count;
+        // find the first occurrence of the key
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (buffer.getLong(keys + Long.BYTES * mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int end = low;
+        while (end < count && buffer.getLong(keys + Long.BYTES * end) == key) {
+            end++;
+        }
+        final int[] result = new int[end - low];
+        for (int i = low; i < end; i++) {
+            result[i - low] = buffer.getInt(positions + Integer.BYTES * i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "EpsgCatalog[version=" + version + ", size=" + size + "]";
+    }
+}
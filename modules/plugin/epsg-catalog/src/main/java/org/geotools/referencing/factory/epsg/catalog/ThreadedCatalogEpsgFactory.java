@@ -0,0 +1,206 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.catalog;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.MessageFormat;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.geotools.api.metadata.citation.Citation;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.metadata.i18n.ErrorKeys;
+import org.geotools.metadata.i18n.LoggingKeys;
+import org.geotools.metadata.i18n.Loggings;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.referencing.factory.AbstractAuthorityFactory;
+import org.geotools.referencing.factory.DeferredAuthorityFactory;
+import org.geotools.referencing.factory.FactoryNotFoundException;
+import org.geotools.referencing.factory.ReferencingFactoryContainer;
+import org.geotools.util.factory.Hints;
+
+/**
+ * EPSG coordinate reference system authority factory backed by the precompiled {@link EpsgCatalog} bundled with this
+ * plugin. Unlike the database backed EPSG factories, nothing needs to be unpacked or queried: the catalog is memory
+ * mapped and the definitions are parsed on demand, so the first {@code CRS.decode("EPSG:xxxx")} call costs about as
+ * much as the following ones.
+ *
+ * <p>The catalog is searched in the following places:
+ *
+ * <ul>
+ *   <li>the file specified by the {@value #FILE_KEY} {@linkplain System#getProperty(String) system property};
+ *   <li>the {@value #FILENAME} resource next to this class. If the resource is packaged in a JAR file, it is copied
+ *       once in the temporary directory, as JAR entries cannot be memory mapped.
+ * </ul>
+ *
+ * The definitions are stored as WKT 1, along with the domain of validity and scope of each coordinate reference
+ * system, so that the extents match the ones of the EPSG database. The remarks and name aliases are not stored. This
+ * factory has a higher priority than the database backed EPSG factories, it can be deployed either in place of, or
+ * along with the HSQL plugin. It only provides coordinate reference systems, datums, coordinate systems and coordinate
+ * operations are still provided by the other EPSG factories, if any.
+ */
+public class ThreadedCatalogEpsgFactory extends DeferredAuthorityFactory implements CRSAuthorityFactory {
+
+    /** The key for fetching the catalog file from {@linkplain System#getProperty(String) system properties}. */
+    public static final String FILE_KEY = "EPSG-CATALOG.file";
+
+    /** The name of the catalog resource. */
+    public static final String FILENAME = "epsg.catalog";
+
+    /** The default priority level for this factory, above the database backed EPSG factories. */
+    protected static final int PRIORITY = MAXIMUM_PRIORITY - 5;
+
+    /** The factories to be given to the backing store. */
+    private final ReferencingFactoryContainer factories;
+
+    /** Constructs an authority factory using the default set of factories. */
+    public ThreadedCatalogEpsgFactory() {
+        this(null);
+    }
+
+    /**
+     * Constructs an authority factory using a set of factories created from the specified hints. This constructor
+     * recognizes the {@link Hints#CRS_FACTORY CRS}, {@link Hints#CS_FACTORY CS}, {@link Hints#DATUM_FACTORY DATUM} and
+     * {@link Hints#MATH_TRANSFORM_FACTORY MATH_TRANSFORM} {@code FACTORY} hints.
+     */
+    public ThreadedCatalogEpsgFactory(final Hints userHints) {
+        super(userHints, PRIORITY);
+        factories = ReferencingFactoryContainer.instance(userHints);
+        hints.put(Hints.FORCE_LONGITUDE_FIRST_AXIS_ORDER, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_DIRECTIONS, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_UNITS, Boolean.FALSE);
+        // The catalog is memory mapped, there is no resource worth releasing on inactivity
+    }
+
+    /** Returns the authority, with the EPSG dataset version in the {@linkplain Citation#getEdition edition}. */
+    @Override
+    public Citation getAuthority() {
+        final Citation authority = super.getAuthority();
+        return authority != null ? authority : Citations.EPSG;
+    }
+
+    /**
+     * Creates the backing store authority factory.
+     *
+     * @throws FactoryNotFoundException if no catalog has been found.
+     * @throws FactoryException if the catalog cannot be read.
+     */
+    @Override
+    protected AbstractAuthorityFactory createBackingStore() throws FactoryException {
+        final File file;
+        try {
+            file = getCatalogFile();
+        } catch (IOException exception) {
+            throw new FactoryException(MessageFormat.format(ErrorKeys.CANT_READ_$1, FILENAME), exception);
+        }
+        if (file == null) {
+            throw new FactoryNotFoundException(MessageFormat.format(ErrorKeys.FILE_DOES_NOT_EXIST_$1, FILENAME));
+        }
+        try {
+            final EpsgCatalog catalog = EpsgCatalog.open(file);
+            final LogRecord record =
+                    Loggings.format(Level.CONFIG, LoggingKeys.USING_FILE_AS_FACTORY_$2, file.getPath(), "EPSG");
+            record.setLoggerName(LOGGER.getName());
+            LOGGER.log(record);
+            return new CatalogAuthorityFactory(factories, catalog);
+        } catch (IOException exception) {
+            throw new FactoryException(MessageFormat.format(ErrorKeys.CANT_READ_$1, file), exception);
+        }
+    }
+
+    /**
+     * Returns the catalog file, or {@code null} if none was found.
+     *
+     * @throws IOException if the catalog resource cannot be copied to the temporary directory.
+     */
+    protected File getCatalogFile() throws IOException {
+        try {
+            final String property = System.getProperty(FILE_KEY);
+            if (property != null) {
+                final File file = new File(property);
+                if (file.isFile()) {
+                    return file;
+                }
+                LOGGER.warning("The EPSG catalog " + property + " does not exist, using the bundled one");
+            }
+        } catch (SecurityException e) {
+            // Can't fetch the file from system properties, fallback on the bundled catalog
+        }
+        final URL url = ThreadedCatalogEpsgFactory.class.getResource(FILENAME);
+        if (url == null) {
+            return null;
+        }
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return new File(url.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        return extract(url);
+    }
+
+    /**
+     * Copies the catalog resource in the temporary directory. The copy is named after the CRC of the JAR entry, so that
+     * it is reused by the following runs, and replaced when the plugin is upgraded.
+     */
+    private static File extract(final URL url) throws IOException {
+        final URLConnection connection = url.openConnection();
+        String name = null;
+        if (connection instanceof JarURLConnection jar && jar.getJarEntry() != null) {
+            final long crc = jar.getJarEntry().getCrc();
+            if (crc != -1) {
+                name = "epsg-" + Long.toHexString(crc) + ".catalog";
+            }
+        }
+        final Path directory =
+                Path.of(System.getProperty("java.io.tmpdir", "."), "GeoTools", "Databases", "Catalog");
+        Files.createDirectories(directory);
+        if (name != null) {
+            final Path target = directory.resolve(name);
+            if (Files.isRegularFile(target)) {
+                return target.toFile();
+            }
+        }
+        final Path temp = Files.createTempFile(directory, "epsg", ".tmp");
+        try (InputStream in = connection.getInputStream()) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (name == null) {
+            temp.toFile().deleteOnExit();
+            return temp.toFile();
+        }
+        final Path target = directory.resolve(name);
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // another process extracted it in the meantime
+            Files.deleteIfExists(temp);
+        }
+        return target.toFile();
+    }
+}
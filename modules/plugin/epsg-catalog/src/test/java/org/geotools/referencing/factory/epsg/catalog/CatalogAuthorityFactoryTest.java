@@ -0,0 +1,182 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.catalog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Set;
+import org.geotools.api.metadata.extent.GeographicBoundingBox;
+import org.geotools.api.referencing.NoSuchAuthorityCodeException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.crs.GeographicCRS;
+import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.metadata.iso.extent.ExtentImpl;
+import org.geotools.metadata.iso.extent.GeographicBoundingBoxImpl;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.factory.IdentifiedObjectFinder;
+import org.geotools.referencing.factory.ReferencingFactoryContainer;
+import org.geotools.util.SimpleInternationalString;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CatalogAuthorityFactoryTest {
+
+    static final String WGS84 = "GEOGCS[\"WGS 84\", "
+            + "DATUM[\"World Geodetic System 1984\", "
+            + "SPHEROID[\"WGS 84\", 6378137.0, 298.257223563, AUTHORITY[\"EPSG\",\"7030\"]], "
+            + "AUTHORITY[\"EPSG\",\"6326\"]], "
+            + "PRIMEM[\"Greenwich\", 0.0, AUTHORITY[\"EPSG\",\"8901\"]], "
+            + "UNIT[\"degree\", 0.017453292519943295], "
+            + "AXIS[\"Geodetic latitude\", NORTH], "
+            + "AXIS[\"Geodetic longitude\", EAST], "
+            + "AUTHORITY[\"EPSG\",\"4326\"]]";
+
+    static final String ED50 = "GEOGCS[\"ED50\", "
+            + "DATUM[\"European Datum 1950\", "
+            + "SPHEROID[\"International 1924\", 6378388.0, 297.0, AUTHORITY[\"EPSG\",\"7022\"]], "
+            + "TOWGS84[-87.0, -98.0, -121.0, 0.0, 0.0, 0.0, 0.0], "
+            + "AUTHORITY[\"EPSG\",\"6230\"]], "
+            + "PRIMEM[\"Greenwich\", 0.0, AUTHORITY[\"EPSG\",\"8901\"]], "
+            + "UNIT[\"degree\", 0.017453292519943295], "
+            + "AXIS[\"Geodetic latitude\", NORTH], "
+            + "AXIS[\"Geodetic longitude\", EAST], "
+            + "AUTHORITY[\"EPSG\",\"4230\"]]";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    CatalogAuthorityFactory factory;
+
+    static String utm(String name, String base, double centralMeridian, int code) {
+        return "PROJCS[\"" + name + "\", " + base + ", "
+                + "PROJECTION[\"Transverse_Mercator\"], "
+                + "PARAMETER[\"central_meridian\", " + centralMeridian + "], "
+                + "PARAMETER[\"latitude_of_origin\", 0.0], "
+                + "PARAMETER[\"scale_factor\", 0.9996], "
+                + "PARAMETER[\"false_easting\", 500000.0], "
+                + "PARAMETER[\"false_northing\", 0.0], "
+                + "UNIT[\"m\", 1.0], "
+                + "AXIS[\"Easting\", EAST], "
+                + "AXIS[\"Northing\", NORTH], "
+                + "AUTHORITY[\"EPSG\",\"" + code + "\"]]";
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        CatalogBuilder builder = new CatalogBuilder();
+        ExtentImpl world = new ExtentImpl();
+        world.setDescription(new SimpleInternationalString("World."));
+        world.setGeographicElements(Collections.singleton(new GeographicBoundingBoxImpl(-180, 180, -90, 90)));
+        builder.add(4326, WGS84, world, new SimpleInternationalString("Horizontal component of 3D system."));
+        builder.add(4230, ED50);
+        builder.add(32632, utm("WGS 84 / UTM zone 32N", WGS84, 9, 32632));
+        builder.add(32633, utm("WGS 84 / UTM zone 33N", WGS84, 15, 32633));
+        builder.add(23032, utm("ED50 / UTM zone 32N", ED50, 9, 23032));
+        File file = new File(folder.getRoot(), "test.catalog");
+        builder.write(file, "1.2.3");
+
+        factory = new CatalogAuthorityFactory(ReferencingFactoryContainer.instance(null), EpsgCatalog.open(file));
+    }
+
+    @Test
+    public void testCatalog() throws Exception {
+        EpsgCatalog catalog = EpsgCatalog.open(new File(folder.getRoot(), "test.catalog"));
+        assertEquals("1.2.3", catalog.getVersion());
+        assertEquals(5, catalog.size());
+        assertEquals(4230, catalog.getCode(0));
+        assertEquals(32633, catalog.getCode(4));
+        assertEquals(-1, catalog.indexOf(3857));
+        assertEquals(WGS84, catalog.getWKT(catalog.indexOf(4326)));
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        CoordinateReferenceSystem crs = factory.createCoordinateReferenceSystem("EPSG:32633");
+        assertTrue(crs instanceof ProjectedCRS);
+        assertEquals("WGS 84 / UTM zone 33N", crs.getName().getCode());
+        assertEquals("32633", crs.getIdentifiers().iterator().next().getCode());
+        assertEquals("WGS 84", factory.createGeographicCRS("4326").getName().getCode());
+        assertEquals("ED50", factory.getDescriptionText("EPSG:4230").toString());
+        assertEquals("1.2.3", factory.getAuthority().getEdition().toString());
+    }
+
+    @Test
+    public void testDomainOfValidity() throws Exception {
+        CoordinateReferenceSystem crs = factory.createCoordinateReferenceSystem("EPSG:4326");
+        assertEquals("World.", crs.getDomainOfValidity().getDescription().toString());
+        assertEquals("Horizontal component of 3D system.", crs.getScope().toString());
+        GeographicBoundingBox box = CRS.getGeographicBoundingBox(crs);
+        assertEquals(-180, box.getWestBoundLongitude(), 0d);
+        assertEquals(180, box.getEastBoundLongitude(), 0d);
+        assertEquals(-90, box.getSouthBoundLatitude(), 0d);
+        assertEquals(90, box.getNorthBoundLatitude(), 0d);
+
+        // only the catalog entry CRS gets it, not the base CRS of a projected one
+        ProjectedCRS utm = factory.createProjectedCRS("32633");
+        assertNull(utm.getDomainOfValidity());
+        assertNull(utm.getScope());
+        assertNull(utm.getBaseCRS().getDomainOfValidity());
+    }
+
+    @Test(expected = NoSuchAuthorityCodeException.class)
+    public void testUnknownCode() throws Exception {
+        factory.createCoordinateReferenceSystem("EPSG:3857");
+    }
+
+    @Test
+    public void testAuthorityCodes() throws Exception {
+        assertEquals(Set.of("4230", "4326"), factory.getAuthorityCodes(GeographicCRS.class));
+        assertEquals(Set.of("23032", "32632", "32633"), factory.getAuthorityCodes(ProjectedCRS.class));
+        assertEquals(5, factory.getAuthorityCodes(CoordinateReferenceSystem.class).size());
+    }
+
+    @Test
+    public void testFinderCandidates() throws Exception {
+        String wkt = utm("unnamed", ED50, 9, 0).replaceAll(",\\s*AUTHORITY\\[[^\\]]*\\]", "");
+        CoordinateReferenceSystem crs = CRS.parseWKT(wkt);
+        CatalogAuthorityFactory.Finder finder =
+                (CatalogAuthorityFactory.Finder) factory.getIdentifiedObjectFinder(ProjectedCRS.class);
+        // same ellipsoid and method
+        assertEquals(Set.of("23032"), finder.getSpecificCodeCandidates(crs));
+        // same method
+        assertEquals(Set.of("23032", "32632", "32633"), finder.getCodeCandidates(crs));
+    }
+
+    @Test
+    public void testFindWithoutFullScan() throws Exception {
+        // no identifiers and a name that is not in the catalog, only the index can find it
+        String wkt = utm("unnamed", WGS84, 15, 0).replaceAll(",\\s*AUTHORITY\\[[^\\]]*\\]", "");
+        CoordinateReferenceSystem crs = CRS.parseWKT(wkt);
+        assertTrue(crs.getIdentifiers().isEmpty());
+
+        IdentifiedObjectFinder finder = factory.getIdentifiedObjectFinder(ProjectedCRS.class);
+        finder.setFullScanAllowed(false);
+        assertEquals("EPSG:32633", finder.findIdentifier(crs));
+
+        // not in the catalog
+        CoordinateReferenceSystem other = CRS.parseWKT(wkt.replace("15.0", "21.0"));
+        assertNull(finder.findIdentifier(other));
+        finder.setFullScanAllowed(true);
+        assertNull(finder.findIdentifier(other));
+    }
+}
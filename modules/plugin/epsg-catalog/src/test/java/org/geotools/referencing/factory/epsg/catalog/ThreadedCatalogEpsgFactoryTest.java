@@ -0,0 +1,100 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.catalog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.geotools.api.metadata.extent.GeographicBoundingBox;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.factory.epsg.hsql.ThreadedHsqlEpsgFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/** Compares the bundled catalog against the HSQL database it has been generated from. */
+public class ThreadedCatalogEpsgFactoryTest {
+
+    static final String[] CODES = {"4326", "4230", "4258", "3857", "32633", "2154", "27700", "3035", "5514", "28992"};
+
+    static ThreadedCatalogEpsgFactory catalog;
+
+    static ThreadedHsqlEpsgFactory hsql;
+
+    @BeforeClass
+    public static void setUpClass() {
+        catalog = new ThreadedCatalogEpsgFactory();
+        hsql = new ThreadedHsqlEpsgFactory();
+    }
+
+    @AfterClass
+    public static void tearDownClass() throws Exception {
+        catalog.dispose();
+        hsql.dispose();
+    }
+
+    @Test
+    public void testSameDefinitions() throws Exception {
+        for (String code : CODES) {
+            CoordinateReferenceSystem expected = hsql.createCoordinateReferenceSystem(code);
+            CoordinateReferenceSystem actual = catalog.createCoordinateReferenceSystem(code);
+            assertTrue(code, CRS.equalsIgnoreMetadata(expected, actual));
+            assertEquals(code, expected.getName().getCode(), actual.getName().getCode());
+        }
+    }
+
+    @Test
+    public void testDomainOfValidity() throws Exception {
+        for (String code : CODES) {
+            CoordinateReferenceSystem expected = hsql.createCoordinateReferenceSystem(code);
+            CoordinateReferenceSystem actual = catalog.createCoordinateReferenceSystem(code);
+            assertNotNull(code, actual.getDomainOfValidity());
+            assertEquals(
+                    code,
+                    expected.getDomainOfValidity().getDescription().toString(),
+                    actual.getDomainOfValidity().getDescription().toString());
+            assertEquals(code, String.valueOf(expected.getScope()), String.valueOf(actual.getScope()));
+            assertBoxEquals(code, CRS.getGeographicBoundingBox(expected), CRS.getGeographicBoundingBox(actual));
+        }
+    }
+
+    @Test
+    public void testPriority() throws Exception {
+        assertTrue(catalog.getPriority() > hsql.getPriority());
+        CRSAuthorityFactory factory = ReferencingFactoryFinder.getCRSAuthorityFactory("EPSG", null);
+        assertTrue(factory instanceof ThreadedCatalogEpsgFactory);
+
+        // decoding through the catalog keeps the extent of the database
+        for (String code : CODES) {
+            GeographicBoundingBox expected = CRS.getGeographicBoundingBox(hsql.createCoordinateReferenceSystem(code));
+            assertBoxEquals(code, expected, CRS.getGeographicBoundingBox(CRS.decode("EPSG:" + code)));
+        }
+    }
+
+    private static void assertBoxEquals(String code, GeographicBoundingBox expected, GeographicBoundingBox actual) {
+        assertNotNull(code, expected);
+        assertNotNull(code, actual);
+        assertEquals(code, expected.getWestBoundLongitude(), actual.getWestBoundLongitude(), 0d);
+        assertEquals(code, expected.getEastBoundLongitude(), actual.getEastBoundLongitude(), 0d);
+        assertEquals(code, expected.getSouthBoundLatitude(), actual.getSouthBoundLatitude(), 0d);
+        assertEquals(code, expected.getNorthBoundLatitude(), actual.getNorthBoundLatitude(), 0d);
+    }
+}
@@ -71,6 +71,7 @@
 import org.geotools.jdbc.PreparedStatementSQLDialect;
 import org.geotools.jdbc.PrimaryKey;
 import org.geotools.jdbc.PrimaryKeyColumn;
+import org.geotools.jdbc.StreamingWKBReader;
 import org.geotools.referencing.CRS;
 import org.geotools.referencing.crs.DefaultEngineeringCRS;
 import org.geotools.util.Converters;
@@ -108,6 +109,8 @@ public class GeoPkgDialect extends PreparedStatementSQLDialect {
 
     private JSONArrayIO jsonArrayIO = new JSONArrayIO();
 
+    private ThreadLocal<StreamingWKBReader> wkbReader = new ThreadLocal<>();
+
     public GeoPkgDialect(JDBCDataStore dataStore, GeoPkgGeomWriter.Configuration writerConfig) {
         super(dataStore);
         this.geomWriterConfig = writerConfig;
@@ -179,7 +182,11 @@ public Geometry decodeGeometryValue(
             Connection cx,
             Hints hints)
             throws IOException, SQLException {
-        return geometry(descriptor.getType().getBinding(), rs.getBytes(column), factory, hints);
+        byte[] bytes = rs.getBytes(column);
+        if (bytes == null) {
+            return null;
+        }
+        return geometry(descriptor.getType().getBinding(), bytes, getWKBReader(), factory, hints);
     }
 
     @Override
@@ -191,7 +198,11 @@ public Geometry decodeGeometryValue(
             Connection cx,
             Hints hints)
             throws IOException, SQLException {
-        return geometry(descriptor.getType().getBinding(), rs.getBytes(column), factory, hints);
+        byte[] bytes = rs.getBytes(column);
+        if (bytes == null) {
+            return null;
+        }
+        return geometry(descriptor.getType().getBinding(), bytes, getWKBReader(), factory, hints);
     }
 
     @Override
@@ -219,6 +230,27 @@ private Geometry geometry(Class geometryType, byte[] bytes, GeometryFactory fact
         return bytes != null ? geoPkgGeomReader.get() : null;
     }
 
+    /** Reads the geometry with the reader, without copying the WKB part */
+    private Geometry geometry(
+            Class geometryType, byte[] bytes, StreamingWKBReader reader, GeometryFactory factory, Hints hints)
+            throws IOException {
+        GeoPkgGeomReader geoPkgGeomReader = new GeoPkgGeomReader(bytes, reader);
+        geoPkgGeomReader.setFactory(factory);
+        geoPkgGeomReader.setHints(hints);
+        geoPkgGeomReader.setGeometryType(geometryType);
+        return geoPkgGeomReader.get();
+    }
+
+    /** The geometry readers, one per thread, reused across rows */
+    private StreamingWKBReader getWKBReader() {
+        StreamingWKBReader reader = wkbReader.get();
+        if (reader == null) {
+            reader = new StreamingWKBReader();
+            wkbReader.set(reader);
+        }
+        return reader;
+    }
+
     Geometry geometry(byte[] b) throws IOException {
         return geometry(null, b, null, null);
     }
@@ -610,6 +642,12 @@ public boolean lookupGeneratedValuesPostInsert() {
         return dataStore.getBatchInsertSize() == 1;
     }
 
+    @Override
+    public boolean supportsBulkLoad(SimpleFeatureType featureType) {
+        // multiple rows in the VALUES clause are supported, use the generic multi row loader
+        return true;
+    }
+
     @Override
     public Object getLastAutoGeneratedValue(String schemaName, String tableName, String columnName, Connection cx)
             throws SQLException {
@@ -20,6 +20,7 @@
 import java.io.InputStream;
 import org.geotools.geometry.jts.JTS;
 import org.geotools.geometry.jts.WKBReader;
+import org.geotools.jdbc.StreamingWKBReader;
 import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.CoordinateSequenceFactory;
@@ -61,6 +62,9 @@ public class GeoPkgGeomReader {
     private Number simplificationDistance;
     private Class geometryType;
 
+    private StreamingWKBReader wkbReader;
+    private byte[] bytes;
+
     public GeoPkgGeomReader(InStream input) {
         this.input = input;
     }
@@ -73,6 +77,18 @@ public GeoPkgGeomReader(byte[] bytes) {
         this.input = new ByteArrayInStream(bytes);
     }
 
+    /**
+     * Reads the geometry held in the array with a streaming WKB reader, the WKB part is decoded from the array directly
+     *
+     * @param bytes The geometry bytes
+     * @param reader The reader decoding the WKB part
+     */
+    public GeoPkgGeomReader(byte[] bytes, StreamingWKBReader reader) {
+        this(bytes);
+        this.bytes = bytes;
+        this.wkbReader = reader;
+    }
+
     public GeometryHeader getHeader() throws IOException {
         if (header == null) {
             try {
@@ -166,6 +182,15 @@ public Envelope getEnvelope() throws IOException {
     }
 
     protected Geometry read() throws IOException { // header must be read!
+        if (wkbReader != null) {
+            // the geometry follows the fixed part of the header and the envelope
+            int offset = 8 + header.getFlags().getEnvelopeIndicator().getLength();
+            wkbReader.setGeometryFactory(factory);
+            Geometry g = wkbReader.read(bytes, offset, bytes.length - offset);
+            g.setSRID(header.getSrid());
+            return g;
+        }
+
         // read the geometry
         try {
             WKBReader wkbReader = new WKBReader(factory);
@@ -0,0 +1,33 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geopkg;
+
+import org.geotools.jdbc.JDBCBulkLoadOnlineTest;
+import org.geotools.jdbc.JDBCBulkLoadTestSetup;
+
+public class GeoPkgBulkLoadOnlineTest extends JDBCBulkLoadOnlineTest {
+
+    @Override
+    protected JDBCBulkLoadTestSetup createTestSetup() {
+        return new GeoPkgBulkLoadTestSetup();
+    }
+
+    @Override
+    public void testSequencedKeys() throws Exception {
+        // SQLite does not do sequences
+    }
+}
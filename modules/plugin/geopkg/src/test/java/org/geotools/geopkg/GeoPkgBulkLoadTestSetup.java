@@ -0,0 +1,54 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geopkg;
+
+import org.geotools.jdbc.JDBCBulkLoadTestSetup;
+
+public class GeoPkgBulkLoadTestSetup extends JDBCBulkLoadTestSetup {
+
+    protected GeoPkgBulkLoadTestSetup() {
+        super(new GeoPkgTestSetup());
+    }
+
+    @Override
+    protected void createBulkTable() throws Exception {
+        run("CREATE TABLE bulk (fid INTEGER PRIMARY KEY, name VARCHAR, value DOUBLE, geom BLOB)");
+        run("INSERT INTO gpkg_geometry_columns VALUES ('bulk', 'geom', 'POINT', 4326, 0, 0)");
+        run("INSERT INTO gpkg_contents (table_name, data_type, identifier, srs_id) "
+                + "VALUES ('bulk', 'features', 'bulk', 4326)");
+        run("INSERT INTO bulk VALUES (1, 'existing', 0, NULL)");
+    }
+
+    @Override
+    protected void dropBulkTable() throws Exception {
+        ((GeoPkgTestSetup) delegate).removeTable("bulk");
+    }
+
+    @Override
+    protected void createSequencedBulkTable() throws Exception {
+        // SQLite does not do sequences, an auto increment key stands in
+        run("CREATE TABLE bulk_seq (fid INTEGER PRIMARY KEY AUTOINCREMENT, name VARCHAR, geom BLOB)");
+        run("INSERT INTO gpkg_geometry_columns VALUES ('bulk_seq', 'geom', 'POINT', 4326, 0, 0)");
+        run("INSERT INTO gpkg_contents (table_name, data_type, identifier, srs_id) "
+                + "VALUES ('bulk_seq', 'features', 'bulk_seq', 4326)");
+    }
+
+    @Override
+    protected void dropSequencedBulkTable() throws Exception {
+        ((GeoPkgTestSetup) delegate).removeTable("bulk_seq");
+    }
+}
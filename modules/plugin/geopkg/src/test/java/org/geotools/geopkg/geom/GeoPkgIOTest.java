@@ -20,6 +20,7 @@
 
 import java.io.IOException;
 import org.geotools.geometry.jts.GeometryBuilder;
+import org.geotools.jdbc.StreamingWKBReader;
 import org.junit.Test;
 import org.locationtech.jts.geom.Geometry;
 
@@ -34,6 +35,23 @@ public void testReadWrite() throws IOException {
         assertEquals(g1, g2);
     }
 
+    @Test
+    public void testStreamingRead() throws IOException {
+        Geometry g1 = new GeometryBuilder().point(0, 0).buffer(10);
+        g1.setSRID(4326);
+        byte[] bytes = new GeoPkgGeomWriter().write(g1);
+
+        // reuse the same reader, as the dialect does across rows
+        StreamingWKBReader reader = new StreamingWKBReader();
+        for (int i = 0; i < 2; i++) {
+            GeoPkgGeomReader geomReader = new GeoPkgGeomReader(bytes, reader);
+            Geometry g2 = geomReader.get();
+            assertEquals(g1, g2);
+            assertEquals(4326, g2.getSRID());
+            assertEquals(g1.getEnvelopeInternal(), geomReader.getEnvelope());
+        }
+    }
+
     @Test
     public void testHeader() throws IOException {
         Geometry g1 = new GeometryBuilder().point(0, 0).buffer(10);
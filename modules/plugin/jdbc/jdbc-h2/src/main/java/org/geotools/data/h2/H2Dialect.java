@@ -35,7 +35,9 @@
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.geometry.jts.Geometries;
 import org.geotools.jdbc.JDBCDataStore;
+import org.geotools.jdbc.RawGeometryDecoder;
 import org.geotools.jdbc.SQLDialect;
+import org.geotools.jdbc.StreamingWKBReader;
 import org.geotools.referencing.CRS;
 import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Envelope;
@@ -47,8 +49,6 @@
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
-import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.WKBReader;
 import org.locationtech.jts.io.WKTWriter;
 
 /**
@@ -61,6 +61,9 @@ public class H2Dialect extends SQLDialect {
 
     public static String H2_SPATIAL_INDEX = "org.geotools.data.h2.spatialIndex";
 
+    /** The geometry readers, one per thread, reused across rows */
+    ThreadLocal<StreamingWKBReader> wkbReader = new ThreadLocal<>();
+
     public H2Dialect(JDBCDataStore dataStore) {
         super(dataStore);
     }
@@ -399,19 +402,25 @@ public Geometry decodeGeometryValue(
             Connection cx,
             Hints hints)
             throws IOException, SQLException {
-        byte[] bytes = rs.getBytes(column);
+        return getWKBReader(factory).read(rs, column);
+    }
 
-        if (bytes == null) {
-            return null;
-        }
+    @Override
+    public RawGeometryDecoder createGeometryDecoder(
+            GeometryDescriptor descriptor, GeometryFactory factory, Connection cx, Hints hints) {
+        // the readers are thread local, each decoding thread gets its own
+        return raw -> getWKBReader(factory).read((byte[]) raw);
+    }
 
-        try {
-            return new WKBReader(factory).read(bytes);
-        } catch (ParseException e) {
-            throw (IOException) new IOException().initCause(e);
+    private StreamingWKBReader getWKBReader(GeometryFactory factory) {
+        StreamingWKBReader reader = wkbReader.get();
+        if (reader == null) {
+            reader = new StreamingWKBReader(factory);
+            wkbReader.set(reader);
+        } else {
+            reader.setGeometryFactory(factory);
         }
-
-        // return JTS.geometryFromBytes( bytes );
+        return reader;
     }
 
     @Override
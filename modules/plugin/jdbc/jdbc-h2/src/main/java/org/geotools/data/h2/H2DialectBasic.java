@@ -28,12 +28,11 @@
 import org.geotools.data.jdbc.FilterToSQL;
 import org.geotools.jdbc.BasicSQLDialect;
 import org.geotools.jdbc.JDBCDataStore;
+import org.geotools.jdbc.RawGeometryDecoder;
 import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
-import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.WKBReader;
 import org.locationtech.jts.io.WKTWriter;
 
 /**
@@ -212,17 +211,13 @@ public Geometry decodeGeometryValue(
             Connection cx,
             Hints hints)
             throws IOException, SQLException {
-        byte[] bytes = rs.getBytes(column);
-
-        if (bytes == null) {
-            return null;
-        }
+        return delegate.decodeGeometryValue(descriptor, rs, column, factory, cx, hints);
+    }
 
-        try {
-            return new WKBReader(factory).read(bytes);
-        } catch (ParseException e) {
-            throw (IOException) new IOException().initCause(e);
-        }
+    @Override
+    public RawGeometryDecoder createGeometryDecoder(
+            GeometryDescriptor descriptor, GeometryFactory factory, Connection cx, Hints hints) {
+        return delegate.createGeometryDecoder(descriptor, factory, cx, hints);
     }
 
     @Override
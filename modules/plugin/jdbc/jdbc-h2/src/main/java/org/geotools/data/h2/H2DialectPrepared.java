@@ -30,6 +30,7 @@
 import org.geotools.api.feature.type.GeometryDescriptor;
 import org.geotools.jdbc.JDBCDataStore;
 import org.geotools.jdbc.PreparedStatementSQLDialect;
+import org.geotools.jdbc.RawGeometryDecoder;
 import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
@@ -144,6 +145,12 @@ public boolean lookupGeneratedValuesPostInsert() {
         return delegate.lookupGeneratedValuesPostInsert();
     }
 
+    @Override
+    public boolean supportsBulkLoad(SimpleFeatureType featureType) {
+        // multiple rows in the VALUES clause are supported, use the generic multi row loader
+        return true;
+    }
+
     @Override
     public Object getNextAutoGeneratedValue(String schemaName, String tableName, String columnName, Connection cx)
             throws SQLException {
@@ -192,6 +199,12 @@ public Geometry decodeGeometryValue(
         return delegate.decodeGeometryValue(descriptor, rs, column, factory, cx, hints);
     }
 
+    @Override
+    public RawGeometryDecoder createGeometryDecoder(
+            GeometryDescriptor descriptor, GeometryFactory factory, Connection cx, Hints hints) {
+        return delegate.createGeometryDecoder(descriptor, factory, cx, hints);
+    }
+
     @Override
     public boolean isLimitOffsetSupported() {
         return delegate.isLimitOffsetSupported();
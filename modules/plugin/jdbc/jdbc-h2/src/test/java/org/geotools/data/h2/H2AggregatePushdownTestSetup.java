@@ -0,0 +1,40 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.h2;
+
+import org.geotools.jdbc.JDBCAggregatePushdownTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class H2AggregatePushdownTestSetup extends JDBCAggregatePushdownTestSetup {
+
+    protected H2AggregatePushdownTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createAggregatesTable() throws Exception {
+        run("CREATE TABLE \"geotools\".\"aggregates\" (\"fid\" int PRIMARY KEY, \"name\" varchar, "
+                + "\"grp\" int NOT NULL, \"value\" double)");
+        run("INSERT INTO \"geotools\".\"aggregates\" SELECT X, 'f' || X, MOD(X, " + GROUPS + "), X "
+                + "FROM SYSTEM_RANGE(0, " + (ROWS - 1) + ")");
+    }
+
+    @Override
+    protected void dropAggregatesTable() throws Exception {
+        run("DROP TABLE \"geotools\".\"aggregates\"");
+    }
+}
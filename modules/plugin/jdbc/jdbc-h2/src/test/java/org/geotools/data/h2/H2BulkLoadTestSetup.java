@@ -0,0 +1,53 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.h2;
+
+import org.geotools.jdbc.JDBCBulkLoadTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class H2BulkLoadTestSetup extends JDBCBulkLoadTestSetup {
+
+    protected H2BulkLoadTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createBulkTable() throws Exception {
+        run("CREATE TABLE \"geotools\".\"bulk\" (\"fid\" int PRIMARY KEY, \"name\" varchar, "
+                + "\"value\" double, \"geom\" POINT)");
+        run("CALL AddGeometryColumn('geotools', 'bulk', 'geom', 4326, 'POINT', 2)");
+        run("INSERT INTO \"geotools\".\"bulk\" VALUES (1, 'existing', 0, NULL)");
+    }
+
+    @Override
+    protected void dropBulkTable() throws Exception {
+        run("DROP TABLE \"geotools\".\"bulk\"");
+    }
+
+    @Override
+    protected void createSequencedBulkTable() throws Exception {
+        run("CREATE TABLE \"geotools\".\"bulk_seq\" (\"fid\" int PRIMARY KEY, \"name\" varchar, \"geom\" POINT)");
+        run("CALL AddGeometryColumn('geotools', 'bulk_seq', 'geom', 4326, 'POINT', 2)");
+        run("CREATE SEQUENCE BULK_SEQ_FID_SEQUENCE START WITH 1");
+    }
+
+    @Override
+    protected void dropSequencedBulkTable() throws Exception {
+        run("DROP TABLE IF EXISTS \"geotools\".\"bulk_seq\"");
+        run("DROP SEQUENCE IF EXISTS BULK_SEQ_FID_SEQUENCE");
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.h2;
+
+import org.geotools.jdbc.JDBCKeysetPagingTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class H2KeysetPagingTestSetup extends JDBCKeysetPagingTestSetup {
+
+    protected H2KeysetPagingTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createPagesTable() throws Exception {
+        run("CREATE TABLE \"geotools\".\"pages\" "
+                + "(\"fid\" int PRIMARY KEY, \"grp\" int NOT NULL, \"name\" varchar(32))");
+        run("INSERT INTO \"geotools\".\"pages\" SELECT F, MOD(F, 7), 'n' || F FROM "
+                + "(SELECT MOD(X * 17, " + ROWS + ") AS F FROM SYSTEM_RANGE(0, " + (ROWS - 1) + ") ORDER BY X)");
+    }
+
+    @Override
+    protected void dropPagesTable() throws Exception {
+        run("DROP TABLE \"geotools\".\"pages\"");
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.h2;
+
+import org.geotools.jdbc.JDBCMetadataPrefetchTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class H2MetadataPrefetchTestSetup extends JDBCMetadataPrefetchTestSetup {
+
+    protected H2MetadataPrefetchTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createPrefetchTable(String tableName) throws Exception {
+        run("CREATE TABLE \"geotools\".\"" + tableName + "\" "
+                + "(\"fid\" int PRIMARY KEY, \"name\" varchar NOT NULL, \"geom\" POINT)");
+        run("CALL AddGeometryColumn('geotools', '" + tableName + "', 'geom', 4326, 'POINT', 2)");
+    }
+
+    @Override
+    protected void dropPrefetchTable(String tableName) throws Exception {
+        runSafe("DELETE FROM geometry_columns WHERE f_table_name = '" + tableName + "'");
+        run("DROP TABLE \"geotools\".\"" + tableName + "\"");
+    }
+}
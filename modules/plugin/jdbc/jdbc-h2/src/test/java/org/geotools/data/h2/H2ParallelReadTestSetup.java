@@ -0,0 +1,40 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.h2;
+
+import org.geotools.jdbc.JDBCParallelReadTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class H2ParallelReadTestSetup extends JDBCParallelReadTestSetup {
+
+    protected H2ParallelReadTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createParallelTable() throws Exception {
+        run("CREATE TABLE \"geotools\".\"parallel\" (\"fid\" int PRIMARY KEY, \"name\" varchar, "
+                + "\"value\" int NOT NULL)");
+        run("INSERT INTO \"geotools\".\"parallel\" SELECT X, 'f' || X, MOD(X * 7919, " + ROWS + ") "
+                + "FROM SYSTEM_RANGE(0, " + (ROWS - 1) + ")");
+    }
+
+    @Override
+    protected void dropParallelTable() throws Exception {
+        run("DROP TABLE \"geotools\".\"parallel\"");
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.h2;
+
+import org.geotools.jdbc.JDBCPipelinedReadTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class H2PipelinedReadTestSetup extends JDBCPipelinedReadTestSetup {
+
+    protected H2PipelinedReadTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createPipelinedTable() throws Exception {
+        run("CREATE TABLE \"geotools\".\"pipelined\" (\"fid\" int PRIMARY KEY, \"name\" varchar, \"geom\" POINT)");
+        run("CALL AddGeometryColumn('geotools', 'pipelined', 'geom', 4326, 'POINT', 2)");
+        run("INSERT INTO \"geotools\".\"pipelined\" SELECT X, 'f' || X, CASE WHEN MOD(X, 10) = 0 THEN NULL "
+                + "ELSE ST_GeomFromText('POINT(' || X || ' ' || (-X) || ')', 4326) END FROM SYSTEM_RANGE(0, "
+                + (ROWS - 1)
+                + ")");
+    }
+
+    @Override
+    protected void dropPipelinedTable() throws Exception {
+        runSafe("DELETE FROM geometry_columns WHERE f_table_name = 'pipelined'");
+        run("DROP TABLE \"geotools\".\"pipelined\"");
+    }
+}
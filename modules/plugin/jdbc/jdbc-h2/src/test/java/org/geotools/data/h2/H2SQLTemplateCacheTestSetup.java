@@ -0,0 +1,50 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.h2;
+
+import org.geotools.jdbc.JDBCDataStore;
+import org.geotools.jdbc.JDBCSQLTemplateCacheTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class H2SQLTemplateCacheTestSetup extends JDBCSQLTemplateCacheTestSetup {
+
+    protected H2SQLTemplateCacheTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void setUpDataStore(JDBCDataStore dataStore) {
+        super.setUpDataStore(dataStore);
+
+        // the templates are only used with prepared statements
+        dataStore.setSQLDialect(new H2DialectPrepared(dataStore));
+    }
+
+    @Override
+    protected void createTemplatesTable() throws Exception {
+        run("CREATE TABLE \"geotools\".\"templates\" (\"fid\" int PRIMARY KEY, \"name\" varchar, "
+                + "\"value\" int NOT NULL, \"geom\" POINT)");
+        run("CALL AddGeometryColumn('geotools', 'templates', 'geom', 4326, 'POINT', 2)");
+        run("INSERT INTO \"geotools\".\"templates\" SELECT X, 'f' || X, X, "
+                + "ST_GeomFromText('POINT(' || X || ' ' || X || ')', 4326) FROM SYSTEM_RANGE(0, " + (ROWS - 1) + ")");
+    }
+
+    @Override
+    protected void dropTemplatesTable() throws Exception {
+        run("DROP TABLE \"geotools\".\"templates\"");
+    }
+}
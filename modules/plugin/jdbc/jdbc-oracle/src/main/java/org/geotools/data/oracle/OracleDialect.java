@@ -42,6 +42,7 @@
 import java.util.regex.Pattern;
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.OracleStruct;
+import org.geotools.api.feature.FeatureVisitor;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.GeometryDescriptor;
@@ -54,6 +55,7 @@
 import org.geotools.data.oracle.sdo.GeometryConverter;
 import org.geotools.data.oracle.sdo.SDOSqlDumper;
 import org.geotools.data.oracle.sdo.TT;
+import org.geotools.feature.visitor.MedianVisitor;
 import org.geotools.filter.visitor.JsonPointerFilterSplittingVisitor;
 import org.geotools.filter.visitor.PostPreProcessFilterSplittingVisitor;
 import org.geotools.geometry.jts.JTS;
@@ -195,6 +197,18 @@ public boolean isAggregatedSortSupported(String function) {
         return "distinct".equalsIgnoreCase(function);
     }
 
+    @Override
+    public void registerAggregateFunctions(Map<Class<? extends FeatureVisitor>, String> aggregates) {
+        super.registerAggregateFunctions(aggregates);
+        aggregates.put(MedianVisitor.class, "median");
+    }
+
+    @Override
+    public boolean isAggregateFunctionSupported(String function, Class<?> type) {
+        // the median of strings is computed in memory
+        return !"median".equals(function) || type != null && Number.class.isAssignableFrom(type);
+    }
+
     public void setGetColumnRemarksEnabled(boolean getColumnRemarksEnabled) {
         isGetColumnRemarksEnabled = getColumnRemarksEnabled;
     }
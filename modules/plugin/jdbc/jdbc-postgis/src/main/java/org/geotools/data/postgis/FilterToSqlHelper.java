@@ -113,6 +113,7 @@
 import org.geotools.jdbc.PreparedFilterToSQL;
 import org.geotools.jdbc.PrimaryKeyColumn;
 import org.geotools.jdbc.SQLDialect;
+import org.geotools.jdbc.SQLTemplateCache;
 import org.geotools.util.Version;
 import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Envelope;
@@ -424,7 +425,16 @@ private void writeCurveIntersection(
      * contain any sort of geometry, and thus, curved ones too.
      */
     private boolean mayHaveCurves(Expression ex) {
-        if (ex instanceof Literal) {
+        if (ex instanceof Literal literal) {
+            // deciding on the class alone allows the SQL template to be reused for other geometries of the same class
+            Class<?> type = SQLTemplateCache.getValueClass(literal);
+            if (type == null) {
+                return false;
+            } else if (Geometry.class.isAssignableFrom(type)) {
+                return CurvedGeometry.class.isAssignableFrom(type)
+                        || Geometry.class.equals(type)
+                        || GeometryCollection.class.equals(type);
+            }
             Object value = ex.evaluate(null, Geometry.class);
             return value instanceof CurvedGeometry
                     || value != null
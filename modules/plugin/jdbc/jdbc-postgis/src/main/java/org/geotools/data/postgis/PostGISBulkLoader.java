@@ -0,0 +1,425 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.jdbc.BulkLoader;
+import org.geotools.jdbc.JDBCDataStore;
+import org.geotools.util.Converters;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.io.WKBWriter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Bulk loads rows in PostGIS streaming them with <code>COPY table (columns) FROM STDIN (FORMAT BINARY)</code>, with
+ * geometries encoded as EWKB.
+ *
+ * <p>The binary format requires each value to match exactly the column type, so the native column types are looked up
+ * before starting the load. Only the common scalar types are supported, for tables having columns of other types (e.g.
+ * arrays, json, hstore, enumerations) the loader is not created, and the regular inserts are used instead.
+ *
+ * <p>The connection cannot run other queries while a COPY is in progress, so the COPY is started when the first row is
+ * added, and ended by {@link #flush()}, each chunk of rows being loaded by its own COPY.
+ */
+class PostGISBulkLoader extends BulkLoader {
+
+    static final Logger LOGGER = Logging.getLogger(PostGISBulkLoader.class);
+
+    /** The binary COPY header: signature, flags field and header extension length */
+    static final byte[] HEADER = {
+        'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0, 0, 0, 0, 0, 0, 0, 0, 0
+    };
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The postgres epoch for dates and timestamps */
+    static final LocalDateTime PG_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    /** The EWKB flag marking the presence of the SRID */
+    static final int EWKB_SRID_FLAG = 0x20000000;
+
+    /** Writes the length and binary representation of a non null value */
+    interface FieldEncoder {
+        void encode(Object value, DataOutputStream out) throws IOException;
+    }
+
+    /** The encoders for the supported native types, by type name */
+    static final Map<String, FieldEncoder> ENCODERS = new HashMap<>();
+
+    static {
+        ENCODERS.put("bool", (v, out) -> {
+            out.writeInt(1);
+            out.writeByte(convert(v, Boolean.class) ? 1 : 0);
+        });
+        ENCODERS.put("int2", (v, out) -> {
+            out.writeInt(2);
+            out.writeShort(convert(v, Short.class));
+        });
+        FieldEncoder int4 = (v, out) -> {
+            out.writeInt(4);
+            out.writeInt(convert(v, Integer.class));
+        };
+        ENCODERS.put("int4", int4);
+        ENCODERS.put("serial", int4);
+        FieldEncoder int8 = (v, out) -> {
+            out.writeInt(8);
+            out.writeLong(convert(v, Long.class));
+        };
+        ENCODERS.put("int8", int8);
+        ENCODERS.put("bigserial", int8);
+        ENCODERS.put("float4", (v, out) -> {
+            out.writeInt(4);
+            out.writeFloat(convert(v, Float.class));
+        });
+        ENCODERS.put("float8", (v, out) -> {
+            out.writeInt(8);
+            out.writeDouble(convert(v, Double.class));
+        });
+        ENCODERS.put("numeric", (v, out) -> writeNumeric(convert(v, BigDecimal.class), out));
+        FieldEncoder text = (v, out) -> writeBytes(convert(v, String.class).getBytes(StandardCharsets.UTF_8), out);
+        ENCODERS.put("text", text);
+        ENCODERS.put("varchar", text);
+        ENCODERS.put("bpchar", text);
+        ENCODERS.put("name", text);
+        ENCODERS.put("bytea", (v, out) -> writeBytes(convert(v, byte[].class), out));
+        ENCODERS.put("uuid", (v, out) -> {
+            UUID uuid = convert(v, UUID.class);
+            out.writeInt(16);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        });
+        ENCODERS.put("date", (v, out) -> {
+            out.writeInt(4);
+            out.writeInt((int) ChronoUnit.DAYS.between(PG_EPOCH.toLocalDate(), toLocalDate(v)));
+        });
+        ENCODERS.put("time", (v, out) -> {
+            out.writeInt(8);
+            out.writeLong(toLocalTime(v).toNanoOfDay() / 1000);
+        });
+        ENCODERS.put("timestamp", (v, out) -> {
+            out.writeInt(8);
+            out.writeLong(ChronoUnit.MICROS.between(PG_EPOCH, toLocalDateTime(v)));
+        });
+        ENCODERS.put("timestamptz", (v, out) -> {
+            out.writeInt(8);
+            out.writeLong(ChronoUnit.MICROS.between(PG_EPOCH.toInstant(ZoneOffset.UTC), toInstant(v)));
+        });
+    }
+
+    private final FieldEncoder[] encoders;
+
+    private PGConnection pgConnection;
+
+    private DataOutputStream out;
+
+    private PGCopyOutputStream copy;
+
+    /** The rows sent with the current COPY */
+    private long rows;
+
+    /** The rows loaded by the COPY commands already completed */
+    private long loaded;
+
+    private PostGISBulkLoader(
+            JDBCDataStore dataStore, SimpleFeatureType featureType, List<Column> columns, Connection cx) {
+        super(dataStore, featureType, columns, cx);
+        this.encoders = new FieldEncoder[columns.size()];
+    }
+
+    /** Creates a new loader, or returns <code>null</code> if some of the columns have an unsupported type */
+    static PostGISBulkLoader create(
+            JDBCDataStore dataStore,
+            SimpleFeatureType featureType,
+            List<Column> columns,
+            Connection cx,
+            PGConnection pgConnection)
+            throws SQLException, IOException {
+        PostGISBulkLoader loader = new PostGISBulkLoader(dataStore, featureType, columns, cx);
+        if (!loader.lookupEncoders()) {
+            return null;
+        }
+        loader.pgConnection = pgConnection;
+        return loader;
+    }
+
+    /** Looks up the native column types and their encoders, returns false if some type is not supported */
+    private boolean lookupEncoders() throws SQLException {
+        StringBuffer sql = new StringBuffer("SELECT ");
+        encodeColumnNames(sql);
+        sql.append(" FROM ");
+        encodeTableName(sql);
+        sql.append(" LIMIT 0");
+        try (Statement st = cx.createStatement();
+                ResultSet rs = st.executeQuery(sql.toString())) {
+            ResultSetMetaData md = rs.getMetaData();
+            for (int i = 0; i < columns.size(); i++) {
+                String typeName = md.getColumnTypeName(i + 1);
+                if (columns.get(i).isGeometry()) {
+                    if (!"geometry".equals(typeName) && !"geography".equals(typeName)) {
+                        return unsupported(i, typeName);
+                    }
+                } else {
+                    encoders[i] = ENCODERS.get(typeName);
+                    if (encoders[i] == null) {
+                        return unsupported(i, typeName);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean unsupported(int column, String typeName) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Cannot bulk load " + featureType.getTypeName() + ", column " + columns.get(column).getName()
+                    + " has unsupported type " + typeName);
+        }
+        return false;
+    }
+
+    private void start() throws SQLException, IOException {
+        StringBuffer sql = new StringBuffer("COPY ");
+        encodeTableName(sql);
+        sql.append(" (");
+        encodeColumnNames(sql);
+        sql.append(") FROM STDIN (FORMAT BINARY)");
+        LOGGER.log(Level.FINE, "Bulk loading features with: {0}", sql);
+
+        copy = new PGCopyOutputStream(pgConnection, sql.toString(), BUFFER_SIZE);
+        out = new DataOutputStream(new BufferedOutputStream(copy, BUFFER_SIZE));
+        out.write(HEADER);
+        rows = 0;
+    }
+
+    @Override
+    public void addRow(Object[] values) throws IOException, SQLException {
+        if (copy == null) {
+            start();
+        }
+        out.writeShort(columns.size());
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                out.writeInt(-1);
+            } else if (encoders[i] == null) {
+                Column column = columns.get(i);
+                Geometry g = (Geometry) value;
+                writeBytes(toEWKB(g, getGeometryDimension(g, column), getGeometrySRID(g, column)), out);
+            } else {
+                encoders[i].encode(value, out);
+            }
+        }
+        rows++;
+    }
+
+    @Override
+    public void flush() throws IOException, SQLException {
+        if (copy == null) {
+            return;
+        }
+        // file trailer
+        out.writeShort(-1);
+        out.flush();
+        long copied = copy.endCopy();
+        copy = null;
+        out = null;
+        if (copied != rows) {
+            throw new IOException("Failed to load some features, expected " + rows + " but got " + copied);
+        }
+        loaded += copied;
+    }
+
+    @Override
+    public void finish() throws IOException, SQLException {
+        flush();
+        LOGGER.log(Level.FINE, "Bulk loaded {0} features", loaded);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (copy != null && copy.isActive()) {
+            try {
+                copy.cancelCopy();
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /** Encodes the geometry as EWKB, adding the srid when known */
+    static byte[] toEWKB(Geometry g, int dimension, int srid) {
+        if (g instanceof LinearRing ring) {
+            // postgis does not handle linear rings, convert to just a line string
+            g = g.getFactory().createLineString(ring.getCoordinateSequence());
+        }
+        byte[] wkb = new WKBWriter(dimension).write(g);
+        if (srid <= 0) {
+            return wkb;
+        }
+
+        // the writer uses big endian by default, insert the srid after the geometry type, and flag it in the type
+        byte[] ewkb = new byte[wkb.length + 4];
+        ewkb[0] = wkb[0];
+        System.arraycopy(wkb, 1, ewkb, 1, 4);
+        ewkb[1] |= (byte) (EWKB_SRID_FLAG >>> 24);
+        ewkb[5] = (byte) (srid >>> 24);
+        ewkb[6] = (byte) (srid >>> 16);
+        ewkb[7] = (byte) (srid >>> 8);
+        ewkb[8] = (byte) srid;
+        System.arraycopy(wkb, 5, ewkb, 9, wkb.length - 5);
+        return ewkb;
+    }
+
+    /**
+     * Writes a numeric in the postgres binary format: number of base 10000 digits, weight of the first digit, sign,
+     * display scale, and the digits themselves
+     */
+    static void writeNumeric(BigDecimal value, DataOutputStream out) throws IOException {
+        int dscale = Math.max(value.scale(), 0);
+        BigInteger unscaled = value.unscaledValue().abs();
+        int scale = value.scale();
+        if (scale < 0) {
+            unscaled = unscaled.multiply(BigInteger.TEN.pow(-scale));
+            scale = 0;
+        }
+
+        // align the decimal digits on groups of 4, around the decimal point
+        StringBuilder digits = new StringBuilder(unscaled.toString());
+        int fractionDigits = scale;
+        while (fractionDigits % 4 != 0) {
+            digits.append('0');
+            fractionDigits++;
+        }
+        int integerDigits = digits.length() - fractionDigits;
+        while (integerDigits < 0 || integerDigits % 4 != 0) {
+            digits.insert(0, '0');
+            integerDigits++;
+        }
+        int groups = digits.length() / 4;
+        int weight = integerDigits / 4 - 1;
+
+        // strip the leading and trailing zero groups
+        int first = 0;
+        int last = groups - 1;
+        while (first <= last && isZeroGroup(digits, first)) {
+            first++;
+            weight--;
+        }
+        while (last >= first && isZeroGroup(digits, last)) {
+            last--;
+        }
+        int ndigits = last - first + 1;
+        if (ndigits == 0) {
+            weight = 0;
+        }
+
+        out.writeInt(8 + ndigits * 2);
+        out.writeShort(ndigits);
+        out.writeShort(weight);
+        out.writeShort(value.signum() < 0 ? 0x4000 : 0x0000);
+        out.writeShort(dscale);
+        for (int i = first; i <= last; i++) {
+            out.writeShort(Integer.parseInt(digits, i * 4, i * 4 + 4, 10));
+        }
+    }
+
+    private static boolean isZeroGroup(CharSequence digits, int group) {
+        for (int i = group * 4; i < group * 4 + 4; i++) {
+            if (digits.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputStream out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static <T> T convert(Object value, Class<T> target) throws IOException {
+        T converted = Converters.convert(value, target);
+        if (converted == null) {
+            throw new IOException("Cannot convert " + value + " to " + target.getSimpleName());
+        }
+        return converted;
+    }
+
+    private static LocalDate toLocalDate(Object value) throws IOException {
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        return convert(value, java.sql.Date.class).toLocalDate();
+    }
+
+    private static LocalTime toLocalTime(Object value) throws IOException {
+        if (value instanceof LocalTime time) {
+            return time;
+        }
+        // same as the driver, the time is interpreted in the JVM time zone
+        Time time = convert(value, Time.class);
+        return Instant.ofEpochMilli(time.getTime())
+                .atZone(ZoneId.systemDefault())
+                .toLocalTime();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) throws IOException {
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime;
+        }
+        return convert(value, Timestamp.class).toLocalDateTime();
+    }
+
+    private static Instant toInstant(Object value) throws IOException {
+        if (value instanceof Instant instant) {
+            return instant;
+        } else if (value instanceof OffsetDateTime dateTime) {
+            return dateTime.toInstant();
+        }
+        return convert(value, Timestamp.class).toInstant();
+    }
+}
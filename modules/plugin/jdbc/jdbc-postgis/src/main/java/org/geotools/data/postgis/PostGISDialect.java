@@ -37,6 +37,7 @@
 import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Level;
+import org.geotools.api.feature.FeatureVisitor;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.GeometryDescriptor;
@@ -44,6 +45,7 @@
 import org.geotools.api.referencing.FactoryException;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.data.jdbc.FilterToSQL;
+import org.geotools.feature.visitor.MedianVisitor;
 import org.geotools.filter.visitor.JsonPointerFilterSplittingVisitor;
 import org.geotools.filter.visitor.PostPreProcessFilterSplittingVisitor;
 import org.geotools.geometry.jts.CircularRing;
@@ -57,8 +59,12 @@
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.geometry.jts.WKTWriter2;
 import org.geotools.jdbc.BasicSQLDialect;
+import org.geotools.jdbc.BulkLoader;
 import org.geotools.jdbc.ColumnMetadata;
 import org.geotools.jdbc.JDBCDataStore;
+import org.geotools.jdbc.PrimaryKey;
+import org.geotools.jdbc.PrimaryKeyColumn;
+import org.geotools.jdbc.RawGeometryDecoder;
 import org.geotools.referencing.CRS;
 import org.geotools.util.Version;
 import org.geotools.util.factory.Hints;
@@ -151,6 +157,9 @@ public class PostGISDialect extends BasicSQLDialect {
             entry(CompoundRing.class, "COMPOUNDCURVE"),
             entry(byte[].class, "BYTEA"));
 
+    /** Name of the median aggregate, encoded as a percentile_cont call */
+    static final String MEDIAN = "median";
+
     private GeometryColumnEncoder geometryColumnEncoder;
 
     @Override
@@ -158,6 +167,28 @@ public boolean isAggregatedSortSupported(String function) {
         return "distinct".equalsIgnoreCase(function);
     }
 
+    @Override
+    public void registerAggregateFunctions(Map<Class<? extends FeatureVisitor>, String> aggregates) {
+        super.registerAggregateFunctions(aggregates);
+        aggregates.put(MedianVisitor.class, MEDIAN);
+    }
+
+    @Override
+    public void encodeAggregateFunction(String function, String expression, StringBuffer sql) {
+        if (MEDIAN.equals(function)) {
+            // ordered set aggregate, interpolating between the two middle values like the in memory median does
+            sql.append("percentile_cont(0.5) WITHIN GROUP (ORDER BY ").append(expression).append(")");
+        } else {
+            super.encodeAggregateFunction(function, expression, sql);
+        }
+    }
+
+    @Override
+    public boolean isAggregateFunctionSupported(String function, Class<?> type) {
+        // percentile_cont works only against numbers
+        return !MEDIAN.equals(function) || type != null && Number.class.isAssignableFrom(type);
+    }
+
     static final Version V_1_5_0 = new Version("1.5.0");
 
     static final Version V_2_0_0 = new Version("2.0.0");
@@ -340,6 +371,18 @@ public Geometry decodeGeometryValue(
         }
     }
 
+    @Override
+    public RawGeometryDecoder createGeometryDecoder(
+            GeometryDescriptor descriptor, GeometryFactory factory, Connection cx, Hints hints) throws SQLException {
+        // the readers are thread local, each decoding thread gets its own
+        if (isTWKBTransferEnabled(cx, descriptor, hints)) {
+            Class<?> binding = descriptor.getType().getBinding();
+            return raw -> getTWKBReader(factory).decode((byte[]) raw, binding);
+        } else {
+            return raw -> getWKBReader(factory).decode((byte[]) raw);
+        }
+    }
+
     private boolean isTWKBTransferEnabled(Connection cx, GeometryDescriptor descriptor, Hints hints)
             throws SQLException {
         Double distance = (Double) hints.get(Hints.GEOMETRY_SIMPLIFICATION);
@@ -418,6 +461,12 @@ public List<ReferencedEnvelope> getOptimizedBounds(String schema, SimpleFeatureT
             throws SQLException, IOException {
         if (!estimatedExtentsEnabled) return null;
 
+        return getEstimatedBounds(schema, featureType, cx);
+    }
+
+    @Override
+    public List<ReferencedEnvelope> getEstimatedBounds(String schema, SimpleFeatureType featureType, Connection cx)
+            throws SQLException, IOException {
         String tableName = featureType.getTypeName();
         if (dataStore.getVirtualTables().get(tableName) != null) {
             return null;
@@ -486,6 +535,48 @@ public List<ReferencedEnvelope> getOptimizedBounds(String schema, SimpleFeatureT
         return result;
     }
 
+    @Override
+    public int getEstimatedCount(String schema, SimpleFeatureType featureType, Connection cx)
+            throws SQLException, IOException {
+        String tableName = featureType.getTypeName();
+        if (dataStore.getVirtualTables().get(tableName) != null) {
+            return -1;
+        }
+
+        // use the planner statistics, updated by vacuum and analyze
+        String sql = "SELECT c.reltuples::bigint FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace"
+                + " WHERE c.relname = ? AND n.nspname = " + (schema != null ? "?" : "current_schema()");
+        Savepoint savePoint = null;
+        try (PreparedStatement ps = cx.prepareStatement(sql)) {
+            if (!cx.getAutoCommit()) {
+                savePoint = cx.setSavepoint();
+            }
+            ps.setString(1, tableName);
+            if (schema != null) {
+                ps.setString(2, schema);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    long rows = rs.getLong(1);
+                    // never analyzed tables report -1 (or 0 before PostgreSQL 14)
+                    if (rows > 0) {
+                        return (int) Math.min(rows, Integer.MAX_VALUE);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            if (savePoint != null) {
+                cx.rollback(savePoint);
+            }
+            LOGGER.log(Level.WARNING, "Failed to read the table statistics, falling back on counting the rows", e);
+        } finally {
+            if (savePoint != null) {
+                cx.releaseSavepoint(savePoint);
+            }
+        }
+        return -1;
+    }
+
     @Override
     public Envelope decodeGeometryEnvelope(ResultSet rs, int column, Connection cx) throws SQLException, IOException {
         try {
@@ -880,6 +971,56 @@ public int getGeometryDimension(String schemaName, String tableName, String colu
         return dimension;
     }
 
+    /**
+     * Reads the srid and dimension of all the geometry and geography columns of the schema with one query per
+     * metadata view. Columns with no srid registered are left alone, for {@link #getGeometrySRID} to inspect the data.
+     */
+    @Override
+    public void prefetchGeometryMetadata(String schemaName, Map<String, List<ColumnMetadata>> columns, Connection cx)
+            throws SQLException {
+        if (schemaName == null) schemaName = "public";
+
+        String sql = "SELECT F_TABLE_NAME, F_GEOMETRY_COLUMN, SRID, COORD_DIMENSION FROM GEOMETRY_COLUMNS "
+                + "WHERE F_TABLE_SCHEMA = ?";
+        prefetchGeometryMetadata(sql, schemaName, columns, cx, false);
+        if (supportsGeography(cx)) {
+            sql = "SELECT F_TABLE_NAME, F_GEOGRAPHY_COLUMN, SRID, COORD_DIMENSION FROM GEOGRAPHY_COLUMNS "
+                    + "WHERE F_TABLE_SCHEMA = ?";
+            prefetchGeometryMetadata(sql, schemaName, columns, cx, true);
+        }
+    }
+
+    private void prefetchGeometryMetadata(
+            String sql, String schemaName, Map<String, List<ColumnMetadata>> columns, Connection cx, boolean geography)
+            throws SQLException {
+        LOGGER.log(Level.FINE, "Geometry metadata prefetch; {0} ", sql);
+        try (PreparedStatement ps = cx.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    List<ColumnMetadata> tableColumns = columns.get(rs.getString(1));
+                    if (tableColumns == null) continue;
+                    String columnName = rs.getString(2);
+                    for (ColumnMetadata column : tableColumns) {
+                        if (columnName.equals(column.getName())) {
+                            int srid = rs.getInt(3);
+                            // same as getGeometrySRID, geography is always 4326
+                            if (geography) {
+                                column.setSrid(4326);
+                            } else if (srid > 0) {
+                                column.setSrid(srid);
+                            }
+                            int dimension = rs.getInt(4);
+                            if (dimension > 0) {
+                                column.setDimension(dimension);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     protected Integer getDimensionFromFirstGeo(String schemaName, String tableName, String columnName, Connection cx)
             throws SQLException {
 
@@ -970,11 +1111,107 @@ public Object getNextSequenceValue(String schemaName, String sequenceName, Conne
         return null;
     }
 
+    @Override
+    public List<Object> getNextSequenceValues(String schemaName, String sequenceName, int count, Connection cx)
+            throws SQLException {
+        String sql = "SELECT " + encodeNextSequenceValue(schemaName, sequenceName) + " FROM generate_series(1, "
+                + count + ")";
+        dataStore.getLogger().fine(sql);
+        List<Object> values = new ArrayList<>(count);
+        try (Statement st = cx.createStatement();
+                ResultSet rs = st.executeQuery(sql)) {
+            while (rs.next()) {
+                values.add(rs.getLong(1));
+            }
+        }
+        return values;
+    }
+
     @Override
     public String encodeNextSequenceValue(String schemaName, String sequenceName) {
         return "nextval('" + sequenceName + "')";
     }
 
+    @Override
+    public boolean supportsBulkLoad(SimpleFeatureType featureType) {
+        return true;
+    }
+
+    @Override
+    public BulkLoader createBulkLoader(SimpleFeatureType featureType, List<BulkLoader.Column> columns, Connection cx)
+            throws SQLException, IOException {
+        PgConnection pgConnection;
+        try {
+            pgConnection = unwrapConnection(cx, PgConnection.class);
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Unable to get native connection, cannot use COPY to bulk load features", e);
+            return null;
+        }
+        return PostGISBulkLoader.create(dataStore, featureType, columns, cx, pgConnection);
+    }
+
+    /**
+     * Uses the planner statistics to split the table in partitions holding roughly the same number of rows: the number
+     * of partitions is based on the estimated table size, and the split points are taken from the histogram of the
+     * primary key column, which is equi-depth. Falls back on the key range split if the table has not been analyzed.
+     */
+    @Override
+    public List<Filter> splitReads(
+            SimpleFeatureType featureType, PrimaryKey key, int maxPartitions, int minPartitionSize, Connection cx)
+            throws SQLException, IOException {
+        PrimaryKeyColumn column = getIntegralKeyColumn(key);
+        if (column == null || dataStore.getVirtualTables().containsKey(featureType.getTypeName())) {
+            return super.splitReads(featureType, key, maxPartitions, minPartitionSize, cx);
+        }
+
+        String schema = dataStore.getDatabaseSchema();
+        String sql = "SELECT c.reltuples, s.histogram_bounds::text FROM pg_class c"
+                + " JOIN pg_namespace n ON n.oid = c.relnamespace"
+                + " LEFT JOIN pg_stats s ON s.schemaname = n.nspname AND s.tablename = c.relname AND s.attname = ?"
+                + " WHERE c.relname = ? AND n.nspname = "
+                + (schema == null ? "current_schema()" : "?");
+        dataStore.getLogger().fine(sql);
+        double rows;
+        String histogram;
+        try (PreparedStatement ps = cx.prepareStatement(sql)) {
+            ps.setString(1, column.getName());
+            ps.setString(2, featureType.getTypeName());
+            if (schema != null) {
+                ps.setString(3, schema);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return super.splitReads(featureType, key, maxPartitions, minPartitionSize, cx);
+                }
+                rows = rs.getDouble(1);
+                histogram = rs.getString(2);
+            }
+        }
+        // never analyzed, or no statistics for the column
+        if (rows <= 0 || histogram == null || histogram.length() < 2) {
+            return super.splitReads(featureType, key, maxPartitions, minPartitionSize, cx);
+        }
+
+        int partitions = (int) Math.min(maxPartitions, rows / Math.max(1, minPartitionSize));
+        if (partitions < 2) {
+            return null;
+        }
+        String[] bounds = histogram.substring(1, histogram.length() - 1).split(",");
+        if (bounds.length < 2) {
+            return super.splitReads(featureType, key, maxPartitions, minPartitionSize, cx);
+        }
+        List<Long> splitPoints = new ArrayList<>(partitions - 1);
+        int buckets = bounds.length - 1;
+        try {
+            for (int i = 1; i < partitions; i++) {
+                splitPoints.add(Long.parseLong(bounds[(int) ((long) buckets * i / partitions)].trim()));
+            }
+        } catch (NumberFormatException e) {
+            return super.splitReads(featureType, key, maxPartitions, minPartitionSize, cx);
+        }
+        return getKeyRangePartitions(column, splitPoints);
+    }
+
     @Override
     public boolean lookupGeneratedValuesPostInsert() {
         return true;
@@ -22,16 +22,23 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.geotools.api.feature.FeatureVisitor;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.filter.Filter;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.jdbc.BulkLoader;
 import org.geotools.jdbc.ColumnMetadata;
 import org.geotools.jdbc.JDBCDataStore;
 import org.geotools.jdbc.PreparedFilterToSQL;
 import org.geotools.jdbc.PreparedStatementSQLDialect;
+import org.geotools.jdbc.PrimaryKey;
+import org.geotools.jdbc.RawGeometryDecoder;
 import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
@@ -60,6 +67,33 @@ public boolean isAggregatedSortSupported(String function) {
         return "distinct".equalsIgnoreCase(function);
     }
 
+    @Override
+    public void registerAggregateFunctions(Map<Class<? extends FeatureVisitor>, String> aggregates) {
+        delegate.registerAggregateFunctions(aggregates);
+    }
+
+    @Override
+    public void encodeAggregateFunction(String function, String expression, StringBuffer sql) {
+        delegate.encodeAggregateFunction(function, expression, sql);
+    }
+
+    @Override
+    public boolean isAggregateFunctionSupported(String function, Class<?> type) {
+        return delegate.isAggregateFunctionSupported(function, type);
+    }
+
+    @Override
+    public List<ReferencedEnvelope> getEstimatedBounds(String schema, SimpleFeatureType featureType, Connection cx)
+            throws SQLException, IOException {
+        return delegate.getEstimatedBounds(schema, featureType, cx);
+    }
+
+    @Override
+    public int getEstimatedCount(String schema, SimpleFeatureType featureType, Connection cx)
+            throws SQLException, IOException {
+        return delegate.getEstimatedCount(schema, featureType, cx);
+    }
+
     @Override
     public boolean includeTable(String schemaName, String tableName, Connection cx) throws SQLException {
         return delegate.includeTable(schemaName, tableName, cx);
@@ -94,6 +128,12 @@ public Geometry decodeGeometryValue(
         return delegate.decodeGeometryValue(descriptor, rs, column, factory, cx, hints);
     }
 
+    @Override
+    public RawGeometryDecoder createGeometryDecoder(
+            GeometryDescriptor descriptor, GeometryFactory factory, Connection cx, Hints hints) throws SQLException {
+        return delegate.createGeometryDecoder(descriptor, factory, cx, hints);
+    }
+
     @Override
     public void encodeGeometryColumn(GeometryDescriptor gatt, String prefix, int srid, Hints hints, StringBuffer sql) {
         delegate.encodeGeometryColumn(gatt, prefix, srid, hints, sql);
@@ -157,6 +197,30 @@ public String encodeNextSequenceValue(String schemaName, String sequenceName) {
         return delegate.encodeNextSequenceValue(schemaName, sequenceName);
     }
 
+    @Override
+    public List<Object> getNextSequenceValues(String schemaName, String sequenceName, int count, Connection cx)
+            throws SQLException {
+        return delegate.getNextSequenceValues(schemaName, sequenceName, count, cx);
+    }
+
+    @Override
+    public boolean supportsBulkLoad(SimpleFeatureType featureType) {
+        return delegate.supportsBulkLoad(featureType);
+    }
+
+    @Override
+    public BulkLoader createBulkLoader(SimpleFeatureType featureType, List<BulkLoader.Column> columns, Connection cx)
+            throws SQLException, IOException {
+        return delegate.createBulkLoader(featureType, columns, cx);
+    }
+
+    @Override
+    public List<Filter> splitReads(
+            SimpleFeatureType featureType, PrimaryKey key, int maxPartitions, int minPartitionSize, Connection cx)
+            throws SQLException, IOException {
+        return delegate.splitReads(featureType, key, maxPartitions, minPartitionSize, cx);
+    }
+
     @Override
     public String getSequenceForColumn(String schemaName, String tableName, String columnName, Connection cx)
             throws SQLException {
@@ -267,6 +331,12 @@ public int getGeometryDimension(String schemaName, String tableName, String colu
         return delegate.getGeometryDimension(schemaName, tableName, columnName, cx);
     }
 
+    @Override
+    public void prefetchGeometryMetadata(String schemaName, Map<String, List<ColumnMetadata>> columns, Connection cx)
+            throws SQLException {
+        delegate.prefetchGeometryMetadata(schemaName, columns, cx);
+    }
+
     public boolean isFunctionEncodingEnabled() {
         return delegate.isFunctionEncodingEnabled();
     }
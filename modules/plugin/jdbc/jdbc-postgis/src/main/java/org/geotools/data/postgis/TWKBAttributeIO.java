@@ -26,7 +26,7 @@
 import org.geotools.api.data.DataSourceException;
 import org.geotools.geometry.jts.LiteCoordinateSequence;
 import org.geotools.geometry.jts.LiteCoordinateSequenceFactory;
-import org.geotools.util.Base64;
+import org.geotools.jdbc.StreamingWKBReader;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.CoordinateSequences;
 import org.locationtech.jts.geom.Geometry;
@@ -48,6 +48,8 @@
 class TWKBAttributeIO {
     TWKBReader twkbReader;
     ByteArrayInStream inStream = new ByteArrayInStream(new byte[0]);
+    /** Reused to decode the base64 encoded geometries, TWKB is self delimiting, trailing bytes are not read */
+    byte[] buffer = new byte[0];
     GeometryFactory gf;
     boolean base64EncodingEnabled;
 
@@ -132,6 +134,15 @@ private Geometry wkb2Geometry(byte[] wkbBytes) throws IOException {
         }
     }
 
+    private byte[] decodeBase64(byte[] bytes) {
+        int maxLength = (bytes.length / 4 + 1) * 3;
+        if (buffer.length < maxLength) {
+            buffer = new byte[Math.max(maxLength, buffer.length * 2)];
+        }
+        StreamingWKBReader.decodeBase64(bytes, bytes.length, buffer);
+        return buffer;
+    }
+
     /** @see org.geotools.data.jdbc.attributeio.AttributeIO#read(ResultSet, int) */
     public Object read(ResultSet rs, String columnName) throws IOException {
         try {
@@ -139,7 +150,7 @@ public Object read(ResultSet rs, String columnName) throws IOException {
             if (bytes == null) // ie. its a null column -> return a null geometry!
             return null;
             if (base64EncodingEnabled) {
-                bytes = Base64.decode(bytes);
+                bytes = decodeBase64(bytes);
             }
             return wkb2Geometry(bytes);
         } catch (SQLException e) {
@@ -154,21 +165,31 @@ public Object read(ResultSet rs, int columnIndex, Class<?> binding) throws IOExc
             if (bytes == null) // ie. its a null column -> return a null geometry!
             return null;
 
-            // the TWKB encoding collapses geometries into points and encodes them as such,
-            // causing an inefficient converted to be called later down the road, handle
-            // this case in a special way to ensure better performance
-            if (base64EncodingEnabled) {
-                bytes = Base64.decode(bytes);
-            }
-            Geometry g = wkb2Geometry(bytes);
-            g = adaptToBinding(g, binding);
-
-            return g;
+            return decode(bytes, binding);
         } catch (SQLException e) {
             throw new DataSourceException("SQL exception occurred while reading the geometry.", e);
         }
     }
 
+    /**
+     * Decodes the bytes of a geometry column, as read from the result set
+     *
+     * @param bytes the column bytes, base64 encoded if {@link #isBase64EncodingEnabled()}
+     * @param binding the expected geometry type
+     */
+    public Geometry decode(byte[] bytes, Class<?> binding) throws IOException {
+        // the TWKB encoding collapses geometries into points and encodes them as such,
+        // causing an inefficient converted to be called later down the road, handle
+        // this case in a special way to ensure better performance
+        if (base64EncodingEnabled) {
+            bytes = decodeBase64(bytes);
+        }
+        Geometry g = wkb2Geometry(bytes);
+        g = adaptToBinding(g, binding);
+
+        return g;
+    }
+
     /** @see org.geotools.data.jdbc.attributeio.AttributeIO#read(ResultSet, int) */
     public Object read(ResultSet rs, String columnName, Class<?> binding) throws IOException {
         try {
@@ -176,7 +197,7 @@ public Object read(ResultSet rs, String columnName, Class<?> binding) throws IOE
             if (bytes == null) // ie. its a null column -> return a null geometry!
             return null;
 
-            Geometry g = wkb2Geometry(Base64.decode(bytes));
+            Geometry g = wkb2Geometry(decodeBase64(bytes));
             g = adaptToBinding(g, binding);
 
             return g;
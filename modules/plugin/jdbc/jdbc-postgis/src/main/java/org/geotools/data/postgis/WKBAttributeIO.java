@@ -23,11 +23,9 @@
 import java.sql.SQLException;
 import java.sql.Types;
 import org.geotools.api.data.DataSourceException;
-import org.geotools.geometry.jts.WKBReader;
-import org.geotools.util.Base64;
+import org.geotools.jdbc.StreamingWKBReader;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
-import org.locationtech.jts.io.ByteArrayInStream;
 import org.locationtech.jts.io.WKBWriter;
 
 /**
@@ -37,8 +35,7 @@
  * @since 2.4.1
  */
 public class WKBAttributeIO {
-    WKBReader wkbr;
-    ByteArrayInStream inStream = new ByteArrayInStream(new byte[0]);
+    StreamingWKBReader wkbr;
     GeometryFactory gf;
     boolean base64EncodingEnabled = true;
 
@@ -47,14 +44,14 @@ public WKBAttributeIO() {
     }
 
     public WKBAttributeIO(GeometryFactory gf) {
-        wkbr = new WKBReader(gf);
+        wkbr = new StreamingWKBReader(gf);
         this.gf = gf;
     }
 
     public void setGeometryFactory(GeometryFactory gf) {
         if (gf != this.gf) {
             this.gf = gf;
-            wkbr = new WKBReader(gf);
+            wkbr.setGeometryFactory(gf);
         }
     }
 
@@ -66,37 +63,17 @@ public void setBase64EncodingEnabled(boolean base64EncodingEnabled) {
         this.base64EncodingEnabled = base64EncodingEnabled;
     }
 
-    /**
-     * This method will convert a Well Known Binary representation to a JTS Geometry object.
-     *
-     * @param wkbBytes the wkb encoded byte array
-     * @return a JTS Geometry object that is equivalent to the WTB representation passed in by param wkb
-     * @throws IOException if more than one geometry object was found in the WTB representation, or if the parser could
-     *     not parse the WKB representation.
-     */
-    private Geometry wkb2Geometry(byte[] wkbBytes) throws IOException {
-        if (wkbBytes == null) // DJB: null value from database --> null geometry (the same behavior as
-            // WKT).  NOTE: sending back a GEOMETRYCOLLECTION(EMPTY) is also a
-            // possibility, but this is not the same as NULL
-            return null;
-        try {
-            inStream.setBytes(wkbBytes);
-            return wkbr.read(inStream);
-        } catch (Exception e) {
-            throw new DataSourceException("An exception occurred while parsing WKB data", e);
-        }
-    }
-
     /** @see org.geotools.data.jdbc.attributeio.AttributeIO#read(java.sql.ResultSet, int) */
     public Object read(ResultSet rs, String columnName) throws IOException {
         try {
-            byte[] bytes = rs.getBytes(columnName);
-            if (bytes == null) // ie. its a null column -> return a null geometry!
-            return null;
             if (base64EncodingEnabled) {
-                bytes = Base64.decode(bytes);
+                byte[] bytes = rs.getBytes(columnName);
+                if (bytes == null) // ie. its a null column -> return a null geometry!
+                return null;
+                return decode(bytes);
             }
-            return wkb2Geometry(bytes);
+            // raw WKB, decoded from the array returned by the driver
+            return wkbr.read(rs, columnName);
         } catch (SQLException e) {
             throw new DataSourceException("SQL exception occurred while reading the geometry.", e);
         }
@@ -105,18 +82,37 @@ public Object read(ResultSet rs, String columnName) throws IOException {
     /** @see org.geotools.data.jdbc.attributeio.AttributeIO#read(java.sql.ResultSet, int) */
     public Object read(ResultSet rs, int columnIndex) throws IOException {
         try {
-            byte[] bytes = rs.getBytes(columnIndex);
-            if (bytes == null) // ie. its a null column -> return a null geometry!
-            return null;
             if (base64EncodingEnabled) {
-                bytes = Base64.decode(bytes);
+                byte[] bytes = rs.getBytes(columnIndex);
+                if (bytes == null) // ie. its a null column -> return a null geometry!
+                return null;
+                return decode(bytes);
             }
-            return wkb2Geometry(bytes);
+            // raw WKB, decoded from the array returned by the driver
+            return wkbr.read(rs, columnIndex);
         } catch (SQLException e) {
             throw new DataSourceException("SQL exception occurred while reading the geometry.", e);
         }
     }
 
+    /**
+     * Decodes the bytes of a geometry column, as read from the result set
+     *
+     * @param bytes the column bytes, base64 encoded if {@link #isBase64EncodingEnabled()}
+     */
+    public Geometry decode(byte[] bytes) throws IOException {
+        try {
+            if (base64EncodingEnabled) {
+                // decode in the reader buffer, instead of allocating a new array for each geometry
+                int length = wkbr.fillBase64(bytes, bytes.length);
+                return wkbr.read(wkbr.getBuffer(), 0, length);
+            }
+            return wkbr.read(bytes);
+        } catch (RuntimeException e) {
+            throw new DataSourceException("An exception occurred while parsing WKB data", e);
+        }
+    }
+
     /** @see org.geotools.data.jdbc.attributeio.AttributeIO#write(java.sql.PreparedStatement, int, java.lang.Object) */
     public void write(PreparedStatement ps, int position, Object value) throws IOException {
         try {
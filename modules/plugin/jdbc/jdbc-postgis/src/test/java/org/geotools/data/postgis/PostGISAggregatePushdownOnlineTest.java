@@ -0,0 +1,38 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import static org.junit.Assert.assertTrue;
+
+import org.geotools.feature.visitor.MedianVisitor;
+import org.geotools.jdbc.JDBCAggregatePushdownOnlineTest;
+import org.geotools.jdbc.JDBCAggregatePushdownTestSetup;
+import org.junit.Test;
+
+public class PostGISAggregatePushdownOnlineTest extends JDBCAggregatePushdownOnlineTest {
+
+    @Override
+    protected JDBCAggregatePushdownTestSetup createTestSetup() {
+        return new PostGISAggregatePushdownTestSetup(new PostGISTestSetup());
+    }
+
+    @Test
+    public void testMedianRegistered() throws Exception {
+        // computed with percentile_cont, the other tests check it is not visited in memory
+        assertTrue(isPushedDown(MedianVisitor.class));
+    }
+}
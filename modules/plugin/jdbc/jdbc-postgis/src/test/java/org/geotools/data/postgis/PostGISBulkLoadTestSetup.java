@@ -0,0 +1,51 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import org.geotools.jdbc.JDBCBulkLoadTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class PostGISBulkLoadTestSetup extends JDBCBulkLoadTestSetup {
+
+    public PostGISBulkLoadTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createBulkTable() throws Exception {
+        run("CREATE TABLE \"bulk\" (\"fid\" int PRIMARY KEY, \"name\" varchar, "
+                + "\"value\" double precision, \"geom\" geometry(Point, 4326))");
+        run("INSERT INTO \"bulk\" VALUES (1, 'existing', 0, NULL)");
+    }
+
+    @Override
+    protected void dropBulkTable() throws Exception {
+        run("DROP TABLE \"bulk\"");
+    }
+
+    @Override
+    protected void createSequencedBulkTable() throws Exception {
+        run("CREATE TABLE \"bulk_seq\" (\"fid\" int PRIMARY KEY, \"name\" varchar, \"geom\" geometry(Point, 4326))");
+        run("CREATE SEQUENCE BULK_SEQ_FID_SEQUENCE START WITH 1 OWNED BY \"bulk_seq\".\"fid\"");
+    }
+
+    @Override
+    protected void dropSequencedBulkTable() throws Exception {
+        // drops the owned sequence as well
+        run("DROP TABLE \"bulk_seq\"");
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKTReader;
+
+public class PostGISBulkLoaderTest {
+
+    @Test
+    public void testNumeric() throws Exception {
+        // ndigits, weight, sign, dscale, base 10000 digits
+        assertNumeric("12345.678", 3, 1, 0, 3, 1, 2345, 6780);
+        assertNumeric("-0.001", 1, -1, 0x4000, 3, 10);
+        assertNumeric("0.00001", 1, -2, 0, 5, 1000);
+        assertNumeric("1E+5", 1, 1, 0, 0, 10);
+        assertNumeric("10000", 1, 1, 0, 0, 1);
+        assertNumeric("0", 0, 0, 0, 0);
+        assertNumeric("0.000", 0, 0, 0, 3);
+    }
+
+    private void assertNumeric(String value, int... expected) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PostGISBulkLoader.writeNumeric(new BigDecimal(value), new DataOutputStream(bytes));
+
+        DataInputStream in = new DataInputStream(new java.io.ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(value, expected.length * 2, in.readInt());
+        int[] actual = new int[expected.length];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = in.readShort();
+        }
+        assertArrayEquals(value, expected, actual);
+    }
+
+    @Test
+    public void testEWKB() throws Exception {
+        Geometry polygon = new WKTReader().read("POLYGON((0 0, 10 0, 10 10, 0 0))");
+        Geometry read = new WKBReader().read(PostGISBulkLoader.toEWKB(polygon, 2, 4326));
+        assertEquals(4326, read.getSRID());
+        assertTrue(polygon.equalsExact(read));
+
+        Geometry point = new WKTReader().read("POINT Z(1 2 3)");
+        read = new WKBReader().read(PostGISBulkLoader.toEWKB(point, 3, 3857));
+        assertEquals(3857, read.getSRID());
+        assertEquals(3, read.getCoordinate().getZ(), 0d);
+
+        // unknown srid, plain WKB
+        read = new WKBReader().read(PostGISBulkLoader.toEWKB(polygon, 2, -1));
+        assertEquals(0, read.getSRID());
+        assertTrue(polygon.equalsExact(read));
+
+        // linear rings are not supported by postgis, loaded as line strings
+        Geometry ring = new WKTReader().read("LINEARRING(0 0, 10 0, 10 10, 0 0)");
+        read = new WKBReader().read(PostGISBulkLoader.toEWKB(ring, 2, 4326));
+        assertEquals("LineString", read.getGeometryType());
+    }
+
+    @Test
+    public void testTemporalValues() throws Exception {
+        // days and microseconds since the postgres epoch
+        assertEquals(1, encodeLong("date", LocalDate.of(2000, 1, 2)));
+        assertEquals(-1, encodeLong("date", LocalDate.of(1999, 12, 31)));
+        assertEquals(
+                86_400_000_000L + 1_500_000L,
+                encodeLong("timestamp", Timestamp.valueOf(LocalDateTime.of(2000, 1, 2, 0, 0, 1, 500_000_000))));
+    }
+
+    @Test
+    public void testScalarValues() throws Exception {
+        assertEquals(42, encodeLong("int4", "42"));
+        assertEquals(42, encodeLong("int8", 42));
+        UUID uuid = UUID.randomUUID();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PostGISBulkLoader.ENCODERS.get("uuid").encode(uuid.toString(), new DataOutputStream(bytes));
+        DataInputStream in = new DataInputStream(new java.io.ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(16, in.readInt());
+        assertEquals(uuid, new UUID(in.readLong(), in.readLong()));
+    }
+
+    private long encodeLong(String type, Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PostGISBulkLoader.ENCODERS.get(type).encode(value, new DataOutputStream(bytes));
+        DataInputStream in = new DataInputStream(new java.io.ByteArrayInputStream(bytes.toByteArray()));
+        int length = in.readInt();
+        return length == 4 ? in.readInt() : in.readLong();
+    }
+}
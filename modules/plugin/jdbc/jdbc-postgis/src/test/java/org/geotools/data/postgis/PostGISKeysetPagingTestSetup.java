@@ -0,0 +1,40 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import org.geotools.jdbc.JDBCKeysetPagingTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class PostGISKeysetPagingTestSetup extends JDBCKeysetPagingTestSetup {
+
+    public PostGISKeysetPagingTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createPagesTable() throws Exception {
+        run("CREATE TABLE \"pages\" (\"fid\" int PRIMARY KEY, \"grp\" int NOT NULL, \"name\" varchar(32))");
+        run("INSERT INTO \"pages\" SELECT f, f % 7, 'n' || f FROM "
+                + "(SELECT (i * 17) % " + ROWS + " AS f FROM generate_series(0, " + (ROWS - 1) + ") AS i "
+                + "ORDER BY i) AS t");
+    }
+
+    @Override
+    protected void dropPagesTable() throws Exception {
+        run("DROP TABLE \"pages\"");
+    }
+}
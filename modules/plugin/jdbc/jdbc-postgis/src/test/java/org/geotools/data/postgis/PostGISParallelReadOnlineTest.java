@@ -0,0 +1,40 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import static org.geotools.jdbc.JDBCParallelReadTestSetup.ROWS;
+import static org.junit.Assert.assertEquals;
+
+import org.geotools.api.data.Query;
+import org.geotools.jdbc.JDBCParallelReadOnlineTest;
+import org.geotools.jdbc.JDBCParallelReadTestSetup;
+import org.junit.Test;
+
+public class PostGISParallelReadOnlineTest extends JDBCParallelReadOnlineTest {
+
+    @Override
+    protected JDBCParallelReadTestSetup createTestSetup() {
+        return new PostGISParallelReadTestSetup(new PostGISTestSetup());
+    }
+
+    @Test
+    public void testSplitAnalyzed() throws Exception {
+        // the split points are taken from the key histogram
+        ((PostGISParallelReadTestSetup) setup).analyze();
+        assertEquals(ROWS, read(new Query(tname(PARALLEL)), true).size());
+    }
+}
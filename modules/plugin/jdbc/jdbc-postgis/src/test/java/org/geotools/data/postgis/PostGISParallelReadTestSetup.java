@@ -0,0 +1,44 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import org.geotools.jdbc.JDBCParallelReadTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class PostGISParallelReadTestSetup extends JDBCParallelReadTestSetup {
+
+    public PostGISParallelReadTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createParallelTable() throws Exception {
+        run("CREATE TABLE \"parallel\" (\"fid\" int PRIMARY KEY, \"name\" varchar, \"value\" int NOT NULL)");
+        run("INSERT INTO \"parallel\" SELECT i, 'f' || i, (i * 7919) % " + ROWS + " "
+                + "FROM generate_series(0, " + (ROWS - 1) + ") AS i");
+    }
+
+    @Override
+    protected void dropParallelTable() throws Exception {
+        run("DROP TABLE \"parallel\"");
+    }
+
+    /** Collects the planner statistics, which are used to split the table */
+    public void analyze() throws Exception {
+        run("ANALYZE \"parallel\"");
+    }
+}
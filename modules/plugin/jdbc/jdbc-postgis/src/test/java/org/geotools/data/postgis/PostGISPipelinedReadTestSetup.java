@@ -0,0 +1,41 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import org.geotools.jdbc.JDBCPipelinedReadTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class PostGISPipelinedReadTestSetup extends JDBCPipelinedReadTestSetup {
+
+    public PostGISPipelinedReadTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createPipelinedTable() throws Exception {
+        run("CREATE TABLE \"pipelined\" (\"fid\" int PRIMARY KEY, \"name\" varchar, \"geom\" geometry(Point, 4326))");
+        run("INSERT INTO \"pipelined\" SELECT i, 'f' || i, CASE WHEN i % 10 = 0 THEN NULL "
+                + "ELSE ST_SetSRID(ST_MakePoint(i, -i), 4326) END FROM generate_series(0, "
+                + (ROWS - 1)
+                + ") AS i");
+    }
+
+    @Override
+    protected void dropPipelinedTable() throws Exception {
+        run("DROP TABLE \"pipelined\"");
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import org.geotools.jdbc.JDBCQueryResultCacheTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class PostGISQueryResultCacheTestSetup extends JDBCQueryResultCacheTestSetup {
+
+    public PostGISQueryResultCacheTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createResultsTable() throws Exception {
+        run("CREATE TABLE \"results\" (\"fid\" serial PRIMARY KEY, \"value\" int NOT NULL)");
+        run("INSERT INTO \"results\" (\"value\") SELECT i FROM generate_series(0, " + (ROWS - 1) + ") AS i");
+    }
+
+    @Override
+    protected void dropResultsTable() throws Exception {
+        run("DROP TABLE \"results\"");
+    }
+
+    @Override
+    protected void insertResult(int value) throws Exception {
+        run("INSERT INTO \"results\" (\"value\") VALUES (" + value + ")");
+    }
+
+    @Override
+    protected void updateStatistics() throws Exception {
+        // pg_class.reltuples is only filled by ANALYZE, or VACUUM
+        run("ANALYZE \"results\"");
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import org.geotools.jdbc.JDBCSQLTemplateCacheTestSetup;
+import org.geotools.jdbc.JDBCTestSetup;
+
+public class PostGISSQLTemplateCacheTestSetup extends JDBCSQLTemplateCacheTestSetup {
+
+    public PostGISSQLTemplateCacheTestSetup(JDBCTestSetup delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected void createTemplatesTable() throws Exception {
+        run("CREATE TABLE \"templates\" (\"fid\" int PRIMARY KEY, \"name\" varchar, \"value\" int NOT NULL, "
+                + "\"geom\" geometry(Point, 4326))");
+        run("INSERT INTO \"templates\" SELECT i, 'f' || i, i, ST_SetSRID(ST_MakePoint(i, i), 4326) "
+                + "FROM generate_series(0, " + (ROWS - 1) + ") AS i");
+
+        // the row i at POINT(i/2 i/2)
+        run("CREATE TABLE \"templates_geog\" (\"fid\" int PRIMARY KEY, \"geog\" geography(Point, 4326))");
+        run("INSERT INTO \"templates_geog\" SELECT i, ST_MakePoint(i * 0.5, i * 0.5)::geography "
+                + "FROM generate_series(0, " + (ROWS - 1) + ") AS i");
+    }
+
+    @Override
+    protected void dropTemplatesTable() throws Exception {
+        run("DROP TABLE IF EXISTS \"templates\"");
+        run("DROP TABLE IF EXISTS \"templates_geog\"");
+    }
+}
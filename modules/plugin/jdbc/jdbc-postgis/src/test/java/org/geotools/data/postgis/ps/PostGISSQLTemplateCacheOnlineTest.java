@@ -0,0 +1,63 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis.ps;
+
+import static org.junit.Assert.assertEquals;
+
+import org.geotools.api.data.Query;
+import org.geotools.data.postgis.PostGISSQLTemplateCacheTestSetup;
+import org.geotools.geometry.jts.JTS;
+import org.geotools.jdbc.JDBCSQLTemplateCacheOnlineTest;
+import org.geotools.jdbc.JDBCSQLTemplateCacheTestSetup;
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+public class PostGISSQLTemplateCacheOnlineTest extends JDBCSQLTemplateCacheOnlineTest {
+
+    @Override
+    protected JDBCSQLTemplateCacheTestSetup createTestSetup() {
+        return new PostGISSQLTemplateCacheTestSetup(new PostGISPSTestSetup());
+    }
+
+    @Test
+    public void testIntersects() throws Exception {
+        // the literal is probed for curves, by class only
+        for (int i = 0; i < 3; i++) {
+            double min = i * 10 - 0.5;
+            double max = i * 10 + 4.5;
+            Geometry tile = JTS.toGeometry(new Envelope(min, max, min, max));
+            Query query = query(ff.intersects(ff.property(aname("geom")), ff.literal(tile)));
+            assertEquals(5, read(query).size());
+        }
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    public void testGeography() throws Exception {
+        // the geography literals are clipped to the world, the SQL depends on them and is not reused
+        for (int i = 0; i < 3; i++) {
+            double min = i * 5 - 0.1;
+            double max = i * 5 + 2.1;
+            Query query = new Query(tname("templates_geog"), ff.bbox(aname("geog"), min, min, max, max, "EPSG:4326"));
+            assertEquals(5, read(query).size());
+        }
+        assertEquals(3, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+}
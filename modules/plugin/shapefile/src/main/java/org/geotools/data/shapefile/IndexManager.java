@@ -17,6 +17,7 @@
 package org.geotools.data.shapefile;
 
 import static org.geotools.data.shapefile.files.ShpFileType.FIX;
+import static org.geotools.data.shapefile.files.ShpFileType.HRX;
 import static org.geotools.data.shapefile.files.ShpFileType.QIX;
 import static org.geotools.data.shapefile.files.ShpFileType.SHP;
 import static org.geotools.data.shapefile.files.ShpFileType.SHX;
@@ -27,7 +28,9 @@
 import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.geotools.api.data.CloseableIterator;
@@ -43,6 +46,7 @@
 import org.geotools.data.shapefile.index.Data;
 import org.geotools.data.shapefile.index.DataDefinition;
 import org.geotools.data.shapefile.index.TreeException;
+import org.geotools.data.shapefile.index.hilbert.PackedHilbertRTree;
 import org.geotools.data.shapefile.index.quadtree.QuadTree;
 import org.geotools.data.shapefile.index.quadtree.StoreException;
 import org.geotools.data.shapefile.index.quadtree.fs.FileSystemIndexStore;
@@ -69,6 +73,11 @@ class IndexManager {
 
     CachedQuadTree cachedTree;
 
+    /** The memory mapped Hilbert R-tree, shared among all queries, along with the last modified date of its file */
+    PackedHilbertRTree hilbertTree;
+
+    long hilbertTreeLastModified;
+
     ShapefileDataStore store;
 
     /** Used to lock the files when doing accesses to check indexes and the like */
@@ -98,6 +107,12 @@ public IndexManager(ShpFiles shpFiles, ShapefileDataStore store) {
         this.store = store;
     }
 
+    /** Returns the type of spatial index used by the store, {@link ShpFileType#QIX} by default */
+    ShpFileType getSpatialIndexType() {
+        ShpFileType type = store.getSpatialIndexType();
+        return type != null ? type : QIX;
+    }
+
     /**
      * Creates the spatial index if appropriate.
      *
@@ -105,17 +120,18 @@ public IndexManager(ShpFiles shpFiles, ShapefileDataStore store) {
      * @return true if the spatial index has been created/updated
      * @implNote this method will avoid building spatial indexes for the same shapefile concurrently, waiting for a
      *     running build before proceeding. If {@code force} is {@code true}, it will proceed to build the index once
-     *     the write lock on the QIX file is acquired, otherwise, it will do so only if the index is stale.
+     *     the write lock on the index file is acquired, otherwise, it will do so only if the index is stale.
      */
     public boolean createSpatialIndex(boolean force) {
         // create index as needed
         if (!shpFiles.isLocal()) {
             return false;
         }
+        ShpFileType indexType = getSpatialIndexType();
         try {
-            if (isIndexStale(QIX) || force) {
-                // get a write lock on the .qix, waiting for other index builds
-                final URL treeURL = shpFiles.acquireWrite(QIX, writer);
+            if (isIndexStale(indexType) || force) {
+                // get a write lock on the index file, waiting for other index builds
+                final URL treeURL = shpFiles.acquireWrite(indexType, writer);
                 try {
                     // check again, may force be false and another thread just have created it
                     if (isIndexStale(treeURL) || force) {
@@ -137,6 +153,7 @@ protected void doCreateSpatialIndex() throws Exception {
 
         ShapeFileIndexer indexer = new ShapeFileIndexer();
         indexer.setShapeFileName(shpFiles);
+        indexer.setIndexType(getSpatialIndexType());
         indexer.index(false, new NullProgressListener());
     }
 
@@ -184,7 +201,7 @@ boolean isIndexUseable(ShpFileType indexType) {
 
     /** Returns true if the index file is available */
     boolean isSpatialIndexAvailable() {
-        return shpFiles.isLocal() && shpFiles.exists(QIX);
+        return shpFiles.isLocal() && shpFiles.exists(getSpatialIndexType());
     }
 
     /** Returns true if the specified index file is outdated compared to the shapefile .shp and .shx files */
@@ -287,11 +304,27 @@ List<Data> queryFidIndex(Id fidFilter) throws IOException {
     /** Queries the spatial index for features available in the specified bbox */
     protected CloseableIterator<Data> querySpatialIndex(Envelope bbox)
             throws DataSourceException, IOException, TreeException {
+        return querySpatialIndex(bbox, null);
+    }
+
+    /**
+     * Queries the spatial index for features available in the specified bbox, skipping the quadtree nodes whose bounds
+     * are accepted by the skip check. When a skip check is provided the quadtree is used even if the bbox contains all
+     * the records, as the skipped nodes spare reading their records. The packed Hilbert R-tree ignores the check.
+     *
+     * @param skip The check telling if all the records in the bounds of a node can be skipped, or null
+     */
+    protected CloseableIterator<Data> querySpatialIndex(Envelope bbox, Predicate<Envelope> skip)
+            throws DataSourceException, IOException, TreeException {
         CloseableIterator<Data> tmp = null;
 
         // check if the spatial index needs recreating
         createSpatialIndex(false);
 
+        if (getSpatialIndexType() == HRX) {
+            return queryHilbertRTree(bbox);
+        }
+
         if (cachedTree == null) {
             boolean canCache = false;
             URL treeURL = shpFiles.acquireRead(QIX, writer);
@@ -316,8 +349,8 @@ protected CloseableIterator<Data> querySpatialIndex(Envelope bbox)
             }
         }
         if (cachedTree != null) {
-            if (!bbox.contains(cachedTree.getBounds())) {
-                return cachedTree.search(bbox);
+            if (skip != null || !bbox.contains(cachedTree.getBounds())) {
+                return cachedTree.search(bbox, skip);
             } else {
                 return null;
             }
@@ -325,8 +358,8 @@ protected CloseableIterator<Data> querySpatialIndex(Envelope bbox)
             try {
                 @SuppressWarnings("PMD.CloseResource") // managed as part of the return
                 QuadTree quadTree = openQuadTree();
-                if (quadTree != null && !bbox.contains(quadTree.getRoot().getBounds())) {
-                    tmp = quadTree.search(bbox);
+                if (quadTree != null && (skip != null || !bbox.contains(quadTree.getRoot().getBounds()))) {
+                    tmp = quadTree.search(bbox, skip);
                 }
                 if (tmp == null && quadTree != null) {
                     quadTree.close();
@@ -339,6 +372,41 @@ protected CloseableIterator<Data> querySpatialIndex(Envelope bbox)
         return tmp;
     }
 
+    /**
+     * Queries the packed Hilbert R-tree, returning the records in .shp file order, or null if the index is missing or
+     * the bbox contains all the records
+     */
+    private CloseableIterator<Data> queryHilbertRTree(Envelope bbox) throws IOException {
+        PackedHilbertRTree tree = getHilbertRTree();
+        if (tree == null || bbox.contains(tree.getBounds())) {
+            return null;
+        }
+        return new HilbertRTreeHits(tree.search(bbox));
+    }
+
+    /** Returns the memory mapped Hilbert R-tree, opening it again if the file has been rebuilt in the meantime */
+    synchronized PackedHilbertRTree getHilbertRTree() throws IOException {
+        if (!shpFiles.isLocal()) {
+            return null;
+        }
+        URL treeURL = shpFiles.acquireRead(HRX, writer);
+        try {
+            File treeFile = URLs.urlToFile(treeURL);
+            if (!treeFile.exists() || treeFile.length() == 0) {
+                return null;
+            }
+            long lastModified = treeFile.lastModified();
+            if (hilbertTree == null || hilbertTreeLastModified != lastModified) {
+                // the previous tree might still be in use by other threads, let the garbage collector unmap it
+                hilbertTree = PackedHilbertRTree.open(treeFile);
+                hilbertTreeLastModified = lastModified;
+            }
+            return hilbertTree;
+        } finally {
+            shpFiles.unlockRead(treeURL, writer);
+        }
+    }
+
     /**
      * Convenience method for opening a QuadTree index.
      *
@@ -370,5 +438,49 @@ protected QuadTree openQuadTree() throws StoreException {
 
     public void dispose() {
         this.cachedTree = null;
+        synchronized (this) {
+            if (hilbertTree != null) {
+                hilbertTree.close();
+                hilbertTree = null;
+            }
+        }
+    }
+
+    /** Turns the Hilbert R-tree search hits into {@link Data} objects, lazily */
+    static class HilbertRTreeHits implements CloseableIterator<Data> {
+
+        long[] hits;
+
+        int next;
+
+        HilbertRTreeHits(long[] hits) {
+            this.hits = hits;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < hits.length;
+        }
+
+        @Override
+        public Data next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more hits");
+            }
+            long hit = hits[next++];
+            try {
+                Data data = new Data(RecordRangeIterator.DEFINITION);
+                data.addValue(Integer.valueOf(PackedHilbertRTree.getRecordNumber(hit) + 1));
+                data.addValue(Long.valueOf(PackedHilbertRTree.getOffsetInBytes(hit)));
+                return data;
+            } catch (TreeException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            hits = null;
+        }
     }
 }
@@ -0,0 +1,133 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.FeatureVisitor;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.shapefile.shp.IndexFile;
+import org.geotools.feature.visitor.MergeableVisitors;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Visits a shapefile in parallel. The .shx file is used to split the shapefile in contiguous record ranges, each range
+ * is read by its own {@link IndexedShapefileFeatureReader} (with its own views of the .shp and .dbf files) and fed to
+ * a partial visitor. The partial results are eventually merged in the original visitor, see
+ * {@link MergeableVisitors}.
+ */
+class ParallelShapefileScan {
+
+    static final Logger LOGGER = Logging.getLogger(ParallelShapefileScan.class);
+
+    /** Minimum number of records in a partition, below this the overhead of going parallel is not worth it */
+    static final int DEFAULT_MIN_PARTITION_SIZE = 10000;
+
+    ShapefileFeatureSource source;
+
+    ExecutorService executor;
+
+    int threads;
+
+    int minPartitionSize;
+
+    public ParallelShapefileScan(
+            ShapefileFeatureSource source, ExecutorService executor, int threads, int minPartitionSize) {
+        this.source = source;
+        this.executor = executor;
+        this.threads = threads;
+        this.minPartitionSize = Math.max(1, minPartitionSize);
+    }
+
+    /**
+     * Visits the features matching the query in parallel.
+     *
+     * @return true if the visit was performed, false if the visitor cannot be split, or the shapefile is too small to
+     *     benefit from a parallel scan
+     */
+    public boolean visit(Query query, FeatureVisitor visitor) throws IOException {
+        if (!MergeableVisitors.isMergeable(visitor)) {
+            return false;
+        }
+        int records;
+        try (IndexFile shx = source.getDataStore().shpManager.openIndexFile()) {
+            if (shx == null) {
+                return false;
+            }
+            records = shx.getRecordCount();
+        }
+        int partitions = Math.min(threads, records / minPartitionSize);
+        if (partitions < 2) {
+            return false;
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Visiting " + records + " records of " + source.getName() + " in " + partitions + " partitions");
+        }
+
+        List<FeatureVisitor> partials = new ArrayList<>(partitions);
+        List<Future<Void>> futures = new ArrayList<>(partitions);
+        try {
+            for (int i = 0; i < partitions; i++) {
+                int start = (int) ((long) records * i / partitions);
+                int end = (int) ((long) records * (i + 1) / partitions);
+                FeatureVisitor partial = MergeableVisitors.fork(visitor);
+                partials.add(partial);
+                futures.add(executor.submit(() -> visitRange(query, start, end, partial)));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while visiting " + source.getName(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException("Failed to visit " + source.getName(), e.getCause());
+        } finally {
+            // in case of failure, avoid wasting resources on the other partitions
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        MergeableVisitors.merge(visitor, partials);
+        return true;
+    }
+
+    private Void visitRange(Query query, int start, int end, FeatureVisitor visitor) throws IOException {
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = source.getReader(query, start, end)) {
+            while (reader.hasNext()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IOException("Scan of " + source.getName() + " has been interrupted");
+                }
+                visitor.visit(reader.next());
+            }
+        }
+        return null;
+    }
+}
@@ -22,6 +22,7 @@
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -36,12 +37,16 @@
 import org.geotools.data.shapefile.files.StorageFile;
 import org.geotools.data.shapefile.index.LockTimeoutException;
 import org.geotools.data.shapefile.index.TreeException;
+import org.geotools.data.shapefile.index.hilbert.HilbertCurve;
+import org.geotools.data.shapefile.index.hilbert.PackedHilbertRTree;
+import org.geotools.data.shapefile.index.hilbert.PackedHilbertRTreeWriter;
 import org.geotools.data.shapefile.index.quadtree.Node;
 import org.geotools.data.shapefile.index.quadtree.QuadTree;
 import org.geotools.data.shapefile.index.quadtree.StoreException;
 import org.geotools.data.shapefile.index.quadtree.fs.FileSystemIndexStore;
 import org.geotools.data.shapefile.index.quadtree.fs.IndexHeader;
 import org.geotools.data.shapefile.shp.IndexFile;
+import org.geotools.data.shapefile.shp.ShapeType;
 import org.geotools.data.shapefile.shp.ShapefileHeader;
 import org.geotools.data.shapefile.shp.ShapefileReader;
 import org.geotools.data.shapefile.shp.ShapefileReader.Record;
@@ -62,6 +67,10 @@ class ShapeFileIndexer implements FileWriter {
     private int maxDepth = -1;
     private int leafSize = 16;
 
+    private int nodeSize = PackedHilbertRTree.DEFAULT_NODE_SIZE;
+
+    private ShpFileType indexType = ShpFileType.QIX;
+
     private String byteOrder;
     private ShpFiles shpFiles;
 
@@ -76,9 +85,10 @@ public static void main(String[] args) throws IOException {
 
         for (int i = 0; i < args.length; i++) {
             if (args[i].equals("-t")) {
-                // idx.setIdxType(IndexType.valueOf(args[++i]));
-                // just skip it for backwards compatibility
-                i++;
+                // older index types (RTREE, QUADTREE) are just skipped for backwards compatibility
+                if (args[++i].equalsIgnoreCase("HRX")) {
+                    idx.setIndexType(ShpFileType.HRX);
+                }
             } else if (args[i].equals("-M")) {
                 idx.setMax(Integer.parseInt(args[++i]));
             } else if (args[i].equals("-s")) {
@@ -112,7 +122,7 @@ public static void main(String[] args) throws IOException {
 
     private static void usage() {
         System.out.println("Usage: ShapeFileIndexer "
-                + "-t <QIX> "
+                + "[-t <QIX | HRX>] "
                 + "[-M <max tree depth>] "
                 + "[-b <byte order NL | NM>] "
                 + "<shape file>"
@@ -121,7 +131,7 @@ private static void usage() {
         System.out.println();
 
         System.out.println("Options:");
-        System.out.println("\t-t Index type: RTREE or QUADTREE");
+        System.out.println("\t-t Index type: QIX (quad tree, default) or HRX (packed Hilbert R-tree)");
         System.out.println();
         System.out.println("Following options apllies only to QUADTREE:");
         System.out.println("\t-b byte order to use: NL = LSB; " + "NM = MSB (default)");
@@ -145,15 +155,18 @@ public int index(boolean verbose, /*unused*/ ProgressListener listener)
         int cnt = 0;
 
         // Temporary file for building...
-        StorageFile storage = shpFiles.getStorageFile(ShpFileType.QIX);
+        StorageFile storage = shpFiles.getStorageFile(indexType);
         File treeFile = storage.getFile();
-        if (maxDepth == -1) {
+        if (indexType == ShpFileType.QIX && maxDepth == -1) {
             maxDepth = computeMaxDepth();
         }
 
         try (ShapefileReader reader = new ShapefileReader(shpFiles, true, false, new GeometryFactory())) {
-
-            cnt = this.buildQuadTree(reader, treeFile, verbose);
+            if (indexType == ShpFileType.HRX) {
+                cnt = this.buildHilbertRTree(reader, treeFile, verbose);
+            } else {
+                cnt = this.buildQuadTree(reader, treeFile, verbose);
+            }
         }
 
         // Final index file
@@ -229,6 +242,51 @@ private int buildQuadTree(ShapefileReader reader, File file, boolean verbose) th
         return cnt;
     }
 
+    /**
+     * Builds a packed Hilbert R-tree. The records are first sorted along the Hilbert curve of their envelope centers,
+     * then the tree is written bottom up in a single pass, reading back the record bounds in curve order.
+     */
+    private int buildHilbertRTree(ShapefileReader reader, File file, boolean verbose) throws IOException {
+        LOGGER.fine("Building packed Hilbert R-tree spatial index for file " + file.getAbsolutePath());
+
+        int cnt = 0;
+        try (IndexFile shpIndex = new IndexFile(shpFiles, true);
+                BoundsReader boundsHelper = createBoundsReader(reader, shpIndex)) {
+            Envelope extent = getBounds(reader);
+            long[] keys = new long[shpIndex.getRecordCount()];
+            int indexed = 0;
+            Envelope env = new Envelope();
+            while (reader.hasNext() && cnt < keys.length) {
+                Record rec = reader.nextRecord();
+                int recno = cnt++;
+                // null shapes cannot match a bbox, no need to index them
+                if (rec.type != ShapeType.NULL) {
+                    env.init(rec.minX, rec.maxX, rec.minY, rec.maxY);
+                    boundsHelper.insert(recno, env);
+                    keys[indexed++] = HilbertCurve.sortKey(env, extent, recno);
+                }
+
+                if (verbose && cnt % 1_000 == 0) {
+                    System.out.print('.');
+                }
+                if (verbose && cnt % 100_000 == 0) System.out.print('\n');
+            }
+            if (verbose) System.out.println("Sorting the records along the Hilbert curve");
+            Arrays.sort(keys, 0, indexed);
+
+            if (verbose) System.out.println("Storing the tree...");
+            try (PackedHilbertRTreeWriter writer = new PackedHilbertRTreeWriter(file, indexed, nodeSize)) {
+                for (int i = 0; i < indexed; i++) {
+                    int recno = HilbertCurve.getRecordNumber(keys[i]);
+                    boundsHelper.read(recno, env);
+                    writer.add(env, recno, shpIndex.getOffset(recno));
+                }
+            }
+            if (verbose) System.out.println("done");
+        }
+        return cnt;
+    }
+
     private Envelope getBounds(ShapefileReader reader) {
         ShapefileHeader header = reader.getHeader();
         Envelope bounds = new Envelope(header.minX(), header.maxX(), header.minY(), header.maxY());
@@ -380,6 +438,26 @@ public void setShapeFileName(ShpFiles shpFiles) {
         this.shpFiles = shpFiles;
     }
 
+    /** The type of index to build, either {@link ShpFileType#QIX} (the default) or {@link ShpFileType#HRX} */
+    public void setIndexType(ShpFileType indexType) {
+        if (indexType != ShpFileType.QIX && indexType != ShpFileType.HRX) {
+            throw new IllegalArgumentException("Unsupported spatial index type: " + indexType);
+        }
+        this.indexType = indexType;
+    }
+
+    public ShpFileType getIndexType() {
+        return indexType;
+    }
+
+    /** The max number of children in each node of the packed Hilbert R-tree */
+    public void setNodeSize(int nodeSize) {
+        if (nodeSize < 2) {
+            throw new IllegalArgumentException("Node size must be at least 2");
+        }
+        this.nodeSize = nodeSize;
+    }
+
     /** @param byteOrder The byteOrder to set. */
     public void setByteOrder(String byteOrder) {
         this.byteOrder = byteOrder;
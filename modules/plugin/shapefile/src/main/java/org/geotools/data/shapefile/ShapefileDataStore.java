@@ -34,6 +34,9 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import org.geotools.api.data.DataSourceException;
 import org.geotools.api.data.FeatureReader;
@@ -102,12 +105,16 @@ public class ShapefileDataStore extends ContentDataStore implements FileDataStor
 
     boolean bufferCachingEnabled = true;
 
+    boolean mappedGeometries = false;
+
     boolean indexed = true;
 
     boolean indexCreationEnabled = true;
 
     boolean fidIndexed = true;
 
+    ShpFileType spatialIndexType = ShpFileType.QIX;
+
     IndexManager indexManager;
 
     ShapefileSetManager shpManager;
@@ -118,6 +125,12 @@ public class ShapefileDataStore extends ContentDataStore implements FileDataStor
 
     private boolean tryCPGFile = false;
 
+    int parallelScanThreads = 1;
+
+    int parallelScanMinRecords = ParallelShapefileScan.DEFAULT_MIN_PARTITION_SIZE;
+
+    ExecutorService parallelScanExecutor;
+
     public ShapefileDataStore(URL url) {
         this(url, ShpFiles.DEFAULT_SKIP_SCAN);
     }
@@ -184,6 +197,23 @@ public void setMemoryMapped(boolean memoryMapped) {
         this.memoryMapped = memoryMapped;
     }
 
+    /** Returns true if the geometries are read only views over the memory mapped .shp file */
+    public boolean isMappedGeometries() {
+        return mappedGeometries;
+    }
+
+    /**
+     * Enables returning read only geometries whose coordinates are views over the memory mapped .shp file, rather than
+     * copies of it. Useful for consumers that never modify the geometries, like the renderer or aggregate visitors,
+     * as it removes most of the allocation when reading large polygon and line layers. Only effective when memory
+     * mapping is enabled.
+     *
+     * @see org.geotools.data.shapefile.shp.ShapefileReader#setMappedGeometries(boolean)
+     */
+    public void setMappedGeometries(boolean mappedGeometries) {
+        this.mappedGeometries = mappedGeometries;
+    }
+
     public boolean isBufferCachingEnabled() {
         return bufferCachingEnabled;
     }
@@ -204,6 +234,22 @@ public void setIndexed(boolean indexed) {
         this.indexed = indexed;
     }
 
+    /** The type of spatial index used and created, either {@link ShpFileType#QIX} or {@link ShpFileType#HRX} */
+    public ShpFileType getSpatialIndexType() {
+        return spatialIndexType;
+    }
+
+    /**
+     * Sets the type of spatial index to be used, and created if index creation is enabled: {@link ShpFileType#QIX}
+     * (quad tree, the default) or {@link ShpFileType#HRX} (packed Hilbert R-tree)
+     */
+    public void setSpatialIndexType(ShpFileType spatialIndexType) {
+        if (spatialIndexType != ShpFileType.QIX && spatialIndexType != ShpFileType.HRX) {
+            throw new IllegalArgumentException("Unsupported spatial index type: " + spatialIndexType);
+        }
+        this.spatialIndexType = spatialIndexType;
+    }
+
     /** The current max shapefile size */
     long getMaxShpSize() {
         return maxShpSize;
@@ -419,6 +465,12 @@ public void forceSchemaCRS(CoordinateReferenceSystem crs) throws IOException {
     @Override
     public void dispose() {
         super.dispose();
+        synchronized (this) {
+            if (parallelScanExecutor != null) {
+                parallelScanExecutor.shutdown();
+                parallelScanExecutor = null;
+            }
+        }
         if (shpFiles != null) {
             shpFiles.dispose();
             shpFiles = null;
@@ -501,6 +553,46 @@ public void setIndexCreationEnabled(boolean indexCreationEnabled) {
         this.indexCreationEnabled = indexCreationEnabled;
     }
 
+    /** The number of threads used to scan the shapefile when visiting it with an aggregating visitor */
+    public int getParallelScanThreads() {
+        return parallelScanThreads;
+    }
+
+    /**
+     * Sets the number of threads used to scan the shapefile when it's visited by a visitor that can be split and merged
+     * back (e.g., sum, min, max, bounds, unique), see {@link org.geotools.feature.visitor.MergeableVisitors}. The .shx
+     * file is used to split the shapefile in record ranges, each one decoded by its own thread. The default, 1,
+     * disables parallel scans.
+     */
+    public synchronized void setParallelScanThreads(int parallelScanThreads) {
+        if (parallelScanThreads < 1) {
+            throw new IllegalArgumentException("The number of parallel scan threads must be positive");
+        }
+        this.parallelScanThreads = parallelScanThreads;
+        if (parallelScanExecutor != null) {
+            // will be re-created with the new size on demand
+            parallelScanExecutor.shutdown();
+            parallelScanExecutor = null;
+        }
+    }
+
+    /**
+     * Returns the executor used for parallel scans, creating it on demand. The executor is shut down when the store is
+     * disposed.
+     */
+    synchronized ExecutorService getParallelScanExecutor() {
+        if (parallelScanExecutor == null) {
+            String prefix = "shapefile-scan-" + getTypeName().getLocalPart() + "-";
+            AtomicInteger counter = new AtomicInteger();
+            parallelScanExecutor = Executors.newFixedThreadPool(parallelScanThreads, r -> {
+                Thread t = new Thread(r, prefix + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return parallelScanExecutor;
+    }
+
     @Override
     public void removeSchema(String typeName) throws IOException {
         removeSchema(new NameImpl(null, typeName));
@@ -36,6 +36,7 @@
 import org.geotools.api.data.FilteringFileStoreFactory;
 import org.geotools.data.DataUtilities;
 import org.geotools.data.directory.DirectoryDataStore;
+import org.geotools.data.shapefile.files.ShpFileType;
 import org.geotools.data.shapefile.files.ShpFiles;
 import org.geotools.util.KVP;
 import org.geotools.util.URLs;
@@ -71,6 +72,15 @@ public class ShapefileDataStoreFactory implements FileDataStoreFactorySpi {
             false,
             new KVP(Param.LEVEL, "advanced"));
 
+    /** Optional - return read only geometries backed by the memory mapped .shp file */
+    public static final Param MEMORY_MAPPED_GEOMETRIES = new Param(
+            "memory mapped geometries",
+            Boolean.class,
+            "return read only geometries whose coordinates are read straight from the memory mapped .shp file",
+            false,
+            false,
+            new KVP(Param.LEVEL, "advanced"));
+
     /** Optional - enable/disable the use of memory-mapped io */
     public static final Param CACHE_MEMORY_MAPS = new Param(
             "cache and reuse memory maps",
@@ -177,6 +187,24 @@ public String text(Object value) {
             true,
             new KVP(Param.LEVEL, "advanced"));
 
+    /** Optional - number of threads used to scan the shapefile when computing aggregates */
+    public static final Param PARALLEL_SCAN_THREADS = new Param(
+            "parallel scan threads",
+            Integer.class,
+            "number of threads used to scan the shapefile when computing aggregates (1 disables parallel scans)",
+            false,
+            1,
+            new KVP(Param.LEVEL, "advanced"));
+
+    /** Optional - type of spatial index, "qix" (quad tree) or "hrx" (packed Hilbert R-tree) */
+    public static final Param SPATIAL_INDEX_TYPE = new Param(
+            "spatial index type",
+            String.class,
+            "type of spatial index to use and create, 'qix' (quad tree) or 'hrx' (packed Hilbert R-tree)",
+            false,
+            "qix",
+            new KVP(Param.LEVEL, "advanced", Param.OPTIONS, Arrays.asList("qix", "hrx")));
+
     @Override
     public String getDisplayName() {
         return "Shapefile";
@@ -198,9 +226,12 @@ public Param[] getParametersInfo() {
             DBFTIMEZONE,
             MEMORY_MAPPED,
             CACHE_MEMORY_MAPS,
+            MEMORY_MAPPED_GEOMETRIES,
             FILE_TYPE,
             FSTYPE,
-            SKIP_SCAN
+            SKIP_SCAN,
+            PARALLEL_SCAN_THREADS,
+            SPATIAL_INDEX_TYPE
         };
     }
 
@@ -219,11 +250,14 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
         URL url = lookup(URLP, params, URL.class);
         Boolean isMemoryMapped = lookup(MEMORY_MAPPED, params, Boolean.class);
         Boolean cacheMemoryMaps = lookup(CACHE_MEMORY_MAPS, params, Boolean.class);
+        Boolean mappedGeometries = lookup(MEMORY_MAPPED_GEOMETRIES, params, Boolean.class);
         URI namespace = lookup(NAMESPACEP, params, URI.class);
         Charset dbfCharset = lookup(DBFCHARSET, params, Charset.class);
         TimeZone dbfTimeZone = lookup(DBFTIMEZONE, params, TimeZone.class);
         Boolean isCreateSpatialIndex = lookup(CREATE_SPATIAL_INDEX, params, Boolean.class);
         Boolean skipScan = lookup(SKIP_SCAN, params, Boolean.class);
+        Integer parallelScanThreads = lookup(PARALLEL_SCAN_THREADS, params, Integer.class);
+        ShpFileType spatialIndexType = lookupSpatialIndexType(params);
         Boolean isEnableSpatialIndex = (Boolean) ENABLE_SPATIAL_INDEX.lookUp(params);
         if (isEnableSpatialIndex == null) {
             // should not be needed as default is TRUE
@@ -249,6 +283,7 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
             }
             store.setMemoryMapped(useMemoryMappedBuffer);
             store.setBufferCachingEnabled(cacheMemoryMaps);
+            store.setMappedGeometries(mappedGeometries);
             store.setCharset(dbfCharset);
             // CPG sidecar file enabled by default
             boolean enableCPG = Boolean.valueOf(System.getProperty(ENABLE_CPG_SWITCH, "true"));
@@ -258,6 +293,8 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
             store.setTimeZone(dbfTimeZone);
             store.setIndexed(enableIndex);
             store.setIndexCreationEnabled(createIndex);
+            store.setParallelScanThreads(parallelScanThreads);
+            store.setSpatialIndexType(spatialIndexType);
             return store;
         }
     }
@@ -280,6 +317,16 @@ <T> T lookup(Param param, Map<String, ?> params, Class<T> target) throws IOExcep
         return result;
     }
 
+    private ShpFileType lookupSpatialIndexType(Map<String, ?> params) throws IOException {
+        String type = lookup(SPATIAL_INDEX_TYPE, params, String.class);
+        if ("hrx".equalsIgnoreCase(type)) {
+            return ShpFileType.HRX;
+        } else if ("qix".equalsIgnoreCase(type)) {
+            return ShpFileType.QIX;
+        }
+        throw new IOException("Unsupported spatial index type '" + type + "', valid values are 'qix' and 'hrx'");
+    }
+
     private boolean hasParam(Param param, Map<String, ?> params) {
         return params.containsKey(param.key);
     }
@@ -17,6 +17,7 @@
 package org.geotools.data.shapefile;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -130,6 +131,12 @@ public ShapefileFeatureReader(
                     }
                 }
             }
+
+            // when only some of the fields are needed, decode just those out of the dbf buffer
+            int[] fields = Arrays.stream(dbfindexes).filter(i -> i >= 0).toArray();
+            if (fields.length < head.getNumFields()) {
+                dbf.setProjection(fields);
+            }
         }
     }
 
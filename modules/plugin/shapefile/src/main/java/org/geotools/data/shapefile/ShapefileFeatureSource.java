@@ -29,6 +29,8 @@
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.geotools.api.data.CloseableIterator;
@@ -36,6 +38,7 @@
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.FeatureSource;
 import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
 import org.geotools.api.feature.FeatureVisitor;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
@@ -277,18 +280,8 @@ protected int getCountInternal(Query query) throws IOException {
 
     @Override
     protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Query q) throws IOException {
-        SimpleFeatureType resultSchema = getResultSchema(q);
-        SimpleFeatureType readSchema = getReadSchema(q);
-        GeometryFactory geometryFactory = getGeometryFactory(q);
-
         // grab the target bbox, if any
-        Envelope bbox = new ReferencedEnvelope();
-        if (q != null && q.getFilter() != null) {
-            bbox = (Envelope) q.getFilter().accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, bbox);
-            if (bbox == null) {
-                bbox = new ReferencedEnvelope();
-            }
-        }
+        Envelope bbox = getTargetBBox(q);
 
         // see if we can use indexing to speedup the data access
         Filter filter = q != null ? q.getFilter() : null;
@@ -309,12 +302,90 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
                 && !Double.isInfinite(bbox.getHeight())) {
             try {
                 if (indexManager.isSpatialIndexAvailable() || getDataStore().isIndexCreationEnabled()) {
-                    goodRecs = indexManager.querySpatialIndex(bbox);
+                    goodRecs = indexManager.querySpatialIndex(bbox, getSaturatedAreaCheck(q));
                 }
             } catch (TreeException e) {
                 throw new IOException("Error querying index: " + e.getMessage());
             }
         }
+        return getReader(q, bbox, goodRecs);
+    }
+
+    /**
+     * Returns a reader limited to the records in the specified range, used to scan the shapefile in parallel
+     *
+     * @param q The query
+     * @param startRecord The first record to be read, zero based, included
+     * @param endRecord The last record to be read, zero based, excluded
+     */
+    FeatureReader<SimpleFeatureType, SimpleFeature> getReader(Query q, int startRecord, int endRecord)
+            throws IOException {
+        IndexFile shx = getDataStore().shpManager.openIndexFile();
+        if (shx == null) {
+            throw new IOException("Cannot read a range of records without a .shx file");
+        }
+        return getReader(q, getTargetBBox(q), new RecordRangeIterator(shx, startRecord, endRecord));
+    }
+
+    /**
+     * Returns a check telling if all the records inside an area would be skipped by the reader, or null if the query
+     * does not provide a screen map. The records are skipped when small enough to be generalized, and their screen
+     * pixel is already busy, see {@link ShapefileFeatureReader#getGeometry}. So the whole area can be skipped if it is
+     * smaller than the generalization distance and all the pixels it covers are busy, see
+     * {@link ScreenMap#isFull(Envelope)}.
+     */
+    Predicate<Envelope> getSaturatedAreaCheck(Query q) {
+        Hints hints = q != null ? q.getHints() : null;
+        if (hints == null) {
+            return null;
+        }
+        ScreenMap screenMap = (ScreenMap) hints.get(Hints.SCREENMAP);
+        Number simplificationDistance = (Number) hints.get(Hints.GEOMETRY_DISTANCE);
+        if (screenMap == null
+                || simplificationDistance == null
+                || simplificationDistance.doubleValue() <= 0
+                || getReadSchema(q).getGeometryDescriptor() == null) {
+            return null;
+        }
+        double distance = simplificationDistance.doubleValue();
+        return area -> {
+            if (area.getWidth() >= distance || area.getHeight() >= distance || !screenMap.canSimplify(area)) {
+                return false;
+            }
+            try {
+                return screenMap.isFull(area);
+            } catch (Exception e) {
+                // the reader does not skip the records either in this case
+                return false;
+            }
+        };
+    }
+
+    /** Returns the bounding box the query is targeting, or an empty envelope if the query is not spatially bound */
+    Envelope getTargetBBox(Query q) {
+        Envelope bbox = new ReferencedEnvelope();
+        if (q != null && q.getFilter() != null) {
+            bbox = (Envelope) q.getFilter().accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, bbox);
+            if (bbox == null) {
+                bbox = new ReferencedEnvelope();
+            }
+        }
+        return bbox;
+    }
+
+    /**
+     * Sets up the feature reader for the query
+     *
+     * @param goodRecs The records to be read, or null if the whole shapefile is to be scanned
+     */
+    private FeatureReader<SimpleFeatureType, SimpleFeature> getReader(
+            Query q, Envelope bbox, CloseableIterator<Data> goodRecs) throws IOException {
+        SimpleFeatureType resultSchema = getResultSchema(q);
+        SimpleFeatureType readSchema = getReadSchema(q);
+        GeometryFactory geometryFactory = getGeometryFactory(q);
+        Filter filter = q != null ? q.getFilter() : null;
+        IndexManager indexManager = getDataStore().indexManager;
+
         // do we have anything to read at all? If not don't bother opening all the files
         if (goodRecs != null && !goodRecs.hasNext()) {
             LOGGER.log(Level.FINE, "Empty results for " + resultSchema.getName().getLocalPart() + ", skipping read");
@@ -587,6 +658,44 @@ protected List<AttributeDescriptor> readAttributes() throws IOException {
 
     @Override
     protected boolean handleVisitor(Query query, FeatureVisitor visitor) throws IOException {
+        ShapefileDataStore ds = getDataStore();
+        if (ds.getParallelScanThreads() > 1 && canScanInParallel(query)) {
+            ExecutorService executor = null;
+            if (query.getHints() != null) {
+                executor = (ExecutorService) query.getHints().get(Hints.EXECUTOR_SERVICE);
+            }
+            if (executor == null) {
+                executor = ds.getParallelScanExecutor();
+            }
+            ParallelShapefileScan scan =
+                    new ParallelShapefileScan(this, executor, ds.getParallelScanThreads(), ds.parallelScanMinRecords);
+            if (scan.visit(query, visitor)) {
+                return true;
+            }
+        }
         return super.handleVisitor(query, visitor);
     }
+
+    /**
+     * Checks if the query can be run as a parallel scan: the reader must be able to handle it all natively, there
+     * cannot be pending changes in the transaction, and the spatial index, if usable, is preferred
+     */
+    boolean canScanInParallel(Query query) {
+        Transaction transaction = getTransaction();
+        if (transaction != null && transaction != Transaction.AUTO_COMMIT
+                || !shpFiles.isLocal()
+                || !shpFiles.exists(ShpFileType.SHX)
+                || query.getSortBy() != null && query.getSortBy().length > 0
+                || query.getStartIndex() != null
+                || !query.isMaxFeaturesUnlimited()
+                || query.getCoordinateSystem() != null
+                || query.getCoordinateSystemReproject() != null
+                || query.getFilter() instanceof Id) {
+            return false;
+        }
+        Envelope bbox = getTargetBBox(query);
+        boolean spatiallyBound =
+                !bbox.isNull() && !Double.isInfinite(bbox.getWidth()) && !Double.isInfinite(bbox.getHeight());
+        return !spatiallyBound || !getDataStore().isIndexed();
+    }
 }
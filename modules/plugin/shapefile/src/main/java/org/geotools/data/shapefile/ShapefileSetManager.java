@@ -78,7 +78,9 @@ public ShapefileSetManager(ShpFiles shpFiles, ShapefileDataStore store) {
      */
     protected ShapefileReader openShapeReader(GeometryFactory gf, boolean onlyRandomAccess) throws IOException {
         try {
-            return new ShapefileReader(shpFiles, true, store.isMemoryMapped(), gf, onlyRandomAccess);
+            ShapefileReader reader = new ShapefileReader(shpFiles, true, store.isMemoryMapped(), gf, onlyRandomAccess);
+            reader.setMappedGeometries(store.isMappedGeometries());
+            return reader;
         } catch (ShapefileException se) {
             throw new DataSourceException("Error creating ShapefileReader", se);
         }
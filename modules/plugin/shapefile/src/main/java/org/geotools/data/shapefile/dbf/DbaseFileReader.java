@@ -19,10 +19,7 @@
  */
 package org.geotools.data.shapefile.dbf;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.Closeable;
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -82,6 +79,9 @@ public Object read(final int column) throws IOException {
         public String toString() {
             final StringBuffer ret = new StringBuffer("DBF Row - ");
             for (int i = 0; i < header.getNumFields(); i++) {
+                if (projected != null && !projected[i]) {
+                    continue;
+                }
                 ret.append(header.getFieldName(i)).append(": \"");
                 try {
                     ret.append(this.read(i));
@@ -106,12 +106,23 @@ public boolean isDeleted() {
 
     byte[] bytes;
 
+    /** Wraps {@link #bytes}, the fields of a record copied in memory are decoded from it */
+    ByteBuffer bytesBuffer;
+
     char[] fieldTypes;
 
+    Class<?>[] fieldClasses;
+
     int[] fieldLengths;
 
     int[] fieldOffsets;
 
+    /** The fields being read in projected mode, or null when reading all of them */
+    boolean[] projected;
+
+    /** In projected mode, the position of the current record fields in the file buffer */
+    int recordStart;
+
     int cnt = 1;
 
     Row row;
@@ -235,12 +246,15 @@ private void doInit(boolean useMemoryMappedBuffer, Charset charset, TimeZone tim
         fieldTypes = new char[header.getNumFields()];
         fieldLengths = new int[header.getNumFields()];
         fieldOffsets = new int[header.getNumFields()];
+        fieldClasses = new Class<?>[header.getNumFields()];
         for (int i = 0, ii = header.getNumFields(); i < ii; i++) {
             fieldTypes[i] = header.getFieldType(i);
+            fieldClasses[i] = header.getFieldClass(i);
             fieldLengths[i] = header.getFieldLength(i);
             if (i > 0) fieldOffsets[i] = fieldOffsets[i - 1] + header.getFieldLength(i - 1);
         }
         bytes = new byte[header.getRecordLength() - 1];
+        bytesBuffer = ByteBuffer.wrap(bytes);
 
         // check if we working with a latin-1 char Charset
         final String cname = stringCharset.name();
@@ -315,10 +329,34 @@ public void close() throws IOException {
         buffer = null;
         channel = null;
         bytes = null;
+        bytesBuffer = null;
         header = null;
         row = null;
     }
 
+    /**
+     * Restricts reading to the specified fields. In projected mode the records are no longer copied in memory as they
+     * are read, the requested fields are decoded straight out of the file buffer instead, which saves a good deal of
+     * work when only a few fields of a wide table are needed. Reading a field that is not part of the projection
+     * results in an {@link IllegalArgumentException}, while {@link #readEntry(Object[])} sets it to null.
+     *
+     * @param fields The zero based numbers of the fields to be read, or null to go back reading all of them
+     */
+    public void setProjection(int[] fields) {
+        if (fields == null) {
+            projected = null;
+            return;
+        }
+        boolean[] projected = new boolean[header.getNumFields()];
+        for (int field : fields) {
+            if (field < 0 || field >= projected.length) {
+                throw new IllegalArgumentException("Invalid field number " + field);
+            }
+            projected[field] = true;
+        }
+        this.projected = projected;
+    }
+
     /**
      * Query the reader as to whether there is another record.
      *
@@ -397,7 +435,7 @@ public Object[] readEntry(final Object[] entry, final int offset) throws IOExcep
         final int numFields = header.getNumFields();
 
         for (int j = 0; j < numFields; j++) {
-            entry[j + offset] = readObject(fieldOffsets[j], j);
+            entry[j + offset] = projected == null || projected[j] ? readObject(fieldOffsets[j], j) : null;
         }
 
         return entry;
@@ -439,9 +477,15 @@ public void read() throws IOException {
             final char deleted = (char) buffer.get();
             row.deleted = deleted == '*';
 
-            buffer.limit(buffer.position() + header.getRecordLength() - 1);
-            buffer.get(bytes); // SK: There is a side-effect here!!!
-            buffer.limit(buffer.capacity());
+            if (projected == null) {
+                buffer.limit(buffer.position() + header.getRecordLength() - 1);
+                buffer.get(bytes); // SK: There is a side-effect here!!!
+                buffer.limit(buffer.capacity());
+            } else {
+                // leave the record in the file buffer, the projected fields are decoded from there
+                recordStart = buffer.position();
+                buffer.position(recordStart + header.getRecordLength() - 1);
+            }
 
             foundRecord = true;
         }
@@ -461,6 +505,23 @@ public Object[] readEntry(final Object[] entry) throws IOException {
     }
 
     private Object readObject(final int fieldOffset, final int fieldNum) throws IOException {
+        if (projected == null) {
+            return readObject(bytesBuffer, fieldOffset, fieldNum);
+        } else if (projected[fieldNum]) {
+            return readObject(buffer, recordStart + fieldOffset, fieldNum);
+        } else {
+            throw new IllegalArgumentException("Field " + fieldNum + " is not part of the projection");
+        }
+    }
+
+    /**
+     * Decodes a field
+     *
+     * @param source The buffer holding the current record, either the file buffer or {@link #bytesBuffer}
+     * @param start The absolute position of the field in the source buffer
+     * @param fieldNum The field number
+     */
+    private Object readObject(final ByteBuffer source, final int start, final int fieldNum) throws IOException {
         final char type = fieldTypes[fieldNum];
         final int fieldLen = fieldLengths[fieldNum];
         Object object = null;
@@ -469,7 +530,7 @@ private Object readObject(final int fieldOffset, final int fieldNum) throws IOEx
                 // (L)logical (T,t,F,f,Y,y,N,n)
                 case 'l':
                 case 'L':
-                    final char c = (char) bytes[fieldOffset];
+                    final char c = (char) source.get(start);
                     switch (c) {
                         case 't':
                         case 'T':
@@ -493,12 +554,16 @@ private Object readObject(final int fieldOffset, final int fieldNum) throws IOEx
                 case 'c':
                 case 'C':
                     // if the string begins with a null terminator, the value is null
-                    if (bytes[fieldOffset] != '\0') {
+                    if (source.get(start) != '\0') {
                         // remember we need to skip trailing and leading spaces
                         if (oneBytePerChar) {
-                            object = fastParse(bytes, fieldOffset, fieldLen).trim();
+                            object = fastParseTrimmed(source, start, fieldLen);
+                        } else if (source == bytesBuffer) {
+                            object = new String(bytes, start, fieldLen, stringCharset).trim();
                         } else {
-                            object = new String(bytes, fieldOffset, fieldLen, stringCharset.name()).trim();
+                            // in projected mode the record bytes are free to be used as scratch space
+                            source.get(start, bytes, 0, fieldLen);
+                            object = new String(bytes, 0, fieldLen, stringCharset).trim();
                         }
                     }
                     break;
@@ -507,13 +572,13 @@ private Object readObject(final int fieldOffset, final int fieldNum) throws IOEx
                 case 'D':
                     // If the first 8 characters are '0', this is a null date
                     for (int i = 0; i < 8; i++) {
-                        if (bytes[fieldOffset + i] != '0') {
+                        if (source.get(start + i) != '0') {
                             try {
-                                String tempString = fastParse(bytes, fieldOffset, 4);
+                                String tempString = fastParse(source, start, 4);
                                 final int tempYear = Integer.parseInt(tempString);
-                                tempString = fastParse(bytes, fieldOffset + 4, 2);
+                                tempString = fastParse(source, start + 4, 2);
                                 final int tempMonth = Integer.parseInt(tempString) - 1;
-                                tempString = fastParse(bytes, fieldOffset + 6, 2);
+                                tempString = fastParse(source, start + 6, 2);
                                 final int tempDay = Integer.parseInt(tempString);
                                 calendar.clear();
                                 calendar.set(Calendar.YEAR, tempYear);
@@ -529,71 +594,25 @@ private Object readObject(final int fieldOffset, final int fieldNum) throws IOEx
                     break;
                 // (@) Timestamp (Date)
                 case '@':
-                    try {
-                        // TODO: Find a smarter way to do this.
-                        // timestampBytes = bytes[fieldOffset:fieldOffset+7]
-                        byte[] timestampBytes = {
-                            // Time in millis, after reverse.
-                            bytes[fieldOffset + 7], bytes[fieldOffset + 6], bytes[fieldOffset + 5],
-                                    bytes[fieldOffset + 4],
-                            // Days, after reverse.
-                            bytes[fieldOffset + 3], bytes[fieldOffset + 2], bytes[fieldOffset + 1], bytes[fieldOffset]
-                        };
-
-                        ByteArrayInputStream i_bytes = new ByteArrayInputStream(timestampBytes);
-                        DataInputStream i_stream = new DataInputStream(new BufferedInputStream(i_bytes));
-
-                        int time = i_stream.readInt();
-                        int days = i_stream.readInt();
-
-                        calendar.setTimeInMillis(days * MILLISECS_PER_DAY + DbaseFileHeader.MILLIS_SINCE_4713 + time);
-
-                        object = calendar.getTime();
-
-                    } catch (final NumberFormatException nfe) {
-                        // todo: use progresslistener, this isn't a grave error.
-                    }
+                    // days since 4713 BC, followed by the milliseconds in the day, both little endian
+                    final int days = readIntLE(source, start);
+                    final int time = readIntLE(source, start + 4);
+                    calendar.setTimeInMillis(days * MILLISECS_PER_DAY + DbaseFileHeader.MILLIS_SINCE_4713 + time);
+                    object = calendar.getTime();
                     break;
                 // (N)umeric (Integer, Long or Fallthrough to Double)
                 case 'n':
                 case 'N':
                     // numbers that begin with '*' are considered null
-                    if (bytes[fieldOffset] == '*') {
-                        break;
-                    } else {
-                        final String string =
-                                fastParse(bytes, fieldOffset, fieldLen).trim();
-                        Class<?> clazz = header.getFieldClass(fieldNum);
-                        if (clazz == Integer.class) {
-                            try {
-                                object = Integer.parseInt(string);
-                                break;
-                            } catch (NumberFormatException e) {
-                                // try to parse as long...
-                                clazz = Long.class;
-                            }
-                        }
-                        if (clazz == Long.class) {
-                            try {
-                                object = Long.parseLong(string);
-                                break;
-                            } catch (final NumberFormatException e2) {
-                                // fall through to the floating point number
-                            }
-                        }
+                    if (source.get(start) != '*') {
+                        object = parseNumber(source, start, fieldLen, fieldClasses[fieldNum]);
                     }
-                // do not break, fall through to the 'f' case
-
+                    break;
                 // (F)loating point number
                 case 'f':
                 case 'F':
-                    if (bytes[fieldOffset] != '*') {
-                        try {
-                            object = Double.parseDouble(fastParse(bytes, fieldOffset, fieldLen));
-                        } catch (final NumberFormatException e) {
-                            // okay, now whatever we got was truly indigestible.
-                            object = null;
-                        }
+                    if (source.get(start) != '*') {
+                        object = parseNumber(source, start, fieldLen, Double.class);
                     }
                     break;
                 default:
@@ -603,21 +622,75 @@ private Object readObject(final int fieldOffset, final int fieldNum) throws IOEx
         return object;
     }
 
+    /**
+     * Parses a numeric field, directly from the ASCII bytes in the common case, using the JDK parsers as a fallback for
+     * the less common notations
+     */
+    private Object parseNumber(final ByteBuffer source, final int start, final int fieldLen, Class<?> clazz) {
+        final Object parsed = NumericFieldParser.parse(source, start, fieldLen, clazz);
+        if (parsed != NumericFieldParser.UNPARSED) {
+            return parsed;
+        }
+
+        final String string = fastParse(source, start, fieldLen).trim();
+        if (clazz == Integer.class) {
+            try {
+                return Integer.parseInt(string);
+            } catch (NumberFormatException e) {
+                // try to parse as long...
+                clazz = Long.class;
+            }
+        }
+        if (clazz == Long.class) {
+            try {
+                return Long.parseLong(string);
+            } catch (final NumberFormatException e2) {
+                // fall through to the floating point number
+            }
+        }
+        try {
+            return Double.parseDouble(string);
+        } catch (final NumberFormatException e) {
+            // okay, now whatever we got was truly indigestible.
+            return null;
+        }
+    }
+
+    private static int readIntLE(final ByteBuffer source, final int start) {
+        return (source.get(start) & 0xFF)
+                | (source.get(start + 1) & 0xFF) << 8
+                | (source.get(start + 2) & 0xFF) << 16
+                | (source.get(start + 3) & 0xFF) << 24;
+    }
+
     /**
      * Performs a faster byte[] to String conversion under the assumption the content is represented with one byte per
      * char
      */
-    String fastParse(final byte[] bytes, final int fieldOffset, final int fieldLen) {
+    String fastParse(final ByteBuffer source, final int fieldOffset, final int fieldLen) {
         // faster reading path, the decoder is for some reason slower,
         // probably because it has to make extra checks to support multibyte chars
         final char[] chars = new char[fieldLen];
         for (int i = 0; i < fieldLen; i++) {
             // force the byte to a positive integer interpretation before casting to char
-            chars[i] = (char) (0x00FF & bytes[fieldOffset + i]);
+            chars[i] = (char) (0x00FF & source.get(fieldOffset + i));
         }
         return new String(chars);
     }
 
+    /** Same as {@link #fastParse(ByteBuffer, int, int)} followed by {@link String#trim()}, but builds a single string */
+    String fastParseTrimmed(final ByteBuffer source, final int fieldOffset, final int fieldLen) {
+        int start = fieldOffset;
+        int end = fieldOffset + fieldLen;
+        while (start < end && (source.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (source.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        return fastParse(source, start, end - start);
+    }
+
     @SuppressWarnings("PMD.SystemPrintln")
     public static void main(final String[] args) throws Exception {
         try (final DbaseFileReader reader =
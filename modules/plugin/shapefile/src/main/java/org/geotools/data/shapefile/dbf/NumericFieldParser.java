@@ -0,0 +1,119 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.dbf;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parses the ASCII numbers found in the numeric dbf fields straight out of a byte buffer, without creating intermediate
+ * strings. Only the plain decimal notation is handled, values using other notations (e.g., exponents) or that cannot
+ * be converted exactly are reported as {@link #UNPARSED}, and should be parsed with the JDK parsers instead.
+ */
+final class NumericFieldParser {
+
+    /** Returned when the value cannot be handled by this parser */
+    static final Object UNPARSED = new Object();
+
+    /** The powers of ten that can be represented exactly as doubles */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+
+    /** Max number of significant digits that can be turned into a double without rounding errors */
+    private static final int MAX_DOUBLE_DIGITS = 15;
+
+    /** Max number of significant digits that can be accumulated in a long without overflowing */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private NumericFieldParser() {
+        // utility class
+    }
+
+    /**
+     * Parses the number found in the specified range of the buffer. Integral values are returned as {@link Integer}
+     * when the binding is {@link Integer} and the value fits, as {@link Long} otherwise, values with decimals or with a
+     * {@link Double} binding are returned as {@link Double}.
+     *
+     * @param buffer The buffer holding the field
+     * @param offset The absolute position of the field in the buffer
+     * @param length The field length
+     * @param binding The field binding, as returned by {@link DbaseFileHeader#getFieldClass(int)}
+     * @return The parsed value, null if the field is blank, or {@link #UNPARSED}
+     */
+    static Object parse(ByteBuffer buffer, int offset, int length, Class<?> binding) {
+        // skip leading and trailing blanks, the same way String.trim() does
+        int start = offset;
+        int end = offset + length;
+        while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        boolean negative = false;
+        byte sign = buffer.get(start);
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            start++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean decimalPoint = false;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                if ((mantissa != 0 || b != '0') && ++significantDigits > MAX_LONG_DIGITS) {
+                    return UNPARSED;
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (decimalPoint) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !decimalPoint) {
+                decimalPoint = true;
+            } else {
+                return UNPARSED;
+            }
+        }
+        if (digits == 0) {
+            return UNPARSED;
+        }
+
+        if (!decimalPoint && binding != Double.class) {
+            long value = negative ? -mantissa : mantissa;
+            if (binding == Integer.class && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return value;
+        }
+        if (significantDigits > MAX_DOUBLE_DIGITS || fractionDigits >= POWERS_OF_TEN.length) {
+            return UNPARSED;
+        }
+        // both operands are exact, and the IEEE division is correctly rounded
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+}
@@ -47,7 +47,12 @@ public enum ShpFileType {
     /** the .shp.xml file, it contains the metadata about the shapefile */
     SHP_XML("shp.xml"),
     /** the .cpg file is used to specify the code page */
-    CPG("cpg");
+    CPG("cpg"),
+    /**
+     * the .hrx file, a packed Hilbert R-tree spatial index of the shapefile, an alternative to the .qix quad tree that
+     * is balanced and returns the matching records in file order
+     */
+    HRX("hrx");
 
     public final String extension;
     public final String extensionWithPeriod;
@@ -18,8 +18,11 @@
 package org.geotools.data.shapefile.index;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 import org.geotools.api.data.CloseableIterator;
 import org.geotools.data.shapefile.index.quadtree.Node;
 import org.geotools.data.shapefile.index.quadtree.QuadTree;
@@ -132,6 +135,84 @@ public void close() throws IOException {
         };
     }
 
+    /**
+     * Searches the records intersecting the bounds, skipping the nodes whose bounds are accepted by the skip check.
+     * Unlike {@link #search(Envelope)}, the tree is visited lazily, node by node, so that the check can depend on the
+     * records read so far. The records are returned in tree order rather than in file order.
+     *
+     * @param skip The check telling if all the records in the bounds of a node can be skipped, or null
+     */
+    public CloseableIterator<Data> search(final Envelope bounds, final Predicate<Envelope> skip)
+            throws StoreException {
+        if (skip == null) {
+            return search(bounds);
+        }
+        final Deque<MemoryNode> nodes = new ArrayDeque<>();
+        nodes.push(root);
+        final Data data = new Data(DATA_DEFINITION);
+        return new CloseableIterator<>() {
+            boolean read = true;
+            int idx = 0;
+            int end = 0;
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Data next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                read = true;
+                return data;
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (!read) {
+                    return true;
+                }
+
+                while (idx >= end) {
+                    if (nodes.isEmpty()) {
+                        return false;
+                    }
+                    MemoryNode node = nodes.pop();
+                    if (!node.intersects(bounds) || skip.test(node.getBounds())) {
+                        continue;
+                    }
+                    for (MemoryNode child : node.subnodes) {
+                        nodes.push(child);
+                    }
+                    if (node.start > -1 && node.end >= node.start) {
+                        idx = node.start;
+                        end = node.end;
+                    }
+                }
+
+                try {
+                    data.clear();
+                    data.addValue(0);
+                    data.addValue((long) offsets.get(idx));
+                    idx++;
+                    read = false;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+
+                return true;
+            }
+
+            @Override
+            public void close() throws IOException {
+                nodes.clear();
+            }
+        };
+    }
+
     void collectIndices(Indices indices, MemoryNode node, Envelope bounds) throws StoreException {
         if (!node.intersects(bounds)) {
             return;
@@ -211,6 +292,14 @@ public MemoryNode(Envelope envelope, int start, int end, int numSubnodes) {
             this.subnodes = new MemoryNode[numSubnodes];
         }
 
+        /**
+         * Returns the bounds of the node, widened to make sure they contain the double precision bounds the float
+         * ones have been rounded from
+         */
+        Envelope getBounds() {
+            return new Envelope(Math.nextDown(minx), Math.nextUp(maxx), Math.nextDown(miny), Math.nextUp(maxy));
+        }
+
         public boolean intersects(Envelope bounds) {
             // TODO: optimize this one
             return new Envelope(minx, maxx, miny, maxy).intersects(bounds);
@@ -0,0 +1,124 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index.hilbert;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Computes positions along a Hilbert curve of order 16, used to sort the items of a {@link PackedHilbertRTree} so that
+ * spatially close items end up in the same nodes.
+ */
+public final class HilbertCurve {
+
+    /** The max value of each coordinate along the curve */
+    static final int MAX = 0xFFFF;
+
+    private HilbertCurve() {
+        // utility class
+    }
+
+    /**
+     * Returns a sort key for the specified record, sorting the keys as signed longs orders the records along the
+     * Hilbert curve of their envelope centers. The record number can be extracted back using
+     * {@link #getRecordNumber(long)}.
+     *
+     * @param env The record envelope
+     * @param extent The extent of the whole data set, used to normalize the envelope center
+     * @param recno The record number
+     */
+    public static long sortKey(Envelope env, Envelope extent, int recno) {
+        int x = normalize((env.getMinX() + env.getMaxX()) / 2, extent.getMinX(), extent.getWidth());
+        int y = normalize((env.getMinY() + env.getMaxY()) / 2, extent.getMinY(), extent.getHeight());
+        long position = index(x, y) & 0xFFFFFFFFL;
+        // flip the sign bit so that the unsigned curve position sorts correctly as a signed long
+        return ((position << 32) | recno) ^ Long.MIN_VALUE;
+    }
+
+    /** Returns the record number stored in a key built by {@link #sortKey(Envelope, Envelope, int)} */
+    public static int getRecordNumber(long sortKey) {
+        return (int) sortKey;
+    }
+
+    static int normalize(double ordinate, double min, double span) {
+        if (span <= 0 || Double.isNaN(ordinate)) {
+            return 0;
+        }
+        double scaled = Math.floor(MAX * (ordinate - min) / span);
+        return (int) Math.max(0, Math.min(MAX, scaled));
+    }
+
+    /**
+     * Returns the position of the point along the curve, as an unsigned 32 bit integer. Uses the branchless algorithm
+     * described in <a href="https://github.com/rawrunprotected/hilbert_curves">hilbert_curves</a>.
+     *
+     * @param x The x coordinate, between 0 and 65535
+     * @param y The y coordinate, between 0 and 65535
+     */
+    static int index(int x, int y) {
+        int a = x ^ y;
+        int b = MAX ^ a;
+        int c = MAX ^ (x | y);
+        int d = x & (y ^ MAX);
+
+        int aa = a | (b >> 1);
+        int bb = (a >> 1) ^ a;
+        int cc = ((c >> 1) ^ (b & (d >> 1))) ^ c;
+        int dd = ((a & (c >> 1)) ^ (d >> 1)) ^ d;
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        aa = (a & (a >> 2)) ^ (b & (b >> 2));
+        bb = (a & (b >> 2)) ^ (b & ((a ^ b) >> 2));
+        cc ^= (a & (c >> 2)) ^ (b & (d >> 2));
+        dd ^= (b & (c >> 2)) ^ ((a ^ b) & (d >> 2));
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        aa = (a & (a >> 4)) ^ (b & (b >> 4));
+        bb = (a & (b >> 4)) ^ (b & ((a ^ b) >> 4));
+        cc ^= (a & (c >> 4)) ^ (b & (d >> 4));
+        dd ^= (b & (c >> 4)) ^ ((a ^ b) & (d >> 4));
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        cc ^= (a & (c >> 8)) ^ (b & (d >> 8));
+        dd ^= (b & (c >> 8)) ^ ((a ^ b) & (d >> 8));
+
+        a = cc ^ (cc >> 1);
+        b = dd ^ (dd >> 1);
+
+        int i0 = x ^ y;
+        int i1 = b | (MAX ^ (i0 | a));
+
+        return (interleave(i1) << 1) | interleave(i0);
+    }
+
+    /** Spreads the lower 16 bits of the value so that they occupy the even bits */
+    private static int interleave(int value) {
+        value = (value | (value << 8)) & 0x00FF00FF;
+        value = (value | (value << 4)) & 0x0F0F0F0F;
+        value = (value | (value << 2)) & 0x33333333;
+        value = (value | (value << 1)) & 0x55555555;
+        return value;
+    }
+}
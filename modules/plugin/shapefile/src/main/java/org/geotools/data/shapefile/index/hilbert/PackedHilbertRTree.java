@@ -0,0 +1,264 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index.hilbert;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.geotools.data.shapefile.index.quadtree.StoreException;
+import org.geotools.util.NIOUtilities;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A static, packed R-tree whose leaves are sorted along a Hilbert curve, stored in a .hrx file and accessed via memory
+ * mapping. The layout follows the one used by FlatGeobuf: a fixed size header followed by the nodes, level by level,
+ * starting from the root and ending with the leaves. Each node is made of its bounds (four doubles) and a 64 bit
+ * payload, that is the index of the first child for the internal nodes, or the record offset in the .shp (in 16 bit
+ * words, upper 32 bits) and the record number (lower 32 bits) for the leaves. All values are little endian.
+ *
+ * <p>Given the fixed node size and the complete tree structure, there is no need to store the node relationships: the
+ * children of a node are always contiguous, and the node positions in each level can be computed from the number of
+ * items and the node size alone.
+ *
+ * <p>Searches are thread safe and return the hits sorted by .shp offset, so that the records can be read sequentially.
+ */
+public class PackedHilbertRTree implements Closeable {
+
+    /** The default max number of children in a node */
+    public static final int DEFAULT_NODE_SIZE = 16;
+
+    static final byte[] MAGIC = {'G', 'T', 'H', 'R', 'X'};
+
+    static final byte VERSION = 1;
+
+    /** Magic and version (8 bytes), node size, item count, extent */
+    static final int HEADER_BYTES = 8 + 4 + 4 + 4 * 8;
+
+    /** Four doubles for the bounds, one long for the payload */
+    static final int NODE_BYTES = 4 * 8 + 8;
+
+    /** Max number of nodes in each mapped chunk, single buffers cannot be larger than 2GB */
+    static final long CHUNK_NODES = Integer.MAX_VALUE / NODE_BYTES;
+
+    private final int nodeSize;
+
+    private final int numItems;
+
+    private final Envelope bounds;
+
+    private final long[] levelStarts;
+
+    private final long numNodes;
+
+    private MappedByteBuffer[] chunks;
+
+    PackedHilbertRTree(int nodeSize, int numItems, Envelope bounds, MappedByteBuffer[] chunks) {
+        this.nodeSize = nodeSize;
+        this.numItems = numItems;
+        this.bounds = bounds;
+        this.chunks = chunks;
+        this.levelStarts = levelStarts(numItems, nodeSize);
+        this.numNodes = countNodes(numItems, nodeSize);
+    }
+
+    /** Memory maps the specified .hrx file */
+    public static PackedHilbertRTree open(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+                FileChannel channel = raf.getChannel()) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new StoreException("Unexpected end of file reading the header of " + file);
+                }
+            }
+            header.flip();
+            for (byte b : MAGIC) {
+                if (header.get() != b) {
+                    throw new StoreException(file + " is not a packed Hilbert R-tree index file");
+                }
+            }
+            byte version = header.get();
+            if (version != VERSION) {
+                throw new StoreException("Unsupported packed Hilbert R-tree version " + version + " in " + file);
+            }
+            header.position(8);
+            int nodeSize = header.getInt();
+            int numItems = header.getInt();
+            double minX = header.getDouble();
+            double minY = header.getDouble();
+            double maxX = header.getDouble();
+            double maxY = header.getDouble();
+            Envelope bounds = numItems > 0 ? new Envelope(minX, maxX, minY, maxY) : new Envelope();
+            if (nodeSize < 2 || numItems < 0) {
+                throw new StoreException("Invalid packed Hilbert R-tree header in " + file);
+            }
+
+            long numNodes = countNodes(numItems, nodeSize);
+            long expectedSize = HEADER_BYTES + numNodes * NODE_BYTES;
+            if (channel.size() < expectedSize) {
+                throw new StoreException(
+                        "Truncated packed Hilbert R-tree " + file + ", expected " + expectedSize + " bytes");
+            }
+            List<MappedByteBuffer> chunks = new ArrayList<>();
+            for (long first = 0; first < numNodes; first += CHUNK_NODES) {
+                long nodes = Math.min(CHUNK_NODES, numNodes - first);
+                MappedByteBuffer chunk = channel.map(
+                        FileChannel.MapMode.READ_ONLY, HEADER_BYTES + first * NODE_BYTES, nodes * NODE_BYTES);
+                chunk.order(ByteOrder.LITTLE_ENDIAN);
+                chunks.add(chunk);
+            }
+            return new PackedHilbertRTree(nodeSize, numItems, bounds, chunks.toArray(new MappedByteBuffer[0]));
+        }
+    }
+
+    /** Returns the number of nodes in each level, starting from the leaves */
+    static long[] levelCounts(long numItems, int nodeSize) {
+        if (numItems == 0) {
+            return new long[0];
+        }
+        List<Long> counts = new ArrayList<>();
+        long count = numItems;
+        counts.add(count);
+        while (count > 1) {
+            count = (count + nodeSize - 1) / nodeSize;
+            counts.add(count);
+        }
+        return counts.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /** Returns the index of the first node of each level, starting from the leaves (the root is stored first) */
+    static long[] levelStarts(long numItems, int nodeSize) {
+        long[] counts = levelCounts(numItems, nodeSize);
+        long[] starts = new long[counts.length];
+        for (int level = counts.length - 2; level >= 0; level--) {
+            starts[level] = starts[level + 1] + counts[level + 1];
+        }
+        return starts;
+    }
+
+    static long countNodes(long numItems, int nodeSize) {
+        return Arrays.stream(levelCounts(numItems, nodeSize)).sum();
+    }
+
+    /** The number of indexed records */
+    public int getNumItems() {
+        return numItems;
+    }
+
+    /** The bounds of all the indexed records */
+    public Envelope getBounds() {
+        return new Envelope(bounds);
+    }
+
+    /**
+     * Returns the records whose bounds intersect the specified envelope, sorted by .shp offset. Use
+     * {@link #getRecordNumber(long)} and {@link #getOffsetInBytes(long)} to decode the hits.
+     */
+    public long[] search(Envelope bbox) {
+        MappedByteBuffer[] chunks = this.chunks;
+        if (chunks == null) {
+            throw new IllegalStateException("The index has been closed");
+        }
+        if (numItems == 0 || !bounds.intersects(bbox)) {
+            return new long[0];
+        }
+        double minX = bbox.getMinX();
+        double minY = bbox.getMinY();
+        double maxX = bbox.getMaxX();
+        double maxY = bbox.getMaxY();
+
+        // each stack entry is the first node of a group of siblings, along with their level
+        long[] stackNodes = new long[64];
+        int[] stackLevels = new int[64];
+        int stackSize = 1;
+        stackNodes[0] = 0;
+        stackLevels[0] = levelStarts.length - 1;
+
+        long[] hits = new long[64];
+        int hitCount = 0;
+        while (stackSize > 0) {
+            stackSize--;
+            long first = stackNodes[stackSize];
+            int level = stackLevels[stackSize];
+            long levelEnd = level == 0 ? numNodes : levelStarts[level - 1];
+            long end = Math.min(first + nodeSize, levelEnd);
+            for (long node = first; node < end; node++) {
+                ByteBuffer chunk = chunks[(int) (node / CHUNK_NODES)];
+                int pos = (int) (node % CHUNK_NODES) * NODE_BYTES;
+                if (maxX < chunk.getDouble(pos)
+                        || maxY < chunk.getDouble(pos + 8)
+                        || minX > chunk.getDouble(pos + 16)
+                        || minY > chunk.getDouble(pos + 24)) {
+                    continue;
+                }
+                long payload = chunk.getLong(pos + 32);
+                if (level == 0) {
+                    if (hitCount == hits.length) {
+                        hits = Arrays.copyOf(hits, hitCount * 2);
+                    }
+                    hits[hitCount++] = payload;
+                } else {
+                    if (stackSize == stackNodes.length) {
+                        stackNodes = Arrays.copyOf(stackNodes, stackSize * 2);
+                        stackLevels = Arrays.copyOf(stackLevels, stackSize * 2);
+                    }
+                    stackNodes[stackSize] = payload;
+                    stackLevels[stackSize] = level - 1;
+                    stackSize++;
+                }
+            }
+        }
+
+        // the offset is in the upper bits, sorting the hits sorts them by position in the .shp file
+        Arrays.sort(hits, 0, hitCount);
+        return hitCount == hits.length ? hits : Arrays.copyOf(hits, hitCount);
+    }
+
+    /** Returns the zero based record number of a search hit */
+    public static int getRecordNumber(long hit) {
+        return (int) hit;
+    }
+
+    /** Returns the offset in bytes of a search hit in the .shp file */
+    public static long getOffsetInBytes(long hit) {
+        return (hit >>> 32) * 2;
+    }
+
+    /** Builds the payload of a leaf node */
+    static long leafPayload(int recno, int offsetWords) {
+        return ((long) offsetWords << 32) | (recno & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public void close() {
+        MappedByteBuffer[] chunks = this.chunks;
+        this.chunks = null;
+        if (chunks != null) {
+            for (MappedByteBuffer chunk : chunks) {
+                NIOUtilities.clean(chunk, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index.hilbert;
+
+import static org.geotools.data.shapefile.index.hilbert.PackedHilbertRTree.HEADER_BYTES;
+import static org.geotools.data.shapefile.index.hilbert.PackedHilbertRTree.NODE_BYTES;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import org.geotools.data.shapefile.index.quadtree.StoreException;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Writes a {@link PackedHilbertRTree} file in a single streaming pass. The leaves must be added already sorted along
+ * the Hilbert curve (see {@link HilbertCurve#sortKey(Envelope, Envelope, int)}), the internal nodes are computed on the
+ * fly as each group of children is completed, so that only one partial node per level is kept in memory.
+ */
+public class PackedHilbertRTreeWriter implements Closeable {
+
+    /** Number of nodes buffered for each level before writing them to disk */
+    static final int BUFFERED_NODES = 1024;
+
+    private final int nodeSize;
+
+    private final int numItems;
+
+    private final long[] levelStarts;
+
+    private final int levels;
+
+    private final RandomAccessFile file;
+
+    private final FileChannel channel;
+
+    /** Write buffers, one per level */
+    private final ByteBuffer[] buffers;
+
+    /** Number of nodes written so far in each level */
+    private final long[] written;
+
+    /** The parent node being accumulated in each level */
+    private final double[][] parentBounds;
+
+    private final long[] parentFirstChild;
+
+    private final int[] parentChildren;
+
+    private final Envelope extent = new Envelope();
+
+    /**
+     * Prepares the writer
+     *
+     * @param file The file to be written
+     * @param numItems The number of items that will be added
+     * @param nodeSize The max number of children in each node
+     */
+    public PackedHilbertRTreeWriter(File file, int numItems, int nodeSize) throws IOException {
+        if (nodeSize < 2) {
+            throw new IllegalArgumentException("Node size must be at least 2");
+        }
+        if (numItems < 0) {
+            throw new IllegalArgumentException("Number of items cannot be negative");
+        }
+        this.nodeSize = nodeSize;
+        this.numItems = numItems;
+        this.levelStarts = PackedHilbertRTree.levelStarts(numItems, nodeSize);
+        this.levels = levelStarts.length;
+        this.buffers = new ByteBuffer[levels];
+        for (int i = 0; i < levels; i++) {
+            buffers[i] = ByteBuffer.allocate(BUFFERED_NODES * NODE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        this.written = new long[levels];
+        this.parentBounds = new double[levels][4];
+        this.parentFirstChild = new long[levels];
+        this.parentChildren = new int[levels];
+        this.file = new RandomAccessFile(file, "rw");
+        this.channel = this.file.getChannel();
+        this.file.setLength(0);
+    }
+
+    /**
+     * Adds a record to the tree, records must be added in Hilbert curve order
+     *
+     * @param env The record bounds
+     * @param recno The zero based record number
+     * @param offsetWords The record offset in the .shp file, in 16 bit words (as found in the .shx file)
+     */
+    public void add(Envelope env, int recno, int offsetWords) throws IOException {
+        if (levels == 0 || written[0] >= numItems) {
+            throw new StoreException("More than the declared " + numItems + " items have been added");
+        }
+        extent.expandToInclude(env);
+        emit(
+                0,
+                env.getMinX(),
+                env.getMinY(),
+                env.getMaxX(),
+                env.getMaxY(),
+                PackedHilbertRTree.leafPayload(recno, offsetWords));
+    }
+
+    /** Writes a node in the specified level, and accumulates it in its parent */
+    private void emit(int level, double minX, double minY, double maxX, double maxY, long payload)
+            throws IOException {
+        long index = levelStarts[level] + written[level]++;
+        ByteBuffer buffer = buffers[level];
+        buffer.putDouble(minX).putDouble(minY).putDouble(maxX).putDouble(maxY).putLong(payload);
+        if (!buffer.hasRemaining()) {
+            flush(level);
+        }
+
+        int parent = level + 1;
+        if (parent < levels) {
+            double[] bounds = parentBounds[parent];
+            if (parentChildren[parent] == 0) {
+                parentFirstChild[parent] = index;
+                bounds[0] = minX;
+                bounds[1] = minY;
+                bounds[2] = maxX;
+                bounds[3] = maxY;
+            } else {
+                bounds[0] = Math.min(bounds[0], minX);
+                bounds[1] = Math.min(bounds[1], minY);
+                bounds[2] = Math.max(bounds[2], maxX);
+                bounds[3] = Math.max(bounds[3], maxY);
+            }
+            if (++parentChildren[parent] == nodeSize) {
+                emitParent(parent);
+            }
+        }
+    }
+
+    private void emitParent(int level) throws IOException {
+        double[] bounds = parentBounds[level];
+        parentChildren[level] = 0;
+        emit(level, bounds[0], bounds[1], bounds[2], bounds[3], parentFirstChild[level]);
+    }
+
+    /** Writes the buffered nodes of the specified level to disk */
+    private void flush(int level) throws IOException {
+        ByteBuffer buffer = buffers[level];
+        buffer.flip();
+        int buffered = buffer.remaining() / NODE_BYTES;
+        long position = HEADER_BYTES + (levelStarts[level] + written[level] - buffered) * NODE_BYTES;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.clear();
+    }
+
+    /** Completes the tree, writes the header and closes the file */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (levels > 0 && written[0] != numItems) {
+                throw new StoreException("Expected " + numItems + " items, but " + written[0] + " were added");
+            }
+            // complete the partially filled parents, bottom up
+            for (int level = 1; level < levels; level++) {
+                if (parentChildren[level] > 0) {
+                    emitParent(level);
+                }
+            }
+            for (int level = 0; level < levels; level++) {
+                flush(level);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.put(PackedHilbertRTree.MAGIC);
+            header.put(PackedHilbertRTree.VERSION);
+            header.position(8);
+            header.putInt(nodeSize);
+            header.putInt(numItems);
+            header.putDouble(extent.getMinX());
+            header.putDouble(extent.getMinY());
+            header.putDouble(extent.getMaxX());
+            header.putDouble(extent.getMaxY());
+            header.flip();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+        } finally {
+            file.close();
+        }
+    }
+}
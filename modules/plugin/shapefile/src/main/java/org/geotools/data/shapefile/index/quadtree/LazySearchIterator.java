@@ -21,6 +21,7 @@
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 import org.geotools.api.data.CloseableIterator;
 import org.geotools.data.shapefile.index.Data;
 import org.geotools.data.shapefile.index.DataDefinition;
@@ -32,6 +33,10 @@
  * the indices are removed from the node so that the memory footprint is kept small. Note that if other iterators
  * operate on the same tree then they can interfere with each other.
  *
+ * <p>If a skip check is provided, the nodes whose bounds it accepts are skipped along with their subnodes, without
+ * reading their shape ids. The check is run as the nodes are reached, so it can depend on the records read so far,
+ * in that case fewer indices are cached at a time.
+ *
  * @author Jesse
  */
 public class LazySearchIterator implements CloseableIterator<Data> {
@@ -42,6 +47,9 @@ public class LazySearchIterator implements CloseableIterator<Data> {
 
     private static final int MAX_INDICES = 32768;
 
+    /** The number of indices cached at a time when a skip check is used */
+    private static final int MAX_CHECKED_INDICES = 1024;
+
     static {
         DATA_DEFINITION.addField(Integer.class);
         DATA_DEFINITION.addField(Long.class);
@@ -67,7 +75,20 @@ public class LazySearchIterator implements CloseableIterator<Data> {
 
     QuadTree tree;
 
+    private Predicate<Envelope> skip;
+
+    private int maxIndices;
+
     public LazySearchIterator(QuadTree tree, Envelope bounds) {
+        this(tree, bounds, null);
+    }
+
+    /**
+     * Builds an iterator skipping the nodes whose bounds are accepted by the skip check
+     *
+     * @param skip The check telling if all the records in the bounds of a node can be skipped, or null
+     */
+    public LazySearchIterator(QuadTree tree, Envelope bounds, Predicate<Envelope> skip) {
         super();
         this.tree = tree;
         this.indexfile = tree.getIndexfile();
@@ -76,6 +97,11 @@ public LazySearchIterator(QuadTree tree, Envelope bounds) {
         this.bounds = bounds;
         this.closed = false;
         this.next = null;
+        this.skip = skip;
+        this.maxIndices = skip != null ? MAX_CHECKED_INDICES : MAX_INDICES;
+        if (skip != null && current != null && skip.test(current.getBounds())) {
+            current = null;
+        }
     }
 
     @Override
@@ -96,7 +122,7 @@ private void fillCache() {
         indices.clear();
         ArrayList<Data> dataList = null;
         try {
-            while (indices.size() < MAX_INDICES && current != null) {
+            while (indices.size() < maxIndices && current != null) {
                 if (idIndex < current.getNumShapeIds()
                         && !current.isVisited()
                         && current.getBounds().intersects(bounds)) {
@@ -111,6 +137,12 @@ private void fillCache() {
                     for (int i = 0; i < current.getNumSubNodes(); i++) {
                         Node node = current.getSubNode(i);
                         if (!node.isVisited() && node.getBounds().intersects(bounds)) {
+                            if (skip != null && skip.test(node.getBounds())) {
+                                // none of its records would be used, no need to read them
+                                node.setVisited(true);
+                                node.clean();
+                                continue;
+                            }
                             foundUnvisited = true;
                             parents.add(current);
                             current = node;
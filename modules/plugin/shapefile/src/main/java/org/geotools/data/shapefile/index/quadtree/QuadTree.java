@@ -21,6 +21,7 @@
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.geotools.api.data.CloseableIterator;
@@ -173,12 +174,21 @@ public void insert(Node node, final int recno, final Envelope recBounds, final i
 
     /** @return A List of Integer */
     public CloseableIterator<Data> search(Envelope bounds) throws StoreException {
+        return search(bounds, null);
+    }
+
+    /**
+     * Searches the records intersecting the bounds, skipping the nodes whose bounds are accepted by the skip check
+     *
+     * @param skip The check telling if all the records in the bounds of a node can be skipped, or null
+     */
+    public CloseableIterator<Data> search(Envelope bounds, Predicate<Envelope> skip) throws StoreException {
         if (LOGGER.isLoggable(Level.FINEST)) {
             LOGGER.log(Level.FINEST, "Querying " + bounds);
         }
 
         try {
-            return new LazySearchIterator(this, bounds);
+            return new LazySearchIterator(this, bounds, skip);
         } catch (RuntimeException e) {
             LOGGER.warning("IOException occurred while reading root");
             return null;
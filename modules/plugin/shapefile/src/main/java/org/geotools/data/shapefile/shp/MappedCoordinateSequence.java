@@ -0,0 +1,227 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.shp;
+
+import java.nio.ByteBuffer;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+/**
+ * A read only {@link CoordinateSequence} reading its ordinates straight out of a little endian buffer holding a
+ * shapefile record, laid out as in the .shp file: the x/y pairs first, followed by the z values and the m values in two
+ * separate blocks. The sequence can optionally repeat its first point at the end, to close polygon rings or to turn a
+ * single point part into a valid line.
+ *
+ * <p>Calling {@link #setOrdinate(int, int, double)} results in an {@link UnsupportedOperationException}, use
+ * {@link #copy()} to get a modifiable copy of the sequence.
+ */
+final class MappedCoordinateSequence implements CoordinateSequence {
+
+    /** Values of M lower than this are used to represent "no data" (page 2 of the shapefile spec) */
+    static final double NO_DATA = -10e38;
+
+    private final ByteBuffer buffer;
+
+    private final int xyOffset;
+
+    private final int zOffset;
+
+    private final int mOffset;
+
+    private final int count;
+
+    private final int size;
+
+    private final int dimension;
+
+    private final int measures;
+
+    /**
+     * Builds a new sequence
+     *
+     * @param buffer The little endian buffer holding the record
+     * @param first The index of the first point of the sequence in the record
+     * @param count The number of points stored in the record
+     * @param repeatFirst Whether the first point should be repeated at the end of the sequence
+     * @param xyStart The position of the first x/y pair of the record in the buffer
+     * @param zStart The position of the first z value of the record in the buffer, or -1 if not available
+     * @param mStart The position of the first m value of the record in the buffer, or -1 if not available
+     * @param dimension The sequence dimension
+     * @param measures The number of measures in the sequence (0 or 1)
+     */
+    MappedCoordinateSequence(
+            ByteBuffer buffer,
+            int first,
+            int count,
+            boolean repeatFirst,
+            int xyStart,
+            int zStart,
+            int mStart,
+            int dimension,
+            int measures) {
+        this.buffer = buffer;
+        this.count = count;
+        this.size = repeatFirst && count > 0 ? count + 1 : count;
+        this.xyOffset = xyStart + first * 16;
+        this.zOffset = zStart < 0 ? -1 : zStart + first * 8;
+        this.mOffset = mStart < 0 ? -1 : mStart + first * 8;
+        this.dimension = dimension;
+        this.measures = measures;
+    }
+
+    /**
+     * Returns a factory with the same precision model and SRID as the specified one, to be used for the geometries
+     * backed by mapped sequences. Its sequence factory builds regular in memory sequences, as the one of the original
+     * factory might be used by callers as a sign the coordinates can be modified in place (e.g., the renderer does so
+     * with its own sequence factory).
+     */
+    static GeometryFactory geometryFactory(GeometryFactory gf) {
+        return new GeometryFactory(gf.getPrecisionModel(), gf.getSRID(), PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    }
+
+    private int point(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return index < count ? index : 0;
+    }
+
+    @Override
+    public int getDimension() {
+        return dimension;
+    }
+
+    @Override
+    public int getMeasures() {
+        return measures;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double getX(int index) {
+        return buffer.getDouble(xyOffset + point(index) * 16);
+    }
+
+    @Override
+    public double getY(int index) {
+        return buffer.getDouble(xyOffset + point(index) * 16 + 8);
+    }
+
+    @Override
+    public double getOrdinate(int index, int ordinateIndex) {
+        if (ordinateIndex == X) {
+            return getX(index);
+        } else if (ordinateIndex == Y) {
+            return getY(index);
+        } else if (ordinateIndex >= dimension) {
+            throw new IllegalArgumentException("Invalid ordinate index: " + ordinateIndex);
+        } else if (ordinateIndex < dimension - measures) {
+            return zOffset < 0 ? Double.NaN : buffer.getDouble(zOffset + point(index) * 8);
+        } else {
+            if (mOffset < 0) {
+                return 0;
+            }
+            double m = buffer.getDouble(mOffset + point(index) * 8);
+            return m < NO_DATA ? Double.NaN : m;
+        }
+    }
+
+    @Override
+    public void setOrdinate(int index, int ordinateIndex, double value) {
+        throw new UnsupportedOperationException("Coordinates read from a memory mapped shapefile are read only");
+    }
+
+    @Override
+    public Coordinate getCoordinate(int i) {
+        return getCoordinateCopy(i);
+    }
+
+    @Override
+    public Coordinate getCoordinateCopy(int i) {
+        Coordinate coordinate = createCoordinate();
+        getCoordinate(i, coordinate);
+        return coordinate;
+    }
+
+    @Override
+    public void getCoordinate(int index, Coordinate coord) {
+        coord.x = getX(index);
+        coord.y = getY(index);
+        if (hasZ()) {
+            coord.setZ(getZ(index));
+        }
+        if (hasM()) {
+            coord.setM(getM(index));
+        }
+    }
+
+    @Override
+    public Coordinate[] toCoordinateArray() {
+        Coordinate[] coordinates = new Coordinate[size];
+        for (int i = 0; i < size; i++) {
+            coordinates[i] = getCoordinateCopy(i);
+        }
+        return coordinates;
+    }
+
+    @Override
+    public Envelope expandEnvelope(Envelope env) {
+        for (int i = 0, offset = xyOffset; i < count; i++, offset += 16) {
+            env.expandToInclude(buffer.getDouble(offset), buffer.getDouble(offset + 8));
+        }
+        return env;
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("PMD.ProperCloneImplementation")
+    public Object clone() {
+        return copy();
+    }
+
+    /** Returns a modifiable, in memory copy of this sequence */
+    @Override
+    public CoordinateSequence copy() {
+        double[] ordinates = new double[size * dimension];
+        for (int i = 0, k = 0; i < size; i++) {
+            for (int j = 0; j < dimension; j++) {
+                ordinates[k++] = getOrdinate(i, j);
+            }
+        }
+        return new PackedCoordinateSequence.Double(ordinates, dimension, measures);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("MappedCoordinateSequence(");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(getX(i)).append(' ').append(getY(i));
+        }
+        return sb.append(')').toString();
+    }
+}
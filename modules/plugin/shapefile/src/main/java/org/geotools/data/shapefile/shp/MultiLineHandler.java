@@ -44,6 +44,9 @@ public class MultiLineHandler implements ShapeHandler {
 
     double[] z;
 
+    /** The factory used to build the geometries returned by {@link #readMapped(ByteBuffer, ShapeType, boolean)} */
+    GeometryFactory mappedGeometryFactory;
+
     /** Create a MultiLineHandler for ShapeType.ARC */
     public MultiLineHandler(GeometryFactory gf) {
         shapeType = ShapeType.ARC;
@@ -247,6 +250,52 @@ public Object read(ByteBuffer buffer, ShapeType type, boolean flatGeometry) {
         return geometryFactory.createMultiLineString(lineStrings);
     }
 
+    @Override
+    public Object readMapped(ByteBuffer buffer, ShapeType type, boolean flatGeometry) {
+        if (type == ShapeType.NULL) {
+            return createNull();
+        }
+        if (mappedGeometryFactory == null) {
+            mappedGeometryFactory = MappedCoordinateSequence.geometryFactory(geometryFactory);
+        }
+        // skip the bounding box, the layout is the same as the one documented in read
+        int position = buffer.position();
+        int numParts = buffer.getInt(position + 32);
+        int numPoints = buffer.getInt(position + 36);
+        int xyStart = position + 40 + 4 * numParts;
+        int zStart = -1;
+        int mStart = -1;
+        int dimension = 2;
+        int measures = 0;
+        if (!flatGeometry && (shapeType == ShapeType.ARCZ || shapeType == ShapeType.ARCM)) {
+            dimension = 4;
+            measures = 1;
+            // the z and m blocks are both preceded by their min/max values
+            int rangeStart = xyStart + 16 * numPoints;
+            if (shapeType == ShapeType.ARCZ) {
+                zStart = rangeStart + 16;
+                rangeStart = zStart + 8 * numPoints;
+            }
+            // m values are optional for ARCZ records
+            if (buffer.limit() >= rangeStart + 16 + 8 * numPoints) {
+                mStart = rangeStart + 16;
+            }
+        }
+
+        LineString[] lineStrings = new LineString[numParts];
+        for (int part = 0; part < numParts; part++) {
+            int start = buffer.getInt(position + 40 + 4 * part);
+            int finish = part == numParts - 1 ? numPoints : buffer.getInt(position + 44 + 4 * part);
+            int length = finish - start;
+            // a single point line is not valid, repeat the point
+            CoordinateSequence cs = new MappedCoordinateSequence(
+                    buffer, start, length, length == 1, xyStart, zStart, mStart, dimension, measures);
+            lineStrings[part] = mappedGeometryFactory.createLineString(cs);
+        }
+
+        return mappedGeometryFactory.createMultiLineString(lineStrings);
+    }
+
     @Override
     public void write(ByteBuffer buffer, Object geometry) {
         MultiLineString multi = (MultiLineString) geometry;
@@ -47,6 +47,9 @@ public class PolygonHandler implements ShapeHandler {
 
     GeometryFactory geometryFactory;
 
+    /** The factory used to build the geometries returned by {@link #readMapped(ByteBuffer, ShapeType, boolean)} */
+    GeometryFactory mappedGeometryFactory;
+
     final ShapeType shapeType;
 
     public PolygonHandler(GeometryFactory gf) {
@@ -226,21 +229,85 @@ public Object read(ByteBuffer buffer, ShapeType type, boolean flatFeature) {
             }
         }
 
+        return buildMultiPolygon(shells, holes, geometryFactory);
+    }
+
+    @Override
+    public Object readMapped(ByteBuffer buffer, ShapeType type, boolean flatFeature) {
+        if (type == ShapeType.NULL) {
+            return createNull();
+        }
+        if (mappedGeometryFactory == null) {
+            mappedGeometryFactory = MappedCoordinateSequence.geometryFactory(geometryFactory);
+        }
+        // skip the bounds, the layout is the same as the one documented in read
+        int position = buffer.position();
+        int numParts = buffer.getInt(position + 32);
+        int numPoints = buffer.getInt(position + 36);
+        int xyStart = position + 40 + 4 * numParts;
+        int zStart = -1;
+        int mStart = -1;
+        int dimension = 2;
+        int measures = 0;
+        if (!flatFeature && shapeType == ShapeType.POLYGONZ) {
+            dimension = 4;
+            measures = 1;
+            // the z and m blocks are both preceded by their min/max values, m values are optional
+            zStart = xyStart + 16 * numPoints + 16;
+            int mRangeStart = zStart + 8 * numPoints;
+            if (buffer.limit() >= mRangeStart + 16 + 8 * numPoints) {
+                mStart = mRangeStart + 16;
+            }
+        } else if (!flatFeature && shapeType == ShapeType.POLYGONM) {
+            dimension = 3;
+            measures = 1;
+            mStart = xyStart + 16 * numPoints + 16;
+        }
+
+        ArrayList<LinearRing> shells = new ArrayList<>();
+        ArrayList<LinearRing> holes = new ArrayList<>();
+        for (int part = 0; part < numParts; part++) {
+            int start = buffer.getInt(position + 40 + 4 * part);
+            int finish = part == numParts - 1 ? numPoints : buffer.getInt(position + 44 + 4 * part);
+            int length = finish - start;
+            // close the ring if needed by repeating the first point
+            boolean close = length > 0
+                    && (buffer.getDouble(xyStart + 16 * start) != buffer.getDouble(xyStart + 16 * (finish - 1))
+                            || buffer.getDouble(xyStart + 16 * start + 8)
+                                    != buffer.getDouble(xyStart + 16 * (finish - 1) + 8));
+            CoordinateSequence csRing = new MappedCoordinateSequence(
+                    buffer, start, length, close, xyStart, zStart, mStart, dimension, measures);
+            // polygons with only 1 or 2 points are not polygons, skip them
+            if (csRing.size() == 0 || csRing.size() > 3) {
+                LinearRing ring = mappedGeometryFactory.createLinearRing(csRing);
+                if (CoordinateSequences.isCCW(csRing)) {
+                    holes.add(ring);
+                } else {
+                    shells.add(ring);
+                }
+            }
+        }
+
+        return buildMultiPolygon(shells, holes, mappedGeometryFactory);
+    }
+
+    private Geometry buildMultiPolygon(
+            ArrayList<LinearRing> shells, ArrayList<LinearRing> holes, GeometryFactory factory) {
         // quick optimization: if there's only one shell no need to check
         // for holes inclusion
         if (shells.size() == 1) {
-            return createMulti(shells.get(0), holes);
+            return createMulti(shells.get(0), holes, factory);
         }
         // if for some reason, there is only one hole, we just reverse it and
         // carry on.
         else if (holes.size() == 1 && shells.isEmpty()) {
-            return createMulti(holes.get(0));
+            return createMulti(holes.get(0), factory);
         } else {
 
             // build an association between shells and holes
             final List<List<LinearRing>> holesForShells = assignHolesToShells(shells, holes);
 
-            Geometry g = buildGeometries(shells, holes, holesForShells);
+            Geometry g = buildGeometries(shells, holes, holesForShells, factory);
 
             return g;
         }
@@ -299,7 +366,10 @@ private CoordinateSequence readCoordinates(
 
     /** */
     private Geometry buildGeometries(
-            final List<LinearRing> shells, final List<LinearRing> holes, final List<List<LinearRing>> holesForShells) {
+            final List<LinearRing> shells,
+            final List<LinearRing> holes,
+            final List<List<LinearRing>> holesForShells,
+            final GeometryFactory factory) {
         Polygon[] polygons;
 
         // if we have shells, lets use them
@@ -314,8 +384,7 @@ private Geometry buildGeometries(
         for (int i = 0; i < shells.size(); i++) {
             LinearRing shell = shells.get(i);
             List<LinearRing> holesForShell = holesForShells.get(i);
-            polygons[i] =
-                    geometryFactory.createPolygon(shell, holesForShell.toArray(new LinearRing[holesForShell.size()]));
+            polygons[i] = factory.createPolygon(shell, holesForShell.toArray(new LinearRing[holesForShell.size()]));
         }
 
         // this will take care of the "only holes case"
@@ -323,11 +392,11 @@ private Geometry buildGeometries(
         if (shells.isEmpty()) {
             for (int i = 0, ii = holes.size(); i < ii; i++) {
                 LinearRing hole = holes.get(i);
-                polygons[i] = geometryFactory.createPolygon(hole, null);
+                polygons[i] = factory.createPolygon(hole, null);
             }
         }
 
-        Geometry g = geometryFactory.createMultiPolygon(polygons);
+        Geometry g = factory.createMultiPolygon(polygons);
 
         return g;
     }
@@ -390,13 +459,13 @@ private List<List<LinearRing>> getListOfLists(int size) {
         return holesForShells;
     }
 
-    private MultiPolygon createMulti(LinearRing single) {
-        return createMulti(single, Collections.emptyList());
+    private MultiPolygon createMulti(LinearRing single, GeometryFactory factory) {
+        return createMulti(single, Collections.emptyList(), factory);
     }
 
-    private MultiPolygon createMulti(LinearRing single, List<LinearRing> holes) {
-        return geometryFactory.createMultiPolygon(
-                new Polygon[] {geometryFactory.createPolygon(single, holes.toArray(new LinearRing[holes.size()]))});
+    private MultiPolygon createMulti(LinearRing single, List<LinearRing> holes, GeometryFactory factory) {
+        return factory.createMultiPolygon(
+                new Polygon[] {factory.createPolygon(single, holes.toArray(new LinearRing[holes.size()]))});
     }
 
     private MultiPolygon createNull() {
@@ -42,6 +42,19 @@ public interface ShapeHandler {
      */
     public Object read(ByteBuffer buffer, ShapeType type, boolean flatGeometry);
 
+    /**
+     * Read a geometry whose coordinates are read only views over the ByteBuffer, rather than copies of it. The buffer
+     * is positioned as in {@link #read(ByteBuffer, ShapeType, boolean)}, but its limit is set at the end of the record,
+     * and its contents must never be modified nor released while the geometry is in use, e.g., a memory mapped file
+     * that is left to the garbage collector. Handlers that cannot provide views fall back on a regular read.
+     *
+     * @param buffer The little endian ByteBuffer to read from.
+     * @return A geometry object.
+     */
+    public default Object readMapped(ByteBuffer buffer, ShapeType type, boolean flatGeometry) {
+        return read(buffer, type, flatGeometry);
+    }
+
     /**
      * Write the geometry into the ByteBuffer. The position, byteOrder, and limit are all set. The handler is not
      * responsible for writing the record or shape type integer.
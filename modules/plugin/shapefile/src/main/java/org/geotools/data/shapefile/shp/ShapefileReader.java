@@ -107,6 +107,12 @@ public Object shape() {
                 buffer.order(ByteOrder.LITTLE_ENDIAN);
                 if (type == ShapeType.NULL) {
                     shape = null;
+                } else if (mappedGeometries) {
+                    // hand over a private view of the record, as the reader keeps moving the buffer around
+                    int contentLength = Math.min(length - 4, buffer.limit() - start);
+                    ByteBuffer content = buffer.slice(start, contentLength).order(ByteOrder.LITTLE_ENDIAN);
+                    shape = handler.readMapped(content, type, flatGeometry);
+                    mappingShared = true;
                 } else {
                     shape = handler.read(buffer, type, flatGeometry);
                 }
@@ -208,6 +214,14 @@ public Object getSimplifiedShape(ScreenMap sm) {
 
     private boolean flatGeometry;
 
+    /** True if the buffer is a memory mapping owned by this reader, and not shared via the memory map cache */
+    private boolean privateMapping;
+
+    private boolean mappedGeometries;
+
+    /** True if geometries backed by the memory mapped buffer have been returned */
+    private boolean mappingShared;
+
     /**
      * Creates a new instance of ShapeFile.
      *
@@ -264,6 +278,7 @@ private void doInit(
             boolean onlyRandomAccess)
             throws IOException, ShapefileException {
         this.useMemoryMappedBuffer = useMemoryMapped;
+        this.privateMapping = useMemoryMapped && !shapefileFiles.isMemoryMapCacheEnabled();
         streamLogger.open();
         randomAccessEnabled = channel instanceof FileChannel;
         if (!onlyRandomAccess) {
@@ -338,6 +353,7 @@ private void init(boolean strict, GeometryFactory gf) throws IOException, Shapef
         } else {
             // force useMemoryMappedBuffer to false
             this.useMemoryMappedBuffer = false;
+            this.privateMapping = false;
             // start small
             buffer = NIOUtilities.allocate(1024);
             fill(buffer, channel);
@@ -385,7 +401,10 @@ public void close() throws IOException {
                 channel.close();
                 streamLogger.close();
             }
-            NIOUtilities.clean(buffer, useMemoryMappedBuffer);
+            // geometries backed by the mapping might still be around, leave it to the garbage collector
+            if (!mappingShared) {
+                NIOUtilities.clean(buffer, useMemoryMappedBuffer);
+            }
         } finally {
             if (shxReader != null) shxReader.close();
         }
@@ -746,4 +765,23 @@ public String id() {
     public void setFlatGeometry(boolean flatGeometry) {
         this.flatGeometry = flatGeometry;
     }
+
+    /**
+     * Enables reading geometries whose coordinate sequences are read only views over the memory mapped .shp file,
+     * instead of copies of it, which removes most of the allocation when reading large polygons and lines. The mapping
+     * is then released by the garbage collector, once both the reader and the geometries are no longer in use.
+     *
+     * <p>Only effective when the reader is memory mapped and the memory map cache is disabled, as cached mappings can
+     * be explicitly released while the geometries are still around. Geometries built this way throw an
+     * {@link UnsupportedOperationException} if their coordinates are modified, copy them first if you need to do so.
+     * Use {@link #isMappedGeometries()} to check whether the mode is actually in use.
+     */
+    public void setMappedGeometries(boolean mappedGeometries) {
+        this.mappedGeometries = mappedGeometries && privateMapping;
+    }
+
+    /** Returns true if the geometries are views over the memory mapped .shp file */
+    public boolean isMappedGeometries() {
+        return mappedGeometries;
+    }
 }
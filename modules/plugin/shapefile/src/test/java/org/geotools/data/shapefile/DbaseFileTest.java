@@ -14,9 +14,12 @@
 package org.geotools.data.shapefile;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -250,4 +253,40 @@ public void testVeryLongStrings() throws Exception {
         assertEquals("\u0412A cat ", formattedString);
         assertEquals(8, formattedString.getBytes(StandardCharsets.UTF_8).length);
     }
+
+    @Test
+    public void testProjection() throws Exception {
+        int[] fields = {0, 4, 17, 251};
+        for (boolean memoryMapped : new boolean[] {false, true}) {
+            try (DbaseFileReader projected =
+                    new DbaseFileReader(shpFiles, memoryMapped, ShapefileDataStore.DEFAULT_STRING_CHARSET)) {
+                projected.setProjection(fields);
+                Object[] attrs = new Object[dbf.getHeader().getNumFields()];
+                while (projected.hasNext()) {
+                    Object[] full = dbf.readEntry();
+                    projected.readEntry(attrs);
+                    for (int i = 0; i < attrs.length; i++) {
+                        if (i == 0 || i == 4 || i == 17 || i == 251) {
+                            assertNotNull(attrs[i]);
+                            assertEquals(full[i], attrs[i]);
+                        } else {
+                            assertNull(attrs[i]);
+                        }
+                    }
+                }
+                assertFalse(dbf.hasNext());
+            }
+            dbf.close();
+            dbf = new DbaseFileReader(shpFiles, false, ShapefileDataStore.DEFAULT_STRING_CHARSET);
+        }
+    }
+
+    @Test
+    public void testReadOutsideProjection() throws Exception {
+        dbf.setProjection(new int[] {1});
+        DbaseFileReader.Row row = dbf.readRow();
+        assertEquals(dbf.getHeader().getFieldClass(1), row.read(1).getClass());
+        assertThrows(IllegalArgumentException.class, () -> row.read(0));
+        assertThrows(IllegalArgumentException.class, () -> dbf.setProjection(new int[] {252}));
+    }
 }
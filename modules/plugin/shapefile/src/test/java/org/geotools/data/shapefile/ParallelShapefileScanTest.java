@@ -0,0 +1,144 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.FeatureVisitor;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.visitor.BoundsVisitor;
+import org.geotools.feature.visitor.CountVisitor;
+import org.geotools.feature.visitor.MaxVisitor;
+import org.geotools.feature.visitor.MedianVisitor;
+import org.geotools.feature.visitor.SumVisitor;
+import org.geotools.feature.visitor.UniqueVisitor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelShapefileScanTest extends TestCaseSupport {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    ShapefileDataStore sequential;
+
+    ShapefileDataStore parallel;
+
+    @Before
+    public void setupStores() throws Exception {
+        File shp = copyShapefiles(ShapefileDataStoreTest.STATE_POP);
+        sequential = new ShapefileDataStore(shp.toURI().toURL());
+        parallel = new ShapefileDataStore(shp.toURI().toURL());
+        parallel.setParallelScanThreads(4);
+        // statepop has only 49 records, force partitioning anyways
+        parallel.parallelScanMinRecords = 5;
+    }
+
+    @After
+    public void disposeStores() {
+        sequential.dispose();
+        parallel.dispose();
+    }
+
+    private ShapefileFeatureSource getParallelSource() throws Exception {
+        return ((ShapefileFeatureStore) parallel.getFeatureSource()).delegate;
+    }
+
+    private void assertSameResult(Query query, FeatureVisitor expected, FeatureVisitor actual) throws Exception {
+        sequential.getFeatureSource().accepts(query, expected, null);
+        ShapefileFeatureSource source = getParallelSource();
+        assertTrue(source.canScanInParallel(query));
+        source.accepts(query, actual, null);
+    }
+
+    @Test
+    public void testCount() throws Exception {
+        CountVisitor expected = new CountVisitor();
+        CountVisitor actual = new CountVisitor();
+        assertSameResult(Query.ALL, expected, actual);
+        assertEquals(49, actual.getCount());
+        assertEquals(expected.getCount(), actual.getCount());
+    }
+
+    @Test
+    public void testSumWithFilter() throws Exception {
+        Query query = new Query("statepop", FF.greater(FF.property("PERSONS"), FF.literal(3000000)));
+        SumVisitor expected = new SumVisitor(FF.property("PERSONS"));
+        SumVisitor actual = new SumVisitor(FF.property("PERSONS"));
+        assertSameResult(query, expected, actual);
+        assertEquals(expected.getResult().toDouble(), actual.getResult().toDouble(), 0d);
+    }
+
+    @Test
+    public void testMax() throws Exception {
+        MaxVisitor expected = new MaxVisitor(FF.property("PERSONS"));
+        MaxVisitor actual = new MaxVisitor(FF.property("PERSONS"));
+        assertSameResult(Query.ALL, expected, actual);
+        assertEquals(expected.getResult().getValue(), actual.getResult().getValue());
+    }
+
+    @Test
+    public void testBounds() throws Exception {
+        BoundsVisitor expected = new BoundsVisitor();
+        BoundsVisitor actual = new BoundsVisitor();
+        assertSameResult(Query.ALL, expected, actual);
+        assertEquals(expected.getBounds(), actual.getBounds());
+    }
+
+    @Test
+    public void testUnique() throws Exception {
+        UniqueVisitor expected = new UniqueVisitor("SUB_REGION");
+        UniqueVisitor actual = new UniqueVisitor("SUB_REGION");
+        assertSameResult(Query.ALL, expected, actual);
+        assertEquals(expected.getUnique(), actual.getUnique());
+    }
+
+    @Test
+    public void testExternalExecutor() throws Exception {
+        ShapefileFeatureSource source = getParallelSource();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ParallelShapefileScan scan = new ParallelShapefileScan(source, executor, 2, 5);
+            CountVisitor visitor = new CountVisitor();
+            assertTrue(scan.visit(Query.ALL, visitor));
+            assertEquals(49, visitor.getCount());
+            // not mergeable, the scan gives up and lets the caller do a sequential visit
+            assertFalse(scan.visit(Query.ALL, new MedianVisitor("PERSONS")));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testNotParallel() throws Exception {
+        ShapefileFeatureSource source = getParallelSource();
+        Query paged = new Query("statepop");
+        paged.setMaxFeatures(10);
+        assertFalse(source.canScanInParallel(paged));
+        Query sorted = new Query("statepop");
+        sorted.setSortBy(FF.sort("PERSONS", SortOrder.ASCENDING));
+        assertFalse(source.canScanInParallel(sorted));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.api.data.Query;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.shapefile.files.ShpFileType;
+import org.geotools.data.shapefile.files.ShpFiles;
+import org.geotools.data.shapefile.index.Data;
+import org.geotools.factory.CommonFactoryFinder;
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+
+public class ShapefileHilbertRTreeTest extends TestCaseSupport {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    private ShapefileDataStore createStore(File shp, String indexType) throws Exception {
+        Map<String, Serializable> params = new HashMap<>();
+        params.put(ShapefileDataStoreFactory.URLP.key, shp.toURI().toURL());
+        params.put(ShapefileDataStoreFactory.SPATIAL_INDEX_TYPE.key, indexType);
+        return (ShapefileDataStore) new ShapefileDataStoreFactory().createDataStore(params);
+    }
+
+    @Test
+    public void testCreateAndQuery() throws Exception {
+        File shp = copyShapefiles(ShapefileDataStoreTest.STATE_POP);
+        ShapefileDataStore store = createStore(shp, "hrx");
+        try {
+            assertEquals(ShpFileType.HRX, store.getSpatialIndexType());
+            Filter filter = FF.bbox("the_geom", -100, 30, -90, 40, null);
+            int count = store.getFeatureSource().getFeatures(filter).size();
+
+            // the index has been built on the fly, the quadtree has not
+            assertTrue(sibling(shp, "hrx").exists());
+            assertFalse(sibling(shp, "qix").exists());
+
+            // compare with a scan that does not use any index
+            ShapefileDataStore plain = new ShapefileDataStore(shp.toURI().toURL());
+            try {
+                plain.setIndexed(false);
+                assertEquals(plain.getFeatureSource().getFeatures(filter).size(), count);
+            } finally {
+                plain.dispose();
+            }
+            assertTrue(count > 0);
+        } finally {
+            store.dispose();
+        }
+    }
+
+    @Test
+    public void testHitsInFileOrder() throws Exception {
+        File shp = copyShapefiles(ShapefileDataStoreTest.STATE_POP);
+        ShapefileDataStore store = createStore(shp, "hrx");
+        try {
+            IndexManager indexManager = store.indexManager;
+            List<Integer> records = new ArrayList<>();
+            try (CloseableIterator<Data> hits = indexManager.querySpatialIndex(new Envelope(-120, -80, 25, 45))) {
+                assertNotNull(hits);
+                long lastOffset = -1;
+                while (hits.hasNext()) {
+                    Data data = hits.next();
+                    long offset = (Long) data.getValue(1);
+                    assertTrue(offset > lastOffset);
+                    lastOffset = offset;
+                    records.add((Integer) data.getValue(0));
+                }
+            }
+            assertFalse(records.isEmpty());
+
+            // a bbox covering the whole index does not need it
+            assertNull(indexManager.querySpatialIndex(new Envelope(-180, 180, -90, 90)));
+        } finally {
+            store.dispose();
+        }
+    }
+
+    @Test
+    public void testIndexer() throws Exception {
+        File shp = copyShapefiles(ShapefileDataStoreTest.STATE_POP);
+        ShpFiles shpFiles = new ShpFiles(shp);
+        try {
+            ShapeFileIndexer indexer = new ShapeFileIndexer();
+            indexer.setShapeFileName(shpFiles);
+            indexer.setIndexType(ShpFileType.HRX);
+            assertEquals(49, indexer.index(false, null));
+            assertTrue(sibling(shp, "hrx").exists());
+        } finally {
+            shpFiles.dispose();
+        }
+
+        ShapefileDataStore store = createStore(shp, "hrx");
+        try {
+            Query query = new Query(store.getTypeNames()[0], FF.bbox("the_geom", -180, -90, 180, 90, null));
+            assertEquals(49, store.getFeatureSource().getFeatures(query).size());
+        } finally {
+            store.dispose();
+        }
+    }
+}
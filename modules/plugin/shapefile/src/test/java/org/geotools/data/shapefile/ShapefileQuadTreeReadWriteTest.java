@@ -26,8 +26,12 @@
 import java.net.URL;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.geotools.TestData;
+import org.geotools.api.data.CloseableIterator;
 import org.geotools.api.data.DataStore;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureSource;
@@ -39,10 +43,14 @@
 import org.geotools.api.filter.identity.FeatureId;
 import org.geotools.data.DataUtilities;
 import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.shapefile.index.Data;
 import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.data.util.ScreenMap;
 import org.geotools.factory.CommonFactoryFinder;
 import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.operation.transform.IdentityTransform;
 import org.geotools.util.factory.GeoTools;
+import org.geotools.util.factory.Hints;
 import org.junit.Test;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
@@ -84,6 +92,85 @@ public void testReadOutside() throws Exception {
         ds.dispose();
     }
 
+    /** The index nodes whose area is already full in the screen map are not read */
+    @Test
+    public void testSkipSaturatedNodes() throws Exception {
+        File f = copyShapefiles(STATE_POP);
+        ShapefileDataStore ds =
+                (ShapefileDataStore) createDataStore(new ShapefileDataStoreFactory(), f.toURI().toURL(), true);
+        ShapefileFeatureSource source = ((ShapefileFeatureStore) ds.getFeatureSource()).delegate;
+        Envelope bbox = ds.getFeatureSource().getBounds();
+        int total = ds.getFeatureSource().getCount(Query.ALL);
+
+        // nothing is skipped with an empty screen map
+        Query query = screenMapQuery(ds, bbox, new ScreenMap(-180, -90, 360, 180));
+        assertEquals(total, countIndexHits(ds, bbox, source.getSaturatedAreaCheck(query)));
+
+        // all nodes are skipped with a full one
+        ScreenMap full = new ScreenMap(-180, -90, 360, 180);
+        fill(full, -180, 180);
+        query = screenMapQuery(ds, bbox, full);
+        assertEquals(0, countIndexHits(ds, bbox, source.getSaturatedAreaCheck(query)));
+        assertEquals(0, readIds(ds, query).size());
+
+        // with the west full, the indexed reader returns the same features as the plain one
+        ScreenMap west = new ScreenMap(-180, -90, 360, 180);
+        fill(west, -180, -90);
+        query = screenMapQuery(ds, bbox, west);
+        assertTrue(countIndexHits(ds, bbox, source.getSaturatedAreaCheck(query)) < total);
+        Set<String> indexed = readIds(ds, query);
+
+        west = new ScreenMap(-180, -90, 360, 180);
+        fill(west, -180, -90);
+        query = screenMapQuery(ds, bbox, west);
+        ds.setIndexed(false);
+        assertEquals(readIds(ds, query), indexed);
+        assertTrue(indexed.size() > 0);
+        ds.dispose();
+    }
+
+    private Query screenMapQuery(ShapefileDataStore ds, Envelope bbox, ScreenMap screenMap) {
+        screenMap.setTransform(IdentityTransform.create(2));
+        screenMap.setSpans(1000, 1000);
+        FilterFactory ff = CommonFactoryFinder.getFilterFactory(null);
+        Query query = new Query(
+                ds.getTypeNames()[0],
+                ff.bbox("the_geom", bbox.getMinX(), bbox.getMinY(), bbox.getMaxX(), bbox.getMaxY(), null));
+        Hints hints = new Hints(Hints.SCREENMAP, screenMap);
+        hints.put(Hints.GEOMETRY_DISTANCE, 1000d);
+        query.setHints(hints);
+        return query;
+    }
+
+    private void fill(ScreenMap screenMap, int minX, int maxX) {
+        for (int x = minX; x < maxX; x++) {
+            for (int y = -90; y < 90; y++) {
+                screenMap.set(x, y, true);
+            }
+        }
+    }
+
+    private int countIndexHits(ShapefileDataStore ds, Envelope bbox, Predicate<Envelope> skip) throws Exception {
+        int count = 0;
+        try (CloseableIterator<Data> hits = ds.indexManager.querySpatialIndex(bbox, skip)) {
+            while (hits.hasNext()) {
+                hits.next();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Set<String> readIds(ShapefileDataStore ds, Query query) throws IOException {
+        Set<String> ids = new HashSet<>();
+        try (SimpleFeatureIterator it = ds.getFeatureSource().getFeatures(query).features()) {
+            while (it.hasNext()) {
+                ids.add(it.next().getID());
+            }
+        }
+        return ids;
+    }
+
     @Test
     public void testWriteTwice() throws Exception {
         copyShapefiles("shapes/stream.shp");
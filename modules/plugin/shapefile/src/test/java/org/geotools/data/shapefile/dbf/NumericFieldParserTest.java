@@ -0,0 +1,95 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.dbf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+
+public class NumericFieldParserTest {
+
+    private Object parse(String field, Class<?> binding) {
+        // put the field in the middle of a buffer, to check the offsets are honored
+        byte[] bytes = ("xx" + field + "yy").getBytes(StandardCharsets.ISO_8859_1);
+        return NumericFieldParser.parse(ByteBuffer.wrap(bytes), 2, field.length(), binding);
+    }
+
+    @Test
+    public void testIntegers() {
+        assertEquals(12345, parse("     12345", Integer.class));
+        assertEquals(-42, parse("-42       ", Integer.class));
+        assertEquals(7, parse("+7", Integer.class));
+        assertEquals(0, parse("-0", Integer.class));
+        assertEquals(Integer.MIN_VALUE, parse("-2147483648", Integer.class));
+        // too large for an integer
+        assertEquals(2147483648L, parse("2147483648", Integer.class));
+        assertEquals(123456789012345678L, parse("123456789012345678", Long.class));
+        assertEquals(12L, parse("000000000000000000012", Long.class));
+        // decimals force a double
+        assertEquals(12.5, parse("12.5", Integer.class));
+        assertEquals(5d, parse("5.", Long.class));
+        assertEquals(100d, parse("100", Double.class));
+    }
+
+    @Test
+    public void testDoubles() {
+        assertEquals(5.21, parse(" 5.210000000", Double.class));
+        assertEquals(0.5, parse(".5", Double.class));
+        assertEquals(-143986.61, parse("-143986.61", Double.class));
+        assertEquals(Double.doubleToLongBits(-0d), Double.doubleToLongBits((Double) parse("-0.000", Double.class)));
+    }
+
+    @Test
+    public void testBlank() {
+        assertNull(parse("", Double.class));
+        assertNull(parse("      ", Integer.class));
+        assertNull(parse("\0\0\0", Long.class));
+    }
+
+    @Test
+    public void testUnparsed() {
+        assertSame(NumericFieldParser.UNPARSED, parse("1.5e10", Double.class));
+        assertSame(NumericFieldParser.UNPARSED, parse("NaN", Double.class));
+        assertSame(NumericFieldParser.UNPARSED, parse("1 2", Integer.class));
+        assertSame(NumericFieldParser.UNPARSED, parse("1.2.3", Double.class));
+        assertSame(NumericFieldParser.UNPARSED, parse("-", Integer.class));
+        assertSame(NumericFieldParser.UNPARSED, parse(".", Double.class));
+        // too many digits to be handled exactly
+        assertSame(NumericFieldParser.UNPARSED, parse("1234567890123456789", Long.class));
+        assertSame(NumericFieldParser.UNPARSED, parse("0.1234567890123456", Double.class));
+    }
+
+    @Test
+    public void testMatchesJdk() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            int decimals = random.nextInt(8);
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(10));
+            String field = String.format(Locale.ENGLISH, "%20." + decimals + "f", value);
+            Object parsed = parse(field, Double.class);
+            if (parsed != NumericFieldParser.UNPARSED) {
+                assertEquals(field, Double.parseDouble(field), (Double) parsed, 0d);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index.hilbert;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.locationtech.jts.geom.Envelope;
+
+public class PackedHilbertRTreeTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** Builds a tree out of the envelopes, the record offset is 10 words times the record number */
+    private File build(Envelope[] envelopes, int nodeSize) throws IOException {
+        Envelope extent = new Envelope();
+        for (Envelope env : envelopes) {
+            extent.expandToInclude(env);
+        }
+        long[] keys = new long[envelopes.length];
+        for (int i = 0; i < envelopes.length; i++) {
+            keys[i] = HilbertCurve.sortKey(envelopes[i], extent, i);
+        }
+        Arrays.sort(keys);
+
+        File file = folder.newFile();
+        try (PackedHilbertRTreeWriter writer = new PackedHilbertRTreeWriter(file, envelopes.length, nodeSize)) {
+            for (long key : keys) {
+                int recno = HilbertCurve.getRecordNumber(key);
+                writer.add(envelopes[recno], recno, recno * 10);
+            }
+        }
+        return file;
+    }
+
+    private Envelope[] randomEnvelopes(int count) {
+        Random random = new Random(0);
+        Envelope[] envelopes = new Envelope[count];
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 360 - 180;
+            double y = random.nextDouble() * 180 - 90;
+            envelopes[i] = new Envelope(x, x + random.nextDouble(), y, y + random.nextDouble());
+        }
+        return envelopes;
+    }
+
+    private int[] bruteForce(Envelope[] envelopes, Envelope bbox) {
+        return java.util.stream.IntStream.range(0, envelopes.length)
+                .filter(i -> envelopes[i].intersects(bbox))
+                .toArray();
+    }
+
+    private int[] search(PackedHilbertRTree tree, Envelope bbox) {
+        long[] hits = tree.search(bbox);
+        int[] records = new int[hits.length];
+        for (int i = 0; i < hits.length; i++) {
+            records[i] = PackedHilbertRTree.getRecordNumber(hits[i]);
+            assertEquals(records[i] * 20L, PackedHilbertRTree.getOffsetInBytes(hits[i]));
+        }
+        return records;
+    }
+
+    @Test
+    public void testSearch() throws Exception {
+        Envelope[] envelopes = randomEnvelopes(10_000);
+        for (int nodeSize : new int[] {2, 16, 100}) {
+            try (PackedHilbertRTree tree = PackedHilbertRTree.open(build(envelopes, nodeSize))) {
+                assertEquals(10_000, tree.getNumItems());
+                Random random = new Random(1);
+                for (int i = 0; i < 50; i++) {
+                    double x = random.nextDouble() * 360 - 180;
+                    double y = random.nextDouble() * 180 - 90;
+                    Envelope bbox = new Envelope(x, x + random.nextDouble() * 40, y, y + random.nextDouble() * 20);
+                    // the hits are sorted by offset, hence by record number too
+                    assertArrayEquals(bruteForce(envelopes, bbox), search(tree, bbox));
+                }
+                assertEquals(10_000, tree.search(tree.getBounds()).length);
+                assertEquals(0, tree.search(new Envelope(1000, 1001, 1000, 1001)).length);
+            }
+        }
+    }
+
+    @Test
+    public void testSingleItem() throws Exception {
+        Envelope[] envelopes = {new Envelope(10, 20, 10, 20)};
+        try (PackedHilbertRTree tree = PackedHilbertRTree.open(build(envelopes, 16))) {
+            assertEquals(new Envelope(10, 20, 10, 20), tree.getBounds());
+            assertArrayEquals(new int[] {0}, search(tree, new Envelope(15, 25, 15, 25)));
+            assertArrayEquals(new int[0], search(tree, new Envelope(25, 30, 25, 30)));
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        try (PackedHilbertRTree tree = PackedHilbertRTree.open(build(new Envelope[0], 16))) {
+            assertEquals(0, tree.getNumItems());
+            assertTrue(tree.getBounds().isNull());
+            assertEquals(0, tree.search(new Envelope(-180, 180, -90, 90)).length);
+        }
+    }
+
+    @Test
+    public void testLevelLayout() {
+        // 20 leaves, 2 internal nodes, one root, stored root first
+        assertArrayEquals(new long[] {20, 2, 1}, PackedHilbertRTree.levelCounts(20, 16));
+        assertArrayEquals(new long[] {3, 1, 0}, PackedHilbertRTree.levelStarts(20, 16));
+        assertEquals(23, PackedHilbertRTree.countNodes(20, 16));
+    }
+
+    @Test
+    public void testInvalidFile() throws Exception {
+        File file = folder.newFile();
+        java.nio.file.Files.write(file.toPath(), new byte[PackedHilbertRTree.HEADER_BYTES]);
+        assertThrows(IOException.class, () -> PackedHilbertRTree.open(file));
+    }
+
+    @Test
+    public void testWrongItemCount() throws Exception {
+        File file = folder.newFile();
+        PackedHilbertRTreeWriter writer = new PackedHilbertRTreeWriter(file, 2, 16);
+        writer.add(new Envelope(0, 1, 0, 1), 0, 50);
+        assertThrows(IOException.class, writer::close);
+    }
+
+    @Test
+    public void testHilbertCurve() {
+        // the curve starts at the origin and ends in the lower right corner, visiting the upper half in between
+        assertEquals(0, HilbertCurve.index(0, 0));
+        assertEquals(0xFFFFFFFFL, HilbertCurve.index(HilbertCurve.MAX, 0) & 0xFFFFFFFFL);
+        assertTrue(Integer.compareUnsigned(HilbertCurve.index(0, HilbertCurve.MAX), HilbertCurve.index(100, 100)) > 0);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.shp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Serializable;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.TestData;
+import org.geotools.data.shapefile.ShapefileDataStore;
+import org.geotools.data.shapefile.ShapefileDataStoreFactory;
+import org.geotools.data.shapefile.files.ShpFiles;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.geometry.jts.LiteCoordinateSequenceFactory;
+import org.junit.Test;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Polygon;
+
+public class MappedGeometriesTest {
+
+    private List<Geometry> read(URL url, boolean memoryMapped, boolean mapped) throws Exception {
+        List<Geometry> geometries = new ArrayList<>();
+        ShpFiles shpFiles = new ShpFiles(url);
+        try (ShapefileReader reader = new ShapefileReader(shpFiles, true, memoryMapped, new GeometryFactory())) {
+            reader.setMappedGeometries(mapped);
+            assertEquals(mapped && memoryMapped, reader.isMappedGeometries());
+            while (reader.hasNext()) {
+                geometries.add((Geometry) reader.nextRecord().shape());
+            }
+        } finally {
+            shpFiles.dispose();
+        }
+        return geometries;
+    }
+
+    private void assertSameGeometries(String path) throws Exception {
+        // the shapes come from the sample data module, the others from the shapefile test data
+        URL url = path.startsWith("shapes/") ? TestData.url(path) : TestData.url(ShapefileDataStore.class, path);
+        List<Geometry> expected = read(url, true, false);
+        List<Geometry> actual = read(url, true, true);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Geometry g1 = expected.get(i);
+            Geometry g2 = actual.get(i);
+            assertTrue(path + " record " + i, g1.equalsExact(g2));
+            for (int j = 0; j < g1.getNumGeometries(); j++) {
+                assertSameSequences(g1.getGeometryN(j), g2.getGeometryN(j));
+            }
+        }
+    }
+
+    private void assertSameSequences(Geometry g1, Geometry g2) {
+        if (g1 instanceof Polygon p1) {
+            Polygon p2 = (Polygon) g2;
+            assertSameSequences(p1.getExteriorRing(), p2.getExteriorRing());
+            for (int i = 0; i < p1.getNumInteriorRing(); i++) {
+                assertSameSequences(p1.getInteriorRingN(i), p2.getInteriorRingN(i));
+            }
+        } else {
+            CoordinateSequence cs1 = ((LineString) g1).getCoordinateSequence();
+            CoordinateSequence cs2 = ((LineString) g2).getCoordinateSequence();
+            assertTrue(cs2 instanceof MappedCoordinateSequence);
+            assertEquals(cs1.getDimension(), cs2.getDimension());
+            assertEquals(cs1.getMeasures(), cs2.getMeasures());
+            for (int i = 0; i < cs1.size(); i++) {
+                assertEquals(cs1.getZ(i), cs2.getZ(i), 0d);
+                assertEquals(cs1.getM(i), cs2.getM(i), 0d);
+            }
+        }
+    }
+
+    @Test
+    public void testPolygons() throws Exception {
+        assertSameGeometries("shapes/statepop.shp");
+        assertSameGeometries("shapes/polygontest.shp");
+        assertSameGeometries("shapes/holeTouchEdge.shp");
+    }
+
+    @Test
+    public void testPolygonsZM() throws Exception {
+        assertSameGeometries("mzvalues/mzpolygons.shp");
+        assertSameGeometries("mzvalues/mpolygons.shp");
+        assertSameGeometries("mzvalues/polygonm.shp");
+    }
+
+    @Test
+    public void testLines() throws Exception {
+        assertSameGeometries("shapes/roads.shp");
+        assertSameGeometries("shapes/stream.shp");
+        assertSameGeometries("lsOnePoint/lsOnePoint.shp");
+    }
+
+    @Test
+    public void testLinesZM() throws Exception {
+        assertSameGeometries("mzvalues/mzlines.shp");
+        assertSameGeometries("mzvalues/mlines.shp");
+        assertSameGeometries("mzvalues/linesM.shp");
+    }
+
+    @Test
+    public void testReadOnly() throws Exception {
+        URL url = TestData.url("shapes/statepop.shp");
+        Geometry geometry = read(url, true, true).get(0);
+        CoordinateSequence cs = ((Polygon) geometry.getGeometryN(0)).getExteriorRing().getCoordinateSequence();
+        assertThrows(UnsupportedOperationException.class, () -> cs.setOrdinate(0, 0, 10));
+
+        // copies are modifiable
+        Geometry copy = geometry.copy();
+        CoordinateSequence copied = ((Polygon) copy.getGeometryN(0)).getExteriorRing().getCoordinateSequence();
+        assertNotSame(cs, copied);
+        copied.setOrdinate(0, 0, 10);
+        assertEquals(10, copied.getX(0), 0d);
+    }
+
+    @Test
+    public void testNotMemoryMapped() throws Exception {
+        URL url = TestData.url("shapes/statepop.shp");
+        // silently falls back on the regular read
+        Geometry geometry = read(url, false, true).get(0);
+        CoordinateSequence cs = ((Polygon) geometry.getGeometryN(0)).getExteriorRing().getCoordinateSequence();
+        assertFalse(cs instanceof MappedCoordinateSequence);
+    }
+
+    @Test
+    public void testDataStore() throws Exception {
+        Map<String, Serializable> params = new HashMap<>();
+        params.put(ShapefileDataStoreFactory.URLP.key, TestData.url("shapes/statepop.shp"));
+        params.put(ShapefileDataStoreFactory.MEMORY_MAPPED.key, true);
+        params.put(ShapefileDataStoreFactory.MEMORY_MAPPED_GEOMETRIES.key, true);
+        ShapefileDataStore store = (ShapefileDataStore) new ShapefileDataStoreFactory().createDataStore(params);
+        try (SimpleFeatureIterator it = store.getFeatureSource().getFeatures().features()) {
+            while (it.hasNext()) {
+                Geometry geometry = (Geometry) it.next().getDefaultGeometry();
+                // the sequence factory is never one that callers could use to modify coordinates in place
+                assertFalse(geometry.getFactory().getCoordinateSequenceFactory()
+                        instanceof LiteCoordinateSequenceFactory);
+                Polygon polygon = (Polygon) geometry.getGeometryN(0);
+                assertTrue(polygon.getExteriorRing().getCoordinateSequence() instanceof MappedCoordinateSequence);
+                assertTrue(geometry.getArea() > 0);
+            }
+        } finally {
+            store.dispose();
+        }
+    }
+}